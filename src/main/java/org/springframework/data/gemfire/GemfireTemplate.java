@@ -20,13 +20,22 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.geode.GemFireCheckedException;
 import org.apache.geode.GemFireException;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.Scope;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.query.IndexInvalidException;
@@ -34,9 +43,14 @@ import org.apache.geode.cache.query.Query;
 import org.apache.geode.cache.query.QueryInvalidException;
 import org.apache.geode.cache.query.QueryService;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.types.CollectionType;
+import org.apache.geode.cache.query.types.ObjectType;
 import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.pdx.PdxInstance;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.mapping.PdxInstanceEntityProxy;
+import org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
@@ -66,7 +80,13 @@ import org.springframework.util.StringUtils;
 @SuppressWarnings("unused")
 public class GemfireTemplate extends GemfireAccessor implements GemfireOperations {
 
+	private static final Object DEFAULT_QUERY_SERVICE_KEY = new Object();
+	private static final Object LOCAL_QUERY_SERVICE_KEY = new Object();
+
 	private boolean exposeNativeRegion = false;
+	private boolean proxyPdxInstances = false;
+
+	private QueryCache queryCache = new QueryCache();
 
 	private Region<?, ?> regionProxy;
 
@@ -108,6 +128,59 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		return this.exposeNativeRegion;
 	}
 
+	/**
+	 * Sets whether values read as {@link PdxInstance PdxInstances}, for instance from a cache configured with
+	 * PDX read-serialized, are returned as lazy entity proxies by {@link #get(Object)}, {@link #getAll(Collection)},
+	 * {@link #query(String)}, {@link #find(String, Object...)} and {@link #findUnique(String, Object...)}.
+	 * Default is "false": the {@link PdxInstance PdxInstances} are returned as is.
+	 *
+	 * An entity proxy only deserializes the fields read through the entity's getters and fully deserializes
+	 * the entity on the first invocation of any other method.  Proxies written through this template are
+	 * replaced with the fully deserialized entity.
+	 *
+	 * @param proxyPdxInstances a boolean value indicating whether {@link PdxInstance PdxInstances} are returned
+	 * as lazy entity proxies.
+	 * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory
+	 */
+	public void setProxyPdxInstances(boolean proxyPdxInstances) {
+		this.proxyPdxInstances = proxyPdxInstances;
+	}
+
+	/**
+	 * Returns whether values read as {@link PdxInstance PdxInstances} are returned as lazy entity proxies.
+	 *
+	 * @return a boolean value indicating whether {@link PdxInstance PdxInstances} are returned
+	 * as lazy entity proxies.
+	 */
+	public boolean isProxyPdxInstances() {
+		return this.proxyPdxInstances;
+	}
+
+	/**
+	 * Sets the {@link QueryCache} used to cache compiled OQL {@link Query queries} executed by
+	 * {@link #find(String, Object...)} and {@link #findUnique(String, Object...)}.
+	 *
+	 * Set a {@link QueryCache} with a maximum size of {@literal 0} to disable caching.
+	 *
+	 * @param queryCache {@link QueryCache} used to cache compiled OQL {@link Query queries}; must not be {@literal null}.
+	 * @see org.springframework.data.gemfire.QueryCache
+	 */
+	public void setQueryCache(QueryCache queryCache) {
+		Assert.notNull(queryCache, "QueryCache must not be null");
+		this.queryCache = queryCache;
+	}
+
+	/**
+	 * Returns the {@link QueryCache} used to cache compiled OQL {@link Query queries}, which can be used to
+	 * monitor the number of cache hits and misses.
+	 *
+	 * @return the {@link QueryCache} used by this template.
+	 * @see org.springframework.data.gemfire.QueryCache
+	 */
+	public QueryCache getQueryCache() {
+		return this.queryCache;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.gemfire.GemfireOperations#containsKey(java.lang.Object)
 	 */
@@ -146,7 +219,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@Override
 	public <K, V> void create(K key, V value) {
 		try {
-			getRegion().create(key, value);
+			getRegion().create(key, unwrap(value));
 		}
 		catch (GemFireException e) {
 			throw convertGemFireAccessException(e);
@@ -159,7 +232,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@Override
 	public <K, V> V get(K key) {
 		try {
-			return this.<K, V>getRegion().get(key);
+			return proxyIfEnabled(this.<K, V>getRegion().get(key));
 		}
 		catch (GemFireException e) {
 			throw convertGemFireAccessException(e);
@@ -172,7 +245,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@Override
 	public <K, V> Map<K, V> getAll(Collection<?> keys) {
 		try {
-			return this.<K, V>getRegion().getAll(keys);
+			return proxyIfEnabled(this.<K, V>getRegion().getAll(keys));
 		}
 		catch (GemFireException e) {
 			throw convertGemFireAccessException(e);
@@ -185,7 +258,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@Override
 	public <K, V> V put(K key, V value) {
 		try {
-			return this.<K, V>getRegion().put(key, value);
+			return this.<K, V>getRegion().put(key, unwrap(value));
 		}
 		catch (GemFireException e) {
 			throw convertGemFireAccessException(e);
@@ -198,7 +271,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@Override
 	public <K, V> void putAll(Map<? extends K, ? extends V> map) {
 		try {
-			this.<K, V>getRegion().putAll(map);
+			this.<K, V>getRegion().putAll(unwrap(map));
 		}
 		catch (GemFireException e) {
 			throw convertGemFireAccessException(e);
@@ -211,7 +284,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@Override
 	public <K, V> V putIfAbsent(K key, V value) {
 		try {
-			return this.<K, V>getRegion().putIfAbsent(key, value);
+			return this.<K, V>getRegion().putIfAbsent(key, unwrap(value));
 		}
 		catch (GemFireException e) {
 			throw convertGemFireAccessException(e);
@@ -237,7 +310,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@Override
 	public <K, V> V replace(K key, V value) {
 		try {
-			return this.<K, V>getRegion().replace(key, value);
+			return this.<K, V>getRegion().replace(key, unwrap(value));
 		}
 		catch (GemFireException e) {
 			throw convertGemFireAccessException(e);
@@ -250,7 +323,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@Override
 	public <K, V> boolean replace(K key, V oldValue, V newValue) {
 		try {
-			return this.<K, V>getRegion().replace(key, oldValue, newValue);
+			return this.<K, V>getRegion().replace(key, oldValue, unwrap(newValue));
 		}
 		catch (GemFireException e) {
 			throw convertGemFireAccessException(e);
@@ -264,7 +337,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@Override
 	public <E> SelectResults<E> query(String query) {
 		try {
-			return this.getRegion().query(query);
+			return proxyIfEnabled(this.getRegion().<E>query(query));
 		}
 		catch (IndexInvalidException e) {
 			throw convertGemFireQueryException(e);
@@ -297,12 +370,11 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@SuppressWarnings("unchecked")
 	public <E> SelectResults<E> find(String queryString, Object... params) throws InvalidDataAccessApiUsageException {
 		try {
-			QueryService queryService = resolveQueryService(getRegion());
-			Query query = queryService.newQuery(queryString);
+			Query query = resolveQuery(getRegion(), queryString);
 			Object result = query.execute(params);
 
 			if (result instanceof SelectResults) {
-				return (SelectResults<E>) result;
+				return proxyIfEnabled((SelectResults<E>) result);
 			}
 			else {
 				throw new InvalidDataAccessApiUsageException(String.format(
@@ -338,8 +410,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@SuppressWarnings("unchecked")
 	public <T> T findUnique(String queryString, Object... params) throws InvalidDataAccessApiUsageException {
 		try {
-			QueryService queryService = resolveQueryService(getRegion());
-			Query query = queryService.newQuery(queryString);
+			Query query = resolveQuery(getRegion(), queryString);
 			Object result = query.execute(params);
 
 			if (result instanceof SelectResults) {
@@ -355,7 +426,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 				}
 			}
 
-			return (T) result;
+			return (T) proxyIfEnabled(result);
 		}
 		catch (IndexInvalidException ex) {
 			throw convertGemFireQueryException(ex);
@@ -380,6 +451,60 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		}
 	}
 
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	private <T> T proxyIfEnabled(T value) {
+		return (isProxyPdxInstances() ? (T) PdxInstanceEntityProxyFactory.INSTANCE.proxyIfPossible(value) : value);
+	}
+
+	/* (non-Javadoc) */
+	private <K, V> Map<K, V> proxyIfEnabled(Map<K, V> map) {
+		if (isProxyPdxInstances() && map != null && map.values().stream().anyMatch(PdxInstance.class::isInstance)) {
+			Map<K, V> proxies = new LinkedHashMap<>(map.size());
+
+			map.forEach((key, value) -> proxies.put(key, proxyIfEnabled(value)));
+
+			return proxies;
+		}
+
+		return map;
+	}
+
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	private <E> SelectResults<E> proxyIfEnabled(SelectResults<E> results) {
+		if (isProxyPdxInstances() && results != null && results.stream().anyMatch(PdxInstance.class::isInstance)) {
+			List<E> proxies = new ArrayList<>(results.size());
+
+			results.forEach(element -> proxies.add(proxyIfEnabled(element)));
+
+			return new ProxySelectResults<>(results, proxies);
+		}
+
+		return results;
+	}
+
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	private <V> V unwrap(V value) {
+		return (isProxyPdxInstances() ? (V) PdxInstanceEntityProxyFactory.INSTANCE.unwrap(value) : value);
+	}
+
+	/* (non-Javadoc) */
+	private <K, V> Map<K, V> unwrap(Map<K, V> map) {
+		if (isProxyPdxInstances() && map != null
+				&& map.values().stream().anyMatch(PdxInstanceEntityProxy.class::isInstance)) {
+
+			Map<K, V> entities = new LinkedHashMap<>(map.size());
+
+			map.forEach((key, value) -> entities.put(key, unwrap(value)));
+
+			return entities;
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns the {@link QueryService} used by this template in its query/finder methods.
 	 *
@@ -395,6 +520,35 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 			: queryServiceFrom(region));
 	}
 
+	/**
+	 * Returns the compiled {@link Query} for the given OQL query {@link String}, reusing a previously compiled
+	 * {@link Query} from the {@link QueryCache} when available.
+	 *
+	 * Queries are cached by the cache and the local, Pool or default {@link QueryService} of the {@link Region},
+	 * since GemFire returns a new {@link QueryService} instance each time one is requested.
+	 *
+	 * @param region {@link Region} used to acquire the {@link QueryService} that creates the {@link Query}.
+	 * @param queryString {@link String} containing the OQL query.
+	 * @return the compiled {@link Query}.
+	 * @see #resolveQueryService(Region)
+	 * @see org.springframework.data.gemfire.QueryCache#getQuery(Object, java.util.function.Supplier, String)
+	 */
+	protected Query resolveQuery(Region<?, ?> region, String queryString) {
+		return getQueryCache().getQuery(queryServiceKeyFrom(region), () -> resolveQueryService(region), queryString);
+	}
+
+	/* (non-Javadoc) */
+	Object queryServiceKeyFrom(Region<?, ?> region) {
+		RegionService regionService = region.getRegionService();
+
+		if (regionService instanceof ClientCache) {
+			return Arrays.asList(regionService, (requiresLocalQueryService(region) ? LOCAL_QUERY_SERVICE_KEY
+				: (requiresPooledQueryService(region) ? poolNameFrom(region) : DEFAULT_QUERY_SERVICE_KEY)));
+		}
+
+		return Arrays.asList(regionService, DEFAULT_QUERY_SERVICE_KEY);
+	}
+
 	/* (non-Javadoc) */
 	QueryService resolveClientQueryService(Region<?, ?> region) {
 		ClientCache clientCache = (ClientCache) region.getRegionService();
@@ -531,4 +685,70 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 			}
 		}
 	}
+
+	/**
+	 * Read-only {@link SelectResults} containing the {@link PdxInstanceEntityProxy entity proxies} of the elements
+	 * of the query results, in order.  The {@link CollectionType} is taken from the original query results,
+	 * which avoids depending on GemFire's internal {@link SelectResults} implementations.
+	 *
+	 * @see org.apache.geode.cache.query.SelectResults
+	 */
+	private static class ProxySelectResults<E> extends AbstractCollection<E> implements SelectResults<E> {
+
+		private final List<E> elements;
+
+		private final SelectResults<E> source;
+
+		ProxySelectResults(SelectResults<E> source, List<E> elements) {
+			this.source = source;
+			this.elements = elements;
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return Collections.unmodifiableList(this.elements).iterator();
+		}
+
+		@Override
+		public int size() {
+			return this.elements.size();
+		}
+
+		@Override
+		public boolean isModifiable() {
+			return false;
+		}
+
+		@Override
+		public void setModifiable(boolean modifiable) {
+			if (modifiable) {
+				throw new UnsupportedOperationException("Proxied query results are not modifiable");
+			}
+		}
+
+		@Override
+		public int occurrences(E element) {
+			return Collections.frequency(this.elements, element);
+		}
+
+		@Override
+		public List<E> asList() {
+			return new ArrayList<>(this.elements);
+		}
+
+		@Override
+		public Set<E> asSet() {
+			return new LinkedHashSet<>(this.elements);
+		}
+
+		@Override
+		public CollectionType getCollectionType() {
+			return this.source.getCollectionType();
+		}
+
+		@Override
+		public void setElementType(ObjectType elementType) {
+			this.source.setElementType(elementType);
+		}
+	}
 }
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryService;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * The {@link QueryCache} class is a bounded, thread-safe cache of GemFire {@link Query} objects keyed by
+ * the origin of the {@link QueryService} and OQL query {@link String}.
+ *
+ * Creating a {@link Query} with {@link QueryService#newQuery(String)} parses and compiles the OQL query,
+ * which is wasted effort when the same OQL query is executed repeatedly with different bind parameters,
+ * as is the case for {@link GemfireTemplate#find(String, Object...)} when called by Repository query methods.
+ *
+ * When the cache is full, an arbitrary entry is evicted to make room for a new {@link Query}, which keeps lookups
+ * lock-free.  GemFire returns a new {@link QueryService} instance from each call to
+ * {@link org.apache.geode.cache.RegionService#getQueryService()} and the like, so queries are keyed by a stable
+ * identifier of where the {@link QueryService} comes from, such as the cache and Pool name, rather than by
+ * the {@link QueryService} itself.  The number of cache hits, misses and evictions are recorded for monitoring purposes.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.query.Query
+ * @see org.apache.geode.cache.query.QueryService
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class QueryCache {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+	private final AtomicLong evictionCount = new AtomicLong(0L);
+	private final AtomicLong hitCount = new AtomicLong(0L);
+	private final AtomicLong missCount = new AtomicLong(0L);
+
+	private final ConcurrentMap<QueryKey, Query> queries;
+
+	private final int maximumSize;
+
+	/**
+	 * Constructs a new instance of {@link QueryCache} holding at most {@link #DEFAULT_MAXIMUM_SIZE} queries.
+	 *
+	 * @see #QueryCache(int)
+	 */
+	public QueryCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link QueryCache} holding at most the given number of queries.
+	 *
+	 * @param maximumSize maximum number of {@link Query} objects held by this cache; {@literal 0} disables caching.
+	 * @throws IllegalArgumentException if the maximum size is less than {@literal 0}.
+	 */
+	public QueryCache(int maximumSize) {
+		Assert.isTrue(maximumSize >= 0, String.format("Maximum size [%d] must be greater than or equal to 0",
+			maximumSize));
+
+		this.maximumSize = maximumSize;
+		this.queries = new ConcurrentHashMap<>(Math.min(maximumSize, DEFAULT_MAXIMUM_SIZE));
+	}
+
+	/**
+	 * Returns the cached {@link Query} for the given OQL query {@link String} created by the given
+	 * {@link QueryService}, creating and caching a new {@link Query} if not present.
+	 *
+	 * The {@link QueryService} itself is the key, so the caller must reuse the same {@link QueryService} instance
+	 * for queries to be found in the cache.
+	 *
+	 * @param queryService {@link QueryService} used to create the {@link Query}; must not be {@literal null}.
+	 * @param queryString {@link String} containing the OQL query; must not be {@literal null}.
+	 * @return the cached or newly created {@link Query}.
+	 * @see #getQuery(Object, Supplier, String)
+	 */
+	public Query getQuery(QueryService queryService, String queryString) {
+		Assert.notNull(queryService, "QueryService must not be null");
+		return getQuery(queryService, () -> queryService, queryString);
+	}
+
+	/**
+	 * Returns the cached {@link Query} for the given OQL query {@link String} and {@link QueryService} key,
+	 * creating and caching a new {@link Query} with the supplied {@link QueryService} if not present.
+	 *
+	 * The {@link QueryService} is only acquired on a cache miss.
+	 *
+	 * @param queryServiceKey stable identifier of the {@link QueryService}, such as the cache and Pool name,
+	 * compared with {@link Object#equals(Object)}; must not be {@literal null}.
+	 * @param queryService {@link Supplier} of the {@link QueryService} used to create the {@link Query};
+	 * must not be {@literal null}.
+	 * @param queryString {@link String} containing the OQL query; must not be {@literal null}.
+	 * @return the cached or newly created {@link Query}.
+	 * @see org.apache.geode.cache.query.QueryService#newQuery(String)
+	 */
+	public Query getQuery(Object queryServiceKey, Supplier<QueryService> queryService, String queryString) {
+
+		Assert.notNull(queryService, "QueryService Supplier must not be null");
+
+		if (!isEnabled()) {
+			this.missCount.incrementAndGet();
+			return queryService.get().newQuery(queryString);
+		}
+
+		QueryKey key = new QueryKey(queryServiceKey, queryString);
+
+		Query query = this.queries.get(key);
+
+		if (query != null) {
+			this.hitCount.incrementAndGet();
+			return query;
+		}
+
+		this.missCount.incrementAndGet();
+
+		query = queryService.get().newQuery(queryString);
+
+		evictIfFull();
+
+		Query existingQuery = this.queries.putIfAbsent(key, query);
+
+		return (existingQuery != null ? existingQuery : query);
+	}
+
+	/* (non-Javadoc) */
+	private void evictIfFull() {
+
+		Iterator<QueryKey> keys = this.queries.keySet().iterator();
+
+		while (this.queries.size() >= this.maximumSize && keys.hasNext()) {
+			if (this.queries.remove(keys.next()) != null) {
+				this.evictionCount.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Removes all {@link Query} objects from this cache.
+	 */
+	public void clear() {
+		this.queries.clear();
+	}
+
+	/**
+	 * Determines whether this cache is enabled.
+	 *
+	 * @return a boolean value indicating whether this cache holds {@link Query} objects.
+	 */
+	public boolean isEnabled() {
+		return (this.maximumSize > 0);
+	}
+
+	/**
+	 * Returns the number of {@link Query} objects evicted from this cache to make room for new {@link Query} objects.
+	 *
+	 * @return the number of cache evictions.
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.get();
+	}
+
+	/**
+	 * Returns the number of lookups that found a cached {@link Query}.
+	 *
+	 * @return the number of cache hits.
+	 */
+	public long getHitCount() {
+		return this.hitCount.get();
+	}
+
+	/**
+	 * Returns the number of lookups that required a new {@link Query} to be created.
+	 *
+	 * @return the number of cache misses.
+	 */
+	public long getMissCount() {
+		return this.missCount.get();
+	}
+
+	/**
+	 * Returns the ratio of cache hits to the total number of lookups.
+	 *
+	 * @return the cache hit ratio, or {@literal 0.0} if no lookups have been performed.
+	 */
+	public double getHitRatio() {
+
+		long hits = getHitCount();
+		long lookups = hits + getMissCount();
+
+		return (lookups > 0 ? (double) hits / (double) lookups : 0.0d);
+	}
+
+	/**
+	 * Returns the maximum number of {@link Query} objects held by this cache.
+	 *
+	 * @return the maximum size of this cache.
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Returns the number of {@link Query} objects currently held by this cache.
+	 *
+	 * @return the current size of this cache.
+	 */
+	public int size() {
+		return this.queries.size();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format("%1$s{ size = %2$d, maximumSize = %3$d, hits = %4$d, misses = %5$d, evictions = %6$d }",
+			getClass().getSimpleName(), size(), getMaximumSize(), getHitCount(), getMissCount(), getEvictionCount());
+	}
+
+	/* (non-Javadoc) */
+	static final class QueryKey {
+
+		private final Object queryServiceKey;
+
+		private final String queryString;
+
+		QueryKey(Object queryServiceKey, String queryString) {
+
+			Assert.notNull(queryServiceKey, "QueryService key must not be null");
+			Assert.notNull(queryString, "Query must not be null");
+
+			this.queryServiceKey = queryServiceKey;
+			this.queryString = queryString;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof QueryKey)) {
+				return false;
+			}
+
+			QueryKey that = (QueryKey) obj;
+
+			return (this.queryServiceKey.equals(that.queryServiceKey) && this.queryString.equals(that.queryString));
+		}
+
+		@Override
+		public int hashCode() {
+
+			int hashValue = 17;
+
+			hashValue = 37 * hashValue + this.queryServiceKey.hashCode();
+			hashValue = 37 * hashValue + ObjectUtils.nullSafeHashCode(this.queryString);
+
+			return hashValue;
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+import java.util.Collection;
+import java.util.Map;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The {@link ReactiveGemfireOperations} interface defines the reactive variant of {@link GemfireOperations},
+ * returning {@link Mono} and {@link Flux} publishers that perform the data access operations when subscribed.
+ *
+ * @author John Blum
+ * @see reactor.core.publisher.Flux
+ * @see reactor.core.publisher.Mono
+ * @see org.springframework.data.gemfire.GemfireOperations
+ * @see org.springframework.data.gemfire.ReactiveGemfireTemplate
+ * @since 2.0.0
+ */
+public interface ReactiveGemfireOperations {
+
+	Mono<Boolean> containsKey(Object key);
+
+	Mono<Boolean> containsKeyOnServer(Object key);
+
+	<K, V> Mono<V> get(K key);
+
+	<K, V> Mono<Map<K, V>> getAll(Collection<?> keys);
+
+	<K, V> Mono<V> put(K key, V value);
+
+	<K, V> Mono<Void> putAll(Map<? extends K, ? extends V> map);
+
+	<K, V> Mono<V> putIfAbsent(K key, V value);
+
+	<K, V> Mono<V> remove(K key);
+
+	/**
+	 * Executes the OQL query with the given (optional) parameters and emits each element of the query result.
+	 *
+	 * @param <E> type parameter specifying the type of the select results.
+	 * @param query the OQL query statement to execute.
+	 * @param params an array of Object values used as arguments to bind to the OQL query parameters (such as $1).
+	 * @return a {@link Flux} emitting the objects matching the query.
+	 * @see org.springframework.data.gemfire.GemfireOperations#find(String, Object...)
+	 */
+	<E> Flux<E> find(String query, Object... params);
+
+	/**
+	 * Executes the OQL query with the given (optional) parameters and emits the single result.
+	 *
+	 * @param <T> type parameter specifying the returned result type.
+	 * @param query the OQL query statement to execute.
+	 * @param params an array of Object values used as arguments to bind to the OQL query parameters (such as $1).
+	 * @return a {@link Mono} emitting the single object matching the query.
+	 * @see org.springframework.data.gemfire.GemfireOperations#findUnique(String, Object...)
+	 */
+	<T> Mono<T> findUnique(String query, Object... params);
+
+	/**
+	 * Executes the given {@link GemfireCallback} and emits the result, if any.
+	 *
+	 * @param <T> type parameter specifying the returned result type.
+	 * @param action {@link GemfireCallback} to execute.
+	 * @return a {@link Mono} emitting the result of the {@link GemfireCallback}.
+	 * @see org.springframework.data.gemfire.GemfireOperations#execute(GemfireCallback)
+	 */
+	<T> Mono<T> execute(GemfireCallback<T> action);
+
+}
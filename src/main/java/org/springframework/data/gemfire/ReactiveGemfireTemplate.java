@@ -0,0 +1,272 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.apache.geode.cache.Region;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ReactiveGemfireTemplate} class implements {@link ReactiveGemfireOperations} by delegating to
+ * a {@link GemfireTemplate}.
+ *
+ * GemFire {@link Region} operations block the calling {@link Thread}, therefore each operation is performed
+ * on a dedicated {@link Scheduler} backed by a bounded pool of {@link Thread Threads}, which keeps the blocking
+ * calls off the event loop {@link Thread Threads} of the subscriber without spawning an unbounded number
+ * of {@link Thread Threads}.
+ *
+ * @author John Blum
+ * @see reactor.core.scheduler.Scheduler
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see org.springframework.data.gemfire.ReactiveGemfireOperations
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class ReactiveGemfireTemplate implements ReactiveGemfireOperations {
+
+	public static final int DEFAULT_SCHEDULER_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+	protected static final String DEFAULT_THREAD_NAME_PREFIX = "gemfire-reactive-";
+
+	private static Scheduler defaultScheduler;
+
+	private final GemfireTemplate template;
+
+	private final Scheduler scheduler;
+
+	/**
+	 * Returns the {@link Scheduler} shared by all {@link ReactiveGemfireTemplate ReactiveGemfireTemplates}
+	 * constructed without a {@link Scheduler}.  The {@link Scheduler} is backed by a fixed pool
+	 * of {@link #DEFAULT_SCHEDULER_POOL_SIZE} daemon {@link Thread Threads}.
+	 *
+	 * @return the shared, bounded {@link Scheduler}.
+	 * @see #newScheduler(int)
+	 */
+	public static synchronized Scheduler getDefaultScheduler() {
+		if (defaultScheduler == null) {
+			defaultScheduler = newScheduler(DEFAULT_SCHEDULER_POOL_SIZE);
+		}
+
+		return defaultScheduler;
+	}
+
+	/**
+	 * Constructs a new {@link Scheduler} backed by a fixed pool of daemon {@link Thread Threads} used to perform
+	 * blocking GemFire operations.
+	 *
+	 * @param poolSize number of {@link Thread Threads} in the pool; must be greater than {@literal 0}.
+	 * @return a new, bounded {@link Scheduler}.
+	 * @throws IllegalArgumentException if the pool size is less than {@literal 1}.
+	 * @see reactor.core.scheduler.Schedulers#fromExecutorService(java.util.concurrent.ExecutorService)
+	 */
+	public static Scheduler newScheduler(int poolSize) {
+		Assert.isTrue(poolSize > 0, String.format("Pool size [%d] must be greater than 0", poolSize));
+
+		AtomicInteger threadNumber = new AtomicInteger(0);
+
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, DEFAULT_THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+
+		return Schedulers.fromExecutorService(Executors.newFixedThreadPool(poolSize, threadFactory));
+	}
+
+	/**
+	 * Constructs a new instance of {@link ReactiveGemfireTemplate} performing operations on the given {@link Region}
+	 * using the {@link #getDefaultScheduler() default Scheduler}.
+	 *
+	 * @param region {@link Region} on which to perform data access operations; must not be {@literal null}.
+	 * @see #ReactiveGemfireTemplate(GemfireTemplate, Scheduler)
+	 */
+	public <K, V> ReactiveGemfireTemplate(Region<K, V> region) {
+		this(new GemfireTemplate(region), getDefaultScheduler());
+	}
+
+	/**
+	 * Constructs a new instance of {@link ReactiveGemfireTemplate} delegating to the given {@link GemfireTemplate}
+	 * and performing the blocking operations on the given {@link Scheduler}.
+	 *
+	 * @param template {@link GemfireTemplate} used to perform the data access operations; must not be {@literal null}.
+	 * @param scheduler {@link Scheduler} on which the blocking data access operations are performed;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if either the {@link GemfireTemplate} or {@link Scheduler} are {@literal null}.
+	 */
+	public ReactiveGemfireTemplate(GemfireTemplate template, Scheduler scheduler) {
+		Assert.notNull(template, "GemfireTemplate must not be null");
+		Assert.notNull(scheduler, "Scheduler must not be null");
+
+		this.template = template;
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Returns the {@link GemfireTemplate} used to perform the data access operations.
+	 *
+	 * @return the {@link GemfireTemplate} used to perform the data access operations.
+	 */
+	public GemfireTemplate getGemfireTemplate() {
+		return this.template;
+	}
+
+	/**
+	 * Returns the {@link Scheduler} on which the blocking data access operations are performed.
+	 *
+	 * @return the {@link Scheduler} on which the blocking data access operations are performed.
+	 */
+	public Scheduler getScheduler() {
+		return this.scheduler;
+	}
+
+	/**
+	 * Returns a {@link Mono} performing the given blocking operation on the {@link #getScheduler() Scheduler}
+	 * when subscribed.
+	 *
+	 * @param <T> type parameter specifying the result type.
+	 * @param operation blocking operation to perform.
+	 * @return a {@link Mono} emitting the result of the operation, if any.
+	 */
+	public <T> Mono<T> defer(Callable<T> operation) {
+		return Mono.fromCallable(operation).subscribeOn(getScheduler());
+	}
+
+	/**
+	 * Returns a {@link Flux} performing the given blocking operation on the {@link #getScheduler() Scheduler}
+	 * when subscribed and emitting the elements of the resulting {@link Iterable}.
+	 *
+	 * @param <T> type parameter specifying the element type.
+	 * @param operation blocking operation to perform.
+	 * @return a {@link Flux} emitting the elements resulting from the operation.
+	 */
+	public <T> Flux<T> deferMany(Callable<? extends Iterable<T>> operation) {
+		return defer(operation).flatMapIterable(iterable -> iterable);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.ReactiveGemfireOperations#containsKey(java.lang.Object)
+	 */
+	@Override
+	public Mono<Boolean> containsKey(Object key) {
+		return defer(() -> getGemfireTemplate().containsKey(key));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.ReactiveGemfireOperations#containsKeyOnServer(java.lang.Object)
+	 */
+	@Override
+	public Mono<Boolean> containsKeyOnServer(Object key) {
+		return defer(() -> getGemfireTemplate().containsKeyOnServer(key));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.ReactiveGemfireOperations#get(java.lang.Object)
+	 */
+	@Override
+	public <K, V> Mono<V> get(K key) {
+		return defer(() -> getGemfireTemplate().get(key));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.ReactiveGemfireOperations#getAll(java.util.Collection)
+	 */
+	@Override
+	public <K, V> Mono<Map<K, V>> getAll(Collection<?> keys) {
+		return defer(() -> getGemfireTemplate().getAll(keys));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.ReactiveGemfireOperations#put(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public <K, V> Mono<V> put(K key, V value) {
+		return defer(() -> getGemfireTemplate().put(key, value));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.ReactiveGemfireOperations#putAll(java.util.Map)
+	 */
+	@Override
+	public <K, V> Mono<Void> putAll(Map<? extends K, ? extends V> map) {
+		return defer(() -> {
+			getGemfireTemplate().putAll(map);
+			return null;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.ReactiveGemfireOperations#putIfAbsent(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public <K, V> Mono<V> putIfAbsent(K key, V value) {
+		return defer(() -> getGemfireTemplate().putIfAbsent(key, value));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.ReactiveGemfireOperations#remove(java.lang.Object)
+	 */
+	@Override
+	public <K, V> Mono<V> remove(K key) {
+		return defer(() -> getGemfireTemplate().remove(key));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.ReactiveGemfireOperations#find(java.lang.String, java.lang.Object[])
+	 */
+	@Override
+	public <E> Flux<E> find(String query, Object... params) {
+		return deferMany(() -> getGemfireTemplate().<E>find(query, params).asList());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.ReactiveGemfireOperations#findUnique(java.lang.String, java.lang.Object[])
+	 */
+	@Override
+	public <T> Mono<T> findUnique(String query, Object... params) {
+		return defer(() -> getGemfireTemplate().findUnique(query, params));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.ReactiveGemfireOperations#execute(org.springframework.data.gemfire.GemfireCallback)
+	 */
+	@Override
+	public <T> Mono<T> execute(GemfireCallback<T> action) {
+		return defer(() -> getGemfireTemplate().execute(action));
+	}
+}
@@ -52,6 +52,7 @@ import org.springframework.data.gemfire.config.support.CustomEditorBeanFactoryPo
 import org.springframework.data.gemfire.config.support.DefinedIndexesApplicationListener;
 import org.springframework.data.gemfire.config.support.DiskStoreDirectoryBeanPostProcessor;
 import org.springframework.data.gemfire.config.support.PdxDiskStoreAwareBeanFactoryPostProcessor;
+import org.springframework.data.gemfire.config.support.PdxTypeDefinitionsInitializer;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.mapping.MappingPdxSerializer;
 import org.springframework.data.gemfire.util.PropertiesBuilder;
@@ -90,6 +91,7 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.data.gemfire.config.support.DefinedIndexesApplicationListener
  * @see org.springframework.data.gemfire.config.support.DiskStoreDirectoryBeanPostProcessor
  * @see org.springframework.data.gemfire.config.support.PdxDiskStoreAwareBeanFactoryPostProcessor
+ * @see org.springframework.data.gemfire.config.support.PdxTypeDefinitionsInitializer
  * @see org.springframework.data.gemfire.mapping.GemfireMappingContext
  * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
  * @since 1.9.0
@@ -102,6 +104,7 @@ public abstract class AbstractCacheConfiguration extends AbstractAnnotationConfi
 	private static final AtomicBoolean DEFINED_INDEXES_APPLICATION_LISTENER_REGISTERED = new AtomicBoolean(false);
 	private static final AtomicBoolean DISK_STORE_DIRECTORY_BEAN_POST_PROCESSOR_REGISTERED = new AtomicBoolean(false);
 	private static final AtomicBoolean PDX_DISK_STORE_AWARE_BEAN_FACTORY_POST_PROCESSOR_REGISTERED = new AtomicBoolean(false);
+	private static final AtomicBoolean PDX_TYPE_DEFINITIONS_INITIALIZER_REGISTERED = new AtomicBoolean(false);
 
 	protected static final boolean DEFAULT_CLOSE = true;
 	protected static final boolean DEFAULT_COPY_ON_READ = false;
@@ -293,6 +296,10 @@ public abstract class AbstractCacheConfiguration extends AbstractAnnotationConfi
 			setPdxSerializer(resolvePdxSerializer((String) enablePdxAttributes.get("serializerBeanName")));
 
 			registerPdxDiskStoreAwareBeanFactoryPostProcessor(importMetadata);
+
+			if (Boolean.TRUE.equals(enablePdxAttributes.get("preDefineTypes"))) {
+				registerPdxTypeDefinitionsInitializer(importMetadata);
+			}
 		}
 	}
 
@@ -365,6 +372,15 @@ public abstract class AbstractCacheConfiguration extends AbstractAnnotationConfi
 			});
 	}
 
+	/* (non-Javadoc) */
+	private void registerPdxTypeDefinitionsInitializer(AnnotationMetadata importMetadata) {
+
+		if (PDX_TYPE_DEFINITIONS_INITIALIZER_REGISTERED.compareAndSet(false, true)) {
+			register(BeanDefinitionBuilder.rootBeanDefinition(PdxTypeDefinitionsInitializer.class)
+				.setRole(BeanDefinition.ROLE_INFRASTRUCTURE).getBeanDefinition());
+		}
+	}
+
 	/**
 	 * Callback method allowing developers to configure other cache or application specific configuration settings.
 	 *
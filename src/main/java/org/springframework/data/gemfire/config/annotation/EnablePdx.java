@@ -58,6 +58,16 @@ public @interface EnablePdx {
 	 */
 	boolean persistent() default false;
 
+	/**
+	 * Configures whether the PDX types of all persistent entities, including the entities found by
+	 * {@link EnableEntityDefinedRegions} scanning, are defined in bulk at startup, before the Spring
+	 * {@link org.springframework.context.ApplicationContext} gets refreshed, when the configured PDX serializer
+	 * is a {@link org.springframework.data.gemfire.mapping.MappingPdxSerializer}.
+	 *
+	 * Default is {@literal false}.
+	 */
+	boolean preDefineTypes() default false;
+
 	/**
 	 * Configures the object preference to {@link org.apache.geode.pdx.PdxInstance} type or {@link Object}.
 	 *
@@ -45,6 +45,7 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.ManagedList;
@@ -69,6 +70,7 @@ import org.springframework.data.gemfire.ScopeType;
 import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
 import org.springframework.data.gemfire.config.annotation.support.GemFireCacheTypeAwareRegionFactoryBean;
 import org.springframework.data.gemfire.config.annotation.support.GemFireComponentClassTypeScanner;
+import org.springframework.data.gemfire.config.support.PdxTypeDefinitionsInitializer;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
@@ -431,8 +433,12 @@ public class EntityDefinedRegionsConfiguration
 
 		setRegionAttributes(persistentEntity, regionFactoryBeanBuilder, strict);
 
-		registry.registerBeanDefinition(persistentEntity.getRegionName(),
-			regionFactoryBeanBuilder.getBeanDefinition());
+		AbstractBeanDefinition regionBeanDefinition = regionFactoryBeanBuilder.getBeanDefinition();
+
+		regionBeanDefinition.setAttribute(PdxTypeDefinitionsInitializer.PERSISTENT_ENTITY_TYPE_ATTRIBUTE,
+			persistentEntity.getType());
+
+		registry.registerBeanDefinition(persistentEntity.getRegionName(), regionBeanDefinition);
 	}
 
 	/* (non-Javadoc) */
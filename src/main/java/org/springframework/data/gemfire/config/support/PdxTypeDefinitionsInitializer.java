@@ -0,0 +1,182 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.support;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.pdx.PdxSerializer;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.data.gemfire.config.xml.GemfireConstants;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.MappingPdxSerializer;
+
+/**
+ * {@link PdxTypeDefinitionsInitializer} is a Spring {@link SmartInitializingSingleton} used to define the PDX types
+ * of all persistent entities known to the {@link MappingPdxSerializer} configured on the cache, in bulk and in parallel,
+ * once all singleton beans have been created and before the Spring {@link org.springframework.context.ApplicationContext}
+ * gets refreshed.
+ *
+ * Persistent entities include the entities of the {@link MappingPdxSerializer MappingPdxSerializer's} mapping context
+ * along with the entities found by
+ * {@link org.springframework.data.gemfire.config.annotation.EnableEntityDefinedRegions} scanning,
+ * which are identified by the {@link #PERSISTENT_ENTITY_TYPE_ATTRIBUTE} of the {@link org.apache.geode.cache.Region}
+ * bean definitions.
+ *
+ * Defining the PDX types ahead of time keeps the PDX type registration, which is distributed to all members
+ * of the cluster, off the path of the first serialization of each entity type.
+ *
+ * @author John Blum
+ * @see org.springframework.beans.factory.SmartInitializingSingleton
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer#definePdxType(Class, org.apache.geode.cache.RegionService)
+ * @since 2.0.0
+ */
+public class PdxTypeDefinitionsInitializer implements BeanFactoryAware, SmartInitializingSingleton {
+
+	/**
+	 * Name of the bean definition attribute identifying the persistent entity {@link Class} type
+	 * of a {@link org.apache.geode.cache.Region} bean.
+	 */
+	public static final String PERSISTENT_ENTITY_TYPE_ATTRIBUTE =
+		PdxTypeDefinitionsInitializer.class.getName().concat(".persistentEntityType");
+
+	protected final Log logger = initLogger();
+
+	private BeanFactory beanFactory;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+	}
+
+	/**
+	 * Returns a reference to the Spring {@link BeanFactory} containing the cache bean.
+	 *
+	 * @return a reference to the Spring {@link BeanFactory} containing the cache bean.
+	 * @see org.springframework.beans.factory.BeanFactory
+	 */
+	protected BeanFactory getBeanFactory() {
+		return this.beanFactory;
+	}
+
+	/**
+	 * Defines the PDX types of all persistent entities using the {@link MappingPdxSerializer} configured
+	 * on the cache.  Failing to define the PDX type of an entity does not fail startup since the PDX type
+	 * will be defined when the entity is first serialized.
+	 *
+	 * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer#definePdxType(Class, org.apache.geode.cache.RegionService)
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		GemFireCache cache = getCache();
+		PdxSerializer pdxSerializer = (cache != null ? cache.getPdxSerializer() : null);
+
+		if (pdxSerializer instanceof MappingPdxSerializer) {
+
+			MappingPdxSerializer mappingPdxSerializer = (MappingPdxSerializer) pdxSerializer;
+			Set<Class<?>> persistentEntityTypes = resolvePersistentEntityTypes(mappingPdxSerializer);
+			AtomicInteger definedPdxTypeCount = new AtomicInteger(0);
+
+			long startTime = System.nanoTime();
+
+			persistentEntityTypes.parallelStream().forEach(persistentEntityType -> {
+				try {
+					if (mappingPdxSerializer.definePdxType(persistentEntityType, cache)) {
+						definedPdxTypeCount.incrementAndGet();
+					}
+				}
+				catch (RuntimeException e) {
+					logger.warn(String.format("Failed to define PDX type for entity of type [%s]: %s",
+						persistentEntityType.getName(), e.getMessage()), e);
+				}
+			});
+
+			if (logger.isInfoEnabled()) {
+				logger.info(String.format("Defined [%1$d] of [%2$d] PDX types in [%3$d] ms", definedPdxTypeCount.get(),
+					persistentEntityTypes.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	Log initLogger() {
+		return LogFactory.getLog(getClass());
+	}
+
+	/* (non-Javadoc) */
+	private GemFireCache getCache() {
+
+		BeanFactory beanFactory = getBeanFactory();
+		String cacheBeanName = GemfireConstants.DEFAULT_GEMFIRE_CACHE_NAME;
+
+		return (beanFactory != null && beanFactory.containsBean(cacheBeanName)
+			? beanFactory.getBean(cacheBeanName, GemFireCache.class) : null);
+	}
+
+	/* (non-Javadoc) */
+	private Set<Class<?>> resolvePersistentEntityTypes(MappingPdxSerializer mappingPdxSerializer) {
+
+		Set<Class<?>> persistentEntityTypes = new LinkedHashSet<>();
+
+		for (GemfirePersistentEntity<?> persistentEntity : mappingPdxSerializer.getMappingContext()
+				.getPersistentEntities()) {
+
+			persistentEntityTypes.add(persistentEntity.getType());
+		}
+
+		persistentEntityTypes.addAll(resolveRegionPersistentEntityTypes());
+
+		return persistentEntityTypes;
+	}
+
+	/* (non-Javadoc) */
+	private Set<Class<?>> resolveRegionPersistentEntityTypes() {
+
+		BeanFactory beanFactory = getBeanFactory();
+
+		if (beanFactory instanceof ConfigurableListableBeanFactory) {
+
+			ConfigurableListableBeanFactory listableBeanFactory = (ConfigurableListableBeanFactory) beanFactory;
+			Set<Class<?>> persistentEntityTypes = new LinkedHashSet<>();
+
+			Arrays.stream(listableBeanFactory.getBeanDefinitionNames())
+				.map(beanName -> listableBeanFactory.getBeanDefinition(beanName)
+					.getAttribute(PERSISTENT_ENTITY_TYPE_ATTRIBUTE))
+				.filter(persistentEntityType -> persistentEntityType instanceof Class)
+				.forEach(persistentEntityType -> persistentEntityTypes.add((Class<?>) persistentEntityType));
+
+			return persistentEntityTypes;
+		}
+
+		return Collections.emptySet();
+	}
+}
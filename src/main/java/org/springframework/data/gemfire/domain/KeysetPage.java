@@ -0,0 +1,215 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.domain;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.domain.support.AbstractPageSupport;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link KeysetPage} class is a Spring Data {@link Page} (and {@link Slice}) implementation holding the results
+ * of a keyset paginated query described by a {@link KeysetPageRequest}.
+ *
+ * The {@link #nextPageable() next Pageable} carries the keyset of the last element on this page, allowing the next
+ * page to be queried without re-reading the results of this and all previous pages.  The total number of elements
+ * is computed lazily, and only when requested, since doing so requires a count over the entire query.
+ *
+ * @author John Blum
+ * @see org.springframework.data.domain.Page
+ * @see org.springframework.data.domain.Slice
+ * @see org.springframework.data.gemfire.domain.KeysetPageRequest
+ * @see org.springframework.data.gemfire.domain.support.AbstractPageSupport
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class KeysetPage<T> extends AbstractPageSupport<T> {
+
+	/**
+	 * Factory method used to construct a new instance of {@link KeysetPage} from the given query results.
+	 *
+	 * The query results are expected to have been limited to {@link KeysetPageRequest#getFetchLimit()} elements
+	 * and will be trimmed by {@link KeysetPageRequest#getFetchOffset()} before forming the content of this page.
+	 * Any results beyond the page size indicate the existence of a next page.
+	 *
+	 * @param <T> {@link Class} type of the elements on the page.
+	 * @param results {@link List} of query results.
+	 * @param pageRequest {@link KeysetPageRequest} describing the requested page; must not be {@literal null}.
+	 * @param totalSupplier {@link LongSupplier} used to compute the total number of elements;
+	 * may be {@literal null} when only a {@link Slice} is required.
+	 * @return a new {@link KeysetPage} for the given query results.
+	 * @see org.springframework.data.gemfire.domain.KeysetPageRequest
+	 */
+	public static <T> KeysetPage<T> newKeysetPage(List<T> results, KeysetPageRequest pageRequest,
+			LongSupplier totalSupplier) {
+
+		Assert.notNull(pageRequest, "KeysetPageRequest must not be null");
+
+		List<T> resolvedResults = Optional.ofNullable(results).orElseGet(Collections::emptyList);
+
+		int fromIndex = (int) Math.min(pageRequest.getFetchOffset(), resolvedResults.size());
+		int toIndex = Math.min(fromIndex + pageRequest.getPageSize(), resolvedResults.size());
+
+		List<T> content = resolvedResults.subList(fromIndex, toIndex);
+
+		KeysetPageRequest nextPageRequest = (resolvedResults.size() > toIndex && !content.isEmpty()
+			? pageRequest.nextAfter(content.get(content.size() - 1)) : null);
+
+		return new KeysetPage<>(content, pageRequest, nextPageRequest, totalSupplier);
+	}
+
+	private final KeysetPageRequest nextPageRequest;
+	private final KeysetPageRequest pageRequest;
+
+	private final List<T> content;
+
+	private final LongSupplier totalSupplier;
+
+	private volatile Long total;
+
+	/**
+	 * Constructs a new instance of {@link KeysetPage} initialized with the given content, {@link KeysetPageRequest}
+	 * for this page, {@link KeysetPageRequest} for the next page and {@link LongSupplier} of the total.
+	 *
+	 * @param content {@link List} of elements on this page.
+	 * @param pageRequest {@link KeysetPageRequest} describing this page; must not be {@literal null}.
+	 * @param nextPageRequest {@link KeysetPageRequest} describing the next page;
+	 * {@literal null} if this is the last page.
+	 * @param totalSupplier {@link LongSupplier} used to compute the total number of elements;
+	 * may be {@literal null}.
+	 */
+	protected KeysetPage(List<T> content, KeysetPageRequest pageRequest, KeysetPageRequest nextPageRequest,
+			LongSupplier totalSupplier) {
+
+		Assert.notNull(pageRequest, "KeysetPageRequest must not be null");
+
+		this.content = Optional.ofNullable(content).orElseGet(Collections::emptyList);
+		this.pageRequest = pageRequest;
+		this.nextPageRequest = nextPageRequest;
+		this.totalSupplier = totalSupplier;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean hasNext() {
+		return (this.nextPageRequest != null);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean hasPrevious() {
+		return (this.pageRequest.getPageNumber() > 0);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public List<T> getContent() {
+		return Collections.unmodifiableList(this.content);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public int getNumber() {
+		return this.pageRequest.getPageNumber();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public int getSize() {
+		return this.pageRequest.getPageSize();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Sort getSort() {
+		return this.pageRequest.getSort();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Pageable nextPageable() {
+		return this.nextPageRequest;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Pageable previousPageable() {
+		return (hasPrevious() ? this.pageRequest.previous() : null);
+	}
+
+	/**
+	 * Computes the total number of elements, at most once, using the configured {@link LongSupplier}.
+	 *
+	 * @see org.springframework.data.domain.Page#getTotalElements()
+	 */
+	@Override
+	public long getTotalElements() {
+
+		if (this.total == null) {
+			if (this.totalSupplier == null) {
+				return super.getTotalElements();
+			}
+
+			this.total = this.totalSupplier.getAsLong();
+		}
+
+		return this.total;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public int getTotalPages() {
+		return (int) Math.ceil((double) getTotalElements() / (double) getSize());
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public <S> KeysetPage<S> map(Function<? super T, ? extends S> converter) {
+		return new KeysetPage<>(getContent().stream().map(converter::apply).collect(Collectors.toList()),
+			this.pageRequest, this.nextPageRequest, this.totalSupplier);
+	}
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.domain;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.AbstractPageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * The {@link KeysetPageRequest} class is a Spring Data {@link Pageable} implementation supporting keyset
+ * (a.k.a. seek) pagination.
+ *
+ * Rather than skipping over the results of all previous pages, a {@link KeysetPageRequest} remembers the values
+ * of the {@link Sort} properties for the last element on the previous page (i.e. the keyset) so that the next page
+ * can be queried with a predicate of the form {@literal WHERE id > $1 ORDER BY id LIMIT n}.  This keeps the cost
+ * of fetching any page constant regardless of the page number or size of the {@link org.apache.geode.cache.Region}.
+ *
+ * The {@link Sort} of a {@link KeysetPageRequest} must define a total order over the elements, which is ensured
+ * by {@link #from(Pageable, String)} appending the identifier property when not already present.
+ *
+ * @author John Blum
+ * @see org.springframework.data.domain.AbstractPageRequest
+ * @see org.springframework.data.domain.Pageable
+ * @see org.springframework.data.domain.Sort
+ * @see org.springframework.data.gemfire.domain.KeysetPage
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class KeysetPageRequest extends AbstractPageRequest {
+
+	protected static final Object[] EMPTY_KEYSET = new Object[0];
+
+	private final KeysetPageRequest previous;
+
+	private final Object[] keyset;
+
+	private final Sort sort;
+
+	/**
+	 * Factory method used to construct a new instance of {@link KeysetPageRequest} for the first page
+	 * with the given page size.
+	 *
+	 * @param size number of elements per page.
+	 * @return a new {@link KeysetPageRequest} for the first page.
+	 * @see #of(int, Sort)
+	 */
+	public static KeysetPageRequest of(int size) {
+		return of(size, Sort.unsorted());
+	}
+
+	/**
+	 * Factory method used to construct a new instance of {@link KeysetPageRequest} for the first page
+	 * with the given page size and {@link Sort} order.
+	 *
+	 * @param size number of elements per page.
+	 * @param sort {@link Sort} order of the elements.
+	 * @return a new {@link KeysetPageRequest} for the first page.
+	 * @see org.springframework.data.domain.Sort
+	 */
+	public static KeysetPageRequest of(int size, Sort sort) {
+		return new KeysetPageRequest(0, size, sort, EMPTY_KEYSET, null);
+	}
+
+	/**
+	 * Factory method used to adapt the given {@link Pageable} into a {@link KeysetPageRequest}, appending
+	 * the identifier property to the {@link Sort} order if not already present.
+	 *
+	 * @param pageable {@link Pageable} to adapt; must not be {@literal null}.
+	 * @param idPropertyName {@link String} containing the name of the identifier property; must not be empty.
+	 * @return a {@link KeysetPageRequest} with a {@link Sort} order defining a total order of the elements.
+	 * @throws IllegalArgumentException if {@link Pageable} is {@literal null} or unpaged,
+	 * or the identifier property name is not specified.
+	 * @see #from(Pageable, Sort, String)
+	 */
+	public static KeysetPageRequest from(Pageable pageable, String idPropertyName) {
+		return from(pageable, Sort.unsorted(), idPropertyName);
+	}
+
+	/**
+	 * Factory method used to adapt the given {@link Pageable} into a {@link KeysetPageRequest} ordered first by
+	 * the given static {@link Sort}, then by the {@link Sort} of the {@link Pageable} and finally by
+	 * the identifier property, if not already present.
+	 *
+	 * @param pageable {@link Pageable} to adapt; must not be {@literal null}.
+	 * @param staticSort {@link Sort} order always applied ahead of the {@link Pageable Pageable's} {@link Sort};
+	 * must not be {@literal null}.
+	 * @param idPropertyName {@link String} containing the name of the identifier property; must not be empty.
+	 * @return a {@link KeysetPageRequest} with a {@link Sort} order defining a total order of the elements.
+	 * @throws IllegalArgumentException if {@link Pageable} is {@literal null} or unpaged, {@link Sort}
+	 * is {@literal null}, or the identifier property name is not specified.
+	 * @see org.springframework.data.domain.Pageable
+	 * @see org.springframework.data.domain.Sort
+	 */
+	public static KeysetPageRequest from(Pageable pageable, Sort staticSort, String idPropertyName) {
+
+		Assert.notNull(pageable, "Pageable must not be null");
+		Assert.isTrue(pageable.isPaged(), "Pageable must be paged");
+		Assert.notNull(staticSort, "Sort must not be null");
+		Assert.hasText(idPropertyName, "ID property name must be specified");
+
+		Sort sort = staticSort.and(Sort.by(pageable.getSort().stream()
+			.filter(order -> staticSort.getOrderFor(order.getProperty()) == null)
+			.collect(Collectors.toList())));
+
+		Sort resolvedSort = (sort.getOrderFor(idPropertyName) != null ? sort
+			: sort.and(Sort.by(Sort.Direction.ASC, idPropertyName)));
+
+		if (pageable instanceof KeysetPageRequest) {
+			KeysetPageRequest pageRequest = (KeysetPageRequest) pageable;
+
+			return (resolvedSort.equals(pageRequest.getSort()) ? pageRequest
+				: new KeysetPageRequest(pageRequest.getPageNumber(), pageRequest.getPageSize(), resolvedSort,
+					EMPTY_KEYSET, pageRequest.previous));
+		}
+
+		return new KeysetPageRequest(pageable.getPageNumber(), pageable.getPageSize(), resolvedSort,
+			EMPTY_KEYSET, null);
+	}
+
+	/**
+	 * Constructs a new instance of {@link KeysetPageRequest} initialized with the given page number, page size,
+	 * {@link Sort} order, keyset and the {@link KeysetPageRequest} for the previous page.
+	 *
+	 * @param page zero-based page number.
+	 * @param size number of elements per page.
+	 * @param sort {@link Sort} order of the elements.
+	 * @param keyset values of the {@link Sort} properties for the last element on the previous page;
+	 * may be {@literal null} or empty if the page must be located by offset.
+	 * @param previous {@link KeysetPageRequest} for the previous page; may be {@literal null}.
+	 */
+	protected KeysetPageRequest(int page, int size, Sort sort, Object[] keyset, KeysetPageRequest previous) {
+
+		super(page, size);
+
+		this.sort = (sort != null ? sort : Sort.unsorted());
+		this.keyset = (keyset != null ? keyset : EMPTY_KEYSET);
+		this.previous = previous;
+	}
+
+	/**
+	 * Determines whether this {@link KeysetPageRequest} carries a keyset used to seek directly to this page.
+	 *
+	 * @return a boolean value indicating whether this {@link KeysetPageRequest} carries a keyset.
+	 * @see #getKeyset()
+	 */
+	public boolean hasKeyset() {
+		return !ObjectUtils.isEmpty(this.keyset);
+	}
+
+	/**
+	 * Returns the values of the {@link Sort} properties for the last element on the previous page, in {@link Sort}
+	 * order.
+	 *
+	 * @return the keyset for this page or an empty array if this page must be located by offset.
+	 */
+	public Object[] getKeyset() {
+		return this.keyset.clone();
+	}
+
+	/**
+	 * Returns the number of leading query results that must be skipped to arrive at this page.
+	 *
+	 * @return {@literal 0} if this page is located by keyset, otherwise the page offset.
+	 * @see #getOffset()
+	 */
+	public long getFetchOffset() {
+		return (hasKeyset() ? 0L : getOffset());
+	}
+
+	/**
+	 * Returns the number of results to query in order to fill this page and determine whether a next page exists.
+	 *
+	 * @return the number of results to query for this page.
+	 * @see #getFetchOffset()
+	 */
+	public int getFetchLimit() {
+		return (int) Math.min(getFetchOffset() + getPageSize() + 1L, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Sort getSort() {
+		return this.sort;
+	}
+
+	/**
+	 * Returns a {@link KeysetPageRequest} for the page following the given element.
+	 *
+	 * The keyset property values are read from the element's properties, or from the element's entries
+	 * if the element is a {@link Map} of property name to value, such as a projection of the element.
+	 *
+	 * Every keyset property value must be non-{@literal null} since {@literal null} cannot be compared
+	 * in the seek predicate.  Falling back to offset paging instead would re-read all previous pages
+	 * for every subsequent page.
+	 *
+	 * @param lastElement last element on the current page.
+	 * @return a {@link KeysetPageRequest} for the next page, seeking past the given element.
+	 * @throws IllegalArgumentException if the element or any of its keyset property values are {@literal null}.
+	 */
+	public KeysetPageRequest nextAfter(Object lastElement) {
+
+		Assert.notNull(lastElement, "Last element must not be null");
+
+		Function<String, Object> propertyValues = (lastElement instanceof Map ? ((Map<?, ?>) lastElement)::get
+			: new DirectFieldAccessFallbackBeanWrapper(PdxInstanceEntityProxyFactory.INSTANCE.unwrap(lastElement))
+				::getPropertyValue);
+
+		Object[] nextKeyset = getSort().stream()
+			.map(order -> {
+				Object value = propertyValues.apply(order.getProperty());
+
+				Assert.notNull(value, () -> String.format(
+					"Keyset property [%s] of the last element must not be null; sort by non-null properties",
+						order.getProperty()));
+
+				return value;
+			})
+			.toArray();
+
+		return new KeysetPageRequest(getPageNumber() + 1, getPageSize(), getSort(), nextKeyset, this);
+	}
+
+	/**
+	 * Returns a copy of this {@link KeysetPageRequest} that does not reference the {@link KeysetPageRequest}
+	 * for the previous page, such that {@link #previous()} locates the previous page by offset.
+	 *
+	 * Use when iterating over many pages to prevent each page request from retaining all page requests
+	 * before it.
+	 *
+	 * @return a {@link KeysetPageRequest} for this page without a link to the previous page request.
+	 * @see #previous()
+	 */
+	public KeysetPageRequest withoutPrevious() {
+		return (this.previous == null ? this
+			: new KeysetPageRequest(getPageNumber(), getPageSize(), getSort(), this.keyset, null));
+	}
+
+	/**
+	 * Returns a {@link KeysetPageRequest} for the next page located by offset.
+	 *
+	 * Prefer {@link KeysetPage#nextPageable()}, which seeks directly to the next page.
+	 *
+	 * @see #nextAfter(Object)
+	 */
+	@Override
+	public KeysetPageRequest next() {
+		return new KeysetPageRequest(getPageNumber() + 1, getPageSize(), getSort(), EMPTY_KEYSET, this);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public KeysetPageRequest previous() {
+		return (this.previous != null ? this.previous : getPageNumber() == 0 ? this
+			: new KeysetPageRequest(getPageNumber() - 1, getPageSize(), getSort(), EMPTY_KEYSET, null));
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public KeysetPageRequest first() {
+		return new KeysetPageRequest(0, getPageSize(), getSort(), EMPTY_KEYSET, null);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof KeysetPageRequest)) {
+			return false;
+		}
+
+		KeysetPageRequest that = (KeysetPageRequest) obj;
+
+		return super.equals(that)
+			&& this.getSort().equals(that.getSort())
+			&& Arrays.equals(this.keyset, that.keyset);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public int hashCode() {
+
+		int hashValue = super.hashCode();
+
+		hashValue = 37 * hashValue + getSort().hashCode();
+		hashValue = 37 * hashValue + Arrays.hashCode(this.keyset);
+
+		return hashValue;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format("Keyset page request [number: %d, size %d, sort: %s, keyset: %s]",
+			getPageNumber(), getPageSize(), getSort(), Arrays.toString(this.keyset));
+	}
+}
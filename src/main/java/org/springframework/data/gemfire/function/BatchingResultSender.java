@@ -17,154 +17,213 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.util.ObjectSizer;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
 /**
- * Sends collection results using a {@link ResultSender} in chunks determined by batchSize
+ * Sends collection, array, {@link Iterator} and {@link Stream} results using a {@link ResultSender} in chunks
+ * bounded by batchSize (the number of elements) and/or batchSizeInBytes (the estimated size of the elements).
+ *
+ * {@link Iterator} and {@link Stream} results are consumed lazily, one chunk at a time, and primitive arrays
+ * are copied in bulk.  Exactly one chunk, the last, is sent with {@link ResultSender#lastResult(Object)}.
  *
  * @author David Turanski
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.ResultSender
+ * @see org.apache.geode.cache.util.ObjectSizer
  * @since 1.3.0
  */
-class BatchingResultSender  {
+class BatchingResultSender {
+
+	private static final int DEFAULT_CHUNK_CAPACITY = 16;
+
 	private final int batchSize;
-	private ResultSender<Object> resultSender;
+
+	private final long batchSizeInBytes;
+
+	private final ObjectSizer objectSizer;
+
+	private final ResultSender<Object> resultSender;
 
 	public BatchingResultSender(int batchSize, ResultSender<Object> resultSender) {
+		this(batchSize, 0L, resultSender);
+	}
+
+	public BatchingResultSender(int batchSize, long batchSizeInBytes, ResultSender<Object> resultSender) {
+		this(batchSize, batchSizeInBytes, ObjectSizer.DEFAULT, resultSender);
+	}
+
+	public BatchingResultSender(int batchSize, long batchSizeInBytes, ObjectSizer objectSizer,
+			ResultSender<Object> resultSender) {
+
 		Assert.notNull(resultSender, "resultSender cannot be null");
+		Assert.notNull(objectSizer, "objectSizer cannot be null");
 		Assert.isTrue(batchSize >= 0, "batchSize must be >= 0");
+		Assert.isTrue(batchSizeInBytes >= 0, "batchSizeInBytes must be >= 0");
+
 		this.batchSize = batchSize;
+		this.batchSizeInBytes = batchSizeInBytes;
+		this.objectSizer = objectSizer;
 		this.resultSender = resultSender;
 	}
 
+	/* (non-Javadoc) */
+	private boolean isBatching() {
+		return (batchSize > 0 || batchSizeInBytes > 0);
+	}
+
+	/* (non-Javadoc) */
+	private boolean isFull(int count, long bytes) {
+		return ((batchSize > 0 && count >= batchSize) || (batchSizeInBytes > 0 && bytes >= batchSizeInBytes));
+	}
+
+	/* (non-Javadoc) */
+	private long sizeOf(Object element) {
+		return (element != null ? objectSizer.sizeof(element) : 1);
+	}
 
 	public void sendResults(Iterable<?> result) {
-		if (batchSize == 0) {
+		if (isBatching()) {
+			sendResults(result.iterator());
+		}
+		else {
 			resultSender.lastResult(result);
-			return;
 		}
+	}
 
-		List<Object> chunk = new ArrayList<Object>(batchSize);
+	public void sendResults(Stream<?> result) {
+		try (Stream<?> stream = result) {
+			sendResults(stream.iterator());
+		}
+	}
+
+	public void sendResults(Iterator<?> result) {
+		List<Object> chunk = newChunk();
+		long chunkBytes = 0;
+
+		while (result.hasNext()) {
+			Object element = result.next();
 
-		for (Iterator<?> it = result.iterator(); it.hasNext();) {
-		    if (chunk.size() < batchSize) {
-				chunk.add(it.next());
-		    }
+			chunk.add(element);
 
-			if (chunk.size() == batchSize || !it.hasNext()) {
-                if (it.hasNext()) {
-                		resultSender.sendResult(chunk);
-                } else {
-                		resultSender.lastResult(chunk);
-                }
-           		chunk.clear();
+			if (isBatching()) {
+				chunkBytes += (batchSizeInBytes > 0 ? sizeOf(element) : 0);
+
+				// a new chunk is allocated after sending since the ResultSender may hold on to the sent chunk
+				if (isFull(chunk.size(), chunkBytes) && result.hasNext()) {
+					resultSender.sendResult(chunk);
+					chunk = newChunk();
+					chunkBytes = 0;
+				}
 			}
 		}
+
+		resultSender.lastResult(chunk);
 	}
 
+	/* (non-Javadoc) */
+	private List<Object> newChunk() {
+		return new ArrayList<Object>(batchSize > 0 ? batchSize : DEFAULT_CHUNK_CAPACITY);
+	}
 
 	public void sendArrayResults(Object result) {
+		Assert.isTrue(ObjectUtils.isArray(result));
+
+		int length = Array.getLength(result);
 
-		if (batchSize == 0) {
+		if (!isBatching() || length == 0) {
 			resultSender.lastResult(result);
 			return;
 		}
 
-		Assert.isTrue(ObjectUtils.isArray(result));
+		for (int from = 0, to; from < length; from = to) {
+			to = nextArrayChunkEnd(result, from, length);
 
-		int length = Array.getLength(result);
-
-		for (int from =0; from <  length; from += batchSize) {
-			int to = Math.min(length,from + batchSize);
-			Object chunk = copyOfRange(result,from, to);
+			Object chunk = copyOfRange(result, from, to);
 
-			if (to == length -1) {
+			if (to == length) {
 				resultSender.lastResult(chunk);
-			} else {
+			}
+			else {
 				resultSender.sendResult(chunk);
 			}
 		}
 	}
 
+	/* (non-Javadoc) */
+	private int nextArrayChunkEnd(Object array, int from, int length) {
+		int to = (batchSize > 0 ? (int) Math.min(length, (long) from + batchSize) : length);
 
-	/**
-	 * @param result
-	 * @param from
-	 * @param to
-	 * @return
-	 */
-	private Object copyOfRange(Object result, int from, int to) {
+		if (batchSizeInBytes > 0) {
+			Class<?> componentType = array.getClass().getComponentType();
 
-		Class<?> arrayClass = result.getClass();
-		int size = to - from;
+			if (componentType.isPrimitive()) {
+				long count = Math.max(1, batchSizeInBytes / sizeOfPrimitive(componentType));
+				to = (int) Math.min(to, from + count);
+			}
+			else {
+				Object[] elements = (Object[]) array;
+				long bytes = 0;
 
-		if (int[].class.isAssignableFrom(arrayClass)) {
-			int[] array = new int[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getInt(result, from + i);
-            }
-			return array;
-		}
+				for (int index = from; index < to; index++) {
+					bytes += sizeOf(elements[index]);
 
-		if (float[].class.isAssignableFrom(arrayClass)) {
-			float[] array = new float[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getFloat(result, from + i);
-            }
-			return array;
+					if (bytes >= batchSizeInBytes) {
+						return index + 1;
+					}
+				}
+			}
 		}
 
-		if (double[].class.isAssignableFrom(arrayClass)) {
-			double[] array = new double[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getDouble(result, from + i);
-            }
-			return array;
-		}
+		return to;
+	}
 
-		if (boolean[].class.isAssignableFrom(arrayClass)) {
-			boolean[] array = new boolean[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getBoolean(result, from + i);
-            }
-			return array;
+	/* (non-Javadoc) */
+	private int sizeOfPrimitive(Class<?> primitiveType) {
+		if (long.class.equals(primitiveType) || double.class.equals(primitiveType)) {
+			return 8;
 		}
-
-		if (byte[].class.isAssignableFrom(arrayClass)) {
-			byte[] array = new byte[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getByte(result, from + i);
-            }
-			return array;
+		else if (int.class.equals(primitiveType) || float.class.equals(primitiveType)) {
+			return 4;
 		}
-
-		if (short[].class.isAssignableFrom(arrayClass)) {
-			short[] array = new short[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getShort(result, from + i);
-            }
-			return array;
+		else if (short.class.equals(primitiveType) || char.class.equals(primitiveType)) {
+			return 2;
 		}
 
-		if (long[].class.isAssignableFrom(arrayClass)) {
-			long[] array = new long[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getLong(result, from + i);
-            }
-			return array;
-		}
+		return 1;
+	}
 
-		if (char[].class.isAssignableFrom(arrayClass)) {
-			char[] array = new char[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getChar(result, from + i);
-            }
-			return array;
+	/* (non-Javadoc) */
+	private Object copyOfRange(Object result, int from, int to) {
+		if (result instanceof int[]) {
+			return Arrays.copyOfRange((int[]) result, from, to);
+		}
+		else if (result instanceof long[]) {
+			return Arrays.copyOfRange((long[]) result, from, to);
+		}
+		else if (result instanceof double[]) {
+			return Arrays.copyOfRange((double[]) result, from, to);
+		}
+		else if (result instanceof float[]) {
+			return Arrays.copyOfRange((float[]) result, from, to);
+		}
+		else if (result instanceof boolean[]) {
+			return Arrays.copyOfRange((boolean[]) result, from, to);
+		}
+		else if (result instanceof byte[]) {
+			return Arrays.copyOfRange((byte[]) result, from, to);
+		}
+		else if (result instanceof short[]) {
+			return Arrays.copyOfRange((short[]) result, from, to);
+		}
+		else if (result instanceof char[]) {
+			return Arrays.copyOfRange((char[]) result, from, to);
 		}
 
-	    return Arrays.copyOfRange((Object[])result, from, to);
-
+		return Arrays.copyOfRange((Object[]) result, from, to);
 	}
 }
@@ -12,6 +12,8 @@
  */
 package org.springframework.data.gemfire.function;
 
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
 import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.Set;
@@ -25,23 +27,39 @@ import org.apache.geode.cache.execute.ResultSender;
 import org.apache.geode.cache.partition.PartitionRegionHelper;
 import org.springframework.data.gemfire.function.annotation.Filter;
 import org.springframework.data.gemfire.function.annotation.RegionData;
-import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.util.Assert;
 
 /**
+ * Resolves Function invocation arguments, injecting the Region data, filter, {@link FunctionContext}
+ * and {@link ResultSender} into the annotated or typed parameters of the Function method.
+ *
+ * The position of each method parameter's value, whether injected or one of the Function arguments,
+ * is computed once when this resolver is constructed.
+ *
  * @author David Turanski
+ * @author John Blum
  * @since 1.3.0
- *
  */
 class FunctionContextInjectingArgumentResolver extends PdxFunctionArgumentResolver {
 
 	private static final Log logger = LogFactory.getLog(FunctionContextInjectingArgumentResolver.class);
 
+	private static final int REGION = -1;
+	private static final int FILTER = -2;
+	private static final int FUNCTION_CONTEXT = -3;
+	private static final int RESULT_SENDER = -4;
+
 	private final int filterParameterPosition;
 	private final int functionContextParameterPosition;
 	private final int regionParameterPosition;
 	private final int resultSenderParameterPosition;
 
+	private final int functionContextArgumentCount;
+	private final int regionFunctionContextArgumentCount;
+
+	private final int[] functionContextArgumentPlan;
+	private final int[] regionFunctionContextArgumentPlan;
+
 	private final Method method;
 
 	public FunctionContextInjectingArgumentResolver(Method method) {
@@ -72,6 +90,54 @@ class FunctionContextInjectingArgumentResolver extends PdxFunctionArgumentResolv
 		functionContextParameterPosition = getArgumentTypePosition(method, FunctionContext.class);
 
 		resultSenderParameterPosition = getArgumentTypePosition(method, ResultSender.class);
+
+		functionContextArgumentPlan = newArgumentPlan(false);
+		regionFunctionContextArgumentPlan = newArgumentPlan(true);
+		functionContextArgumentCount = countArguments(functionContextArgumentPlan);
+		regionFunctionContextArgumentCount = countArguments(regionFunctionContextArgumentPlan);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * For each method parameter, returns either the index of the Function argument passed to the parameter
+	 * or one of the (negative) constants for the injected values.
+	 */
+	private int[] newArgumentPlan(boolean regionFunctionContext) {
+		int[] argumentPlan = new int[method.getParameterTypes().length];
+		int argumentIndex = 0;
+
+		for (int position = 0; position < argumentPlan.length; position++) {
+			if (regionFunctionContext && position == regionParameterPosition) {
+				argumentPlan[position] = REGION;
+			}
+			else if (regionFunctionContext && position == filterParameterPosition) {
+				argumentPlan[position] = FILTER;
+			}
+			else if (position == functionContextParameterPosition) {
+				argumentPlan[position] = FUNCTION_CONTEXT;
+			}
+			else if (position == resultSenderParameterPosition) {
+				argumentPlan[position] = RESULT_SENDER;
+			}
+			else {
+				argumentPlan[position] = argumentIndex++;
+			}
+		}
+
+		return argumentPlan;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 */
+	private static int countArguments(int[] argumentPlan) {
+		int count = 0;
+
+		for (int source : argumentPlan) {
+			count += (source >= 0 ? 1 : 0);
+		}
+
+		return count;
 	}
 
 	@Override
@@ -83,31 +149,47 @@ class FunctionContextInjectingArgumentResolver extends PdxFunctionArgumentResolv
 	public Object[] resolveFunctionArguments(FunctionContext functionContext) {
 		Object[] args = super.resolveFunctionArguments(functionContext);
 
-		if (functionContext instanceof RegionFunctionContext) {
-			if (this.regionParameterPosition >= 0) {
-				args = ArrayUtils.insert(args, regionParameterPosition, getRegionForContext(
-					(RegionFunctionContext) functionContext));
-			}
+		boolean regionFunctionContext = (functionContext instanceof RegionFunctionContext);
 
-			if (this.filterParameterPosition >= 0) {
-				args = ArrayUtils.insert(args, filterParameterPosition,
-					((RegionFunctionContext) functionContext).getFilter());
-			}
-		}
+		int[] argumentPlan = (regionFunctionContext ? regionFunctionContextArgumentPlan
+			: functionContextArgumentPlan);
+
+		int injectedArgumentCount = (argumentPlan.length - (regionFunctionContext ? regionFunctionContextArgumentCount
+			: functionContextArgumentCount));
 
-		if (this.functionContextParameterPosition >= 0) {
-			args = ArrayUtils.insert(args, functionContextParameterPosition, functionContext);
+		if (args.length + injectedArgumentCount != argumentPlan.length) {
+			throw newIllegalArgumentException("wrong number of arguments for method %s. Expected %d, but was %d",
+				method.getName(), argumentPlan.length, args.length + injectedArgumentCount);
 		}
 
-		if (this.resultSenderParameterPosition >= 0) {
-			args = ArrayUtils.insert(args, resultSenderParameterPosition, functionContext.getResultSender());
+		if (injectedArgumentCount == 0) {
+			return args;
 		}
 
-		Assert.isTrue(args.length == method.getParameterTypes().length, String.format(
-			"wrong number of arguments for method %s. Expected %d, but was %d", method.getName(),
-				method.getParameterTypes().length, args.length));
+		Object[] resolvedArgs = new Object[argumentPlan.length];
+
+		for (int position = 0; position < argumentPlan.length; position++) {
+			int source = argumentPlan[position];
+
+			switch (source) {
+				case REGION:
+					resolvedArgs[position] = getRegionForContext((RegionFunctionContext) functionContext);
+					break;
+				case FILTER:
+					resolvedArgs[position] = ((RegionFunctionContext) functionContext).getFilter();
+					break;
+				case FUNCTION_CONTEXT:
+					resolvedArgs[position] = functionContext;
+					break;
+				case RESULT_SENDER:
+					resolvedArgs[position] = functionContext.getResultSender();
+					break;
+				default:
+					resolvedArgs[position] = args[source];
+			}
+		}
 
-		return args;
+		return resolvedArgs;
 	}
 
 	/*
@@ -16,13 +16,21 @@ package org.springframework.data.gemfire.function;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.geode.cache.execute.FunctionService;
+import org.springframework.beans.BeanUtils;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -62,6 +70,23 @@ public abstract class GemfireFunctionUtils {
 			function.setBatchSize(batchSize);
 		}
 
+		if (attributes.containsKey("batchSizeInBytes")) {
+			long batchSizeInBytes = (Long) attributes.get("batchSizeInBytes");
+			Assert.isTrue(batchSizeInBytes >= 0, String.format(
+				"batchSizeInBytes must be a non-negative value %1$s.%2$s", target.getClass().getName(), method.getName()));
+			function.setBatchSizeInBytes(batchSizeInBytes);
+		}
+
+		if (attributes.containsKey("combiner")) {
+			Class<?> combinerType = (Class<?>) attributes.get("combiner");
+
+			if (!ResultCombiner.class.equals(combinerType)) {
+				Assert.isAssignable(ResultCombiner.class, combinerType, String.format(
+					"combiner must be a ResultCombiner %1$s.%2$s", target.getClass().getName(), method.getName()));
+				function.setResultCombiner((ResultCombiner<?, ?>) BeanUtils.instantiateClass(combinerType));
+			}
+		}
+
 		if (attributes.containsKey("hasResult")) {
 			// only set if true  TODO figure out why???
 			if (Boolean.TRUE.equals(attributes.get("hasResult"))) {
@@ -91,6 +116,39 @@ public abstract class GemfireFunctionUtils {
 		}
 	}
 
+	/**
+	 * Adapt a Function result to a {@link Stream} of its elements.  Arrays, {@link Iterable Iterables},
+	 * {@link Iterator Iterators} and {@link Stream Streams} are streamed element-wise, a {@literal null} result
+	 * is an empty {@link Stream} and any other result is a {@link Stream} of the result itself.
+	 *
+	 * @param result the Function result
+	 * @return a {@link Stream} of the elements of the result
+	 */
+	@SuppressWarnings("unchecked")
+	public static Stream<Object> toStream(Object result) {
+		if (result == null) {
+			return Stream.empty();
+		}
+		else if (result instanceof Stream) {
+			return (Stream<Object>) result;
+		}
+		else if (result instanceof Iterable) {
+			return StreamSupport.stream(((Iterable<Object>) result).spliterator(), false);
+		}
+		else if (result instanceof Iterator) {
+			return StreamSupport.stream(Spliterators.spliteratorUnknownSize((Iterator<Object>) result,
+				Spliterator.ORDERED), false);
+		}
+		else if (result instanceof Object[]) {
+			return Arrays.stream((Object[]) result);
+		}
+		else if (ObjectUtils.isArray(result)) {
+			return ((List<Object>) CollectionUtils.arrayToList(result)).stream();
+		}
+
+		return Stream.of(result);
+	}
+
 	/**
 	 * Determine the order position of a an annotated method parameter
 	 *
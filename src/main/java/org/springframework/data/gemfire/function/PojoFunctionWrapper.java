@@ -12,7 +12,13 @@
  */
 package org.springframework.data.gemfire.function;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -45,10 +51,16 @@ public class PojoFunctionWrapper implements Function {
 
 	private volatile int batchSize;
 
+	private volatile long batchSizeInBytes;
+
+	private volatile ResultCombiner<Object, ?> resultCombiner;
+
 	private final FunctionArgumentResolver functionArgumentResolver;
 
 	private final Method method;
 
+	private final MethodHandle methodHandle;
+
 	private final Object target;
 
 	private final String id;
@@ -57,16 +69,56 @@ public class PojoFunctionWrapper implements Function {
 		this.functionArgumentResolver = new FunctionContextInjectingArgumentResolver(method);
 		this.target = target;
 		this.method = method;
+		this.methodHandle = newMethodHandle(target, method);
 		this.id = (StringUtils.hasText(id) ? id : method.getName());
 		this.HA = false;
 		this.hasResult = !(method.getReturnType().equals(void.class));
 		this.optimizeForWrite = false;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * Adapts the given method to a MethodHandle of type (Object[])Object bound to the target, once, so that
+	 * each Function invocation is a direct call rather than a reflective, access-checked Method.invoke(..).
+	 */
+	private static MethodHandle newMethodHandle(Object target, Method method) {
+		try {
+			ReflectionUtils.makeAccessible(method);
+
+			MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
+
+			if (!Modifier.isStatic(method.getModifiers())) {
+				methodHandle = methodHandle.bindTo(target);
+			}
+
+			return methodHandle.asSpreader(Object[].class, method.getParameterTypes().length)
+				.asType(MethodType.methodType(Object.class, Object[].class));
+		}
+		catch (IllegalAccessException cause) {
+			throw new IllegalArgumentException(String.format("Cannot access method %s on class %s",
+				method.getName(), method.getDeclaringClass().getName()), cause);
+		}
+	}
+
 	public void setBatchSize(int batchSize) {
 		this.batchSize = batchSize;
 	}
 
+	public void setBatchSizeInBytes(long batchSizeInBytes) {
+		this.batchSizeInBytes = batchSizeInBytes;
+	}
+
+	/**
+	 * Sets the {@link ResultCombiner} used to pre-aggregate the results of the target method on this member
+	 * before they are sent.
+	 *
+	 * @param resultCombiner {@link ResultCombiner} combining the results; may be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public void setResultCombiner(ResultCombiner<?, ?> resultCombiner) {
+		this.resultCombiner = (ResultCombiner<Object, ?>) resultCombiner;
+	}
+
 	public void setHA(boolean HA) {
 		this.HA = HA;
 	}
@@ -106,7 +158,20 @@ public class PojoFunctionWrapper implements Function {
 		Object result = invokeTargetMethod(args);
 
 		if (hasResult()) {
-			sendResults(functionContext.getResultSender(), result);
+			sendResults(functionContext.getResultSender(), combine(result));
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Object combine(Object result) {
+		ResultCombiner<Object, ?> resultCombiner = this.resultCombiner;
+
+		if (resultCombiner == null) {
+			return result;
+		}
+
+		try (Stream<Object> results = GemfireFunctionUtils.toStream(result)) {
+			return resultCombiner.combine(results);
 		}
 	}
 
@@ -120,7 +185,13 @@ public class PojoFunctionWrapper implements Function {
 			}
 		}
 
-		return ReflectionUtils.invokeMethod(method, target, (Object[]) args);
+		try {
+			return (Object) methodHandle.invokeExact(args);
+		}
+		catch (Throwable cause) {
+			ReflectionUtils.rethrowRuntimeException(cause);
+			return null;
+		}
 	}
 
 	private void sendResults(ResultSender<Object> resultSender, Object result) {
@@ -129,10 +200,16 @@ public class PojoFunctionWrapper implements Function {
 		}
 		else {
 			if (ObjectUtils.isArray(result)) {
-				new BatchingResultSender(batchSize, resultSender).sendArrayResults(result);
+				newBatchingResultSender(resultSender).sendArrayResults(result);
+			}
+			else if (result instanceof Iterable) {
+				newBatchingResultSender(resultSender).sendResults((Iterable<?>) result);
 			}
-			else if (Iterable.class.isAssignableFrom(result.getClass())) {
-				new BatchingResultSender(batchSize, resultSender).sendResults((Iterable<?>) result);
+			else if (result instanceof Iterator) {
+				newBatchingResultSender(resultSender).sendResults((Iterator<?>) result);
+			}
+			else if (result instanceof Stream) {
+				newBatchingResultSender(resultSender).sendResults((Stream<?>) result);
 			}
 			else {
 				resultSender.lastResult(result);
@@ -140,4 +217,8 @@ public class PojoFunctionWrapper implements Function {
 		}
 	}
 
+	private BatchingResultSender newBatchingResultSender(ResultSender<Object> resultSender) {
+		return new BatchingResultSender(batchSize, batchSizeInBytes, resultSender);
+	}
+
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import java.util.stream.Stream;
+
+/**
+ * The {@link ResultCombiner} interface defines a contract for folding the results of a GemFire Function
+ * into a single result.
+ *
+ * Used on each member as the {@link org.springframework.data.gemfire.function.annotation.GemfireFunction#combiner()}
+ * to pre-aggregate the results of a Function before they are sent, and on the caller as the
+ * {@link org.springframework.data.gemfire.function.annotation.Reducer} of a Function execution interface method
+ * to fold the partial results of all members.  Sums, counts and top-N are typically used in both places.
+ *
+ * Implementations must be stateless and declare a public no-arg constructor.
+ *
+ * @param <T> type of the results to combine.
+ * @param <R> type of the combined result.
+ * @author John Blum
+ * @see java.util.stream.Stream
+ * @see org.springframework.data.gemfire.function.annotation.GemfireFunction#combiner()
+ * @see org.springframework.data.gemfire.function.annotation.Reducer
+ * @since 2.0.0
+ */
+@FunctionalInterface
+public interface ResultCombiner<T, R> {
+
+	/**
+	 * Combines the given results into a single result.
+	 *
+	 * @param results {@link Stream} of results to combine; never {@literal null}.
+	 * @return the combined result.
+	 */
+	R combine(Stream<T> results);
+
+}
@@ -17,6 +17,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import org.springframework.data.gemfire.function.ResultCombiner;
+
 /**
  * 
  * Used to declare a concrete method as a GemFire function implementation
@@ -26,6 +28,7 @@ import java.lang.annotation.Target;
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ElementType.METHOD})
+@SuppressWarnings("rawtypes")
 public @interface GemfireFunction {
 
 	/**
@@ -55,6 +58,28 @@ public @interface GemfireFunction {
 	 */
 	int batchSize() default 0;
 
+	/**
+	 * Controls the maximum estimated size, in bytes, of the results sent at one time.  Array, {@link Iterable},
+	 * {@link java.util.Iterator} and {@link java.util.stream.Stream} results are sent in chunks no larger than
+	 * this size as estimated by {@link org.apache.geode.cache.util.ObjectSizer#DEFAULT}, in addition to
+	 * {@link #batchSize()}.
+	 *
+	 * @return a long value indicating the maximum estimated size in bytes of the results sent at one time,
+	 * or {@literal 0} if the results are not batched by size.
+	 */
+	long batchSizeInBytes() default 0L;
+
+	/**
+	 * The {@link ResultCombiner} pre-aggregating the results of the method on each member before they are sent,
+	 * e.g. to a sum or the top-N elements.  Array, {@link Iterable}, {@link java.util.Iterator}
+	 * and {@link java.util.stream.Stream} results are combined element-wise, and the combined result is sent
+	 * in place of the method's result.  The {@link ResultCombiner} type must declare a public no-arg constructor.
+	 *
+	 * @return the {@link ResultCombiner} type, or {@link ResultCombiner} itself if results are not combined.
+	 * @see org.springframework.data.gemfire.function.annotation.Reducer
+	 */
+	Class<? extends ResultCombiner> combiner() default ResultCombiner.class;
+
 	/**
 	 * Normally follows the method return type, i.e., false if void, true otherwise. This allows overriding
 	 * a void method which uses the resultSender directly.
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.data.gemfire.function.ResultCombiner;
+
+/**
+ * Declares the {@link ResultCombiner} used by a Function execution interface method to fold the partial results
+ * of all members into the single value returned by the method.
+ *
+ * The results are folded as they are streamed from the members, and {@link java.util.Collection} and array results,
+ * such as the chunks sent by a batching {@link GemfireFunction}, are flattened into their elements first.
+ * Applies to methods returning a value or a {@link java.util.concurrent.CompletableFuture}.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.function.ResultCombiner
+ * @see org.springframework.data.gemfire.function.annotation.GemfireFunction#combiner()
+ * @since 2.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD })
+@SuppressWarnings("rawtypes")
+public @interface Reducer {
+
+	/**
+	 * The {@link ResultCombiner} type, which must declare a public no-arg constructor.
+	 *
+	 * @return the {@link ResultCombiner} type folding the partial results.
+	 */
+	Class<? extends ResultCombiner> value();
+
+}
@@ -15,7 +15,10 @@ package org.springframework.data.gemfire.function.execution;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -24,6 +27,7 @@ import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.FunctionException;
 import org.apache.geode.cache.execute.FunctionService;
 import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.internal.cache.execute.NoResult;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -149,10 +153,108 @@ abstract class AbstractFunctionExecution {
 		return results;
 	}
 
-	@SuppressWarnings("unchecked")
 	<T> T executeAndExtract() {
-		Iterable<T> results = execute();
+		return extract(this.<T>execute());
+	}
+
+	/**
+	 * Executes the Function without blocking the calling {@link Thread} in {@link ResultCollector#getResult()}.
+	 *
+	 * The {@link Execution} is submitted on the given {@link Executor}, since a client {@link Execution} does not
+	 * return until all results have been received, and the returned {@link CompletableFuture} is completed when
+	 * the last result arrives.  The configured timeout is not applied; use
+	 * {@link CompletableFuture#get(long, TimeUnit)} instead.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param executor {@link Executor} used to submit the {@link Execution}.
+	 * @return a {@link CompletableFuture} completed with the results of the Function execution.
+	 * @see #execute(Boolean)
+	 */
+	@SuppressWarnings("unchecked")
+	<T> CompletableFuture<Iterable<T>> executeAsync(Executor executor) {
+		Assert.notNull(executor, "Executor must not be null");
+
+		CompletableFutureResultCollector resultCollector = new CompletableFutureResultCollector(getCollector());
+
+		CompletableFuture<Object> results = CompletableFuture.supplyAsync(() -> {
+			Execution execution = getExecution().withArgs(getArgs()).withCollector(resultCollector);
+
+			execution = (getKeys() == null ? execution : execution.withFilter(getKeys()));
+
+			return (isRegisteredFunction() ? execution.execute(functionId) : execution.execute(function));
+
+		}, executor).thenCompose(executionResultCollector -> {
+			if (executionResultCollector instanceof NoResult) {
+				return CompletableFuture.completedFuture(null);
+			}
+
+			// GemFire may wrap the ResultCollector, in which case the wrapper collects any Exceptions
+			// thrown by the Function and must be asked for the result once the last result has been received
+			return (executionResultCollector == resultCollector ? resultCollector.getFuture()
+				: resultCollector.getFuture().thenApplyAsync(result -> executionResultCollector.getResult(), executor));
+		});
+
+		return results.thenApply(result -> replaceSingletonNullCollectionWithEmptyList((Iterable<T>) result));
+	}
+
+	/**
+	 * Executes the Function without blocking the calling {@link Thread} and extracts the first result.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param executor {@link Executor} used to submit the {@link Execution}.
+	 * @return a {@link CompletableFuture} completed with the first result of the Function execution.
+	 * @see #executeAsync(Executor)
+	 */
+	<T> CompletableFuture<T> executeAndExtractAsync(Executor executor) {
+		return this.<T>executeAsync(executor).thenApply(this::extract);
+	}
+
+	/**
+	 * Executes the Function on the given {@link Executor} and returns a {@link Stream} handing each result
+	 * to the caller as soon as it arrives.
+	 *
+	 * Results are passed through a buffer holding at most {@code bufferCapacity} results, after which GemFire
+	 * waits for the caller to consume the {@link Stream}.  Any configured {@link ResultCollector} is not used
+	 * and the timeout applies to the wait for each result.  The {@link Stream} should be closed when the caller
+	 * stops consuming it before the last result.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param executor {@link Executor} used to submit the {@link Execution}.
+	 * @param bufferCapacity maximum number of results buffered until consumed.
+	 * @return a {@link Stream} of the results of the Function execution.
+	 * @see org.springframework.data.gemfire.function.execution.StreamingResultCollector
+	 */
+	@SuppressWarnings("unchecked")
+	<T> Stream<T> executeAndStream(Executor executor, int bufferCapacity) {
+		Assert.notNull(executor, "Executor must not be null");
+
+		StreamingResultCollector resultCollector = new StreamingResultCollector(bufferCapacity, getTimeout());
+
+		executor.execute(() -> {
+			try {
+				Execution execution = getExecution().withArgs(getArgs()).withCollector(resultCollector);
+
+				execution = (getKeys() == null ? execution : execution.withFilter(getKeys()));
+
+				ResultCollector<?, ?> executionResultCollector = (isRegisteredFunction()
+					? execution.execute(functionId) : execution.execute(function));
 
+				// GemFire never ends the results of a Function without a result
+				if (executionResultCollector instanceof NoResult) {
+					resultCollector.endResults();
+				}
+			}
+			catch (Throwable cause) {
+				resultCollector.fail(cause);
+			}
+		});
+
+		return (Stream<T>) resultCollector.stream();
+	}
+
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	private <T> T extract(Iterable<T> results) {
 		if (results == null || !results.iterator().hasNext()) {
 			return null;
 		}
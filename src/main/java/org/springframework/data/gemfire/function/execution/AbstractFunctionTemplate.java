@@ -12,10 +12,19 @@
  */
 package org.springframework.data.gemfire.function.execution;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.ResultCollector;
+import org.springframework.util.Assert;
 
 /**
  * The base class for GemFire FunctionTemplates used to invoke GemFire Functions.
@@ -24,6 +33,8 @@ import org.apache.geode.cache.execute.ResultCollector;
  * @author John Blum
  * @see org.apache.geode.cache.execute.Function
  * @see org.apache.geode.cache.execute.ResultCollector
+ * @see java.util.concurrent.CompletableFuture
+ * @see java.util.stream.Stream
  */
 abstract class AbstractFunctionTemplate implements GemfireFunctionOperations {
 
@@ -31,8 +42,43 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations {
 
 	protected long timeout;
 
+	protected static final String DEFAULT_THREAD_NAME_PREFIX = "GemfireFunctionExecution-";
+
+	private static ExecutorService defaultExecutor;
+
+	protected volatile Executor executor = getDefaultExecutor();
+
+	protected volatile int streamingBufferCapacity = StreamingResultCollector.DEFAULT_BUFFER_CAPACITY;
+
 	protected volatile ResultCollector<?, ?> resultCollector;
 
+	/**
+	 * Returns the {@link Executor} shared by all Function templates without an {@link Executor} of their own.
+	 *
+	 * A client Function execution waits until all results have been received, so each asynchronous execution
+	 * holds one {@link Thread} for the round trip.  The {@link Executor} is therefore backed by a dedicated,
+	 * unbounded pool of daemon {@link Thread Threads}, which are reclaimed when idle, rather than by
+	 * the {@link java.util.concurrent.ForkJoinPool#commonPool()}, where blocking executions would serialize
+	 * concurrent calls and starve other users of the common pool.
+	 *
+	 * @return the shared {@link Executor} used for asynchronous Function executions.
+	 */
+	public static synchronized Executor getDefaultExecutor() {
+		if (defaultExecutor == null) {
+			AtomicInteger threadNumber = new AtomicInteger(0);
+
+			ThreadFactory threadFactory = runnable -> {
+				Thread thread = new Thread(runnable, DEFAULT_THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			};
+
+			defaultExecutor = Executors.newCachedThreadPool(threadFactory);
+		}
+
+		return defaultExecutor;
+	}
+
 	@Override
 	public <T> Iterable<T> execute(Function function, Object... args) {
 		 return execute(getFunctionExecution().setArgs(args).setFunction(function));
@@ -58,6 +104,31 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations {
 		execute(getFunctionExecution().setArgs(args).setFunctionId(functionId), false);
 	}
 
+	@Override
+	public <T> CompletableFuture<Iterable<T>> executeAsync(Function function, Object... args) {
+		return executeAsync(getFunctionExecution().setArgs(args).setFunction(function));
+	}
+
+	@Override
+	public <T> CompletableFuture<Iterable<T>> executeAsync(String functionId, Object... args) {
+		return executeAsync(getFunctionExecution().setArgs(args).setFunctionId(functionId));
+	}
+
+	@Override
+	public <T> CompletableFuture<T> executeAndExtractAsync(String functionId, Object... args) {
+		return executeAndExtractAsync(getFunctionExecution().setArgs(args).setFunctionId(functionId));
+	}
+
+	@Override
+	public <T> Stream<T> executeAndStream(Function function, Object... args) {
+		return executeAndStream(getFunctionExecution().setArgs(args).setFunction(function));
+	}
+
+	@Override
+	public <T> Stream<T> executeAndStream(String functionId, Object... args) {
+		return executeAndStream(getFunctionExecution().setArgs(args).setFunctionId(functionId));
+	}
+
 	@Override
 	public <T> T execute(GemfireFunctionCallback<T> callback) {
 		return callback.doInGemfire(getFunctionExecution().getExecution());
@@ -75,6 +146,54 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations {
 		 return execution.setTimeout(timeout).setResultCollector(resultCollector).executeAndExtract();
 	}
 
+	protected <T> CompletableFuture<Iterable<T>> executeAsync(AbstractFunctionExecution execution) {
+		return execution.setTimeout(timeout).setResultCollector(resultCollector).executeAsync(executor);
+	}
+
+	protected <T> CompletableFuture<T> executeAndExtractAsync(AbstractFunctionExecution execution) {
+		return execution.setTimeout(timeout).setResultCollector(resultCollector).executeAndExtractAsync(executor);
+	}
+
+	protected <T> Stream<T> executeAndStream(AbstractFunctionExecution execution) {
+		return execution.setTimeout(timeout).executeAndStream(executor, streamingBufferCapacity);
+	}
+
+	/**
+	 * Sets the {@link Executor} used to submit asynchronous Function executions.  Defaults to
+	 * the {@link #getDefaultExecutor() shared Executor}.  A client Function execution holds one {@link Thread}
+	 * of the {@link Executor} until all results have been received, so the {@link Executor} must not be
+	 * bounded below the number of concurrent executions, nor shared with the callers waiting on the results.
+	 *
+	 * @param executor {@link Executor} used to submit asynchronous Function executions.
+	 * @throws IllegalArgumentException if {@link Executor} is {@literal null}.
+	 * @see #executeAsync(String, Object...)
+	 */
+	public void setExecutor(Executor executor) {
+		Assert.notNull(executor, "Executor must not be null");
+		this.executor = executor;
+	}
+
+	public Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Sets the maximum number of results buffered by a streaming Function execution until they are consumed.
+	 * When the buffer is full, GemFire waits for the caller to consume the {@link Stream}.
+	 *
+	 * @param streamingBufferCapacity maximum number of results buffered; must be greater than 0.
+	 * @throws IllegalArgumentException if the capacity is less than 1.
+	 * @see #executeAndStream(String, Object...)
+	 */
+	public void setStreamingBufferCapacity(int streamingBufferCapacity) {
+		Assert.isTrue(streamingBufferCapacity > 0, "streamingBufferCapacity must be greater than 0");
+		this.streamingBufferCapacity = streamingBufferCapacity;
+	}
+
+	public int getStreamingBufferCapacity() {
+		return this.streamingBufferCapacity;
+	}
+
 	public void setResultCollector(ResultCollector<?,?> resultCollector) {
 		this.resultCollector = resultCollector;
 	}
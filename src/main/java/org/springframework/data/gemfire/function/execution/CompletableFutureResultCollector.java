@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+/**
+ * The {@link CompletableFutureResultCollector} class is a non-blocking {@link ResultCollector} that completes
+ * a {@link CompletableFuture} when GemFire signals the last result of a Function execution
+ * with {@link #endResults()}, rather than requiring a caller {@link Thread} to wait in {@link #getResult()}.
+ *
+ * Results are either collected into a {@link List}, like GemFire's default {@link ResultCollector},
+ * or added to a user-supplied {@link ResultCollector}, in which case the {@link CompletableFuture} is completed
+ * with the result of the delegate.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.CompletableFuture
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @since 2.0.0
+ */
+class CompletableFutureResultCollector implements ResultCollector<Object, Object> {
+
+	private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+	private final List<Object> results = Collections.synchronizedList(new ArrayList<>());
+
+	private final ResultCollector<Object, Object> delegate;
+
+	/**
+	 * Constructs a new instance of {@link CompletableFutureResultCollector} collecting results into a {@link List}.
+	 */
+	CompletableFutureResultCollector() {
+		this(null);
+	}
+
+	/**
+	 * Constructs a new instance of {@link CompletableFutureResultCollector} adding results to
+	 * the given {@link ResultCollector}.
+	 *
+	 * @param delegate {@link ResultCollector} to which results are added; may be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	CompletableFutureResultCollector(ResultCollector<?, ?> delegate) {
+		this.delegate = (ResultCollector<Object, Object>) delegate;
+	}
+
+	/**
+	 * Returns the {@link CompletableFuture} completed with the results when the last result has been received.
+	 *
+	 * @return the {@link CompletableFuture} completed with the results of the Function execution.
+	 */
+	CompletableFuture<Object> getFuture() {
+		return this.future;
+	}
+
+	@Override
+	public void addResult(DistributedMember member, Object result) {
+		if (this.delegate != null) {
+			this.delegate.addResult(member, result);
+		}
+		else {
+			this.results.add(result);
+		}
+	}
+
+	@Override
+	public void endResults() {
+		try {
+			if (this.delegate != null) {
+				this.delegate.endResults();
+			}
+
+			this.future.complete(currentResults());
+		}
+		catch (Throwable cause) {
+			this.future.completeExceptionally(cause);
+		}
+	}
+
+	@Override
+	public void clearResults() {
+		if (this.delegate != null) {
+			this.delegate.clearResults();
+		}
+		else {
+			this.results.clear();
+		}
+	}
+
+	@Override
+	public Object getResult() throws FunctionException {
+		try {
+			this.future.get();
+			return currentResults();
+		}
+		catch (ExecutionException cause) {
+			throw toFunctionException(cause.getCause());
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException(cause);
+		}
+	}
+
+	@Override
+	public Object getResult(long timeout, TimeUnit unit) throws FunctionException, InterruptedException {
+		try {
+			this.future.get(timeout, unit);
+			return currentResults();
+		}
+		catch (ExecutionException cause) {
+			throw toFunctionException(cause.getCause());
+		}
+		catch (TimeoutException cause) {
+			throw new FunctionException(String.format("All results were not received in [%1$d] %2$s",
+				timeout, unit), cause);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Object currentResults() {
+		// read the results again rather than returning the value of the future, since GemFire may clear
+		// and re-collect the results when re-executing an HA Function
+		return (this.delegate != null ? this.delegate.getResult() : new ArrayList<>(this.results));
+	}
+
+	/* (non-Javadoc) */
+	private FunctionException toFunctionException(Throwable cause) {
+		return (cause instanceof FunctionException ? (FunctionException) cause : new FunctionException(cause));
+	}
+}
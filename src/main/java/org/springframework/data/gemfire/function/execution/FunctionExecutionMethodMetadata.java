@@ -16,7 +16,10 @@ import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.gemfire.function.ResultCombiner;
 import org.springframework.data.gemfire.function.annotation.FunctionId;
+import org.springframework.data.gemfire.function.annotation.Reducer;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
@@ -70,9 +73,12 @@ class MethodMetadata {
 
 	private String functionId;
 
+	private final ResultCombiner<Object, ?> reducer;
+
 	public MethodMetadata(Method method) {
 		String annotatedFunctionId = annotatedFunctionId(method);
 		this.functionId = (annotatedFunctionId == null) ? null : annotatedFunctionId;
+		this.reducer = annotatedReducer(method);
 	}
 
 	/**
@@ -86,9 +92,22 @@ class MethodMetadata {
 		this.functionId = functionId;
 	}
 
+	/**
+	 * @return the {@link ResultCombiner} folding the partial results, or {@literal null}
+	 */
+	public ResultCombiner<Object, ?> getReducer() {
+		return reducer;
+	}
+
 	private String annotatedFunctionId(Method method) {
 		FunctionId functionIdAnnotation = method.getAnnotation(FunctionId.class);
 		return (functionIdAnnotation == null) ? null : functionIdAnnotation.value();
 	}
 
+	@SuppressWarnings("unchecked")
+	private ResultCombiner<Object, ?> annotatedReducer(Method method) {
+		Reducer reducerAnnotation = method.getAnnotation(Reducer.class);
+		return (reducerAnnotation == null) ? null : BeanUtils.instantiateClass(reducerAnnotation.value());
+	}
+
 }
@@ -13,6 +13,9 @@
 package org.springframework.data.gemfire.function.execution;
 
 
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
 import org.apache.geode.cache.execute.Function;
 
 /**
@@ -72,6 +75,62 @@ public interface GemfireFunctionOperations {
 	 */
 	public void executeWithNoResult(String functionId, Object... args);
 
+	/**
+	 * Asynchronously execute an unregistered GemFire Function with the given arguments.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param function the GemFire Function object to execute.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link CompletableFuture} completed with the contents of the ResultsCollector
+	 * when the last result has been received.
+	 */
+	public abstract <T> CompletableFuture<Iterable<T>> executeAsync(Function function, Object... args);
+
+	/**
+	 * Asynchronously execute a GemFire Function registered with the given ID.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link CompletableFuture} completed with the results when the last result has been received.
+	 */
+	public abstract <T> CompletableFuture<Iterable<T>> executeAsync(String functionId, Object... args);
+
+	/**
+	 * Asynchronously execute a GemFire Function registered with an ID and with an expected singleton result.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link CompletableFuture} completed with the first item in the results collector
+	 * when the last result has been received.
+	 */
+	public abstract <T> CompletableFuture<T> executeAndExtractAsync(String functionId, Object... args);
+
+	/**
+	 * Execute an unregistered GemFire Function with the given arguments, streaming each result, such as
+	 * a batched chunk, to the caller as soon as it arrives.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param function the GemFire Function object to execute.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link Stream} of the results in the order received, which should be closed
+	 * if not consumed to the end.
+	 */
+	public abstract <T> Stream<T> executeAndStream(Function function, Object... args);
+
+	/**
+	 * Execute a GemFire Function registered with the given ID, streaming each result, such as
+	 * a batched chunk, to the caller as soon as it arrives.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link Stream} of the results in the order received, which should be closed
+	 * if not consumed to the end.
+	 */
+	public abstract <T> Stream<T> executeAndStream(String functionId, Object... args);
+
     /**
      * Execute a GemFire Function using a native GemFire {@link org.apache.geode.cache.execute.Execution} instance.
 	 *
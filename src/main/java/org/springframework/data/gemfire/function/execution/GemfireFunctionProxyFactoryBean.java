@@ -13,30 +13,60 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import reactor.core.publisher.Flux;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.execute.FunctionException;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.data.gemfire.function.GemfireFunctionUtils;
+import org.springframework.data.gemfire.function.ResultCombiner;
+import org.springframework.data.gemfire.function.annotation.Reducer;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
 
 /**
  * A Proxy FactoryBean for all non-Region Function Execution interfaces.
- *  
+ *
+ * Interface methods declaring a {@link CompletableFuture}, {@link CompletionStage} or {@link Future} return type
+ * execute the Function asynchronously and return a {@link CompletableFuture} completed with the result
+ * when the last result has been received.
+ *
+ * Interface methods declaring a {@link Stream} or, when Project Reactor is on the classpath, a {@link Flux}
+ * return type stream each result of the Function to the caller as soon as it arrives.  {@link Collection}
+ * and array results, such as the chunks sent by a batching Function, are flattened into their elements,
+ * so the element type of the {@link Stream} or {@link Flux} is the element type of the Function's result.
+ *
+ * Interface methods annotated with {@link Reducer} fold the partial results of all members into the returned value
+ * with the declared {@link ResultCombiner} as the results are streamed.
+ *
  * @author David Turanski
  * @author John Blum
  * @see java.lang.reflect.Method
+ * @see java.util.concurrent.CompletableFuture
+ * @see java.util.stream.Stream
  * @see org.aopalliance.intercept.MethodInterceptor
  * @see org.springframework.beans.factory.BeanClassLoaderAware
  * @see org.springframework.beans.factory.FactoryBean
  */
 public class GemfireFunctionProxyFactoryBean implements FactoryBean<Object>, MethodInterceptor, BeanClassLoaderAware {
 
+	private static final boolean PROJECT_REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Flux",
+		GemfireFunctionProxyFactoryBean.class.getClassLoader());
+
 	private volatile ClassLoader beanClassLoader = ClassUtils.getDefaultClassLoader();
 
 	private volatile boolean initialized;
@@ -83,7 +113,58 @@ public class GemfireFunctionProxyFactoryBean implements FactoryBean<Object>, Met
 			logger.debug("invoking method " + invocation.getMethod().getName());
 		}
 
-		return invokeFunction(invocation.getMethod(), invocation.getArguments());
+		Method method = invocation.getMethod();
+
+		Object[] args = invocation.getArguments();
+
+		ResultCombiner<Object, ?> reducer = methodMetadata.getMethodMetadata(method).getReducer();
+
+		if (isAsync(method)) {
+			return (reducer != null ? invokeFunctionAsyncForResults(method, args)
+				.thenApply(results -> reduce(reducer, GemfireFunctionUtils.toStream(results)))
+				: invokeFunctionAsync(method, args));
+		}
+		else if (Stream.class.equals(method.getReturnType())) {
+			return flatten(invokeFunctionStream(method, args));
+		}
+		else if (PROJECT_REACTOR_PRESENT && ReactorAdapter.isFlux(method.getReturnType())) {
+			return ReactorAdapter.toFlux(() -> flatten(invokeFunctionStream(method, args)));
+		}
+		else if (reducer != null) {
+			try (Stream<?> results = invokeFunctionStream(method, args)) {
+				return reduce(reducer, results);
+			}
+		}
+
+		return invokeFunction(method, args);
+	}
+
+	/* (non-Javadoc) */
+	private Object reduce(ResultCombiner<Object, ?> reducer, Stream<?> results) {
+		return reducer.combine(flatten(results));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * Collections and arrays are the chunks sent by a batching Function and are flattened into their elements.
+	 */
+	private Stream<Object> flatten(Stream<?> results) {
+		return results.flatMap(result -> {
+			if (result instanceof Throwable) {
+				throw new FunctionException("Execution of Function failed", (Throwable) result);
+			}
+
+			return (result instanceof Collection || ObjectUtils.isArray(result) ? GemfireFunctionUtils.toStream(result)
+				: Stream.of(result));
+		});
+	}
+
+	/* (non-Javadoc) */
+	private boolean isAsync(Method method) {
+		Class<?> returnType = method.getReturnType();
+
+		return ((Future.class.isAssignableFrom(returnType) || CompletionStage.class.isAssignableFrom(returnType))
+			&& returnType.isAssignableFrom(CompletableFuture.class));
 	}
 
 	protected Object invokeFunction(Method method, Object[] args) {
@@ -91,6 +172,43 @@ public class GemfireFunctionProxyFactoryBean implements FactoryBean<Object>, Met
 			methodMetadata.getMethodMetadata(method).getFunctionId(), args);
 	}
 
+	/**
+	 * Asynchronously invokes the Function for the given interface {@link Method}.
+	 *
+	 * @param method interface {@link Method} declaring an asynchronous return type.
+	 * @param args arguments passed to the interface {@link Method}.
+	 * @return a {@link CompletableFuture} completed with the same value {@link #invokeFunction(Method, Object[])}
+	 * would return.
+	 */
+	protected CompletableFuture<?> invokeFunctionAsync(Method method, Object[] args) {
+		return this.gemfireFunctionOperations.executeAndExtractAsync(
+			methodMetadata.getMethodMetadata(method).getFunctionId(), args);
+	}
+
+	/**
+	 * Asynchronously invokes the Function for the given interface {@link Method}, completing with all results.
+	 *
+	 * @param method interface {@link Method} declaring an asynchronous return type.
+	 * @param args arguments passed to the interface {@link Method}.
+	 * @return a {@link CompletableFuture} completed with all results of the Function.
+	 */
+	protected CompletableFuture<? extends Iterable<?>> invokeFunctionAsyncForResults(Method method, Object[] args) {
+		return this.gemfireFunctionOperations.<Object>executeAsync(
+			methodMetadata.getMethodMetadata(method).getFunctionId(), args);
+	}
+
+	/**
+	 * Invokes the Function for the given interface {@link Method}, streaming each result as it arrives.
+	 *
+	 * @param method interface {@link Method} declaring a streaming return type.
+	 * @param args arguments passed to the interface {@link Method}.
+	 * @return a {@link Stream} of the results of the Function.
+	 */
+	protected Stream<?> invokeFunctionStream(Method method, Object[] args) {
+		return this.gemfireFunctionOperations.executeAndStream(
+			methodMetadata.getMethodMetadata(method).getFunctionId(), args);
+	}
+
 	@Override
 	public Object getObject() throws Exception {
 		if (functionExecutionProxy == null) {
@@ -119,4 +237,21 @@ public class GemfireFunctionProxyFactoryBean implements FactoryBean<Object>, Met
 		}
 	}
 
+	/**
+	 * Isolates references to Project Reactor, which is an optional dependency.
+	 */
+	private static class ReactorAdapter {
+
+		static boolean isFlux(Class<?> returnType) {
+			return Flux.class.equals(returnType);
+		}
+
+		/**
+		 * The Function is executed on subscription and the results are requested from the {@link Stream}
+		 * on demand, so the bounded buffer of the streaming Function execution applies backpressure.
+		 */
+		static Flux<Object> toFlux(Supplier<Stream<Object>> results) {
+			return Flux.defer(() -> Flux.fromStream(results.get()));
+		}
+	}
 }
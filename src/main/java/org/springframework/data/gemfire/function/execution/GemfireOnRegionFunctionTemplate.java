@@ -13,6 +13,8 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.execute.Function;
@@ -55,6 +57,18 @@ public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate im
 				.setTimeout(timeout).setArgs(args));
 	}
 
+	@Override
+	public <T> CompletableFuture<Iterable<T>> executeAsync(String functionId, Set<?> keys, Object... args) {
+		return executeAsync(new RegionFunctionExecution(region).setKeys(keys).setFunctionId(functionId)
+				.setArgs(args));
+	}
+
+	@Override
+	public <T> Stream<T> executeAndStream(String functionId, Set<?> keys, Object... args) {
+		return executeAndStream(new RegionFunctionExecution(region).setKeys(keys).setFunctionId(functionId)
+				.setArgs(args));
+	}
+
 	@Override
 	protected AbstractFunctionExecution getFunctionExecution() {
 		return new RegionFunctionExecution(this.region);
@@ -13,6 +13,8 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.execute.Function;
 
@@ -25,5 +27,7 @@ public interface GemfireOnRegionOperations extends GemfireFunctionOperations {
 	public abstract <T> Iterable<T> execute(Function function, Set<?> keys, Object... args);
 	public abstract void executeWithNoResult(String functionId, Set<?> keys, Object... args);
 	public abstract <T> T executeAndextract(String functionId, Set<?> keys, Object... args);
+	public abstract <T> CompletableFuture<Iterable<T>> executeAsync(String functionId, Set<?> keys, Object... args);
+	public abstract <T> Stream<T> executeAndStream(String functionId, Set<?> keys, Object... args);
 
 }
@@ -14,6 +14,8 @@ package org.springframework.data.gemfire.function.execution;
 
 import java.lang.reflect.Method;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.springframework.data.gemfire.util.ArrayUtils;
 
@@ -40,21 +42,62 @@ public class OnRegionFunctionProxyFactoryBean extends GemfireFunctionProxyFactor
 
 		OnRegionMethodMetadata onRegionMethodMetadata = methodMetadata.getMethodMetadata(method);
 
-		int filterArgPosition = onRegionMethodMetadata.getFilterArgPosition();
 		String functionId = onRegionMethodMetadata.getFunctionId();
+		Set<?> filter = getFilter(onRegionMethodMetadata, args);
 
-		Set<?> filter = null;
-
-		/*
-		 * extract filter from args if necessary
-		 */
-		if (filterArgPosition >= 0) {
-			filter = (Set<?>) args[filterArgPosition];
-			args = ArrayUtils.remove(args, filterArgPosition);
-		}
+		args = removeFilter(onRegionMethodMetadata, args);
 
 		return (filter == null ?  gemfireOnRegionOperations.execute(functionId, args)
 			: gemfireOnRegionOperations.execute(functionId, filter, args));
 	}
 
+	@Override
+	protected CompletableFuture<?> invokeFunctionAsync(Method method, Object[] args) {
+		return invokeFunctionAsyncForResults(method, args);
+	}
+
+	@Override
+	protected CompletableFuture<? extends Iterable<?>> invokeFunctionAsyncForResults(Method method, Object[] args) {
+		GemfireOnRegionOperations gemfireOnRegionOperations = (GemfireOnRegionOperations) getGemfireFunctionOperations();
+
+		OnRegionMethodMetadata onRegionMethodMetadata = methodMetadata.getMethodMetadata(method);
+
+		String functionId = onRegionMethodMetadata.getFunctionId();
+		Set<?> filter = getFilter(onRegionMethodMetadata, args);
+
+		args = removeFilter(onRegionMethodMetadata, args);
+
+		return (filter == null ?  gemfireOnRegionOperations.<Object>executeAsync(functionId, args)
+			: gemfireOnRegionOperations.<Object>executeAsync(functionId, filter, args));
+	}
+
+	@Override
+	protected Stream<?> invokeFunctionStream(Method method, Object[] args) {
+		GemfireOnRegionOperations gemfireOnRegionOperations = (GemfireOnRegionOperations) getGemfireFunctionOperations();
+
+		OnRegionMethodMetadata onRegionMethodMetadata = methodMetadata.getMethodMetadata(method);
+
+		String functionId = onRegionMethodMetadata.getFunctionId();
+		Set<?> filter = getFilter(onRegionMethodMetadata, args);
+
+		args = removeFilter(onRegionMethodMetadata, args);
+
+		return (filter == null ?  gemfireOnRegionOperations.executeAndStream(functionId, args)
+			: gemfireOnRegionOperations.executeAndStream(functionId, filter, args));
+	}
+
+	/* (non-Javadoc) */
+	private Set<?> getFilter(OnRegionMethodMetadata onRegionMethodMetadata, Object[] args) {
+		int filterArgPosition = onRegionMethodMetadata.getFilterArgPosition();
+
+		return (filterArgPosition >= 0 ? (Set<?>) args[filterArgPosition] : null);
+	}
+
+	/* (non-Javadoc) */
+	private Object[] removeFilter(OnRegionMethodMetadata onRegionMethodMetadata, Object[] args) {
+		int filterArgPosition = onRegionMethodMetadata.getFilterArgPosition();
+
+		return (filterArgPosition >= 0 ? ArrayUtils.remove(args, filterArgPosition) : args);
+	}
+
 }
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link StreamingResultCollector} class is a {@link ResultCollector} that hands each result of a Function
+ * execution, such as a chunk sent by a {@code BatchingResultSender}, to a consuming {@link Stream} as soon as
+ * it arrives, rather than holding all results until the last member has finished.
+ *
+ * Results are passed through a bounded buffer.  When the buffer is full, {@link #addResult(DistributedMember, Object)}
+ * blocks the GemFire {@link Thread} receiving results until the consumer catches up, which provides backpressure.
+ * Closing the {@link Stream} discards any remaining results.
+ *
+ * Results already handed to the consumer cannot be recalled, so the {@link Stream} fails with
+ * a {@link FunctionException} if GemFire re-executes an HA Function after the consumer received a result.
+ *
+ * @author John Blum
+ * @see java.util.stream.Stream
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @since 2.0.0
+ */
+class StreamingResultCollector implements ResultCollector<Object, Stream<Object>> {
+
+	static final int DEFAULT_BUFFER_CAPACITY = 16;
+
+	private static final Object END_OF_RESULTS = new Object();
+
+	private static final Object NULL_RESULT = new Object();
+
+	private final BlockingQueue<Object> buffer = new LinkedBlockingQueue<>();
+
+	private final Semaphore capacity;
+
+	private final long timeout;
+
+	private volatile boolean closed;
+
+	private volatile boolean delivered;
+
+	private volatile Throwable failure;
+
+	/**
+	 * Constructs a new instance of {@link StreamingResultCollector} with the {@link #DEFAULT_BUFFER_CAPACITY}
+	 * waiting indefinitely for each result.
+	 */
+	StreamingResultCollector() {
+		this(DEFAULT_BUFFER_CAPACITY, 0L);
+	}
+
+	/**
+	 * Constructs a new instance of {@link StreamingResultCollector}.
+	 *
+	 * @param capacity maximum number of results buffered before the GemFire {@link Thread} adding results blocks.
+	 * @param timeout number of milliseconds the consumer waits for the next result; waits indefinitely if not positive.
+	 * @throws IllegalArgumentException if capacity is less than 1.
+	 */
+	StreamingResultCollector(int capacity, long timeout) {
+		Assert.isTrue(capacity > 0, "capacity must be greater than 0");
+
+		// results take a permit while buffered, so the end marker can always be added without waiting
+		this.capacity = new Semaphore(capacity);
+		this.timeout = timeout;
+	}
+
+	@Override
+	public void addResult(DistributedMember member, Object result) {
+		try {
+			while (!this.closed) {
+				// wait for the consumer to make room in the buffer or close the Stream
+				if (this.capacity.tryAcquire(100L, TimeUnit.MILLISECONDS)) {
+					this.buffer.offer(result != null ? result : NULL_RESULT);
+					break;
+				}
+			}
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			fail(cause);
+		}
+	}
+
+	@Override
+	public void endResults() {
+		if (!this.closed) {
+			this.buffer.offer(END_OF_RESULTS);
+		}
+	}
+
+	/**
+	 * Called when GemFire re-executes an HA Function.  Buffered results are discarded, and if the consumer
+	 * already received a result, which cannot be recalled, the {@link Stream} fails rather than delivering
+	 * duplicate results.
+	 */
+	@Override
+	public void clearResults() {
+		if (this.delivered) {
+			this.closed = true;
+			discardResults();
+			fail(new FunctionException(
+				"Function was re-executed after results were streamed; results cannot be recalled"));
+		}
+		else {
+			discardResults();
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void discardResults() {
+		for (Object result = this.buffer.poll(); result != null; result = this.buffer.poll()) {
+			release(result);
+		}
+	}
+
+	@Override
+	public Stream<Object> getResult() throws FunctionException {
+		return stream();
+	}
+
+	@Override
+	public Stream<Object> getResult(long timeout, TimeUnit unit) throws FunctionException {
+		return stream();
+	}
+
+	/**
+	 * Signals that the Function execution failed.  The consumer will receive a {@link FunctionException}
+	 * after the results already buffered.
+	 *
+	 * @param cause {@link Throwable} that caused the Function execution to fail.
+	 */
+	void fail(Throwable cause) {
+		if (this.failure == null) {
+			this.failure = cause;
+		}
+
+		this.buffer.offer(END_OF_RESULTS);
+	}
+
+	/**
+	 * Closes this {@link StreamingResultCollector}, discarding any buffered and subsequently received results.
+	 */
+	void close() {
+		this.closed = true;
+		discardResults();
+	}
+
+	/**
+	 * Returns a sequential {@link Stream} of the results in the order they arrive.  Each terminal operation
+	 * on the {@link Stream} blocks while waiting for the next result.
+	 *
+	 * @return a {@link Stream} of the results of the Function execution.
+	 */
+	Stream<Object> stream() {
+		Spliterator<Object> spliterator = Spliterators.spliteratorUnknownSize(new ResultIterator(),
+			Spliterator.ORDERED);
+
+		return StreamSupport.stream(spliterator, false).onClose(this::close);
+	}
+
+	/* (non-Javadoc) */
+	private Object take() {
+		try {
+			Object result = (this.timeout > 0 ? this.buffer.poll(this.timeout, TimeUnit.MILLISECONDS)
+				: this.buffer.take());
+
+			if (result == null) {
+				throw new FunctionException(String.format("No result was received in [%d] milliseconds",
+					this.timeout));
+			}
+
+			release(result);
+
+			if (result != END_OF_RESULTS) {
+				this.delivered = true;
+			}
+
+			return result;
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException(cause);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void release(Object result) {
+		if (result != END_OF_RESULTS) {
+			this.capacity.release();
+		}
+	}
+
+	/* (non-Javadoc) */
+	private class ResultIterator implements Iterator<Object> {
+
+		private Object next;
+
+		private boolean ready;
+
+		private boolean done;
+
+		@Override
+		public boolean hasNext() {
+			if (!this.ready && !this.done) {
+				Object result = take();
+
+				if (result == END_OF_RESULTS) {
+					this.done = true;
+					close();
+
+					if (failure != null) {
+						throw (failure instanceof FunctionException ? (FunctionException) failure
+							: new FunctionException(failure));
+					}
+				}
+				else if (result instanceof Throwable) {
+					this.done = true;
+					close();
+
+					throw new FunctionException("Execution of Function failed", (Throwable) result);
+				}
+				else {
+					this.next = (result != NULL_RESULT ? result : null);
+					this.ready = true;
+				}
+			}
+
+			return this.ready;
+		}
+
+		@Override
+		public Object next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			Object result = this.next;
+
+			this.next = null;
+			this.ready = false;
+
+			return result;
+		}
+	}
+}
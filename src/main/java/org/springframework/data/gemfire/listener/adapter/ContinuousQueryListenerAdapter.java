@@ -16,7 +16,9 @@
 
 package org.springframework.data.gemfire.listener.adapter;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
@@ -38,7 +40,7 @@ import org.springframework.util.ReflectionUtils.MethodFilter;
 
 /**
  * Event listener adapter that delegates the handling of messages to target
- * listener methods via reflection, with flexible event type conversion.
+ * listener methods via method handles, with flexible event type conversion.
  * Allows listener methods to operate on event content types, completely
  * independent from the GemFire API.
  *
@@ -214,27 +216,47 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 		try {
 			invoker.invoke(event);
 		}
-		catch (InvocationTargetException e) {
-			if (e.getTargetException() instanceof DataAccessException) {
-				throw (DataAccessException) e.getTargetException();
-			}
-			else {
-				throw new GemfireListenerExecutionFailedException(
-					String.format("Listener method [%1$s] threw Exception...", methodName), e.getTargetException());
-			}
+		catch (DataAccessException e) {
+			throw e;
 		}
 		catch (Throwable e) {
 			throw new GemfireListenerExecutionFailedException(
-				String.format("Failed to invoke the target listener method [%1$s]", methodName), e);
+				String.format("Listener method [%1$s] threw Exception...", methodName), e);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private static MethodHandle findCqEventAccessor(String methodName, Class<?> returnType) {
+		try {
+			return MethodHandles.publicLookup().findVirtual(CqEvent.class, methodName,
+				MethodType.methodType(returnType));
+		}
+		catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(String.format("Failed to resolve CqEvent.%s()", methodName), e);
 		}
 	}
 
+	/**
+	 * Invokes the listener methods on the delegate through {@link MethodHandle MethodHandles} of type
+	 * {@literal (CqEvent)void}, built once per method, that extract each listener method argument
+	 * directly from the {@link CqEvent}.
+	 */
 	private class MethodInvoker {
 
+		private final MethodHandle getBaseOperation = findCqEventAccessor("getBaseOperation", Operation.class);
+		private final MethodHandle getCq = findCqEventAccessor("getCq", CqQuery.class);
+		private final MethodHandle getDeltaValue = findCqEventAccessor("getDeltaValue", byte[].class);
+		private final MethodHandle getKey = findCqEventAccessor("getKey", Object.class);
+		private final MethodHandle getNewValue = findCqEventAccessor("getNewValue", Object.class);
+		private final MethodHandle getQueryOperation = findCqEventAccessor("getQueryOperation", Operation.class);
+		private final MethodHandle getThrowable = findCqEventAccessor("getThrowable", Throwable.class);
+
 		private final Object delegate;
 
 		List<Method> methods;
 
+		final List<MethodHandle> methodHandles;
+
 		MethodInvoker(Object delegate, final String methodName) {
 			Class<?> c = delegate.getClass();
 
@@ -255,6 +277,12 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 			Assert.isTrue(!methods.isEmpty(), String.format(
 				"Cannot find a suitable method named [%1$s#%2$s] - is the method public and does it have the proper arguments?",
 					c.getName(), methodName));
+
+			methodHandles = new ArrayList<MethodHandle>(methods.size());
+
+			for (Method method : methods) {
+				methodHandles.add(newMethodHandle(method));
+			}
 		}
 
 		@SuppressWarnings("all")
@@ -297,15 +325,20 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 			return false;
 		}
 
-		void invoke(CqEvent event) throws InvocationTargetException, IllegalAccessException {
-			for (Method method : methods) {
-				method.invoke(delegate, getMethodArguments(method, event));
+		void invoke(CqEvent event) throws Throwable {
+			for (MethodHandle methodHandle : methodHandles) {
+				methodHandle.invokeExact(event);
 			}
 		}
 
-		Object[] getMethodArguments(Method method, CqEvent event) {
+		/*
+		 * (non-Javadoc)
+		 * Adapts the given listener method to a MethodHandle of type (CqEvent)void bound to the delegate
+		 * by filtering each parameter through the CqEvent accessor for the corresponding argument.
+		 */
+		MethodHandle newMethodHandle(Method method) {
 			Class<?>[] parameterTypes = method.getParameterTypes();
-			Object[] args = new Object[parameterTypes.length];
+			MethodHandle[] argumentExtractors = new MethodHandle[parameterTypes.length];
 
 			boolean query = false;
 			boolean value = false;
@@ -314,28 +347,40 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 				Class<?> parameterType = parameterTypes[index];
 
 				if (Object.class.equals(parameterType)) {
-					args[index] = (value ? event.getNewValue() : event.getKey());
+					argumentExtractors[index] = (value ? getNewValue : getKey);
 					value = true;
 				}
 				else if (Operation.class.equals(parameterType)) {
-					args[index] = (query ? event.getQueryOperation() : event.getBaseOperation());
+					argumentExtractors[index] = (query ? getQueryOperation : getBaseOperation);
 					query = true;
 				}
 				else if (byte[].class.equals(parameterType)) {
-					args[index] = event.getDeltaValue();
+					argumentExtractors[index] = getDeltaValue;
 				}
 				else if (CqEvent.class.equals(parameterType)) {
-					args[index] = event;
+					argumentExtractors[index] = MethodHandles.identity(CqEvent.class);
 				}
 				else if (CqQuery.class.equals(parameterType)) {
-					args[index] = event.getCq();
+					argumentExtractors[index] = getCq;
 				}
 				else if (Throwable.class.equals(parameterType)) {
-					args[index] = event.getThrowable();
+					argumentExtractors[index] = getThrowable;
 				}
 			}
 
-			return args;
+			try {
+				MethodHandle methodHandle = MethodHandles.filterArguments(
+					MethodHandles.lookup().unreflect(method).bindTo(delegate), 0, argumentExtractors);
+
+				// every parameter is extracted from the same, single CqEvent argument
+				return MethodHandles.permuteArguments(methodHandle, MethodType.methodType(
+					methodHandle.type().returnType(), CqEvent.class), new int[parameterTypes.length])
+						.asType(MethodType.methodType(void.class, CqEvent.class));
+			}
+			catch (IllegalAccessException e) {
+				throw new IllegalArgumentException(String.format("Cannot access listener method [%1$s#%2$s]",
+					method.getDeclaringClass().getName(), method.getName()), e);
+			}
 		}
 	}
 
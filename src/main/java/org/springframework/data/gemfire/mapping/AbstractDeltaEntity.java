@@ -0,0 +1,254 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.Optional;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.Delta;
+import org.apache.geode.InvalidDeltaException;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Abstract base class for entities (de)serialized by {@link MappingPdxSerializer} that propagate only
+ * the persistent properties changed since the entity was last sent or received as a GemFire {@link Delta}.
+ *
+ * Each time {@link MappingPdxSerializer} writes or reads the entity, or the entity's {@link Delta} is sent
+ * or applied, the current value of each persistent property is recorded.  {@link #hasDelta()} compares the current
+ * property values with the recorded values to determine the changed properties, which {@link #toDelta(DataOutput)}
+ * writes by name along with their values.  Therefore, an update of a few properties of a large entity only
+ * distributes the changed properties to redundant copies and clients registering interest in the entity.
+ *
+ * Values of primitive, wrapper, {@link String}, {@link Enum}, {@link BigDecimal}, {@link BigInteger} and {@link Date}
+ * type, as well as arrays of the immutable types among these, are compared by value.  Properties of any other type,
+ * such as {@link java.util.Collection} or nested entities, may be modified in place and are therefore always sent
+ * when not {@literal null}.
+ *
+ * Entities that have not been (de)serialized by {@link MappingPdxSerializer} have no delta and are distributed
+ * in full.
+ *
+ * @author John Blum
+ * @see org.apache.geode.Delta
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @see org.springframework.data.gemfire.mapping.PdxSerializationPlan
+ * @since 2.0.0
+ */
+public abstract class AbstractDeltaEntity implements Delta {
+
+	@Transient
+	private transient volatile DeltaBaseline deltaBaseline;
+
+	/**
+	 * Records the current value of each persistent property of this entity as the baseline from which
+	 * the changed properties are determined.
+	 *
+	 * @param plan {@link PdxSerializationPlan} of this entity.
+	 */
+	void captureDeltaBaseline(PdxSerializationPlan plan) {
+		PdxSerializationPlan.PropertyPlan[] properties = plan.getProperties();
+		PersistentPropertyAccessor propertyAccessor = plan.getEntity().getPropertyAccessor(this);
+
+		Object[] values = new Object[properties.length];
+
+		for (int index = 0; index < properties.length; index++) {
+			values[index] = copy(getProperty(propertyAccessor, properties[index]));
+		}
+
+		this.deltaBaseline = new DeltaBaseline(plan, values);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.geode.Delta#hasDelta()
+	 */
+	@Override
+	public boolean hasDelta() {
+		DeltaBaseline baseline = this.deltaBaseline;
+
+		if (baseline != null) {
+			PdxSerializationPlan.PropertyPlan[] properties = baseline.plan.getProperties();
+			PersistentPropertyAccessor propertyAccessor = baseline.plan.getEntity().getPropertyAccessor(this);
+
+			for (int index = 0; index < properties.length; index++) {
+				if (isChanged(baseline.values[index], getProperty(propertyAccessor, properties[index]))) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.geode.Delta#toDelta(java.io.DataOutput)
+	 */
+	@Override
+	public void toDelta(DataOutput out) throws IOException {
+		DeltaBaseline baseline = this.deltaBaseline;
+
+		if (baseline == null) {
+			throw new IllegalStateException(String.format("Entity of type [%s] has no delta",
+				getClass().getName()));
+		}
+
+		PdxSerializationPlan.PropertyPlan[] properties = baseline.plan.getProperties();
+		PersistentPropertyAccessor propertyAccessor = baseline.plan.getEntity().getPropertyAccessor(this);
+
+		Object[] values = new Object[properties.length];
+		boolean[] changed = new boolean[properties.length];
+		int changeCount = 0;
+
+		for (int index = 0; index < properties.length; index++) {
+			values[index] = getProperty(propertyAccessor, properties[index]);
+			changed[index] = isChanged(baseline.values[index], values[index]);
+			changeCount += (changed[index] ? 1 : 0);
+		}
+
+		out.writeInt(changeCount);
+
+		for (int index = 0; index < properties.length; index++) {
+			if (changed[index]) {
+				out.writeUTF(properties[index].getName());
+				DataSerializer.writeObject(values[index], out);
+				values[index] = copy(values[index]);
+			}
+			else {
+				values[index] = baseline.values[index];
+			}
+		}
+
+		this.deltaBaseline = new DeltaBaseline(baseline.plan, values);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.geode.Delta#fromDelta(java.io.DataInput)
+	 */
+	@Override
+	public void fromDelta(DataInput in) throws IOException, InvalidDeltaException {
+		DeltaBaseline baseline = this.deltaBaseline;
+
+		if (baseline == null) {
+			throw new InvalidDeltaException(String.format(
+				"Entity of type [%s] was not read by the MappingPdxSerializer", getClass().getName()));
+		}
+
+		PdxSerializationPlan.PropertyPlan[] properties = baseline.plan.getProperties();
+		PersistentPropertyAccessor propertyAccessor = baseline.plan.getEntity().getPropertyAccessor(this);
+
+		Object[] values = baseline.values.clone();
+
+		for (int count = in.readInt(); count > 0; count--) {
+			String propertyName = in.readUTF();
+			int index = indexOf(properties, propertyName);
+
+			try {
+				Object value = DataSerializer.readObject(in);
+
+				propertyAccessor.setProperty(properties[index].getProperty(), Optional.ofNullable(value));
+				values[index] = copy(value);
+			}
+			catch (ClassNotFoundException e) {
+				throw new InvalidDeltaException(String.format("Failed to read value of property [%1$s] for entity"
+					+ " of type [%2$s]: %3$s", propertyName, getClass().getName(), e.getMessage()));
+			}
+		}
+
+		this.deltaBaseline = new DeltaBaseline(baseline.plan, values);
+	}
+
+	/* (non-Javadoc) */
+	private int indexOf(PdxSerializationPlan.PropertyPlan[] properties, String propertyName) {
+		for (int index = 0; index < properties.length; index++) {
+			if (properties[index].getName().equals(propertyName)) {
+				return index;
+			}
+		}
+
+		throw new InvalidDeltaException(String.format("Entity of type [%1$s] has no persistent property [%2$s]",
+			getClass().getName(), propertyName));
+	}
+
+	/* (non-Javadoc) */
+	private static Object getProperty(PersistentPropertyAccessor propertyAccessor,
+			PdxSerializationPlan.PropertyPlan property) {
+
+		return propertyAccessor.getProperty(property.getProperty()).orElse(null);
+	}
+
+	/* (non-Javadoc) */
+	private static boolean isChanged(Object baselineValue, Object currentValue) {
+		return (isComparable(currentValue) ? !ObjectUtils.nullSafeEquals(baselineValue, currentValue)
+			: currentValue != null || baselineValue != null);
+	}
+
+	/* (non-Javadoc) */
+	private static boolean isComparable(Object value) {
+		return (value == null || value instanceof Date || isImmutable(value.getClass())
+			|| (value.getClass().isArray() && isImmutable(value.getClass().getComponentType())));
+	}
+
+	/* (non-Javadoc) */
+	private static boolean isImmutable(Class<?> type) {
+		return (ClassUtils.isPrimitiveOrWrapper(type) || type.isEnum() || String.class.equals(type)
+			|| BigDecimal.class.equals(type) || BigInteger.class.equals(type));
+	}
+
+	/* (non-Javadoc) */
+	private static Object copy(Object value) {
+		if (value instanceof Date) {
+			return ((Date) value).clone();
+		}
+		else if (value != null && value.getClass().isArray()) {
+			int length = Array.getLength(value);
+			Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+
+			System.arraycopy(value, 0, copy, 0, length);
+
+			return copy;
+		}
+		else {
+			return value;
+		}
+	}
+
+	/**
+	 * Persistent property values of the entity as last sent or received.
+	 */
+	private static final class DeltaBaseline {
+
+		private final Object[] values;
+
+		private final PdxSerializationPlan plan;
+
+		private DeltaBaseline(PdxSerializationPlan plan, Object[] values) {
+			this.plan = plan;
+			this.values = values;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.springframework.util.Assert;
+
+/**
+ * Abstract base class for the {@link org.apache.geode.DataSerializable} {@literal toData/fromData} implementations
+ * generated by {@link AsmDataSerializableCodecGenerator} for a single {@link GemfirePersistentEntity}.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.mapping.AsmDataSerializableCodecGenerator
+ * @see org.springframework.data.gemfire.mapping.MappedDataSerializable
+ * @since 2.0.0
+ */
+public abstract class AbstractGeneratedDataSerializableCodec {
+
+	private final GemfirePersistentEntity<?> entity;
+
+	/**
+	 * Constructs a new instance of {@link AbstractGeneratedDataSerializableCodec} for the given entity.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} (de)serialized by this codec; must not be {@literal null}.
+	 */
+	protected AbstractGeneratedDataSerializableCodec(GemfirePersistentEntity<?> entity) {
+		Assert.notNull(entity, "GemfirePersistentEntity must not be null");
+		this.entity = entity;
+	}
+
+	/**
+	 * Returns the {@link GemfirePersistentEntity} (de)serialized by this codec.
+	 *
+	 * @return the {@link GemfirePersistentEntity} (de)serialized by this codec.
+	 */
+	public GemfirePersistentEntity<?> getEntity() {
+		return this.entity;
+	}
+
+	/**
+	 * Writes the persistent properties of the given entity to the given {@link DataOutput}.
+	 *
+	 * @param entity entity to serialize.
+	 * @param out {@link DataOutput} to which the persistent properties are written.
+	 * @throws IOException if the persistent properties could not be written.
+	 */
+	public abstract void toData(Object entity, DataOutput out) throws IOException;
+
+	/**
+	 * Reads the persistent properties of the given entity from the given {@link DataInput}.
+	 *
+	 * @param entity entity to deserialize.
+	 * @param in {@link DataInput} from which the persistent properties are read.
+	 * @throws IOException if the persistent properties could not be read.
+	 * @throws ClassNotFoundException if the class of a property value could not be found.
+	 */
+	public abstract void fromData(Object entity, DataInput in) throws IOException, ClassNotFoundException;
+
+}
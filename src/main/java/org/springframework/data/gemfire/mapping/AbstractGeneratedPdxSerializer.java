@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import java.util.Optional;
+
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxSerializer;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
+import org.springframework.util.Assert;
+
+/**
+ * Abstract base class for the {@link PdxSerializer PdxSerializers} generated by {@link AsmPdxSerializerGenerator}
+ * for a single {@link GemfirePersistentEntity}.
+ *
+ * The generated subclass reads and writes the entity's properties with the typed {@link PdxReader}
+ * and {@link org.apache.geode.pdx.PdxWriter} methods and the entity's accessors directly, relying on this class
+ * only to instantiate the entity and to convert values read from PDX that are not of the property type.
+ *
+ * @author John Blum
+ * @see org.apache.geode.pdx.PdxSerializer
+ * @see org.springframework.data.gemfire.mapping.AsmPdxSerializerGenerator
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @since 2.0.0
+ */
+public abstract class AbstractGeneratedPdxSerializer implements PdxSerializer {
+
+	private final ConversionService conversionService;
+
+	private final EntityInstantiator instantiator;
+
+	private final GemfirePersistentEntity<?> entity;
+
+	/**
+	 * Constructs a new instance of {@link AbstractGeneratedPdxSerializer} for the given entity.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} (de)serialized by this {@link PdxSerializer};
+	 * must not be {@literal null}.
+	 * @param instantiator {@link EntityInstantiator} used to create instances of the entity;
+	 * must not be {@literal null}.
+	 * @param conversionService {@link ConversionService} used to convert values read from PDX to the property type;
+	 * must not be {@literal null}.
+	 */
+	protected AbstractGeneratedPdxSerializer(GemfirePersistentEntity<?> entity, EntityInstantiator instantiator,
+			ConversionService conversionService) {
+
+		Assert.notNull(entity, "GemfirePersistentEntity must not be null");
+		Assert.notNull(instantiator, "EntityInstantiator must not be null");
+		Assert.notNull(conversionService, "ConversionService must not be null");
+
+		this.entity = entity;
+		this.instantiator = instantiator;
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Returns the {@link GemfirePersistentEntity} (de)serialized by this {@link PdxSerializer}.
+	 *
+	 * @return the {@link GemfirePersistentEntity} (de)serialized by this {@link PdxSerializer}.
+	 */
+	public GemfirePersistentEntity<?> getEntity() {
+		return this.entity;
+	}
+
+	/**
+	 * Creates a new instance of the entity, passing the values of any constructor arguments read from PDX.
+	 *
+	 * @param reader {@link PdxReader} used to read the values of constructor arguments.
+	 * @return a new instance of the entity.
+	 */
+	protected Object newInstance(PdxReader reader) {
+		return this.instantiator.createInstance(this.entity, new PersistentEntityParameterValueProvider<>(
+			this.entity, new GemfirePropertyValueProvider(reader), Optional.empty()));
+	}
+
+	/**
+	 * Converts the given value read from PDX to the given property type, if necessary.
+	 *
+	 * @param value value read from PDX.
+	 * @param type {@link Class} type of the property.
+	 * @return the value converted to the given property type.
+	 */
+	protected Object convert(Object value, Class<?> type) {
+		return (value == null || type.isInstance(value) ? value : this.conversionService.convert(value, type));
+	}
+}
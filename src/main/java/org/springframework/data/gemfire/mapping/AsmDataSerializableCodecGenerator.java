@@ -0,0 +1,490 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.beans.PropertyDescriptor;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.DataSerializer;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * ASM based generator of the {@link org.apache.geode.DataSerializable} {@literal toData/fromData} implementation,
+ * an {@link AbstractGeneratedDataSerializableCodec}, of a {@link MappedDataSerializable} entity.
+ *
+ * The generated codec writes the persistent properties of the entity, ordered by property name, by invoking
+ * the entity's public accessors, or public fields, directly.  Primitive properties are written with the typed
+ * {@link DataOutput} methods (e.g. {@link DataOutput#writeLong(long)}), {@link String} properties with
+ * {@link DataSerializer#writeString(String, DataOutput)} and properties of any other type with
+ * {@link DataSerializer#writeObject(Object, DataOutput)}.  Unlike PDX, no field names or type metadata are written.
+ *
+ * The generated class has the following definition:
+ *
+ * <pre>
+ * public class <i>T</i>DataSerializableCodec$Synthetic<i>Counter</i> extends AbstractGeneratedDataSerializableCodec {
+ *
+ *  public void toData(Object value, DataOutput out) throws IOException {
+ *    <i>T</i> entity = (<i>T</i>) value;
+ *    DataSerializer.writeObject(entity.getAddress(), out);
+ *    out.writeLong(entity.getId());
+ *    DataSerializer.writeString(entity.getName(), out);
+ *  }
+ *
+ *  public void fromData(Object value, DataInput in) throws IOException, ClassNotFoundException {
+ *    <i>T</i> entity = (<i>T</i>) value;
+ *    entity.setAddress((Address) DataSerializer.readObject(in));
+ *    entity.setId(in.readLong());
+ *    entity.setName(DataSerializer.readString(in));
+ *  }
+ * }
+ * </pre>
+ *
+ * @author John Blum
+ * @see org.springframework.asm.ClassWriter
+ * @see org.springframework.data.gemfire.mapping.AbstractGeneratedDataSerializableCodec
+ * @see org.springframework.data.gemfire.mapping.AsmPdxSerializerGenerator
+ * @see org.springframework.data.gemfire.mapping.MappedDataSerializable
+ * @since 2.0.0
+ */
+public class AsmDataSerializableCodecGenerator implements Opcodes {
+
+	private static final String PKG = "org/springframework/data/gemfire/mapping/";
+	private static final String CLASS_LABEL = "DataSerializableCodec$Synthetic";
+
+	private static final String INIT = "<init>";
+	private static final String FROM_DATA = "fromData";
+	private static final String TO_DATA = "toData";
+
+	private static final String BASE_CLASS_NAME = Type.getInternalName(AbstractGeneratedDataSerializableCodec.class);
+	private static final String DATA_INPUT_NAME = Type.getInternalName(DataInput.class);
+	private static final String DATA_OUTPUT_NAME = Type.getInternalName(DataOutput.class);
+	private static final String DATA_SERIALIZER_NAME = Type.getInternalName(DataSerializer.class);
+
+	private static final String[] FROM_DATA_EXCEPTIONS = {
+		Type.getInternalName(IOException.class), Type.getInternalName(ClassNotFoundException.class)
+	};
+
+	private static final String[] TO_DATA_EXCEPTIONS = { Type.getInternalName(IOException.class) };
+
+	private static final Type DATA_INPUT_TYPE = Type.getType(DataInput.class);
+	private static final Type DATA_OUTPUT_TYPE = Type.getType(DataOutput.class);
+	private static final Type OBJECT_TYPE = Type.getType(Object.class);
+	private static final Type STRING_TYPE = Type.getType(String.class);
+
+	private static final String CONSTRUCTOR_DESCRIPTOR =
+		Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(GemfirePersistentEntity.class));
+
+	private static final String FROM_DATA_DESCRIPTOR =
+		Type.getMethodDescriptor(Type.VOID_TYPE, OBJECT_TYPE, DATA_INPUT_TYPE);
+
+	private static final String TO_DATA_DESCRIPTOR =
+		Type.getMethodDescriptor(Type.VOID_TYPE, OBJECT_TYPE, DATA_OUTPUT_TYPE);
+
+	private static final String READ_OBJECT_DESCRIPTOR = Type.getMethodDescriptor(OBJECT_TYPE, DATA_INPUT_TYPE);
+	private static final String READ_STRING_DESCRIPTOR = Type.getMethodDescriptor(STRING_TYPE, DATA_INPUT_TYPE);
+
+	private static final String WRITE_OBJECT_DESCRIPTOR =
+		Type.getMethodDescriptor(Type.VOID_TYPE, OBJECT_TYPE, DATA_OUTPUT_TYPE);
+
+	private static final String WRITE_STRING_DESCRIPTOR =
+		Type.getMethodDescriptor(Type.VOID_TYPE, STRING_TYPE, DATA_OUTPUT_TYPE);
+
+	// DataInput/DataOutput method name suffixes of primitive property types
+	private static final Map<Class<?>, String> PRIMITIVE_DATA_TYPES = new HashMap<>();
+
+	static {
+		PRIMITIVE_DATA_TYPES.put(boolean.class, "Boolean");
+		PRIMITIVE_DATA_TYPES.put(byte.class, "Byte");
+		PRIMITIVE_DATA_TYPES.put(char.class, "Char");
+		PRIMITIVE_DATA_TYPES.put(short.class, "Short");
+		PRIMITIVE_DATA_TYPES.put(int.class, "Int");
+		PRIMITIVE_DATA_TYPES.put(long.class, "Long");
+		PRIMITIVE_DATA_TYPES.put(float.class, "Float");
+		PRIMITIVE_DATA_TYPES.put(double.class, "Double");
+	}
+
+	private static volatile AsmDataSerializableCodecGenerator configuredDefault;
+
+	// generated class counter
+	private static final AtomicLong counter = new AtomicLong(1);
+
+	private static final class BytecodeClassLoader extends ClassLoader {
+
+		BytecodeClassLoader(ClassLoader parent) {
+			super(parent);
+		}
+
+		Class<?> loadClass(String name, byte[] bytecode) {
+			return defineClass(name, bytecode, 0, bytecode.length);
+		}
+	}
+
+	// lazily initialized fallback used only when no generator was configured with the application's mapping context
+	private static final class FallbackHolder {
+		private static final AsmDataSerializableCodecGenerator FALLBACK =
+			new AsmDataSerializableCodecGenerator(new GemfireMappingContext());
+	}
+
+	private final ConcurrentMap<Class<?>, AbstractGeneratedDataSerializableCodec> codecs = new ConcurrentHashMap<>();
+
+	private final GemfireMappingContext mappingContext;
+
+	/**
+	 * Returns the {@link AsmDataSerializableCodecGenerator} used by {@link MappedDataSerializable} entities.
+	 *
+	 * If no generator was {@link #setDefault(AsmDataSerializableCodecGenerator) configured}, then a generator
+	 * resolving entity metadata from a new, default {@link GemfireMappingContext} is returned.
+	 *
+	 * @return the {@link AsmDataSerializableCodecGenerator} used by {@link MappedDataSerializable} entities.
+	 * @see #setDefault(AsmDataSerializableCodecGenerator)
+	 */
+	public static AsmDataSerializableCodecGenerator getDefault() {
+		AsmDataSerializableCodecGenerator generator = configuredDefault;
+		return (generator != null ? generator : FallbackHolder.FALLBACK);
+	}
+
+	/**
+	 * Configures the {@link AsmDataSerializableCodecGenerator} used by {@link MappedDataSerializable} entities,
+	 * typically one resolving entity metadata from the application's {@link GemfireMappingContext}.
+	 *
+	 * @param generator {@link AsmDataSerializableCodecGenerator} used by {@link MappedDataSerializable} entities;
+	 * {@literal null} reverts to the default generator.
+	 * @see org.springframework.data.gemfire.serialization.InstantiatorFactoryBean
+	 * @see #getDefault()
+	 */
+	public static void setDefault(AsmDataSerializableCodecGenerator generator) {
+		configuredDefault = generator;
+	}
+
+	/**
+	 * Constructs a new instance of {@link AsmDataSerializableCodecGenerator} resolving entity metadata
+	 * from the given {@link GemfireMappingContext}.
+	 *
+	 * @param mappingContext {@link GemfireMappingContext} used to resolve entity metadata; must not be {@literal null}.
+	 */
+	public AsmDataSerializableCodecGenerator(GemfireMappingContext mappingContext) {
+		Assert.notNull(mappingContext, "GemfireMappingContext must not be null");
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Returns the {@link GemfireMappingContext} used to resolve entity metadata.
+	 *
+	 * @return the {@link GemfireMappingContext} used to resolve entity metadata.
+	 */
+	public GemfireMappingContext getMappingContext() {
+		return this.mappingContext;
+	}
+
+	/**
+	 * Returns the {@link AbstractGeneratedDataSerializableCodec} for the given entity type, generating the codec
+	 * on first use.
+	 *
+	 * @param entityType {@link Class} type of the entity; must not be {@literal null}.
+	 * @return the {@link AbstractGeneratedDataSerializableCodec} for the given entity type.
+	 * @throws IllegalArgumentException if a codec cannot be generated for the given entity type.
+	 * @see #generate(GemfirePersistentEntity)
+	 */
+	public AbstractGeneratedDataSerializableCodec getCodec(Class<?> entityType) {
+		Assert.notNull(entityType, "Entity type must not be null");
+
+		AbstractGeneratedDataSerializableCodec codec = this.codecs.get(entityType);
+
+		return (codec != null ? codec : this.codecs.computeIfAbsent(entityType, type -> generate(
+			this.mappingContext.getPersistentEntity(type).orElseThrow(() -> newIllegalArgumentException(
+				"Unable to resolve PersistentEntity for type [%s]", type.getName())))));
+	}
+
+	/**
+	 * Generates and returns a new instance of an {@link AbstractGeneratedDataSerializableCodec} specialized for
+	 * the given entity.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} to (de)serialize; must not be {@literal null}.
+	 * @return a new {@link AbstractGeneratedDataSerializableCodec} for the given entity.
+	 * @throws IllegalArgumentException if the entity type is not public or any persistent property of the entity
+	 * cannot be read and written with public accessor methods or public fields.
+	 */
+	public AbstractGeneratedDataSerializableCodec generate(GemfirePersistentEntity<?> entity) {
+
+		Assert.notNull(entity, "GemfirePersistentEntity must not be null");
+
+		Class<?> codecClass = createCodecClass(entity, resolveProperties(entity));
+
+		try {
+			return (AbstractGeneratedDataSerializableCodec) codecClass
+				.getConstructor(GemfirePersistentEntity.class).newInstance(entity);
+		}
+		catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(String.format("Failed to instantiate generated codec [%s]",
+				codecClass.getName()), e);
+		}
+	}
+
+	/* (non-Javadoc) */
+	Class<?> createCodecClass(GemfirePersistentEntity<?> entity, List<PropertyMetadata> properties) {
+		Class<?> entityType = entity.getType();
+
+		String className = PKG + entityType.getSimpleName() + CLASS_LABEL + counter.getAndIncrement();
+
+		byte[] bytecode = generateClassBytecode(className, entityType, properties);
+
+		BytecodeClassLoader classLoader = AccessController.doPrivileged(
+			(PrivilegedAction<BytecodeClassLoader>) () -> new BytecodeClassLoader(entityType.getClassLoader()));
+
+		// translate internal name to binary form
+		return classLoader.loadClass(className.replace('/', '.'), bytecode);
+	}
+
+	/* (non-Javadoc) */
+	byte[] generateClassBytecode(String className, Class<?> entityType, List<PropertyMetadata> properties) {
+
+		String entityTypeName = Type.getInternalName(entityType);
+
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+
+		cw.visit(V1_8, ACC_PUBLIC + ACC_SUPER + ACC_SYNTHETIC, className, null, BASE_CLASS_NAME, null);
+
+		// constructor
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, INIT, CONSTRUCTOR_DESCRIPTOR, null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitMethodInsn(INVOKESPECIAL, BASE_CLASS_NAME, INIT, CONSTRUCTOR_DESCRIPTOR, false);
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		// toData(:Object, :DataOutput)
+		mv = cw.visitMethod(ACC_PUBLIC, TO_DATA, TO_DATA_DESCRIPTOR, null, TO_DATA_EXCEPTIONS);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitTypeInsn(CHECKCAST, entityTypeName);
+		mv.visitVarInsn(ASTORE, 3);
+
+		for (PropertyMetadata property : properties) {
+			if (property.primitiveDataType != null) {
+				mv.visitVarInsn(ALOAD, 2);
+				mv.visitVarInsn(ALOAD, 3);
+				property.visitGet(mv, entityTypeName);
+				mv.visitMethodInsn(INVOKEINTERFACE, DATA_OUTPUT_NAME, "write" + property.primitiveDataType,
+					Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(property.writeType())), true);
+			}
+			else {
+				mv.visitVarInsn(ALOAD, 3);
+				property.visitGet(mv, entityTypeName);
+				mv.visitVarInsn(ALOAD, 2);
+
+				if (String.class.equals(property.type)) {
+					mv.visitMethodInsn(INVOKESTATIC, DATA_SERIALIZER_NAME, "writeString", WRITE_STRING_DESCRIPTOR,
+						false);
+				}
+				else {
+					mv.visitMethodInsn(INVOKESTATIC, DATA_SERIALIZER_NAME, "writeObject", WRITE_OBJECT_DESCRIPTOR,
+						false);
+				}
+			}
+		}
+
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		// fromData(:Object, :DataInput)
+		mv = cw.visitMethod(ACC_PUBLIC, FROM_DATA, FROM_DATA_DESCRIPTOR, null, FROM_DATA_EXCEPTIONS);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitTypeInsn(CHECKCAST, entityTypeName);
+		mv.visitVarInsn(ASTORE, 3);
+
+		for (PropertyMetadata property : properties) {
+			mv.visitVarInsn(ALOAD, 3);
+			mv.visitVarInsn(ALOAD, 2);
+
+			if (property.primitiveDataType != null) {
+				mv.visitMethodInsn(INVOKEINTERFACE, DATA_INPUT_NAME, "read" + property.primitiveDataType,
+					Type.getMethodDescriptor(Type.getType(property.type)), true);
+			}
+			else if (String.class.equals(property.type)) {
+				mv.visitMethodInsn(INVOKESTATIC, DATA_SERIALIZER_NAME, "readString", READ_STRING_DESCRIPTOR, false);
+			}
+			else {
+				mv.visitMethodInsn(INVOKESTATIC, DATA_SERIALIZER_NAME, "readObject", READ_OBJECT_DESCRIPTOR, false);
+
+				if (!Object.class.equals(property.type)) {
+					mv.visitTypeInsn(CHECKCAST, Type.getInternalName(property.type));
+				}
+			}
+
+			property.visitSet(mv, entityTypeName);
+		}
+
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		// end class generation
+		cw.visitEnd();
+
+		return cw.toByteArray();
+	}
+
+	/**
+	 * Resolves the {@link PropertyMetadata} of each persistent property of the given entity, ordered by
+	 * property name so that the serialized form does not depend on the order in which the JVM reports
+	 * the declared fields and methods of the entity type.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} to evaluate.
+	 * @return a {@link List} of {@link PropertyMetadata} for each persistent property of the entity.
+	 * @throws IllegalArgumentException if the entity or any of its persistent properties cannot be accessed
+	 * by the generated codec.
+	 */
+	List<PropertyMetadata> resolveProperties(GemfirePersistentEntity<?> entity) {
+		Class<?> entityType = entity.getType();
+
+		Assert.isTrue(Modifier.isPublic(entityType.getModifiers()),
+			String.format("Entity type [%s] must be public", entityType.getName()));
+
+		List<PropertyMetadata> properties = new ArrayList<>();
+
+		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty ->
+			properties.add(new PropertyMetadata(entityType, persistentProperty.getName(),
+				persistentProperty.getType())));
+
+		properties.sort(Comparator.comparing(property -> property.name));
+
+		return properties;
+	}
+
+	/**
+	 * Metadata describing how the generated codec reads, writes and accesses a single persistent property
+	 * of the entity.
+	 */
+	static final class PropertyMetadata {
+
+		private final Class<?> type;
+
+		private final Member getter;
+		private final Member setter;
+
+		private final String name;
+		private final String primitiveDataType;
+
+		PropertyMetadata(Class<?> entityType, String name, Class<?> type) {
+
+			Assert.isTrue(AsmPdxSerializerGenerator.isPublic(type), String.format(
+				"Type [%1$s] of property [%2$s] must be public", type.getName(), name));
+
+			PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(entityType, name);
+			Field field = ReflectionUtils.findField(entityType, name);
+
+			this.name = name;
+			this.type = type;
+			this.primitiveDataType = PRIMITIVE_DATA_TYPES.get(type);
+			this.getter = resolveGetter(descriptor, field);
+			this.setter = resolveSetter(descriptor, field);
+
+			Assert.isTrue(this.getter != null, String.format(
+				"Property [%s] must declare a public getter or be a public field", name));
+
+			Assert.isTrue(this.setter != null, String.format(
+				"Property [%s] must declare a public setter or be a public, non-final field", name));
+		}
+
+		/* (non-Javadoc) */
+		private Member resolveGetter(PropertyDescriptor descriptor, Field field) {
+			Method readMethod = (descriptor != null ? descriptor.getReadMethod() : null);
+
+			return (AsmPdxSerializerGenerator.isPublic(readMethod) && this.type.equals(readMethod.getReturnType())
+				? readMethod : (AsmPdxSerializerGenerator.isPublic(field) && this.type.equals(field.getType())
+					? field : null));
+		}
+
+		/* (non-Javadoc) */
+		private Member resolveSetter(PropertyDescriptor descriptor, Field field) {
+			Method writeMethod = (descriptor != null ? descriptor.getWriteMethod() : null);
+
+			return (AsmPdxSerializerGenerator.isPublic(writeMethod)
+				&& this.type.equals(writeMethod.getParameterTypes()[0]) ? writeMethod
+					: (AsmPdxSerializerGenerator.isPublic(field) && !Modifier.isFinal(field.getModifiers())
+						&& this.type.equals(field.getType()) ? field : null));
+		}
+
+		/* (non-Javadoc) */
+		Class<?> writeType() {
+			// DataOutput.writeByte(int), writeChar(int) and writeShort(int) accept int values
+			return (byte.class.equals(this.type) || char.class.equals(this.type) || short.class.equals(this.type)
+				? int.class : this.type);
+		}
+
+		/* (non-Javadoc) */
+		void visitGet(MethodVisitor mv, String entityTypeName) {
+			if (this.getter instanceof Method) {
+				Method method = (Method) this.getter;
+				mv.visitMethodInsn(INVOKEVIRTUAL, entityTypeName, method.getName(), Type.getMethodDescriptor(method),
+					false);
+			}
+			else {
+				Field field = (Field) this.getter;
+				mv.visitFieldInsn(GETFIELD, entityTypeName, field.getName(), Type.getDescriptor(field.getType()));
+			}
+		}
+
+		/* (non-Javadoc) */
+		void visitSet(MethodVisitor mv, String entityTypeName) {
+			if (this.setter instanceof Method) {
+				Method method = (Method) this.setter;
+				Class<?> returnType = method.getReturnType();
+
+				mv.visitMethodInsn(INVOKEVIRTUAL, entityTypeName, method.getName(), Type.getMethodDescriptor(method),
+					false);
+
+				if (!Void.TYPE.equals(returnType)) {
+					mv.visitInsn(Type.getType(returnType).getSize() == 2 ? POP2 : POP);
+				}
+			}
+			else {
+				Field field = (Field) this.setter;
+				mv.visitFieldInsn(PUTFIELD, entityTypeName, field.getName(), Type.getDescriptor(field.getType()));
+			}
+		}
+	}
+}
@@ -0,0 +1,496 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxWriter;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * ASM based generator of {@link org.apache.geode.pdx.PdxSerializer PdxSerializers} specialized for a single
+ * {@link GemfirePersistentEntity}.
+ *
+ * The generated {@link org.apache.geode.pdx.PdxSerializer} reads and writes each persistent property of the entity
+ * by invoking the entity's public accessors, or public fields, directly along with the typed {@link PdxReader}
+ * and {@link PdxWriter} method that {@link PdxWriter#writeField(String, Object, Class)} would select for the type
+ * of the property (e.g. {@link PdxWriter#writeLong(String, long)}), avoiding reflection and boxing of primitive
+ * property values.  Therefore, the generated {@link org.apache.geode.pdx.PdxSerializer} writes the same PDX type
+ * as {@link MappingPdxSerializer}.
+ *
+ * The generated class has the following definition:
+ *
+ * <pre>
+ * public class <i>T</i>PdxSerializer$Synthetic<i>Counter</i> extends AbstractGeneratedPdxSerializer {
+ *
+ *  public boolean toData(Object value, PdxWriter writer) {
+ *    <i>T</i> entity = (<i>T</i>) value;
+ *    writer.writeLong("id", entity.getId());
+ *    writer.writeString("name", entity.getName());
+ *    writer.writeObject("address", entity.getAddress());
+ *    writer.markIdentityField("id");
+ *    return true;
+ *  }
+ *
+ *  public Object fromData(Class type, PdxReader reader) {
+ *    <i>T</i> entity = (<i>T</i>) newInstance(reader);
+ *    entity.setName(reader.readString("name"));
+ *    entity.setAddress((Address) convert(reader.readObject("address"), Address.class));
+ *    return entity;
+ *  }
+ * }
+ * </pre>
+ *
+ * @author John Blum
+ * @see org.springframework.asm.ClassWriter
+ * @see org.springframework.data.gemfire.mapping.AbstractGeneratedPdxSerializer
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @see org.springframework.data.gemfire.serialization.AsmInstantiatorGenerator
+ * @since 2.0.0
+ */
+public class AsmPdxSerializerGenerator implements Opcodes {
+
+	private static final String PKG = "org/springframework/data/gemfire/mapping/";
+	private static final String CLASS_LABEL = "PdxSerializer$Synthetic";
+
+	private static final String INIT = "<init>";
+	private static final String CONVERT = "convert";
+	private static final String FROM_DATA = "fromData";
+	private static final String MARK_IDENTITY_FIELD = "markIdentityField";
+	private static final String NEW_INSTANCE = "newInstance";
+	private static final String TO_DATA = "toData";
+
+	private static final String OBJECT_FIELD_TYPE = "Object";
+	private static final String OBJECT_ARRAY_FIELD_TYPE = "ObjectArray";
+
+	private static final String BASE_CLASS_NAME = Type.getInternalName(AbstractGeneratedPdxSerializer.class);
+	private static final String PDX_READER_NAME = Type.getInternalName(PdxReader.class);
+	private static final String PDX_WRITER_NAME = Type.getInternalName(PdxWriter.class);
+
+	private static final Type OBJECT_TYPE = Type.getType(Object.class);
+	private static final Type PDX_READER_TYPE = Type.getType(PdxReader.class);
+	private static final Type PDX_WRITER_TYPE = Type.getType(PdxWriter.class);
+	private static final Type STRING_TYPE = Type.getType(String.class);
+
+	private static final String CONSTRUCTOR_DESCRIPTOR = Type.getMethodDescriptor(Type.VOID_TYPE,
+		Type.getType(GemfirePersistentEntity.class), Type.getType(EntityInstantiator.class),
+		Type.getType(ConversionService.class));
+
+	private static final String CONVERT_DESCRIPTOR =
+		Type.getMethodDescriptor(OBJECT_TYPE, OBJECT_TYPE, Type.getType(Class.class));
+
+	private static final String FROM_DATA_DESCRIPTOR =
+		Type.getMethodDescriptor(OBJECT_TYPE, Type.getType(Class.class), PDX_READER_TYPE);
+
+	private static final String MARK_IDENTITY_FIELD_DESCRIPTOR = Type.getMethodDescriptor(PDX_WRITER_TYPE, STRING_TYPE);
+
+	private static final String NEW_INSTANCE_DESCRIPTOR = Type.getMethodDescriptor(OBJECT_TYPE, PDX_READER_TYPE);
+
+	private static final String TO_DATA_DESCRIPTOR =
+		Type.getMethodDescriptor(Type.BOOLEAN_TYPE, OBJECT_TYPE, PDX_WRITER_TYPE);
+
+	// PDX field types of property types as selected by PdxWriter.writeField(String, Object, Class)
+	private static final Map<Class<?>, String> PDX_FIELD_TYPES = new HashMap<>();
+
+	static {
+		PDX_FIELD_TYPES.put(boolean.class, "Boolean");
+		PDX_FIELD_TYPES.put(byte.class, "Byte");
+		PDX_FIELD_TYPES.put(char.class, "Char");
+		PDX_FIELD_TYPES.put(short.class, "Short");
+		PDX_FIELD_TYPES.put(int.class, "Int");
+		PDX_FIELD_TYPES.put(long.class, "Long");
+		PDX_FIELD_TYPES.put(float.class, "Float");
+		PDX_FIELD_TYPES.put(double.class, "Double");
+		PDX_FIELD_TYPES.put(String.class, "String");
+		PDX_FIELD_TYPES.put(Date.class, "Date");
+		PDX_FIELD_TYPES.put(boolean[].class, "BooleanArray");
+		PDX_FIELD_TYPES.put(byte[].class, "ByteArray");
+		PDX_FIELD_TYPES.put(char[].class, "CharArray");
+		PDX_FIELD_TYPES.put(short[].class, "ShortArray");
+		PDX_FIELD_TYPES.put(int[].class, "IntArray");
+		PDX_FIELD_TYPES.put(long[].class, "LongArray");
+		PDX_FIELD_TYPES.put(float[].class, "FloatArray");
+		PDX_FIELD_TYPES.put(double[].class, "DoubleArray");
+		PDX_FIELD_TYPES.put(String[].class, "StringArray");
+		PDX_FIELD_TYPES.put(byte[][].class, "ArrayOfByteArrays");
+	}
+
+	// generated class counter
+	private static final AtomicLong counter = new AtomicLong(1);
+
+	private static final class BytecodeClassLoader extends ClassLoader {
+
+		BytecodeClassLoader(ClassLoader parent) {
+			super(parent);
+		}
+
+		Class<?> loadClass(String name, byte[] bytecode) {
+			return defineClass(name, bytecode, 0, bytecode.length);
+		}
+	}
+
+	/**
+	 * Determines whether a {@link org.apache.geode.pdx.PdxSerializer} can be generated for the given entity.
+	 *
+	 * A {@link org.apache.geode.pdx.PdxSerializer} can be generated if the entity type and the types of all its
+	 * persistent properties are public, and all persistent properties can be read, and unless passed to
+	 * the constructor, written using either public accessor methods or public fields.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} to evaluate.
+	 * @return a boolean value indicating whether a {@link org.apache.geode.pdx.PdxSerializer} can be generated
+	 * for the given entity.
+	 */
+	public boolean canGenerate(GemfirePersistentEntity<?> entity) {
+		try {
+			resolveProperties(entity);
+			return true;
+		}
+		catch (IllegalArgumentException ignore) {
+			return false;
+		}
+	}
+
+	/**
+	 * Generates and returns a new instance of a {@link org.apache.geode.pdx.PdxSerializer} specialized for
+	 * the given entity.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} to (de)serialize; must not be {@literal null}.
+	 * @param instantiator {@link EntityInstantiator} used to create instances of the entity;
+	 * must not be {@literal null}.
+	 * @param conversionService {@link ConversionService} used to convert values read from PDX to the property type;
+	 * must not be {@literal null}.
+	 * @return a new {@link AbstractGeneratedPdxSerializer} for the given entity.
+	 * @throws IllegalArgumentException if a {@link org.apache.geode.pdx.PdxSerializer} cannot be generated for
+	 * the given entity.
+	 * @see #canGenerate(GemfirePersistentEntity)
+	 */
+	public AbstractGeneratedPdxSerializer generate(GemfirePersistentEntity<?> entity, EntityInstantiator instantiator,
+			ConversionService conversionService) {
+
+		Assert.notNull(entity, "GemfirePersistentEntity must not be null");
+
+		Class<?> serializerClass = createPdxSerializerClass(entity, resolveProperties(entity));
+
+		try {
+			return (AbstractGeneratedPdxSerializer) serializerClass
+				.getConstructor(GemfirePersistentEntity.class, EntityInstantiator.class, ConversionService.class)
+				.newInstance(entity, instantiator, conversionService);
+		}
+		catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(String.format("Failed to instantiate generated PdxSerializer [%s]",
+				serializerClass.getName()), e);
+		}
+	}
+
+	/* (non-Javadoc) */
+	Class<?> createPdxSerializerClass(GemfirePersistentEntity<?> entity, List<PropertyMetadata> properties) {
+		Class<?> entityType = entity.getType();
+
+		String className = PKG + entityType.getSimpleName() + CLASS_LABEL + counter.getAndIncrement();
+
+		String idPropertyName = entity.getIdProperty().map(GemfirePersistentProperty::getName).orElse(null);
+
+		byte[] bytecode = generateClassBytecode(className, entityType, properties, idPropertyName);
+
+		BytecodeClassLoader classLoader = AccessController.doPrivileged(
+			(PrivilegedAction<BytecodeClassLoader>) () -> new BytecodeClassLoader(entityType.getClassLoader()));
+
+		// translate internal name to binary form
+		return classLoader.loadClass(className.replace('/', '.'), bytecode);
+	}
+
+	/* (non-Javadoc) */
+	byte[] generateClassBytecode(String className, Class<?> entityType, List<PropertyMetadata> properties,
+			String idPropertyName) {
+
+		String entityTypeName = Type.getInternalName(entityType);
+
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+
+		cw.visit(V1_8, ACC_PUBLIC + ACC_SUPER + ACC_SYNTHETIC, className, null, BASE_CLASS_NAME, null);
+
+		// constructor
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, INIT, CONSTRUCTOR_DESCRIPTOR, null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitVarInsn(ALOAD, 2);
+		mv.visitVarInsn(ALOAD, 3);
+		mv.visitMethodInsn(INVOKESPECIAL, BASE_CLASS_NAME, INIT, CONSTRUCTOR_DESCRIPTOR, false);
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		// toData(:Object, :PdxWriter)
+		mv = cw.visitMethod(ACC_PUBLIC, TO_DATA, TO_DATA_DESCRIPTOR, null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitTypeInsn(CHECKCAST, entityTypeName);
+		mv.visitVarInsn(ASTORE, 3);
+
+		for (PropertyMetadata property : properties) {
+			mv.visitVarInsn(ALOAD, 2);
+			mv.visitLdcInsn(property.name);
+			mv.visitVarInsn(ALOAD, 3);
+			property.visitGet(mv, entityTypeName);
+			mv.visitMethodInsn(INVOKEINTERFACE, PDX_WRITER_NAME, "write" + property.pdxFieldType,
+				Type.getMethodDescriptor(PDX_WRITER_TYPE, STRING_TYPE, Type.getType(property.pdxValueType)), true);
+			mv.visitInsn(POP);
+		}
+
+		if (idPropertyName != null) {
+			mv.visitVarInsn(ALOAD, 2);
+			mv.visitLdcInsn(idPropertyName);
+			mv.visitMethodInsn(INVOKEINTERFACE, PDX_WRITER_NAME, MARK_IDENTITY_FIELD, MARK_IDENTITY_FIELD_DESCRIPTOR,
+				true);
+			mv.visitInsn(POP);
+		}
+
+		mv.visitInsn(ICONST_1);
+		mv.visitInsn(IRETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		// fromData(:Class, :PdxReader)
+		mv = cw.visitMethod(ACC_PUBLIC, FROM_DATA, FROM_DATA_DESCRIPTOR, null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ALOAD, 2);
+		mv.visitMethodInsn(INVOKEVIRTUAL, className, NEW_INSTANCE, NEW_INSTANCE_DESCRIPTOR, false);
+		mv.visitTypeInsn(CHECKCAST, entityTypeName);
+		mv.visitVarInsn(ASTORE, 3);
+
+		for (PropertyMetadata property : properties) {
+			if (property.setter != null) {
+				mv.visitVarInsn(ALOAD, 3);
+
+				if (property.requiresConversion()) {
+					mv.visitVarInsn(ALOAD, 0);
+				}
+
+				mv.visitVarInsn(ALOAD, 2);
+				mv.visitLdcInsn(property.name);
+				mv.visitMethodInsn(INVOKEINTERFACE, PDX_READER_NAME, "read" + property.pdxFieldType,
+					Type.getMethodDescriptor(Type.getType(property.pdxValueType), STRING_TYPE), true);
+
+				if (property.requiresConversion()) {
+					mv.visitLdcInsn(Type.getType(property.type));
+					mv.visitMethodInsn(INVOKEVIRTUAL, className, CONVERT, CONVERT_DESCRIPTOR, false);
+					mv.visitTypeInsn(CHECKCAST, Type.getInternalName(property.type));
+				}
+
+				property.visitSet(mv, entityTypeName);
+			}
+		}
+
+		mv.visitVarInsn(ALOAD, 3);
+		mv.visitInsn(ARETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		// end class generation
+		cw.visitEnd();
+
+		return cw.toByteArray();
+	}
+
+	/**
+	 * Resolves the {@link PropertyMetadata} of each persistent property of the given entity in the order
+	 * the properties are serialized by {@link MappingPdxSerializer}.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} to evaluate.
+	 * @return a {@link List} of {@link PropertyMetadata} for each persistent property of the entity.
+	 * @throws IllegalArgumentException if the entity or any of its persistent properties cannot be accessed
+	 * by the generated {@link org.apache.geode.pdx.PdxSerializer}.
+	 */
+	List<PropertyMetadata> resolveProperties(GemfirePersistentEntity<?> entity) {
+		Class<?> entityType = entity.getType();
+
+		Assert.isTrue(isPublic(entityType), String.format("Entity type [%s] must be public", entityType.getName()));
+
+		List<PropertyMetadata> properties = new ArrayList<>();
+
+		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+			Assert.isTrue(!persistentProperty.isCompressed(), String.format(
+				"Compressed property [%1$s] of entity type [%2$s] is not supported", persistentProperty.getName(),
+					entityType.getName()));
+
+			properties.add(new PropertyMetadata(entityType, persistentProperty.getName(), persistentProperty.getType(),
+				entity.isConstructorArgument(persistentProperty)));
+		});
+
+		return properties;
+	}
+
+	/* (non-Javadoc) */
+	static boolean isPublic(Class<?> type) {
+		Class<?> resolvedType = type;
+
+		while (resolvedType.isArray()) {
+			resolvedType = resolvedType.getComponentType();
+		}
+
+		return (resolvedType.isPrimitive() || Modifier.isPublic(resolvedType.getModifiers()));
+	}
+
+	/* (non-Javadoc) */
+	static boolean isPublic(Member member) {
+		return (member != null && Modifier.isPublic(member.getModifiers())
+			&& Modifier.isPublic(member.getDeclaringClass().getModifiers()) && !Modifier.isStatic(member.getModifiers()));
+	}
+
+	/**
+	 * Metadata describing how the generated {@link org.apache.geode.pdx.PdxSerializer} reads, writes and accesses
+	 * a single persistent property of the entity.
+	 */
+	static final class PropertyMetadata {
+
+		private final Class<?> type;
+		private final Class<?> pdxValueType;
+
+		private final Member getter;
+		private final Member setter;
+
+		private final String name;
+		private final String pdxFieldType;
+
+		PropertyMetadata(Class<?> entityType, String name, Class<?> type, boolean constructorArgument) {
+
+			Assert.isTrue(isPublic(type), String.format("Type [%1$s] of property [%2$s] must be public",
+				type.getName(), name));
+
+			PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(entityType, name);
+			Field field = ReflectionUtils.findField(entityType, name);
+
+			this.name = name;
+			this.type = type;
+			this.pdxFieldType = PDX_FIELD_TYPES.getOrDefault(type,
+				(type.isArray() ? OBJECT_ARRAY_FIELD_TYPE : OBJECT_FIELD_TYPE));
+			this.pdxValueType = (PDX_FIELD_TYPES.containsKey(type) ? type
+				: (type.isArray() ? Object[].class : Object.class));
+
+			this.getter = resolveGetter(descriptor, field);
+			this.setter = (constructorArgument ? null : resolveSetter(descriptor, field));
+
+			Assert.isTrue(this.getter != null, String.format("Property [%s] must declare a public getter or be a public field",
+				name));
+
+			Assert.isTrue(constructorArgument || this.setter != null, String.format(
+				"Property [%s] must declare a public setter or be a public, non-final field", name));
+		}
+
+		/* (non-Javadoc) */
+		private Member resolveGetter(PropertyDescriptor descriptor, Field field) {
+			Method readMethod = (descriptor != null ? descriptor.getReadMethod() : null);
+
+			return (isPublic(readMethod) && isAssignable(readMethod.getReturnType(), this.type) ? readMethod
+				: (isPublic(field) && isAssignable(field.getType(), this.type) ? field : null));
+		}
+
+		/* (non-Javadoc) */
+		private Member resolveSetter(PropertyDescriptor descriptor, Field field) {
+			Method writeMethod = (descriptor != null ? descriptor.getWriteMethod() : null);
+
+			return (isPublic(writeMethod) && isWritable(writeMethod.getParameterTypes()[0]) ? writeMethod
+				: (isPublic(field) && !Modifier.isFinal(field.getModifiers()) && isWritable(field.getType())
+					? field : null));
+		}
+
+		/* (non-Javadoc) */
+		private boolean isAssignable(Class<?> from, Class<?> to) {
+			return (from.isPrimitive() || to.isPrimitive() ? from.equals(to) : to.isAssignableFrom(from)
+				|| from.isAssignableFrom(to));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * A value of the property type is passed to the setter, or stored in the field, without a CHECKCAST,
+		 * so the member type must accept any value of the property type.
+		 */
+		private boolean isWritable(Class<?> memberType) {
+			return (memberType.isPrimitive() || this.type.isPrimitive() ? memberType.equals(this.type)
+				: memberType.isAssignableFrom(this.type));
+		}
+
+		/* (non-Javadoc) */
+		boolean requiresConversion() {
+			return !this.pdxValueType.equals(this.type);
+		}
+
+		/* (non-Javadoc) */
+		void visitGet(MethodVisitor mv, String entityTypeName) {
+			Class<?> memberType;
+
+			if (this.getter instanceof Method) {
+				Method method = (Method) this.getter;
+				memberType = method.getReturnType();
+				mv.visitMethodInsn(INVOKEVIRTUAL, entityTypeName, method.getName(), Type.getMethodDescriptor(method),
+					false);
+			}
+			else {
+				Field field = (Field) this.getter;
+				memberType = field.getType();
+				mv.visitFieldInsn(GETFIELD, entityTypeName, field.getName(), Type.getDescriptor(memberType));
+			}
+
+			if (!this.pdxValueType.isAssignableFrom(memberType)) {
+				mv.visitTypeInsn(CHECKCAST, Type.getInternalName(this.pdxValueType));
+			}
+		}
+
+		/* (non-Javadoc) */
+		void visitSet(MethodVisitor mv, String entityTypeName) {
+			if (this.setter instanceof Method) {
+				Method method = (Method) this.setter;
+				Class<?> returnType = method.getReturnType();
+
+				mv.visitMethodInsn(INVOKEVIRTUAL, entityTypeName, method.getName(), Type.getMethodDescriptor(method),
+					false);
+
+				if (!Void.TYPE.equals(returnType)) {
+					mv.visitInsn(Type.getType(returnType).getSize() == 2 ? POP2 : POP);
+				}
+			}
+			else {
+				Field field = (Field) this.setter;
+				mv.visitFieldInsn(PUTFIELD, entityTypeName, field.getName(), Type.getDescriptor(field.getType()));
+			}
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.geode.compression.CompressionException;
+import org.apache.geode.compression.Compressor;
+
+/**
+ * {@link Compressor} implementation using the JDK {@link Deflater} and {@link Inflater}.
+ *
+ * @author John Blum
+ * @see java.util.zip.Deflater
+ * @see java.util.zip.Inflater
+ * @see org.apache.geode.compression.Compressor
+ * @see org.springframework.data.gemfire.mapping.annotation.Compressed
+ * @since 2.0.0
+ */
+public class DeflaterCompressor implements Compressor {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final int level;
+
+	/**
+	 * Constructs a new instance of {@link DeflaterCompressor} using the {@link Deflater#DEFAULT_COMPRESSION} level.
+	 */
+	public DeflaterCompressor() {
+		this(Deflater.DEFAULT_COMPRESSION);
+	}
+
+	/**
+	 * Constructs a new instance of {@link DeflaterCompressor} using the given compression level.
+	 *
+	 * @param level {@link Deflater} compression level, from {@literal 0} to {@literal 9},
+	 * or {@link Deflater#DEFAULT_COMPRESSION}.
+	 * @see java.util.zip.Deflater#setLevel(int)
+	 */
+	public DeflaterCompressor(int level) {
+		this.level = level;
+	}
+
+	/**
+	 * Returns the {@link Deflater} compression level.
+	 *
+	 * @return the {@link Deflater} compression level.
+	 */
+	public int getLevel() {
+		return this.level;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.geode.compression.Compressor#compress(byte[])
+	 */
+	@Override
+	public byte[] compress(byte[] input) {
+		Deflater deflater = new Deflater(getLevel());
+
+		try {
+			deflater.setInput(input);
+			deflater.finish();
+
+			ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(input.length / 4, 64));
+			byte[] buffer = new byte[BUFFER_SIZE];
+
+			while (!deflater.finished()) {
+				output.write(buffer, 0, deflater.deflate(buffer));
+			}
+
+			return output.toByteArray();
+		}
+		finally {
+			deflater.end();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.geode.compression.Compressor#decompress(byte[])
+	 */
+	@Override
+	public byte[] decompress(byte[] input) {
+		Inflater inflater = new Inflater();
+
+		try {
+			inflater.setInput(input);
+
+			ByteArrayOutputStream output = new ByteArrayOutputStream(input.length * 4);
+			byte[] buffer = new byte[BUFFER_SIZE];
+
+			while (!inflater.finished()) {
+				int length = inflater.inflate(buffer);
+
+				if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new CompressionException("Compressed data is truncated");
+				}
+
+				output.write(buffer, 0, length);
+			}
+
+			return output.toByteArray();
+		}
+		catch (DataFormatException e) {
+			throw new CompressionException("Failed to decompress data", e);
+		}
+		finally {
+			inflater.end();
+		}
+	}
+}
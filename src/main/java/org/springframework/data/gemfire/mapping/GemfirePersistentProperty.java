@@ -21,6 +21,7 @@ import static org.springframework.data.gemfire.util.CollectionUtils.*;
 import java.util.Set;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.mapping.annotation.Compressed;
 import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
@@ -37,6 +38,7 @@ public class GemfirePersistentProperty extends AnnotationBasedPersistentProperty
 
 	protected static final Set<String> SUPPORTED_IDENTIFIER_NAMES = asSet("id");
 
+	private final PropertyCompression compression;
 
 	/**
 	 * Constructs an instance of {@link GemfirePersistentProperty} initialized with entity persistent property
@@ -54,6 +56,7 @@ public class GemfirePersistentProperty extends AnnotationBasedPersistentProperty
 	public GemfirePersistentProperty(Property property, PersistentEntity<?, GemfirePersistentProperty> owner,
 			SimpleTypeHolder simpleTypeHolder) {
 		super(property, owner, simpleTypeHolder);
+		this.compression = findAnnotation(Compressed.class).map(PropertyCompression::from).orElse(null);
 	}
 
 	/**
@@ -64,6 +67,27 @@ public class GemfirePersistentProperty extends AnnotationBasedPersistentProperty
 		return new Association<>(this, null);
 	}
 
+	/**
+	 * Determines whether the value of this {@link GemfirePersistentProperty} is compressed when the entity
+	 * is serialized to PDX.
+	 *
+	 * @return a boolean value indicating whether the value of this {@link GemfirePersistentProperty} is compressed.
+	 * @see org.springframework.data.gemfire.mapping.annotation.Compressed
+	 */
+	public boolean isCompressed() {
+		return (this.compression != null);
+	}
+
+	/**
+	 * Returns the {@link PropertyCompression} used to encode the value of this {@link GemfirePersistentProperty},
+	 * or {@literal null} if the property is not {@link Compressed}.
+	 *
+	 * @return the {@link PropertyCompression} of this {@link GemfirePersistentProperty}, or {@literal null}.
+	 */
+	PropertyCompression getCompression() {
+		return this.compression;
+	}
+
 	/**
 	 * Determines whether this {@link GemfirePersistentProperty} explicitly identifies an entity property identifier,
 	 * one in which the user explicitly annotated a entity class member (field or getter/setter).
@@ -50,6 +50,8 @@ class GemfirePropertyValueProvider implements PropertyValueProvider<GemfirePersi
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> Optional<T> getPropertyValue(GemfirePersistentProperty property) {
-		return Optional.ofNullable((T) reader.readField(property.getName()));
+		return Optional.ofNullable((T) (property.isCompressed()
+			? property.getCompression().decode(reader.readByteArray(property.getName()), property.getType())
+			: reader.readField(property.getName())));
 	}
 }
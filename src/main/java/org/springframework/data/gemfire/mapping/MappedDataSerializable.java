@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.geode.DataSerializable;
+
+/**
+ * {@link DataSerializable} extension implemented by entities that are (de)serialized with {@literal toData/fromData}
+ * methods generated from the entity's {@link GemfirePersistentEntity} metadata rather than hand-written.
+ *
+ * {@link #toData(DataOutput)} and {@link #fromData(DataInput)} delegate to the
+ * {@link AbstractGeneratedDataSerializableCodec} generated for the entity type by
+ * {@link AsmDataSerializableCodecGenerator#getDefault()}, which writes and reads each persistent property
+ * with the entity's public accessors, or public fields, in a fixed order.  The generator is configured with
+ * the application's {@link GemfireMappingContext} by
+ * {@link org.springframework.data.gemfire.serialization.InstantiatorFactoryBean}.
+ *
+ * Entities should be annotated with {@link org.springframework.data.gemfire.mapping.annotation.DataSerializableEntity}
+ * and registered with {@link org.springframework.data.gemfire.serialization.InstantiatorFactoryBean}, which generates
+ * the entity's {@link org.apache.geode.Instantiator}.  Since a {@link org.apache.geode.pdx.PdxSerializer} configured
+ * on the cache takes precedence over {@link DataSerializable}, {@link MappingPdxSerializer} does not serialize
+ * {@link MappedDataSerializable} entities.
+ *
+ * <pre>
+ * &#64;DataSerializableEntity(classId = 1001)
+ * public class Point implements MappedDataSerializable {
+ *
+ *   private int x;
+ *   private int y;
+ *
+ *   // public no-arg constructor, getters and setters
+ * }
+ * </pre>
+ *
+ * @author John Blum
+ * @see org.apache.geode.DataSerializable
+ * @see org.springframework.data.gemfire.mapping.AsmDataSerializableCodecGenerator
+ * @see org.springframework.data.gemfire.mapping.annotation.DataSerializableEntity
+ * @since 2.0.0
+ */
+public interface MappedDataSerializable extends DataSerializable {
+
+	/**
+	 * Writes the persistent properties of this entity to the given {@link DataOutput}.
+	 *
+	 * @param out {@link DataOutput} to which the persistent properties are written.
+	 * @throws IOException if the persistent properties could not be written.
+	 */
+	@Override
+	default void toData(DataOutput out) throws IOException {
+		AsmDataSerializableCodecGenerator.getDefault().getCodec(getClass()).toData(this, out);
+	}
+
+	/**
+	 * Reads the persistent properties of this entity from the given {@link DataInput}.
+	 *
+	 * @param in {@link DataInput} from which the persistent properties are read.
+	 * @throws IOException if the persistent properties could not be read.
+	 * @throws ClassNotFoundException if the class of a property value could not be found.
+	 */
+	@Override
+	default void fromData(DataInput in) throws IOException, ClassNotFoundException {
+		AsmDataSerializableCodecGenerator.getDefault().getCodec(getClass()).fromData(this, in);
+	}
+}
@@ -17,12 +17,19 @@ package org.springframework.data.gemfire.mapping;
 
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
 
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.pdx.PdxInstanceFactory;
 import org.apache.geode.pdx.PdxReader;
 import org.apache.geode.pdx.PdxSerializer;
 import org.apache.geode.pdx.PdxWriter;
@@ -33,14 +40,16 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.convert.EntityInstantiator;
 import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.mapping.Parameter;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PropertyHandler;
-import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.mapping.model.ParameterValueProvider;
 import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
 import org.springframework.data.mapping.model.SpELContext;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * GemFire {@link PdxSerializer} implementation that uses a Spring Data GemFire {@link GemfireMappingContext}
@@ -63,6 +72,25 @@ import org.springframework.util.Assert;
  */
 public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAware {
 
+	// shared by entities without constructor arguments, avoiding a ParameterValueProvider per deserialized entity
+	private static final ParameterValueProvider<GemfirePersistentProperty> NO_CONSTRUCTOR_ARGUMENTS =
+		new ParameterValueProvider<GemfirePersistentProperty>() {
+
+			@Override
+			public <T> Optional<T> getParameterValue(Parameter<T, GemfirePersistentProperty> parameter) {
+				throw new MappingException(String.format(
+					"Constructor parameter [%s] does not correspond to a persistent property", parameter));
+			}
+		};
+
+	private final AsmPdxSerializerGenerator pdxSerializerGenerator = new AsmPdxSerializerGenerator();
+
+	private boolean metricsEnabled = false;
+
+	private boolean useGeneratedSerializers = false;
+
+	private final ConcurrentMap<Class<?>, PdxSerializationPlan> serializationPlans = new ConcurrentHashMap<>();
+
 	private final ConversionService conversionService;
 
 	private EntityInstantiators instantiators;
@@ -149,6 +177,7 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	public void setCustomSerializers(Map<Class<?>, PdxSerializer> customSerializers) {
 		Assert.notNull(customSerializers, "Custom PdxSerializers must not be null");
 		this.customSerializers = customSerializers;
+		this.serializationPlans.clear();
 	}
 
 	/* (non-Javadoc) */
@@ -164,6 +193,7 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	public void setGemfireInstantiators(Map<Class<?>, EntityInstantiator> gemfireInstantiators) {
 		Assert.notNull(gemfireInstantiators, "EntityInstantiators must not be null");
 		this.instantiators = new EntityInstantiators(gemfireInstantiators);
+		this.serializationPlans.clear();
 	}
 
 	/* (non-Javadoc) */
@@ -171,93 +201,246 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		return instantiators;
 	}
 
-	/* (non-Javadoc) */
-	protected GemfireMappingContext getMappingContext() {
+	/**
+	 * Returns the {@link GemfireMappingContext} used to resolve the persistent entities (de)serialized
+	 * by this {@link PdxSerializer}.
+	 *
+	 * @return the {@link GemfireMappingContext} used by this {@link PdxSerializer}.
+	 * @see org.springframework.data.gemfire.mapping.GemfireMappingContext
+	 */
+	public GemfireMappingContext getMappingContext() {
 		return mappingContext;
 	}
 
+	/**
+	 * Configures whether this {@link PdxSerializer} generates a {@link PdxSerializer} specialized for each
+	 * persistent entity on first use, which reads and writes the entity's properties using the typed
+	 * {@link PdxReader} and {@link PdxWriter} methods and the entity's public accessors directly
+	 * rather than by reflection.
+	 *
+	 * Entities that are not public, declare properties that cannot be accessed publicly or declare properties
+	 * of a type handled by a custom {@link PdxSerializer} are always (de)serialized reflectively.
+	 * Defaults to {@literal false}.
+	 *
+	 * @param useGeneratedSerializers boolean value indicating whether to use generated {@link PdxSerializer PdxSerializers}.
+	 * @see org.springframework.data.gemfire.mapping.AsmPdxSerializerGenerator
+	 */
+	public void setUseGeneratedSerializers(boolean useGeneratedSerializers) {
+		this.useGeneratedSerializers = useGeneratedSerializers;
+		this.serializationPlans.clear();
+	}
+
+	/**
+	 * Determines whether this {@link PdxSerializer} uses generated {@link PdxSerializer PdxSerializers}
+	 * specialized for each persistent entity.
+	 *
+	 * @return a boolean value indicating whether this {@link PdxSerializer} uses generated
+	 * {@link PdxSerializer PdxSerializers}.
+	 * @see #setUseGeneratedSerializers(boolean)
+	 */
+	public boolean isUseGeneratedSerializers() {
+		return this.useGeneratedSerializers;
+	}
+
+	/**
+	 * Configures whether this {@link PdxSerializer} records the {@link PdxSerializationPlan.Metrics} of
+	 * (de)serializing each entity type.  Recording metrics times every (de)serialization and estimates the size
+	 * of every property value, so it is intended for diagnosing serialization costs rather than for
+	 * production use.  Defaults to {@literal false}.
+	 *
+	 * @param metricsEnabled boolean value indicating whether to record (de)serialization metrics.
+	 * @see #getMetrics()
+	 */
+	public void setMetricsEnabled(boolean metricsEnabled) {
+		this.metricsEnabled = metricsEnabled;
+	}
+
+	/**
+	 * Determines whether this {@link PdxSerializer} records (de)serialization metrics.
+	 *
+	 * @return a boolean value indicating whether this {@link PdxSerializer} records (de)serialization metrics.
+	 * @see #setMetricsEnabled(boolean)
+	 */
+	public boolean isMetricsEnabled() {
+		return this.metricsEnabled;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public Object fromData(Class<?> type, PdxReader reader) {
 
-		GemfirePersistentEntity<?> entity = getPersistentEntity(type);
+		boolean metrics = isMetricsEnabled();
+
+		long startTime = (metrics ? System.nanoTime() : 0L);
 
-		Object instance = getInstantiatorFor(entity).createInstance(entity,
-			new PersistentEntityParameterValueProvider<>(entity, new GemfirePropertyValueProvider(reader),
-				Optional.empty()));
+		PdxSerializationPlan plan = getSerializationPlan(type);
 
-		PersistentPropertyAccessor propertyAccessor =
-			new ConvertingPropertyAccessor(entity.getPropertyAccessor(instance), getConversionService());
+		PdxSerializer generatedSerializer = plan.getGeneratedSerializer();
+
+		if (generatedSerializer != null) {
+			try {
+				Object instance = generatedSerializer.fromData(type, reader);
 
-		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
-			if (!entity.isConstructorArgument(persistentProperty)) {
-				PdxSerializer customSerializer = getCustomSerializer(persistentProperty.getType());
+				captureDeltaBaseline(instance, plan);
+
+				if (metrics) {
+					plan.getMetrics().deserialized(plan.getFixedWidth(), System.nanoTime() - startTime);
+				}
+
+				return instance;
+			}
+			catch (RuntimeException e) {
+				throw new MappingException(String.format("While reading entity of type [%1$s] from PDX using"
+					+ " generated PdxSerializer [%2$s]", type, generatedSerializer.getClass().getName()), e);
+			}
+		}
+
+		GemfirePersistentEntity<?> entity = plan.getEntity();
+
+		Object instance = getInstantiatorFor(entity).createInstance(entity, (plan.hasConstructorArguments()
+			? new PersistentEntityParameterValueProvider<>(entity, new GemfirePropertyValueProvider(reader),
+				Optional.empty()) : NO_CONSTRUCTOR_ARGUMENTS));
+
+		// values are converted as necessary below, rather than by a ConvertingPropertyAccessor
+		PersistentPropertyAccessor propertyAccessor = entity.getPropertyAccessor(instance);
+
+		boolean debug = log.isDebugEnabled();
+
+		long bytes = plan.getFixedWidth();
+
+		for (PdxSerializationPlan.PropertyPlan property : plan.getProperties()) {
+			if (!property.isConstructorArgument()) {
+				GemfirePersistentProperty persistentProperty = property.getProperty();
+				PdxSerializer customSerializer = property.getCustomSerializer();
 
 				Object value = null;
 
 				try {
-					if (log.isDebugEnabled()) {
+					if (debug) {
 						log.debug(String.format("setting property [%1$s] for entity [%2$s] of type [%3$s] from PDX%4$s",
-							persistentProperty.getName(), instance, type, (customSerializer != null ?
+							property.getName(), instance, type, (customSerializer != null ?
 								String.format(" using custom PdxSerializer [%1$s]", customSerializer) : "")));
 					}
 
-					value = (customSerializer != null
-						? customSerializer.fromData(persistentProperty.getType(), reader)
-						: reader.readField(persistentProperty.getName()));
+					if (customSerializer != null) {
+						value = customSerializer.fromData(property.getType(), reader);
+					}
+					else if (property.isCompressed()) {
+						byte[] encodedValue = reader.readByteArray(property.getName());
+						value = property.getCompression().decode(encodedValue, property.getType());
+						bytes += (metrics ? PdxSerializationPlan.estimateVariableWidth(property.getFieldType(),
+							encodedValue) : 0L);
+					}
+					else {
+						value = reader.readField(property.getName());
+						bytes += (metrics ? PdxSerializationPlan.estimateVariableWidth(property.getFieldType(),
+							value) : 0L);
+					}
 
-					if (log.isDebugEnabled()) {
+					if (debug) {
 						log.debug(String.format("with value [%1$s]", value));
 					}
 
-					propertyAccessor.setProperty(persistentProperty, Optional.ofNullable(value));
+					propertyAccessor.setProperty(persistentProperty,
+						Optional.ofNullable(convertIfNecessary(value, property.getType())));
 				}
 				catch (Exception e) {
 					throw new MappingException(String.format(
 						"While setting value [%1$s] of property [%2$s] for entity of type [%3$s] from PDX%4$s",
-							value, persistentProperty.getName(), type, (customSerializer != null ?
+							value, property.getName(), type, (customSerializer != null ?
 								String.format(" using custom PdxSerializer [%14s]", customSerializer) : "")), e);
 				}
 			}
-		});
+		}
+
+		Object bean = propertyAccessor.getBean();
+
+		captureDeltaBaseline(bean, plan);
 
-		return propertyAccessor.getBean();
+		if (metrics) {
+			plan.getMetrics().deserialized(bytes, System.nanoTime() - startTime);
+		}
+
+		return bean;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	@SuppressWarnings("unchecked")
 	public boolean toData(Object value, PdxWriter writer) {
 
-		GemfirePersistentEntity<?> entity = getPersistentEntity(value);
+		// MappedDataSerializable entities are serialized as DataSerializable
+		if (value instanceof MappedDataSerializable) {
+			return false;
+		}
+
+		boolean metrics = isMetricsEnabled();
+
+		long startTime = (metrics ? System.nanoTime() : 0L);
+
+		PdxSerializationPlan plan = getSerializationPlan(value.getClass());
+
+		PdxSerializer generatedSerializer = plan.getGeneratedSerializer();
+
+		if (generatedSerializer != null) {
+			try {
+				boolean serialized = generatedSerializer.toData(value, writer);
+
+				captureDeltaBaseline(value, plan);
+
+				if (metrics) {
+					plan.getMetrics().serialized(plan.getFixedWidth(), System.nanoTime() - startTime);
+				}
+
+				return serialized;
+			}
+			catch (RuntimeException e) {
+				throw new MappingException(String.format("While serializing entity [%1$s] of type [%2$s] to PDX using"
+					+ " generated PdxSerializer [%3$s]", value, value.getClass(),
+						generatedSerializer.getClass().getName()), e);
+			}
+		}
+
+		// property values are written as is, so no ConvertingPropertyAccessor is required
+		PersistentPropertyAccessor propertyAccessor = plan.getEntity().getPropertyAccessor(value);
+
+		boolean debug = log.isDebugEnabled();
 
-		PersistentPropertyAccessor propertyAccessor =
-			new ConvertingPropertyAccessor(entity.getPropertyAccessor(value), getConversionService());
+		long bytes = plan.getFixedWidth();
 
-		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
-			PdxSerializer customSerializer = getCustomSerializer(persistentProperty.getType());
+		for (PdxSerializationPlan.PropertyPlan property : plan.getProperties()) {
+			GemfirePersistentProperty persistentProperty = property.getProperty();
+			PdxSerializer customSerializer = property.getCustomSerializer();
 
 			Optional<Object> propertyValue = null;
 
 			try {
 				propertyValue = propertyAccessor.getProperty(persistentProperty);
 
-				if (log.isDebugEnabled()) {
+				if (debug) {
 					log.debug(String.format("Serializing entity property [%1$s] value [%2$s] of type [%3$s] to PDX%4$s",
-						persistentProperty.getName(), propertyValue, value.getClass(), (customSerializer != null ?
+						property.getName(), propertyValue, value.getClass(), (customSerializer != null ?
 							String.format(" using custom PdxSerializer [%s]", customSerializer) : "")));
 				}
 
+				Object resolvedPropertyValue = propertyValue.orElse(null);
+
 				if (customSerializer != null) {
-					customSerializer.toData(propertyValue.orElse(null), writer);
+					customSerializer.toData(resolvedPropertyValue, writer);
+				}
+				else if (property.isCompressed()) {
+					byte[] encodedValue = property.getCompression().encode(resolvedPropertyValue, property.getType());
+					writer.writeByteArray(property.getName(), encodedValue);
+					bytes += (metrics ? PdxSerializationPlan.estimateVariableWidth(property.getFieldType(),
+						encodedValue) : 0L);
 				}
 				else {
-					writer.writeField(persistentProperty.getName(), propertyValue.orElse(null),
-						(Class<Object>) persistentProperty.getType());
+					writer.writeField(property.getName(), resolvedPropertyValue, property.getType());
+					bytes += (metrics ? PdxSerializationPlan.estimateVariableWidth(property.getFieldType(),
+						resolvedPropertyValue) : 0L);
 				}
 			}
 			catch (Exception e) {
@@ -265,20 +448,38 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 				throw new MappingException(String.format(
 					"While serializing entity property [%1$s] value [%2$s] of type [%3$s] to PDX%4$s",
-						persistentProperty.getName(), resolvedPropertyValue, value.getClass(),
+						property.getName(), resolvedPropertyValue, value.getClass(),
 							(customSerializer != null ? String.format(" using custom PdxSerializer [%1$s].",
 								customSerializer.getClass().getName()) : ".")), e);
 			}
-		});
+		}
 
-		Optional<GemfirePersistentProperty> idProperty = entity.getIdProperty();
+		if (plan.getIdPropertyName() != null) {
+			writer.markIdentityField(plan.getIdPropertyName());
+		}
 
-		idProperty.ifPresent(gemfirePersistentProperty ->
-			writer.markIdentityField(gemfirePersistentProperty.getName()));
+		captureDeltaBaseline(value, plan);
+
+		if (metrics) {
+			plan.getMetrics().serialized(bytes, System.nanoTime() - startTime);
+		}
 
 		return true;
 	}
 
+	/* (non-Javadoc) */
+	private Object convertIfNecessary(Object value, Class<?> type) {
+		return (value == null || ClassUtils.isAssignableValue(type, value) ? value
+			: getConversionService().convert(value, type));
+	}
+
+	/* (non-Javadoc) */
+	private void captureDeltaBaseline(Object entity, PdxSerializationPlan plan) {
+		if (entity instanceof AbstractDeltaEntity) {
+			((AbstractDeltaEntity) entity).captureDeltaBaseline(plan);
+		}
+	}
+
 	/**
 	 * Looks up and returns a custom PdxSerializer based on the class type of the object to (de)serialize.
 	 *
@@ -292,6 +493,138 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		return getCustomSerializers().get(type);
 	}
 
+	/**
+	 * Looks up and returns the {@link PdxSerializer} generated for the given {@link PersistentEntity},
+	 * generating it on first use if this {@link PdxSerializer} is configured to use generated
+	 * {@link PdxSerializer PdxSerializers} and one can be generated for the entity.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} to (de)serialize.
+	 * @return an {@link Optional} {@link PdxSerializer} generated for the given {@link PersistentEntity}.
+	 * @see org.springframework.data.gemfire.mapping.AsmPdxSerializerGenerator
+	 * @see #isUseGeneratedSerializers()
+	 */
+	protected Optional<PdxSerializer> getGeneratedSerializer(GemfirePersistentEntity<?> entity) {
+		return Optional.ofNullable(getSerializationPlan(entity.getType()).getGeneratedSerializer());
+	}
+
+	/**
+	 * Returns the {@link PdxSerializationPlan.Metrics} of (de)serializing each entity type (de)serialized by
+	 * this {@link PdxSerializer} since the entity type was first (de)serialized, or this {@link PdxSerializer}
+	 * was last reconfigured.  Metrics are only recorded while {@link #isMetricsEnabled() enabled}.
+	 *
+	 * @return an unmodifiable {@link Map} of entity {@link Class} type to {@link PdxSerializationPlan.Metrics}.
+	 * @see org.springframework.data.gemfire.mapping.PdxSerializationPlan.Metrics
+	 * @see #setMetricsEnabled(boolean)
+	 */
+	public Map<Class<?>, PdxSerializationPlan.Metrics> getMetrics() {
+		Map<Class<?>, PdxSerializationPlan.Metrics> metrics = new HashMap<>(this.serializationPlans.size());
+
+		this.serializationPlans.forEach((type, plan) -> metrics.put(type, plan.getMetrics()));
+
+		return Collections.unmodifiableMap(metrics);
+	}
+
+	/**
+	 * Looks up and returns the {@link PdxSerializationPlan} for the given entity {@link Class} type,
+	 * resolving the plan on first use.
+	 *
+	 * @param type {@link Class} type of the entity to (de)serialize.
+	 * @return the {@link PdxSerializationPlan} for the given entity {@link Class} type.
+	 * @see org.springframework.data.gemfire.mapping.PdxSerializationPlan
+	 */
+	protected PdxSerializationPlan getSerializationPlan(Class<?> type) {
+		PdxSerializationPlan plan = this.serializationPlans.get(type);
+
+		return (plan != null ? plan : this.serializationPlans.computeIfAbsent(type, this::newSerializationPlan));
+	}
+
+	/**
+	 * Defines the PDX type of the given entity {@link Class} type in the PDX type registry of the given
+	 * {@link RegionService} before any entity of the type is serialized, so that the first serialization
+	 * of the entity type does not pay for the distributed PDX type registration.
+	 *
+	 * The PDX type is defined with the same fields this {@link PdxSerializer} writes for the entity type.
+	 * Abstract entity types, {@link MappedDataSerializable} entity types and entity types with properties
+	 * (de)serialized by a custom {@link PdxSerializer}, which may write any fields, are not defined.
+	 *
+	 * @param type entity {@link Class} type for which to define the PDX type; must not be {@literal null}.
+	 * @param regionService {@link RegionService} used to define the PDX type; must not be {@literal null}.
+	 * @return a boolean value indicating whether the PDX type was defined.
+	 * @see org.apache.geode.cache.RegionService#createPdxInstanceFactory(String)
+	 */
+	public boolean definePdxType(Class<?> type, RegionService regionService) {
+
+		Assert.notNull(type, "Type must not be null");
+		Assert.notNull(regionService, "RegionService must not be null");
+
+		if (type.isInterface() || Modifier.isAbstract(type.getModifiers())
+				|| MappedDataSerializable.class.isAssignableFrom(type)) {
+
+			return false;
+		}
+
+		PdxSerializationPlan plan = getSerializationPlan(type);
+
+		for (PdxSerializationPlan.PropertyPlan property : plan.getProperties()) {
+			if (property.isCustomSerialized()) {
+				return false;
+			}
+		}
+
+		PdxInstanceFactory pdxInstanceFactory = regionService.createPdxInstanceFactory(type.getName());
+
+		for (PdxSerializationPlan.PropertyPlan property : plan.getProperties()) {
+			if (property.isCompressed()) {
+				pdxInstanceFactory.writeByteArray(property.getName(), null);
+			}
+			else {
+				pdxInstanceFactory.writeField(property.getName(), defaultValue(property.getType()), property.getType());
+			}
+		}
+
+		if (plan.getIdPropertyName() != null) {
+			pdxInstanceFactory.markIdentityField(plan.getIdPropertyName());
+		}
+
+		pdxInstanceFactory.create();
+
+		return true;
+	}
+
+	/* (non-Javadoc) */
+	private static Object defaultValue(Class<?> type) {
+		return (type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null);
+	}
+
+	/* (non-Javadoc) */
+	private PdxSerializationPlan newSerializationPlan(Class<?> type) {
+		GemfirePersistentEntity<?> entity = getPersistentEntity(type);
+
+		return PdxSerializationPlan.of(entity, this::getCustomSerializer, generateSerializer(entity));
+	}
+
+	/* (non-Javadoc) */
+	private PdxSerializer generateSerializer(GemfirePersistentEntity<?> entity) {
+		if (!isUseGeneratedSerializers()) {
+			return null;
+		}
+
+		boolean[] customSerialized = { false };
+
+		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty ->
+			customSerialized[0] |= (getCustomSerializer(persistentProperty.getType()) != null));
+
+		if (customSerialized[0] || !this.pdxSerializerGenerator.canGenerate(entity)) {
+			return null;
+		}
+
+		if (log.isDebugEnabled()) {
+			log.debug(String.format("Generating PdxSerializer for entity of type [%s]", entity.getType().getName()));
+		}
+
+		return this.pdxSerializerGenerator.generate(entity, getInstantiatorFor(entity), getConversionService());
+	}
+
 	/**
 	 * Looks up and returns an EntityInstantiator to construct and initialize an instance of the object defined
 	 * by the given PersistentEntity (meta-data).
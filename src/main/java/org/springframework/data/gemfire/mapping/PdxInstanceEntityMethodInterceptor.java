@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+
+import org.apache.geode.pdx.PdxInstance;
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.cglib.proxy.MethodProxy;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * CGLIB {@link MethodInterceptor} backing an entity proxy with a {@link PdxInstance}.
+ *
+ * Getter invocations are answered by reading only the corresponding field of the {@link PdxInstance},
+ * provided the field value can be returned as is.  Any other method invocation, including setters, as well as
+ * getters of fields holding {@link Collection Collections}, {@link Map Maps} or arrays of objects, which may contain
+ * nested {@link PdxInstance PdxInstances}, fully deserializes the entity first and is delegated to the entity.
+ *
+ * @author John Blum
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.cglib.proxy.MethodInterceptor
+ * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxy
+ * @see org.springframework.data.gemfire.search.lucene.support.PdxInstanceMethodInterceptor
+ * @since 2.0.0
+ */
+class PdxInstanceEntityMethodInterceptor implements MethodInterceptor {
+
+	private static final Object UNRESOLVED = new Object();
+
+	private final PdxInstance source;
+
+	private final PdxInstanceEntityProxyFactory proxyFactory;
+
+	private volatile Object target;
+
+	/**
+	 * Constructs a new instance of {@link PdxInstanceEntityMethodInterceptor} backed by the given {@link PdxInstance}.
+	 *
+	 * @param source {@link PdxInstance} backing the entity proxy; must not be {@literal null}.
+	 * @param proxyFactory {@link PdxInstanceEntityProxyFactory} used to proxy nested {@link PdxInstance PdxInstances};
+	 * must not be {@literal null}.
+	 */
+	PdxInstanceEntityMethodInterceptor(PdxInstance source, PdxInstanceEntityProxyFactory proxyFactory) {
+		Assert.notNull(source, "Source must not be null");
+		Assert.notNull(proxyFactory, "PdxInstanceEntityProxyFactory must not be null");
+
+		this.source = source;
+		this.proxyFactory = proxyFactory;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.cglib.proxy.MethodInterceptor#intercept(Object, Method, Object[], MethodProxy)
+	 */
+	@Override
+	public Object intercept(Object proxy, Method method, Object[] arguments, MethodProxy methodProxy)
+			throws Throwable {
+
+		if (PdxInstanceEntityProxy.class.equals(method.getDeclaringClass())) {
+			switch (method.getName()) {
+				case "getSourcePdxInstance":
+					return this.source;
+				case "isMaterialized":
+					return (this.target != null);
+				default:
+					return getTarget();
+			}
+		}
+
+		if (this.target == null && arguments.length == 0) {
+			String propertyName = this.proxyFactory.getPropertyName(method);
+
+			if (propertyName != null && this.source.hasField(propertyName)) {
+				Object value = resolveValue(this.source.getField(propertyName), method.getReturnType());
+
+				if (value != UNRESOLVED) {
+					return value;
+				}
+			}
+		}
+
+		return methodProxy.invoke(getTarget(), arguments);
+	}
+
+	/* (non-Javadoc) */
+	Object getTarget() {
+		Object target = this.target;
+
+		if (target == null) {
+			target = this.source.getObject();
+			this.target = target;
+		}
+
+		return target;
+	}
+
+	/* (non-Javadoc) */
+	private Object resolveValue(Object value, Class<?> returnType) {
+		if (value == null) {
+			return (returnType.isPrimitive() ? UNRESOLVED : null);
+		}
+		else if (value instanceof PdxInstance) {
+			if (returnType.isInstance(value)) {
+				return value;
+			}
+
+			Object proxy = this.proxyFactory.proxyIfPossible(value);
+
+			return (returnType.isInstance(proxy) ? proxy : UNRESOLVED);
+		}
+		else if (value instanceof Collection || value instanceof Map
+				|| (value instanceof Object[] && !(value instanceof String[]))) {
+
+			return UNRESOLVED;
+		}
+
+		return (ClassUtils.isAssignableValue(returnType, value) ? value : UNRESOLVED);
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import org.apache.geode.pdx.PdxInstance;
+
+/**
+ * Interface implemented by entity proxies created by the {@link PdxInstanceEntityProxyFactory}, which lazily read
+ * the entity's properties from the backing {@link PdxInstance}.
+ *
+ * A proxy must be unwrapped with {@link #materialize()} before it is written to a {@link org.apache.geode.cache.Region}
+ * directly, since PDX records the type of the proxy rather than the entity type.
+ * {@link org.springframework.data.gemfire.GemfireTemplate} unwraps proxies written through the template.
+ *
+ * @author John Blum
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory
+ * @since 2.0.0
+ */
+public interface PdxInstanceEntityProxy {
+
+	/**
+	 * Returns the {@link PdxInstance} backing this proxy.
+	 *
+	 * @return the {@link PdxInstance} backing this proxy.
+	 * @see org.apache.geode.pdx.PdxInstance
+	 */
+	PdxInstance getSourcePdxInstance();
+
+	/**
+	 * Determines whether the entity has been fully deserialized from the backing {@link PdxInstance}.
+	 *
+	 * @return a boolean value indicating whether the entity has been fully deserialized.
+	 */
+	boolean isMaterialized();
+
+	/**
+	 * Fully deserializes the entity from the backing {@link PdxInstance}, if not already deserialized,
+	 * and returns the entity to which this proxy delegates all subsequent method invocations.
+	 *
+	 * @return the fully deserialized entity.
+	 * @see org.apache.geode.pdx.PdxInstance#getObject()
+	 */
+	Object materialize();
+
+}
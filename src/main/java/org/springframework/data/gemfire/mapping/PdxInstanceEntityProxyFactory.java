@@ -0,0 +1,197 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.pdx.PdxInstance;
+import org.springframework.beans.BeanUtils;
+import org.springframework.cglib.core.SpringNamingPolicy;
+import org.springframework.cglib.proxy.Enhancer;
+import org.springframework.cglib.proxy.Factory;
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.gemfire.mapping.annotation.Compressed;
+import org.springframework.objenesis.SpringObjenesis;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * The {@link PdxInstanceEntityProxyFactory} creates lightweight entity proxies backed by a {@link PdxInstance},
+ * which deserialize only the fields read through the entity's getters rather than the entire entity.
+ *
+ * The proxy is a CGLIB generated subclass of the entity type implementing {@link PdxInstanceEntityProxy},
+ * generated once per entity type and instantiated without invoking the entity's constructors.  Entity types that
+ * cannot be resolved, or cannot be subclassed, as well as entity types declaring final instance methods, which cannot
+ * be intercepted, are not proxied.
+ *
+ * @author John Blum
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.cglib.proxy.Enhancer
+ * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityMethodInterceptor
+ * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxy
+ * @since 2.0.0
+ */
+public enum PdxInstanceEntityProxyFactory {
+
+	INSTANCE;
+
+	private static final String NO_PROPERTY = "";
+
+	private final ConcurrentMap<String, Optional<Class<?>>> proxyClasses = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<Method, String> propertyNames = new ConcurrentHashMap<>();
+
+	private final Log log = LogFactory.getLog(getClass());
+
+	private final SpringObjenesis objenesis = new SpringObjenesis();
+
+	/**
+	 * Proxies the given value if the value is a {@link PdxInstance} of an entity type that can be proxied.
+	 *
+	 * @param value {@link Object} to proxy.
+	 * @return a {@link PdxInstanceEntityProxy} backed by the given value if the value is a {@link PdxInstance}
+	 * of an entity type that can be proxied, otherwise returns the given value.
+	 * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxy
+	 */
+	public Object proxyIfPossible(Object value) {
+		if (value instanceof PdxInstance && !((PdxInstance) value).isEnum()) {
+			PdxInstance pdxInstance = (PdxInstance) value;
+
+			Optional<Class<?>> proxyClass = resolveProxyClass(pdxInstance.getClassName());
+
+			if (proxyClass.isPresent()) {
+				Object proxy = this.objenesis.newInstance(proxyClass.get());
+
+				((Factory) proxy).setCallback(0, new PdxInstanceEntityMethodInterceptor(pdxInstance, this));
+
+				return proxy;
+			}
+		}
+
+		return value;
+	}
+
+	/**
+	 * Returns the fully deserialized entity if the given value is a {@link PdxInstanceEntityProxy},
+	 * otherwise returns the given value.
+	 *
+	 * @param value {@link Object} to unwrap.
+	 * @return the fully deserialized entity if the given value is a {@link PdxInstanceEntityProxy},
+	 * otherwise the given value.
+	 * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxy#materialize()
+	 */
+	public Object unwrap(Object value) {
+		return (value instanceof PdxInstanceEntityProxy ? ((PdxInstanceEntityProxy) value).materialize() : value);
+	}
+
+	/**
+	 * Returns the name of the property read by the given getter {@link Method}.
+	 *
+	 * @param method {@link Method} to evaluate.
+	 * @return the name of the property read by the given {@link Method}, or {@literal null}
+	 * if the {@link Method} is not a getter or the property is {@link Compressed}, and therefore not stored
+	 * as is in the {@link PdxInstance}.
+	 */
+	String getPropertyName(Method method) {
+		String propertyName = this.propertyNames.computeIfAbsent(method, it -> {
+			PropertyDescriptor descriptor = BeanUtils.findPropertyForMethod(it);
+
+			return (descriptor != null && it.equals(descriptor.getReadMethod())
+				&& !isCompressed(it, descriptor.getName()) ? descriptor.getName() : NO_PROPERTY);
+		});
+
+		return (NO_PROPERTY.equals(propertyName) ? null : propertyName);
+	}
+
+	/* (non-Javadoc) */
+	private boolean isCompressed(Method getter, String propertyName) {
+		Field field = ReflectionUtils.findField(getter.getDeclaringClass(), propertyName);
+
+		return (AnnotatedElementUtils.hasAnnotation(getter, Compressed.class)
+			|| (field != null && AnnotatedElementUtils.hasAnnotation(field, Compressed.class)));
+	}
+
+	/* (non-Javadoc) */
+	private Optional<Class<?>> resolveProxyClass(String className) {
+		Optional<Class<?>> proxyClass = this.proxyClasses.get(className);
+
+		return (proxyClass != null ? proxyClass
+			: this.proxyClasses.computeIfAbsent(className, this::generateProxyClass));
+	}
+
+	/* (non-Javadoc) */
+	private Optional<Class<?>> generateProxyClass(String className) {
+		try {
+			Class<?> type = ClassUtils.forName(className, ClassUtils.getDefaultClassLoader());
+
+			if (isProxyable(type)) {
+				Enhancer enhancer = new Enhancer();
+
+				enhancer.setSuperclass(type);
+				enhancer.setInterfaces(new Class<?>[] { PdxInstanceEntityProxy.class });
+				enhancer.setCallbackType(MethodInterceptor.class);
+				enhancer.setClassLoader(type.getClassLoader());
+				enhancer.setNamingPolicy(SpringNamingPolicy.INSTANCE);
+				enhancer.setUseFactory(true);
+
+				Class<?> proxyClass = enhancer.createClass();
+
+				// verify the proxy can be instantiated without invoking the entity's constructors
+				this.objenesis.newInstance(proxyClass);
+
+				return Optional.of(proxyClass);
+			}
+		}
+		catch (Exception | LinkageError cause) {
+			if (log.isDebugEnabled()) {
+				log.debug(String.format("Unable to proxy entity type [%s]", className), cause);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/* (non-Javadoc) */
+	private boolean isProxyable(Class<?> type) {
+		if (type.isInterface() || type.isArray() || type.isPrimitive()
+				|| Modifier.isFinal(type.getModifiers()) || ClassUtils.isCglibProxyClass(type)) {
+
+			return false;
+		}
+
+		for (Class<?> currentType = type; !Object.class.equals(currentType); currentType = currentType.getSuperclass()) {
+			for (Method method : currentType.getDeclaredMethods()) {
+				int modifiers = method.getModifiers();
+
+				if (Modifier.isFinal(modifiers) && !Modifier.isStatic(modifiers) && !Modifier.isPrivate(modifiers)) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,412 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.apache.geode.pdx.FieldType;
+import org.apache.geode.pdx.PdxSerializer;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable plan describing how {@link MappingPdxSerializer} (de)serializes a single {@link GemfirePersistentEntity}
+ * to and from PDX, resolved once per entity type so the state needed to (de)serialize each entity does not need to
+ * be looked up again for each property of each object (de)serialized.
+ *
+ * The plan also collects the {@link Metrics} of (de)serializing entities of the type.
+ *
+ * @author John Blum
+ * @see org.apache.geode.pdx.FieldType
+ * @see org.springframework.data.gemfire.mapping.GemfirePersistentEntity
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @since 2.0.0
+ */
+public final class PdxSerializationPlan {
+
+	private final boolean constructorArguments;
+
+	private final int fixedWidth;
+
+	private final GemfirePersistentEntity<?> entity;
+
+	private final Metrics metrics = new Metrics();
+
+	private final PdxSerializer generatedSerializer;
+
+	private final PropertyPlan[] properties;
+
+	private final String idPropertyName;
+
+	/**
+	 * Resolves the {@link PdxSerializationPlan} for the given {@link GemfirePersistentEntity}.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} to (de)serialize; must not be {@literal null}.
+	 * @param customSerializers {@link Function} resolving the custom {@link PdxSerializer} for a property type,
+	 * or {@literal null} if the property type has no custom {@link PdxSerializer}; must not be {@literal null}.
+	 * {@link org.springframework.data.gemfire.mapping.annotation.Compressed} properties are not (de)serialized
+	 * with custom {@link PdxSerializer PdxSerializers}.
+	 * @param generatedSerializer {@link PdxSerializer} generated for the entity, or {@literal null} if the entity
+	 * is (de)serialized reflectively.
+	 * @return the resolved {@link PdxSerializationPlan} for the given {@link GemfirePersistentEntity}.
+	 * @throws IllegalArgumentException if the {@link GemfirePersistentEntity} or custom {@link PdxSerializer}
+	 * {@link Function} are {@literal null}.
+	 */
+	static PdxSerializationPlan of(GemfirePersistentEntity<?> entity,
+			Function<Class<?>, PdxSerializer> customSerializers, PdxSerializer generatedSerializer) {
+
+		Assert.notNull(entity, "GemfirePersistentEntity must not be null");
+		Assert.notNull(customSerializers, "Custom PdxSerializer resolver must not be null");
+
+		List<PropertyPlan> properties = new ArrayList<>();
+
+		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty ->
+			properties.add(new PropertyPlan(persistentProperty, (persistentProperty.isCompressed() ? null
+				: customSerializers.apply(persistentProperty.getType())),
+					entity.isConstructorArgument(persistentProperty))));
+
+		String idPropertyName = entity.getIdProperty().map(GemfirePersistentProperty::getName).orElse(null);
+
+		return new PdxSerializationPlan(entity, properties.toArray(new PropertyPlan[properties.size()]),
+			idPropertyName, generatedSerializer);
+	}
+
+	/* (non-Javadoc) */
+	private PdxSerializationPlan(GemfirePersistentEntity<?> entity, PropertyPlan[] properties, String idPropertyName,
+			PdxSerializer generatedSerializer) {
+
+		this.entity = entity;
+		this.properties = properties;
+		this.idPropertyName = idPropertyName;
+		this.generatedSerializer = generatedSerializer;
+
+		int fixedWidth = 0;
+
+		for (PropertyPlan property : properties) {
+			fixedWidth += (property.isCustomSerialized() || !property.getFieldType().isFixedWidth() ? 0
+				: property.getFieldType().getWidth());
+		}
+
+		this.fixedWidth = fixedWidth;
+		this.constructorArguments = Arrays.stream(properties).anyMatch(PropertyPlan::isConstructorArgument);
+	}
+
+	/**
+	 * Determines whether any persistent property of the entity is passed to the entity's persistence constructor.
+	 *
+	 * @return a boolean value indicating whether any persistent property is a constructor argument.
+	 */
+	public boolean hasConstructorArguments() {
+		return this.constructorArguments;
+	}
+
+	/**
+	 * Returns the {@link GemfirePersistentEntity} (de)serialized with this plan.
+	 *
+	 * @return the {@link GemfirePersistentEntity} (de)serialized with this plan.
+	 */
+	public GemfirePersistentEntity<?> getEntity() {
+		return this.entity;
+	}
+
+	/**
+	 * Returns the {@link PdxSerializer} generated for the entity, or {@literal null} if the entity is
+	 * (de)serialized reflectively.
+	 *
+	 * @return the {@link PdxSerializer} generated for the entity, or {@literal null}.
+	 */
+	public PdxSerializer getGeneratedSerializer() {
+		return this.generatedSerializer;
+	}
+
+	/**
+	 * Returns the name of the entity's identifier property marked as the PDX identity field,
+	 * or {@literal null} if the entity has no identifier.
+	 *
+	 * @return the name of the entity's identifier property, or {@literal null}.
+	 */
+	public String getIdPropertyName() {
+		return this.idPropertyName;
+	}
+
+	/**
+	 * Returns the {@link Metrics} of (de)serializing entities of the type.
+	 *
+	 * @return the {@link Metrics} of (de)serializing entities of the type.
+	 */
+	public Metrics getMetrics() {
+		return this.metrics;
+	}
+
+	/**
+	 * Returns the {@link PropertyPlan PropertyPlans} of the entity's persistent properties in the order
+	 * in which the properties are (de)serialized.
+	 *
+	 * The returned array is shared and must not be modified.
+	 *
+	 * @return the {@link PropertyPlan PropertyPlans} of the entity's persistent properties.
+	 */
+	PropertyPlan[] getProperties() {
+		return this.properties;
+	}
+
+	/**
+	 * Returns the number of bytes occupied by the fixed width PDX fields of the entity.
+	 *
+	 * @return the number of bytes occupied by the fixed width PDX fields of the entity.
+	 */
+	int getFixedWidth() {
+		return this.fixedWidth;
+	}
+
+	/**
+	 * Estimates the number of bytes the given value of a variable width PDX field occupies.  Nested objects
+	 * are not accounted for.
+	 *
+	 * @param fieldType {@link FieldType} of the PDX field.
+	 * @param value value of the PDX field.
+	 * @return the estimated number of bytes the given value occupies.
+	 */
+	static int estimateVariableWidth(FieldType fieldType, Object value) {
+		if (value == null || fieldType.isFixedWidth()) {
+			return 0;
+		}
+		else if (value instanceof String) {
+			return ((String) value).length();
+		}
+		else if (value.getClass().isArray() && value.getClass().getComponentType().isPrimitive()) {
+			return Array.getLength(value) * FieldType.get(value.getClass().getComponentType()).getWidth();
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Plan describing how a single persistent property of the entity is (de)serialized.
+	 */
+	public static final class PropertyPlan {
+
+		private final boolean constructorArgument;
+
+		private final Class<Object> type;
+
+		private final FieldType fieldType;
+
+		private final GemfirePersistentProperty property;
+
+		private final PdxSerializer customSerializer;
+
+		private final PropertyCompression compression;
+
+		private final String name;
+
+		@SuppressWarnings("unchecked")
+		PropertyPlan(GemfirePersistentProperty property, PdxSerializer customSerializer, boolean constructorArgument) {
+			this.property = property;
+			this.name = property.getName();
+			this.type = (Class<Object>) property.getType();
+			this.compression = property.getCompression();
+			this.fieldType = (this.compression != null ? FieldType.BYTE_ARRAY : FieldType.get(this.type));
+			this.customSerializer = customSerializer;
+			this.constructorArgument = constructorArgument;
+		}
+
+		/**
+		 * Determines whether the property is passed to the entity's constructor.
+		 *
+		 * @return a boolean value indicating whether the property is passed to the entity's constructor.
+		 */
+		public boolean isConstructorArgument() {
+			return this.constructorArgument;
+		}
+
+		/**
+		 * Determines whether the property value is compressed and written to a PDX {@literal byte[]} field.
+		 *
+		 * @return a boolean value indicating whether the property value is compressed.
+		 * @see org.springframework.data.gemfire.mapping.annotation.Compressed
+		 */
+		public boolean isCompressed() {
+			return (this.compression != null);
+		}
+
+		/**
+		 * Returns the {@link PropertyCompression} encoding the property value, or {@literal null}.
+		 *
+		 * @return the {@link PropertyCompression} encoding the property value, or {@literal null}.
+		 */
+		PropertyCompression getCompression() {
+			return this.compression;
+		}
+
+		/**
+		 * Determines whether the property is (de)serialized by a custom {@link PdxSerializer}.
+		 *
+		 * @return a boolean value indicating whether the property is (de)serialized by a custom {@link PdxSerializer}.
+		 */
+		public boolean isCustomSerialized() {
+			return (this.customSerializer != null);
+		}
+
+		/**
+		 * Returns the custom {@link PdxSerializer} (de)serializing the property, or {@literal null}.
+		 *
+		 * @return the custom {@link PdxSerializer} (de)serializing the property, or {@literal null}.
+		 */
+		public PdxSerializer getCustomSerializer() {
+			return this.customSerializer;
+		}
+
+		/**
+		 * Returns the {@link FieldType} of the PDX field the property is written to.
+		 *
+		 * @return the {@link FieldType} of the PDX field the property is written to.
+		 */
+		public FieldType getFieldType() {
+			return this.fieldType;
+		}
+
+		/**
+		 * Returns the name of the property.
+		 *
+		 * @return the name of the property.
+		 */
+		public String getName() {
+			return this.name;
+		}
+
+		/**
+		 * Returns the {@link GemfirePersistentProperty}.
+		 *
+		 * @return the {@link GemfirePersistentProperty}.
+		 */
+		public GemfirePersistentProperty getProperty() {
+			return this.property;
+		}
+
+		/**
+		 * Returns the {@link Class} type of the property.
+		 *
+		 * @return the {@link Class} type of the property.
+		 */
+		public Class<Object> getType() {
+			return this.type;
+		}
+	}
+
+	/**
+	 * Metrics of (de)serializing entities of a single type to and from PDX.
+	 *
+	 * The number of bytes is an estimate of the size of the entity's PDX field data, excluding nested objects
+	 * and PDX header and offset data.  Variable width fields written or read by a generated {@link PdxSerializer}
+	 * are not accounted for.
+	 */
+	public static final class Metrics {
+
+		private final LongAdder deserializedBytes = new LongAdder();
+		private final LongAdder deserializedCount = new LongAdder();
+		private final LongAdder deserializationTime = new LongAdder();
+		private final LongAdder serializedBytes = new LongAdder();
+		private final LongAdder serializedCount = new LongAdder();
+		private final LongAdder serializationTime = new LongAdder();
+
+		/* (non-Javadoc) */
+		void deserialized(long bytes, long nanoseconds) {
+			this.deserializedCount.increment();
+			this.deserializedBytes.add(bytes);
+			this.deserializationTime.add(nanoseconds);
+		}
+
+		/* (non-Javadoc) */
+		void serialized(long bytes, long nanoseconds) {
+			this.serializedCount.increment();
+			this.serializedBytes.add(bytes);
+			this.serializationTime.add(nanoseconds);
+		}
+
+		/**
+		 * Returns the estimated number of bytes of PDX field data read.
+		 *
+		 * @return the estimated number of bytes of PDX field data read.
+		 */
+		public long getDeserializedBytes() {
+			return this.deserializedBytes.sum();
+		}
+
+		/**
+		 * Returns the number of entities read from PDX.
+		 *
+		 * @return the number of entities read from PDX.
+		 */
+		public long getDeserializedCount() {
+			return this.deserializedCount.sum();
+		}
+
+		/**
+		 * Returns the total time, in nanoseconds, spent reading entities from PDX.
+		 *
+		 * @return the total time, in nanoseconds, spent reading entities from PDX.
+		 */
+		public long getDeserializationTime() {
+			return this.deserializationTime.sum();
+		}
+
+		/**
+		 * Returns the estimated number of bytes of PDX field data written.
+		 *
+		 * @return the estimated number of bytes of PDX field data written.
+		 */
+		public long getSerializedBytes() {
+			return this.serializedBytes.sum();
+		}
+
+		/**
+		 * Returns the number of entities written to PDX.
+		 *
+		 * @return the number of entities written to PDX.
+		 */
+		public long getSerializedCount() {
+			return this.serializedCount.sum();
+		}
+
+		/**
+		 * Returns the total time, in nanoseconds, spent writing entities to PDX.
+		 *
+		 * @return the total time, in nanoseconds, spent writing entities to PDX.
+		 */
+		public long getSerializationTime() {
+			return this.serializationTime.sum();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("{ serializedCount = %1$d, serializedBytes = %2$d, serializationTime = %3$d ns,"
+				+ " deserializedCount = %4$d, deserializedBytes = %5$d, deserializationTime = %6$d ns }",
+					getSerializedCount(), getSerializedBytes(), getSerializationTime(), getDeserializedCount(),
+						getDeserializedBytes(), getDeserializationTime());
+		}
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.compression.Compressor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.gemfire.mapping.annotation.Compressed;
+
+/**
+ * Encodes and decodes the values of a {@link Compressed} persistent property to and from the {@literal byte[]}
+ * stored in the PDX field of the property.
+ *
+ * The first byte of the encoded value indicates whether the remaining bytes are compressed.  Serialized values
+ * smaller than the {@link Compressed#threshold()}, or that do not get smaller when compressed, are stored
+ * uncompressed.
+ *
+ * @author John Blum
+ * @see org.apache.geode.compression.Compressor
+ * @see org.springframework.data.gemfire.mapping.annotation.Compressed
+ * @since 2.0.0
+ */
+final class PropertyCompression {
+
+	static final byte COMPRESSED = 1;
+	static final byte UNCOMPRESSED = 0;
+
+	private final int threshold;
+
+	private final Compressor compressor;
+
+	/**
+	 * Resolves the {@link PropertyCompression} configured by the given {@link Compressed} annotation.
+	 *
+	 * @param compressed {@link Compressed} annotation of the persistent property.
+	 * @return the {@link PropertyCompression} configured by the given {@link Compressed} annotation.
+	 * @throws IllegalArgumentException if the {@link Compressor} cannot be instantiated
+	 * or the threshold is negative.
+	 */
+	static PropertyCompression from(Compressed compressed) {
+		if (compressed.threshold() < 0) {
+			throw newIllegalArgumentException("Compression threshold [%d] must be greater than or equal to 0",
+				compressed.threshold());
+		}
+
+		try {
+			return new PropertyCompression(BeanUtils.instantiateClass(compressed.compressor()),
+				compressed.threshold());
+		}
+		catch (RuntimeException e) {
+			throw newIllegalArgumentException(e, "Unable to instantiate Compressor [%s]",
+				compressed.compressor().getName());
+		}
+	}
+
+	/* (non-Javadoc) */
+	PropertyCompression(Compressor compressor, int threshold) {
+		this.compressor = compressor;
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Returns the {@link Compressor} used to (de)compress the property value.
+	 *
+	 * @return the {@link Compressor} used to (de)compress the property value.
+	 */
+	Compressor getCompressor() {
+		return this.compressor;
+	}
+
+	/**
+	 * Returns the size, in bytes, of the serialized property value below which the value is stored uncompressed.
+	 *
+	 * @return the compression threshold in bytes.
+	 */
+	int getThreshold() {
+		return this.threshold;
+	}
+
+	/**
+	 * Serializes the given property value and compresses the serialized value if at least the threshold in size.
+	 * The serialized value is stored uncompressed if compressing it does not reduce its size.
+	 *
+	 * @param value property value to encode.
+	 * @param type {@link Class} type of the property.
+	 * @return the encoded property value, or {@literal null} if the value is {@literal null}.
+	 */
+	byte[] encode(Object value, Class<?> type) {
+		if (value == null) {
+			return null;
+		}
+
+		byte[] bytes = serialize(value, type);
+		byte[] compressed = (bytes.length >= getThreshold() ? getCompressor().compress(bytes) : null);
+		boolean compress = (compressed != null && compressed.length < bytes.length);
+		byte[] payload = (compress ? compressed : bytes);
+		byte[] encoded = new byte[payload.length + 1];
+
+		encoded[0] = (compress ? COMPRESSED : UNCOMPRESSED);
+		System.arraycopy(payload, 0, encoded, 1, payload.length);
+
+		return encoded;
+	}
+
+	/**
+	 * Decompresses, if necessary, and deserializes the given encoded property value.
+	 *
+	 * @param encoded encoded property value.
+	 * @param type {@link Class} type of the property.
+	 * @return the decoded property value, or {@literal null} if the encoded value is {@literal null}.
+	 */
+	Object decode(byte[] encoded, Class<?> type) {
+		if (encoded == null || encoded.length == 0) {
+			return null;
+		}
+
+		byte[] payload = new byte[encoded.length - 1];
+
+		System.arraycopy(encoded, 1, payload, 0, payload.length);
+
+		return deserialize(encoded[0] == COMPRESSED ? getCompressor().decompress(payload) : payload, type);
+	}
+
+	/* (non-Javadoc) */
+	private byte[] serialize(Object value, Class<?> type) {
+		if (String.class.equals(type)) {
+			return ((String) value).getBytes(StandardCharsets.UTF_8);
+		}
+		else if (byte[].class.equals(type)) {
+			return (byte[]) value;
+		}
+
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+			DataSerializer.writeObject(value, new DataOutputStream(bytes));
+
+			return bytes.toByteArray();
+		}
+		catch (IOException e) {
+			throw newIllegalStateException(e, "Failed to serialize value of type [%s]", value.getClass().getName());
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Object deserialize(byte[] bytes, Class<?> type) {
+		if (String.class.equals(type)) {
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+		else if (byte[].class.equals(type)) {
+			return bytes;
+		}
+
+		try {
+			return DataSerializer.readObject(new DataInputStream(new ByteArrayInputStream(bytes)));
+		}
+		catch (ClassNotFoundException | IOException e) {
+			throw newIllegalStateException(e, "Failed to deserialize value of type [%s]", type.getName());
+		}
+	}
+}
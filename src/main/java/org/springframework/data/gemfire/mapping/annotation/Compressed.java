@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apache.geode.compression.Compressor;
+import org.springframework.data.gemfire.mapping.DeflaterCompressor;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+
+/**
+ * The {@link Compressed} annotation is used to compress the value of a {@link GemfirePersistentEntity}
+ * {@link GemfirePersistentProperty} when the entity is serialized to PDX by the
+ * {@link org.springframework.data.gemfire.mapping.MappingPdxSerializer}.
+ *
+ * The property value is written to a PDX {@literal byte[]} field, compressed with the configured {@link Compressor}
+ * if the serialized value is at least {@link #threshold()} bytes in size and compressing it reduces its size.  {@link String} values are serialized
+ * as UTF-8, {@literal byte[]} values as is and values of any other type with
+ * {@link org.apache.geode.DataSerializer}.
+ *
+ * Unlike {@link org.apache.geode.cache.Region} compression, only the annotated properties are compressed.
+ * However, compressed properties cannot be used in OQL queries or {@link org.apache.geode.cache.query.Index Indexes}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.compression.Compressor
+ * @see org.springframework.data.gemfire.mapping.DeflaterCompressor
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @since 2.0.0
+ */
+@Target({ ElementType.FIELD, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@SuppressWarnings({ "unused" })
+public @interface Compressed {
+
+	/**
+	 * {@link Compressor} type used to (de)compress the property value; must declare a public no-arg constructor.
+	 *
+	 * Defaults to {@link DeflaterCompressor}.
+	 */
+	Class<? extends Compressor> compressor() default DeflaterCompressor.class;
+
+	/**
+	 * Size, in bytes, of the serialized property value below which the value is stored uncompressed.
+	 *
+	 * Defaults to {@literal 1024} bytes.
+	 */
+	int threshold() default 1024;
+
+}
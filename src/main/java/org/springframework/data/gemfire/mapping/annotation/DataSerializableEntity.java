@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The {@link DataSerializableEntity} annotation declares the {@link org.apache.geode.Instantiator} class ID
+ * of an entity implementing {@link org.springframework.data.gemfire.mapping.MappedDataSerializable}, which is
+ * serialized with {@link org.apache.geode.DataSerializable} {@literal toData/fromData} methods generated from
+ * the entity's {@link org.springframework.data.gemfire.mapping.GemfirePersistentEntity} metadata.
+ *
+ * The entity type is written as the class ID of the generated {@link org.apache.geode.Instantiator}, followed by
+ * the values of the persistent properties in a fixed order, without field names or any type metadata.  Therefore,
+ * unlike PDX, the serialized form does not support adding or removing properties across versions of the entity
+ * and should be reserved for internal types that do not require schema evolution.
+ *
+ * The annotation is not inherited; each subclass must declare its own, unique class ID.
+ *
+ * @author John Blum
+ * @see org.apache.geode.DataSerializable
+ * @see org.apache.geode.Instantiator
+ * @see org.springframework.data.gemfire.mapping.MappedDataSerializable
+ * @see org.springframework.data.gemfire.serialization.InstantiatorFactoryBean#setEntityTypes(java.util.Collection)
+ * @since 2.0.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@SuppressWarnings({ "unused" })
+public @interface DataSerializableEntity {
+
+	/**
+	 * Class ID of the {@link org.apache.geode.Instantiator} registered for the entity type; must be unique
+	 * among all {@link org.apache.geode.Instantiator Instantiators} and must not be {@literal 0}.
+	 */
+	int classId();
+
+}
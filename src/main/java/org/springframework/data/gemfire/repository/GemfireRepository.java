@@ -16,17 +16,22 @@
 
 package org.springframework.data.gemfire.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
 
 /**
- * GemFire specific extension of the Spring Data {@link CrudRepository} interface.
+ * GemFire specific extension of the Spring Data {@link CrudRepository} and {@link PagingAndSortingRepository}
+ * interfaces.
  *
  * @author Oliver Gierke
  * @author John Blum
  * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.data.repository.PagingAndSortingRepository
  */
-public interface GemfireRepository<T, ID> extends CrudRepository<T, ID> {
+public interface GemfireRepository<T, ID> extends PagingAndSortingRepository<T, ID> {
 
 	/**
 	 * Returns all entities sorted by the given options.
@@ -39,6 +44,22 @@ public interface GemfireRepository<T, ID> extends CrudRepository<T, ID> {
 	 */
 	Iterable<T> findAll(Sort sort);
 
+	/**
+	 * Returns a {@link Page} of entities meeting the paging restriction provided in the {@link Pageable} object.
+	 *
+	 * Pages are located by keyset rather than by offset when the given {@link Pageable} is
+	 * the {@link Page#nextPageable() next Pageable} of a previously returned {@link Page}, in which case
+	 * the cost of retrieving the page does not depend on the page number.
+	 *
+	 * @param pageable {@link Pageable} describing the page of entities to return.
+	 * @return a {@link Page} of entities.
+	 * @see org.springframework.data.repository.PagingAndSortingRepository#findAll(org.springframework.data.domain.Pageable)
+	 * @see org.springframework.data.gemfire.domain.KeysetPageRequest
+	 * @see org.springframework.data.domain.Pageable
+	 * @see org.springframework.data.domain.Page
+	 */
+	Page<T> findAll(Pageable pageable);
+
 	T save(Wrapper<T, ID> wrapper);
 
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+
+/**
+ * GemFire specific extension of the Spring Data {@link ReactiveCrudRepository}
+ * and {@link ReactiveSortingRepository} interfaces.
+ *
+ * @author John Blum
+ * @see reactor.core.publisher.Flux
+ * @see reactor.core.publisher.Mono
+ * @see org.springframework.data.gemfire.repository.GemfireRepository
+ * @see org.springframework.data.repository.reactive.ReactiveCrudRepository
+ * @see org.springframework.data.repository.reactive.ReactiveSortingRepository
+ * @since 2.0.0
+ */
+public interface ReactiveGemfireRepository<T, ID> extends ReactiveSortingRepository<T, ID> {
+
+	/**
+	 * Returns all entities sorted by the given options.
+	 *
+	 * Entities are fetched in pages located by keyset as the subscriber requests more entities,
+	 * therefore the entire result is never held in memory at once.
+	 *
+	 * @param sort the Spring Data Commons Sort type defining the ordering criteria.
+	 * @return a {@link Flux} emitting all entities sorted by the given options.
+	 * @see org.springframework.data.repository.reactive.ReactiveSortingRepository#findAll(org.springframework.data.domain.Sort)
+	 * @see org.springframework.data.domain.Sort
+	 */
+	Flux<T> findAll(Sort sort);
+
+	Mono<T> save(Wrapper<T, ID> wrapper);
+
+}
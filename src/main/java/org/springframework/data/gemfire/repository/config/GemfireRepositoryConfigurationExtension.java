@@ -17,8 +17,8 @@
 package org.springframework.data.gemfire.repository.config;
 
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
@@ -26,12 +26,15 @@ import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.mapping.annotation.Region;
 import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.repository.ReactiveGemfireRepository;
 import org.springframework.data.gemfire.repository.support.GemfireRepositoryFactoryBean;
 import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
 import org.springframework.data.repository.config.RepositoryConfigurationExtension;
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
 import org.springframework.data.repository.config.RepositoryConfigurationSource;
 import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.util.ClassUtils;
 
 /**
  * {@link RepositoryConfigurationExtension} implementation handling GemFire specific extensions to the Repository XML
@@ -47,6 +50,9 @@ public class GemfireRepositoryConfigurationExtension extends RepositoryConfigura
 	private static final String MAPPING_CONTEXT_PROPERTY_NAME = "gemfireMappingContext";
 	private static final String MAPPING_CONTEXT_REF_ATTRIBUTE_NAME = "mappingContextRef";
 
+	private static final boolean PROJECT_REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Flux",
+		GemfireRepositoryConfigurationExtension.class.getClassLoader());
+
 	static final String DEFAULT_MAPPING_CONTEXT_BEAN_NAME = String.format("%1$s.%2$s",
 			GemfireMappingContext.class.getName(), "DEFAULT");
 
@@ -65,7 +71,7 @@ public class GemfireRepositoryConfigurationExtension extends RepositoryConfigura
 	 */
 	@Override
 	protected Collection<Class<?>> getIdentifyingTypes() {
-		return Collections.singleton(GemfireRepository.class);
+		return Arrays.asList(GemfireRepository.class, ReactiveGemfireRepository.class);
 	}
 
 	/*
@@ -86,6 +92,15 @@ public class GemfireRepositoryConfigurationExtension extends RepositoryConfigura
 		return GemfireRepositoryFactoryBean.class.getName();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#useRepositoryConfiguration(org.springframework.data.repository.core.RepositoryMetadata)
+	 */
+	@Override
+	protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+		return (!metadata.isReactiveRepository() || PROJECT_REACTOR_PRESENT);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#postProcess(org.springframework.beans.factory.support.BeanDefinitionBuilder, org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource)
@@ -18,6 +18,7 @@ package org.springframework.data.gemfire.repository.query;
 
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.repository.core.support.PersistentEntityInformation;
 
 /**
@@ -33,6 +34,8 @@ import org.springframework.data.repository.core.support.PersistentEntityInformat
 public class DefaultGemfireEntityInformation<T, ID> extends PersistentEntityInformation<T, ID>
 		implements GemfireEntityInformation<T, ID> {
 
+	protected static final String DEFAULT_ID_PROPERTY_NAME = "id";
+
 	private final GemfirePersistentEntity<T> persistentEntity;
 
 	/**
@@ -53,4 +56,13 @@ public class DefaultGemfireEntityInformation<T, ID> extends PersistentEntityInfo
 	public String getRegionName() {
 		return persistentEntity.getRegionName();
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.repository.query.GemfireEntityInformation#getIdPropertyName()
+	 */
+	@Override
+	public String getIdPropertyName() {
+		return persistentEntity.getIdProperty().map(PersistentProperty::getName).orElse(DEFAULT_ID_PROPERTY_NAME);
+	}
 }
@@ -34,4 +34,11 @@ public interface GemfireEntityInformation<T, ID> extends EntityInformation<T, ID
 	 */
 	String getRegionName();
 
+	/**
+	 * Returns the name of the entity's identifier property.
+	 *
+	 * @return the name of the entity's identifier property.
+	 */
+	String getIdPropertyName();
+
 }
@@ -16,11 +16,15 @@
 
 package org.springframework.data.gemfire.repository.query;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.domain.KeysetPageRequest;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
@@ -38,6 +42,10 @@ class GemfireQueryCreator extends AbstractQueryCreator<QueryString, Predicates>
 
 	private Iterator<Integer> indexes;
 
+	private Predicate keysetPredicate;
+
+	private final PartTree tree;
+
 	private final QueryBuilder queryBuilder;
 
 	/**
@@ -47,9 +55,25 @@ class GemfireQueryCreator extends AbstractQueryCreator<QueryString, Predicates>
 	 * @param entity must not be {@literal null}.
 	 */
 	public GemfireQueryCreator(PartTree tree, GemfirePersistentEntity<?> entity) {
+		this(tree, entity, Collections.emptyList());
+	}
+
+	/**
+	 * Creates a new {@link GemfireQueryCreator} using the given {@link PartTree} and domain class, selecting only
+	 * the given properties of the domain object, as required by a closed projection, rather than the entire object.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param projectedProperties {@link Collection} of property names to select; selects the entire
+	 * domain object if {@literal null} or empty.
+	 */
+	public GemfireQueryCreator(PartTree tree, GemfirePersistentEntity<?> entity,
+			Collection<String> projectedProperties) {
+
 		super(tree);
 
-		this.queryBuilder = new QueryBuilder(entity, tree);
+		this.tree = tree;
+		this.queryBuilder = new QueryBuilder(entity, tree, projectedProperties);
 		this.indexes = new IndexProvider();
 	}
 
@@ -60,9 +84,36 @@ class GemfireQueryCreator extends AbstractQueryCreator<QueryString, Predicates>
 	@Override
 	public QueryString createQuery(Sort dynamicSort) {
 		this.indexes = new IndexProvider();
+		this.keysetPredicate = null;
 		return super.createQuery(dynamicSort);
 	}
 
+	/**
+	 * Creates a {@link QueryString} for the page described by the given {@link KeysetPageRequest}, ordered by
+	 * the {@link Sort} of the page request.  If the page request carries a keyset, then the query seeks past
+	 * the element whose {@link Sort} property values are bound to the query parameters beginning at
+	 * {@code firstKeysetIndex}.
+	 *
+	 * @param pageRequest {@link KeysetPageRequest} having a {@link Sort} defining a total order of the query results,
+	 * beginning with any static ordering declared by the query method name; must not be {@literal null}.
+	 * @param firstKeysetIndex index of the query parameter bound to the value of the first keyset property.
+	 * @return a {@link QueryString} for the requested page, not yet limited to the page size.
+	 * @see org.springframework.data.gemfire.domain.KeysetPageRequest
+	 * @see org.springframework.data.gemfire.repository.query.KeysetPredicate
+	 * @see #createQuery(Sort)
+	 */
+	public QueryString createQuery(KeysetPageRequest pageRequest, int firstKeysetIndex) {
+		Sort keysetSort = pageRequest.getSort();
+		Sort staticSort = this.tree.getSort();
+
+		this.indexes = new IndexProvider();
+		this.keysetPredicate = (pageRequest.hasKeyset() ? new KeysetPredicate(keysetSort, firstKeysetIndex) : null);
+
+		return super.createQuery(Sort.by(keysetSort.stream()
+			.filter(order -> staticSort.getOrderFor(order.getProperty()) == null)
+			.collect(Collectors.toList())));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.query.parser.AbstractQueryCreator#create(org.springframework.data.repository.query.parser.Part, java.util.Iterator)
@@ -96,7 +147,7 @@ class GemfireQueryCreator extends AbstractQueryCreator<QueryString, Predicates>
 	 */
 	@Override
 	protected QueryString complete(Predicates criteria, Sort sort) {
-		QueryString query = queryBuilder.create(criteria).orderBy(sort);
+		QueryString query = queryBuilder.create(withKeyset(criteria)).orderBy(sort);
 
 		if (LOG.isDebugEnabled()) {
 			LOG.debug(String.format("Created Query [%s]", query.toString()));
@@ -105,6 +156,13 @@ class GemfireQueryCreator extends AbstractQueryCreator<QueryString, Predicates>
 		return query;
 	}
 
+	/* (non-Javadoc) */
+	private Predicate withKeyset(Predicates criteria) {
+		return (this.keysetPredicate == null ? criteria
+			: criteria == null ? this.keysetPredicate
+			: Predicates.nested(criteria).and(this.keysetPredicate));
+	}
+
 	/**
 	 * {@link IndexProvider} is an {@link Iterator} providing sequentially numbered placeholders (starting at 1),
 	 * in a generated GemFire OQL statement corresponding to all possible arguments passed to
@@ -20,6 +20,7 @@ import java.lang.reflect.Method;
 
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.gemfire.repository.Query;
@@ -74,18 +75,23 @@ public class GemfireQueryMethod extends QueryMethod {
 
 	/**
 	 * Asserts that the query method is a non-Paging query method since GemFire does not support pagination
-	 * as it has no concept of a Cursor.
+	 * as it has no concept of a Cursor.  The exception is query methods returning a {@link Slice}, which
+	 * are paginated by keyset rather than by offset and therefore do not require a total count.
 	 *
 	 * @param method the query method to be evaluated
-	 * @throws java.lang.IllegalStateException if the query method contains a parameter of type Pageable.
+	 * @throws java.lang.IllegalStateException if the query method contains a parameter of type Pageable
+	 * and does not return a {@link Slice}.
 	 * @see org.springframework.data.domain.Pageable
 	 * @see java.lang.reflect.Method#getParameterTypes()
+	 * @see #isSliceQuery()
 	 */
 	private void assertNonPagingQueryMethod(Method method) {
-		for (Class<?> type : method.getParameterTypes()) {
-			if (Pageable.class.isAssignableFrom(type)) {
-				throw new IllegalStateException(String.format("Pagination is not supported by GemFire Repositories;"
-					+ " Offending method: %1$s", method.getName()));
+		if (!isSliceQuery()) {
+			for (Class<?> type : method.getParameterTypes()) {
+				if (Pageable.class.isAssignableFrom(type)) {
+					throw new IllegalStateException(String.format("Pagination is not supported by GemFire Repositories;"
+						+ " Offending method: %1$s", method.getName()));
+				}
 			}
 		}
 	}
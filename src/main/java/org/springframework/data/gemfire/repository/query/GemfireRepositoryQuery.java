@@ -32,12 +32,15 @@ abstract class GemfireRepositoryQuery implements RepositoryQuery {
 
 	private final GemfireQueryMethod queryMethod;
 
+	private final ProjectionResultConverter projectionResultConverter;
+
 	/*
 	 * (non-Javadoc)
 	 * Constructor used for testing purposes only!
 	 */
 	GemfireRepositoryQuery() {
 		queryMethod = null;
+		projectionResultConverter = null;
 	}
 
 	/**
@@ -48,6 +51,8 @@ abstract class GemfireRepositoryQuery implements RepositoryQuery {
 	public GemfireRepositoryQuery(GemfireQueryMethod queryMethod) {
 		Assert.notNull(queryMethod);
 		this.queryMethod = queryMethod;
+		this.projectionResultConverter =
+			new ProjectionResultConverter(queryMethod.getResultProcessor().getReturnedType());
 	}
 
 	/* 
@@ -59,4 +64,33 @@ abstract class GemfireRepositoryQuery implements RepositoryQuery {
 		return this.queryMethod;
 	}
 
+	/**
+	 * Determines whether the query method returns a projection of the domain object rather than the domain object.
+	 *
+	 * @return a boolean value indicating whether the query method returns a projection.
+	 * @see org.springframework.data.repository.query.ReturnedType#isProjecting()
+	 */
+	protected boolean isProjectingQuery() {
+		return getQueryMethod().getResultProcessor().getReturnedType().isProjecting();
+	}
+
+	/**
+	 * Projects the given query results onto the type returned by the query method, if the query method
+	 * returns a projection.  Otherwise, the query results are returned as is.
+	 *
+	 * @param results results of the query, such as a {@link java.util.Collection}, {@link java.util.stream.Stream}
+	 * or {@link org.springframework.data.domain.Slice} of results, or a single result.
+	 * @return the query results projected onto the type returned by the query method.
+	 * @see org.springframework.data.repository.query.ResultProcessor#processResult(Object, org.springframework.core.convert.converter.Converter)
+	 * @see org.springframework.data.gemfire.repository.query.ProjectionResultConverter
+	 */
+	protected Object processResult(Object results) {
+		return getQueryMethod().getResultProcessor().processResult(results, this.projectionResultConverter);
+	}
+
+	/* (non-Javadoc) */
+	ProjectionResultConverter getProjectionResultConverter() {
+		return this.projectionResultConverter;
+	}
+
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.data.gemfire.domain.KeysetPage;
+import org.springframework.data.gemfire.domain.KeysetPageRequest;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Iterator} over the elements of consecutive {@link KeysetPage KeysetPages}, fetching each page lazily,
+ * only once all the elements of the previous page have been consumed.
+ *
+ * At most one page of elements is held by the {@link Iterator} at any given time, which bounds the memory required
+ * to iterate over large query results.
+ *
+ * @author John Blum
+ * @see java.util.Iterator
+ * @see org.springframework.data.gemfire.domain.KeysetPage
+ * @see org.springframework.data.gemfire.domain.KeysetPageRequest
+ * @since 2.0.0
+ */
+class KeysetPageIterator<T> implements Iterator<T> {
+
+	private final Function<KeysetPageRequest, KeysetPage<T>> pageFunction;
+
+	private Iterator<T> pageIterator = Collections.emptyIterator();
+
+	private KeysetPageRequest nextPageRequest;
+
+	/**
+	 * Constructs a new instance of {@link KeysetPageIterator} initialized with the {@link KeysetPageRequest}
+	 * for the first page and the {@link Function} used to fetch each page.
+	 *
+	 * @param firstPageRequest {@link KeysetPageRequest} for the first page; must not be {@literal null}.
+	 * @param pageFunction {@link Function} used to fetch the {@link KeysetPage} for a given {@link KeysetPageRequest};
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if either argument is {@literal null}.
+	 */
+	KeysetPageIterator(KeysetPageRequest firstPageRequest, Function<KeysetPageRequest, KeysetPage<T>> pageFunction) {
+
+		Assert.notNull(firstPageRequest, "KeysetPageRequest must not be null");
+		Assert.notNull(pageFunction, "Page Function must not be null");
+
+		this.nextPageRequest = firstPageRequest;
+		this.pageFunction = pageFunction;
+	}
+
+	/**
+	 * Returns a sequential, ordered {@link Stream} over the elements of this {@link Iterator}.
+	 *
+	 * @return a {@link Stream} over the elements of this {@link Iterator}.
+	 * @see java.util.stream.Stream
+	 */
+	Stream<T> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+
+		while (!this.pageIterator.hasNext() && this.nextPageRequest != null) {
+			KeysetPage<T> page = this.pageFunction.apply(this.nextPageRequest);
+
+			KeysetPageRequest nextPageRequest = (KeysetPageRequest) page.nextPageable();
+
+			this.pageIterator = page.iterator();
+			// do not retain the chain of page requests for all pages iterated so far
+			this.nextPageRequest = (nextPageRequest != null ? nextPageRequest.withoutPrevious() : null);
+		}
+
+		return this.pageIterator.hasNext();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public T next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more elements");
+		}
+
+		return this.pageIterator.next();
+	}
+}
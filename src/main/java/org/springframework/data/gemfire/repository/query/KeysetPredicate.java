@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link Predicate} used to seek past the last element of a previous page in keyset paginated queries.
+ *
+ * For a {@link Sort} on properties {@literal a, b} (ascending), beginning at the bind parameter index {@literal n},
+ * the predicate evaluates to {@literal (a > $n OR (a = $n AND (b > $n+1)))}.  Descending properties
+ * use the {@literal <} operator instead.
+ *
+ * @author John Blum
+ * @see org.springframework.data.domain.Sort
+ * @see org.springframework.data.gemfire.repository.query.Predicate
+ * @since 2.0.0
+ */
+class KeysetPredicate implements Predicate {
+
+	private final int firstIndex;
+
+	private final List<Sort.Order> orders;
+
+	/**
+	 * Constructs a new instance of {@link KeysetPredicate} initialized with the given {@link Sort}
+	 * and starting bind parameter index.
+	 *
+	 * @param sort {@link Sort} defining the keyset properties; must not be {@literal null} or unsorted.
+	 * @param firstIndex index of the bind parameter holding the value of the first keyset property.
+	 * @throws IllegalArgumentException if {@link Sort} is {@literal null} or unsorted,
+	 * or the index is less than 1.
+	 */
+	KeysetPredicate(Sort sort, int firstIndex) {
+
+		Assert.isTrue(sort != null && sort.isSorted(), "Sort must not be null or unsorted");
+		Assert.isTrue(firstIndex > 0, String.format("Bind parameter index [%d] must be greater than 0", firstIndex));
+
+		this.orders = sort.stream().collect(Collectors.toList());
+		this.firstIndex = firstIndex;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.repository.query.Predicate#toString(java.lang.String)
+	 */
+	@Override
+	public String toString(String alias) {
+
+		String predicate = null;
+
+		for (int position = this.orders.size() - 1; position >= 0; position--) {
+
+			Sort.Order order = this.orders.get(position);
+
+			String property = resolveProperty(alias, order);
+			String operator = (order.isAscending() ? ">" : "<");
+			int index = this.firstIndex + position;
+
+			predicate = (predicate == null ? String.format("%1$s %2$s $%3$d", property, operator, index)
+				: String.format("%1$s %2$s $%3$d OR (%1$s = $%3$d AND (%4$s))", property, operator, index, predicate));
+		}
+
+		return String.format("(%s)", predicate);
+	}
+
+	/* (non-Javadoc) */
+	private String resolveProperty(String alias, Sort.Order order) {
+		return (StringUtils.hasText(alias) ? String.format("%1$s.%2$s", alias, order.getProperty())
+			: order.getProperty());
+	}
+}
@@ -16,13 +16,34 @@
 package org.springframework.data.gemfire.repository.query;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.apache.geode.cache.query.SelectResults;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.domain.KeysetPage;
+import org.springframework.data.gemfire.domain.KeysetPageRequest;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 
@@ -31,9 +52,16 @@ import org.springframework.data.repository.query.parser.PartTree;
  * method's name.
  * 
  * @author Oliver Gierke
+ * @author John Blum
  */
 public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
+	protected static final int DEFAULT_STREAM_CHUNK_SIZE = 1000;
+	protected static final int MAXIMUM_CACHED_QUERIES = 128;
+
+	private final ConcurrentMap<Object, StringBasedGemfireRepositoryQuery> repositoryQueries =
+		new ConcurrentHashMap<>();
+
 	private final GemfireQueryMethod method;
 	private final PartTree tree;
 	private final GemfireTemplate template;
@@ -64,20 +92,204 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	public Object execute(Object[] parameters) {
 		ParametersParameterAccessor parameterAccessor = new ParametersParameterAccessor(method.getParameters(), parameters);
 
-		QueryString query = new GemfireQueryCreator(tree, method.getPersistentEntity())
-			.createQuery(parameterAccessor.getSort());
+		if (method.isStreamQuery()) {
+			return processResult(executeStreamQuery(parameterAccessor, parameters));
+		}
+
+		if (method.isSliceQuery()) {
+			return processResult(executeSliceQuery(parameterAccessor, parameters));
+		}
+
+		Sort sort = Optional.ofNullable(parameterAccessor.getSort()).orElseGet(Sort::unsorted);
 
-		RepositoryQuery repositoryQuery = new StringBasedGemfireRepositoryQuery(query.toString(), method, template);
+		RepositoryQuery repositoryQuery = resolveRepositoryQuery(sort,
+			() -> newQueryCreator(tree.getSort().and(sort)).createQuery(sort));
 
 		return repositoryQuery.execute(prepareStringParameters(parameters));
 	}
 
+	/**
+	 * Resolves the {@link StringBasedGemfireRepositoryQuery} for the derived OQL query identified by the given key,
+	 * creating the OQL query with the given {@link Supplier} only if the query has not been previously created.
+	 *
+	 * Derived OQL queries are cached per distinct key (e.g. dynamic {@link Sort}) up to
+	 * {@link #MAXIMUM_CACHED_QUERIES}, after which new OQL queries are created on every invocation.
+	 *
+	 * @param key {@link Object} identifying the derived OQL query.
+	 * @param querySupplier {@link Supplier} used to create the derived OQL query.
+	 * @return the resolved {@link StringBasedGemfireRepositoryQuery}.
+	 * @see org.springframework.data.gemfire.repository.query.StringBasedGemfireRepositoryQuery
+	 */
+	private StringBasedGemfireRepositoryQuery resolveRepositoryQuery(Object key, Supplier<QueryString> querySupplier) {
+		StringBasedGemfireRepositoryQuery repositoryQuery = this.repositoryQueries.get(key);
+
+		if (repositoryQuery == null) {
+			repositoryQuery = new StringBasedGemfireRepositoryQuery(querySupplier.get().toString(), method, template);
+
+			if (this.repositoryQueries.size() < MAXIMUM_CACHED_QUERIES) {
+				StringBasedGemfireRepositoryQuery existingRepositoryQuery =
+					this.repositoryQueries.putIfAbsent(key, repositoryQuery);
+
+				repositoryQuery = (existingRepositoryQuery != null ? existingRepositoryQuery : repositoryQuery);
+			}
+		}
+
+		return repositoryQuery;
+	}
+
+	/**
+	 * Executes the derived query for a single keyset paginated {@link Slice} of results.
+	 *
+	 * The values of the keyset, if any, are bound to query parameters following the query method arguments.
+	 *
+	 * @param parameterAccessor {@link ParametersParameterAccessor} used to access the {@link Pageable} argument.
+	 * @param parameters arguments passed to the query method.
+	 * @return a {@link Slice} of the query results.
+	 * @see org.springframework.data.gemfire.domain.KeysetPage
+	 * @see org.springframework.data.gemfire.domain.KeysetPageRequest
+	 */
+	private Slice<?> executeSliceQuery(ParametersParameterAccessor parameterAccessor, Object[] parameters) {
+		KeysetPageRequest pageRequest =
+			KeysetPageRequest.from(parameterAccessor.getPageable(), tree.getSort(), resolveIdPropertyName());
+
+		return executeKeysetQuery(pageRequest, parameters);
+	}
+
+	/**
+	 * Executes the derived query as a {@link Stream} of results fetched lazily in chunks of
+	 * {@link #DEFAULT_STREAM_CHUNK_SIZE} elements.
+	 *
+	 * Each chunk is queried by keyset, seeking past the last element of the previous chunk, so that only a single
+	 * chunk of results is held in memory at a time.  The {@link Stream} is truncated to the
+	 * {@link org.springframework.data.gemfire.repository.query.annotation.Limit},
+	 * if declared on the query method.
+	 *
+	 * @param parameterAccessor {@link ParametersParameterAccessor} used to access the dynamic {@link Sort} argument.
+	 * @param parameters arguments passed to the query method.
+	 * @return a {@link Stream} of the query results.
+	 * @see org.springframework.data.gemfire.repository.query.KeysetPageIterator
+	 */
+	private Stream<?> executeStreamQuery(ParametersParameterAccessor parameterAccessor, Object[] parameters) {
+		int chunkSize = (method.hasLimit() ? Math.min(method.getLimit(), DEFAULT_STREAM_CHUNK_SIZE)
+			: DEFAULT_STREAM_CHUNK_SIZE);
+
+		KeysetPageRequest firstPageRequest = KeysetPageRequest.from(
+			KeysetPageRequest.of(chunkSize, parameterAccessor.getSort()), tree.getSort(), resolveIdPropertyName());
+
+		Stream<?> stream = new KeysetPageIterator<>(firstPageRequest,
+			pageRequest -> executeKeysetQuery(pageRequest, parameters)).stream();
+
+		return (method.hasLimit() ? stream.limit(method.getLimit()) : stream);
+	}
+
+	/**
+	 * Executes the derived query for the single page of results described by the given {@link KeysetPageRequest}.
+	 *
+	 * The values of the keyset, if any, are bound to query parameters following the query method arguments.
+	 *
+	 * @param pageRequest {@link KeysetPageRequest} describing the page of results to query.
+	 * @param parameters arguments passed to the query method.
+	 * @return a {@link KeysetPage} of the query results.
+	 * @see org.springframework.data.gemfire.domain.KeysetPage
+	 * @see org.springframework.data.gemfire.domain.KeysetPageRequest
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> KeysetPage<T> executeKeysetQuery(KeysetPageRequest pageRequest, Object[] parameters) {
+		List<Object> queryKey = Arrays.asList(pageRequest.getSort(), pageRequest.hasKeyset(),
+			pageRequest.getFetchLimit());
+
+		StringBasedGemfireRepositoryQuery repositoryQuery = resolveRepositoryQuery(queryKey,
+			() -> newQueryCreator(pageRequest.getSort())
+				.createQuery(pageRequest, parameters.length + 1).withLimit(pageRequest.getFetchLimit()));
+
+		Object[] stringParameters = repositoryQuery.resolveParameters(prepareStringParameters(parameters));
+
+		Object[] bindParameters = Stream.concat(
+			Arrays.stream(stringParameters).map(parameter -> (isSpecialParameter(parameter) ? null : parameter)),
+			Arrays.stream(pageRequest.getKeyset())).toArray();
+
+		SelectResults<T> results = template.find(repositoryQuery.resolveQuery().toString(), bindParameters);
+
+		List<T> resultList = results.asList();
+
+		if (isProjectingQuery()) {
+			ProjectionResultConverter converter = getProjectionResultConverter();
+			resultList = resultList.stream().map(result -> (T) converter.prepare(result)).collect(Collectors.toList());
+		}
+
+		return KeysetPage.newKeysetPage(resultList, pageRequest, null);
+	}
+
+	/**
+	 * Constructs a new {@link GemfireQueryCreator} for the derived OQL query ordered by the given {@link Sort}.
+	 *
+	 * @param sort complete {@link Sort} order of the derived OQL query.
+	 * @return a new {@link GemfireQueryCreator}.
+	 * @see #resolveProjectedProperties(Sort)
+	 */
+	private GemfireQueryCreator newQueryCreator(Sort sort) {
+		return new GemfireQueryCreator(tree, method.getPersistentEntity(), resolveProjectedProperties(sort));
+	}
+
+	/**
+	 * Resolves the properties of the domain object selected by the derived OQL query ordered by the given
+	 * {@link Sort} when the query method returns a closed interface or DTO projection.
+	 *
+	 * Only the input properties of the projection, the properties ordering the query results and,
+	 * unless the query is distinct, the identifier are selected, such that query results do not need
+	 * to be deserialized as whole domain objects.  The entire domain object is selected if the query method
+	 * does not return a closed projection or the projection declares properties not persisted by
+	 * the domain object.
+	 *
+	 * @param sort complete {@link Sort} order of the derived OQL query.
+	 * @return a {@link List} of property names to select, or an empty {@link List} to select
+	 * the entire domain object.
+	 * @see org.springframework.data.repository.query.ReturnedType#needsCustomConstruction()
+	 */
+	List<String> resolveProjectedProperties(Sort sort) {
+		ReturnedType returnedType = method.getResultProcessor().getReturnedType();
+
+		if (returnedType.needsCustomConstruction()) {
+			GemfirePersistentEntity<?> entity = method.getPersistentEntity();
+
+			Set<String> persistentProperties = new HashSet<>();
+
+			entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty ->
+				persistentProperties.add(persistentProperty.getName()));
+
+			Set<String> projectedProperties = new LinkedHashSet<>(returnedType.getInputProperties());
+
+			if (!tree.isDistinct()) {
+				projectedProperties.add(resolveIdPropertyName());
+			}
+
+			sort.forEach(order -> projectedProperties.add(order.getProperty()));
+
+			if (persistentProperties.containsAll(projectedProperties)) {
+				return new ArrayList<>(projectedProperties);
+			}
+		}
+
+		return Collections.emptyList();
+	}
+
+	/* (non-Javadoc) */
+	private String resolveIdPropertyName() {
+		return method.getPersistentEntity().getIdProperty().map(PersistentProperty::getName)
+			.orElse(DefaultGemfireEntityInformation.DEFAULT_ID_PROPERTY_NAME);
+	}
+
+	/* (non-Javadoc) */
+	private boolean isSpecialParameter(Object parameter) {
+		return (parameter instanceof Pageable || parameter instanceof Sort);
+	}
+
 	private Object[] prepareStringParameters(Object[] parameters) {
 		Iterator<Part> partsIterator = tree.getParts().iterator();
 		List<Object> stringParameters = new ArrayList<Object>(parameters.length);
 
 		for (Object parameter : parameters) {
-			if (parameter == null || parameter instanceof Sort) {
+			if (parameter == null || isSpecialParameter(parameter)) {
 				stringParameters.add(parameter);
 			}
 			else {
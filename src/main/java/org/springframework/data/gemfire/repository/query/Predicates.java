@@ -49,6 +49,24 @@ class Predicates implements Predicate {
 		return create(new AtomicPredicate(part, indexes));
 	}
 
+	/**
+	 * Wraps the given {@link Predicate} in parentheses so that it can be safely combined with other predicates
+	 * regardless of the precedence of the operators it contains.
+	 *
+	 * @param predicate must not be {@literal null}.
+	 * @return an instance of {@link Predicates} wrapping the parenthesized {@link Predicate}.
+	 */
+	public static Predicates nested(final Predicate predicate) {
+		Assert.notNull(predicate, "Predicate must not be null");
+
+		return create(new Predicate() {
+			@Override
+			public String toString(String alias) {
+				return String.format("(%s)", predicate.toString(alias));
+			}
+		});
+	}
+
 	/**
 	 * And-concatenates the given {@link Predicate} to the current one.
 	 *
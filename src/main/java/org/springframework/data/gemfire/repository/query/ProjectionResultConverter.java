@@ -0,0 +1,160 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.pdx.PdxInstance;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Converter} preparing the results of an OQL query for projection onto the type returned by a query method.
+ *
+ * OQL queries selecting only the properties of a closed projection return a {@link Struct} per result,
+ * or the value itself when a single property is selected, which is converted into a {@link Map} of property name
+ * to value from which the {@link org.springframework.data.repository.query.ResultProcessor} creates
+ * the interface projection.  DTO projections are instantiated directly using the constructor declaring
+ * the input properties of the DTO.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.query.Struct
+ * @see org.springframework.core.convert.converter.Converter
+ * @see org.springframework.data.repository.query.ResultProcessor
+ * @see org.springframework.data.repository.query.ReturnedType
+ * @since 2.0.0
+ */
+class ProjectionResultConverter implements Converter<Object, Object> {
+
+	private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+	private final ReturnedType returnedType;
+
+	private volatile Constructor<?> dtoConstructor;
+
+	/**
+	 * Constructs a new instance of {@link ProjectionResultConverter} for the given {@link ReturnedType}.
+	 *
+	 * @param returnedType {@link ReturnedType} of the query method; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link ReturnedType} is {@literal null}.
+	 */
+	ProjectionResultConverter(ReturnedType returnedType) {
+		Assert.notNull(returnedType, "ReturnedType must not be null");
+		this.returnedType = returnedType;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.convert.converter.Converter#convert(java.lang.Object)
+	 */
+	@Override
+	public Object convert(Object source) {
+		Object result = prepare(source);
+
+		return (isDto() ? instantiate(result) : result);
+	}
+
+	/**
+	 * Converts the given OQL query result into a {@link Map} of property name to value if the result is
+	 * a {@link Struct} or the value of the single input property of the projection.  Entities are returned as is.
+	 *
+	 * @param source OQL query result to prepare.
+	 * @return a {@link Map} of property name to value, or the given result if the result is neither a {@link Struct}
+	 * nor the value of a single input property.
+	 */
+	Object prepare(Object source) {
+		if (source instanceof Struct) {
+			Struct struct = (Struct) source;
+			String[] fieldNames = struct.getStructType().getFieldNames();
+			Object[] fieldValues = struct.getFieldValues();
+			Map<String, Object> map = new LinkedHashMap<>(fieldNames.length);
+
+			for (int index = 0; index < fieldNames.length; index++) {
+				map.put(fieldNames[index], resolveValue(fieldValues[index]));
+			}
+
+			return map;
+		}
+
+		List<String> inputProperties = this.returnedType.getInputProperties();
+
+		return (isSingleValue(source, inputProperties)
+			? Collections.singletonMap(inputProperties.get(0), resolveValue(source)) : source);
+	}
+
+	/* (non-Javadoc) */
+	private boolean isDto() {
+		return !(this.returnedType.getReturnedType().isInterface()
+			|| this.returnedType.getInputProperties().isEmpty());
+	}
+
+	/* (non-Javadoc) */
+	private boolean isSingleValue(Object source, List<String> inputProperties) {
+		return (source != null && !(source instanceof Map) && inputProperties.size() == 1
+			&& !this.returnedType.getDomainType().isInstance(source));
+	}
+
+	/* (non-Javadoc) */
+	private Object resolveValue(Object value) {
+		return (value instanceof PdxInstance ? ((PdxInstance) value).getObject() : value);
+	}
+
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	private Object instantiate(Object source) {
+		Function<String, Object> propertyValues = (source instanceof Map ? ((Map<String, Object>) source)::get
+			: new DirectFieldAccessFallbackBeanWrapper(PdxInstanceEntityProxyFactory.INSTANCE.unwrap(source))
+				::getPropertyValue);
+
+		Object[] arguments = this.returnedType.getInputProperties().stream().map(propertyValues).toArray();
+
+		return BeanUtils.instantiateClass(resolveDtoConstructor(), arguments);
+	}
+
+	/* (non-Javadoc) */
+	private Constructor<?> resolveDtoConstructor() {
+		Constructor<?> constructor = this.dtoConstructor;
+
+		if (constructor == null) {
+			Class<?> dtoType = this.returnedType.getReturnedType();
+			String[] inputProperties = this.returnedType.getInputProperties().toArray(new String[0]);
+
+			constructor = Arrays.stream(dtoType.getDeclaredConstructors())
+				.filter(it -> Arrays.equals(inputProperties, PARAMETER_NAME_DISCOVERER.getParameterNames(it)))
+				.findFirst().orElseThrow(() -> new IllegalStateException(String.format(
+					"No constructor declaring parameters %1$s was found for DTO [%2$s]",
+						Arrays.toString(inputProperties), dtoType.getName())));
+
+			this.dtoConstructor = constructor;
+		}
+
+		return constructor;
+	}
+}
@@ -16,6 +16,9 @@
 
 package org.springframework.data.gemfire.repository.query;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.repository.query.support.OqlKeyword;
 import org.springframework.data.repository.query.parser.PartTree;
@@ -32,15 +35,21 @@ import org.springframework.util.Assert;
 class QueryBuilder {
 
 	static final String DEFAULT_ALIAS = "x";
-	static final String SELECT_OQL_TEMPLATE = "SELECT %1$s * FROM /%2$s %3$s";
+	static final String SELECT_OQL_TEMPLATE = "SELECT %1$s %2$s FROM /%3$s %4$s";
 	static final String WHERE_CLAUSE_TEMPLATE = "%1$s WHERE %2$s";
 
 	private final String query;
 
 	/* (non-Javadoc) */
 	static String asQuery(GemfirePersistentEntity<?> entity, PartTree tree) {
+		return asQuery(entity, tree, Collections.emptyList());
+	}
+
+	/* (non-Javadoc) */
+	static String asQuery(GemfirePersistentEntity<?> entity, PartTree tree, Collection<String> projectedProperties) {
 		return String.format(SELECT_OQL_TEMPLATE, (tree.isDistinct() ? OqlKeyword.DISTINCT : ""),
-			entity.getRegionName(), DEFAULT_ALIAS).replaceAll("\\s{2,}", " ");
+			QueryString.asProjection(DEFAULT_ALIAS, projectedProperties), entity.getRegionName(), DEFAULT_ALIAS)
+				.replaceAll("\\s{2,}", " ");
 	}
 
 	/* (non-Javadoc) */
@@ -75,6 +84,23 @@ class QueryBuilder {
 		this(asQuery(entity, tree));
 	}
 
+	/**
+	 * Constructs an instance of {@link QueryBuilder} with the given {@link GemfirePersistentEntity}
+	 * and {@link PartTree} that selects only the given properties of the GemFire persistent entity
+	 * rather than the entire object.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} used to determine the GemFire
+	 * {@link org.apache.geode.cache.Region} to query.
+	 * @param tree {@link PartTree} containing parts of the OQL Query for determining things
+	 * like uniqueness.
+	 * @param projectedProperties {@link Collection} of property names to select; selects the entire
+	 * object if {@literal null} or empty.
+	 * @see #QueryBuilder(GemfirePersistentEntity, PartTree)
+	 */
+	public QueryBuilder(GemfirePersistentEntity<?> entity, PartTree tree, Collection<String> projectedProperties) {
+		this(asQuery(entity, tree, projectedProperties));
+	}
+
 	/**
 	 * Constructs a {@link QueryString} with the given {@link Predicate}.
 	 *
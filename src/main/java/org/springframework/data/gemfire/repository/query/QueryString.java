@@ -21,11 +21,13 @@ import java.util.Collection;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.apache.geode.cache.Region;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.repository.query.support.OqlKeyword;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -51,13 +53,17 @@ public class QueryString {
 	private static final String HINTS_OQL_TEMPLATE = "<HINT %1$s> %2$s";
 	private static final String IMPORT_OQL_TEMPLATE = "IMPORT %1$s; %2$s";
 	private static final String LIMIT_OQL_TEMPLATE = "%1$s LIMIT %2$d";
+	private static final String PROJECTION_OQL_TEMPLATE = "%1$s.%2$s";
 	private static final String SELECT_OQL_TEMPLATE = "SELECT %1$s FROM /%2$s";
 	private static final String TRACE_OQL_TEMPLATE = "<TRACE> %1$s";
+	private static final String WHERE_OQL_TEMPLATE = "%1$s WHERE %2$s";
 
 	// OQL Query Regular Expression Patterns
-	private static final String IN_PATTERN = "(?<=IN (SET|LIST) )\\$\\d";
-	private static final String IN_PARAMETER_PATTERN = "(?<=IN (SET|LIST) \\$)\\d";
-	private static final String REGION_PATTERN = "\\/(\\/?\\w)+";
+	private static final Pattern IN_PATTERN = Pattern.compile("(?<=IN (SET|LIST) )\\$\\d+");
+	private static final Pattern IN_PARAMETER_PATTERN = Pattern.compile("(?<=IN (SET|LIST) \\$)\\d+");
+	private static final Pattern IN_COLLECTION_PATTERN = Pattern.compile("\\bIN (SET|LIST) (\\$\\d+)");
+	private static final Pattern REGION_PATTERN = Pattern.compile("\\/(\\/?\\w)+");
+	private static final Pattern WHERE_PATTERN = Pattern.compile("\\bWHERE\\b", Pattern.CASE_INSENSITIVE);
 
 	private final String query;
 
@@ -67,6 +73,20 @@ public class QueryString {
 			validateDomainType(domainType).getSimpleName());
 	}
 
+	/**
+	 * Returns the OQL {@literal SELECT} projection of the given properties on the aliased domain object
+	 * (e.g. {@literal x.firstname, x.lastname}), or {@literal *} if no properties are given.
+	 *
+	 * @param alias {@link String} containing the alias of the domain object in the {@literal FROM} clause.
+	 * @param properties {@link Collection} of property names to select; may be {@literal null} or empty.
+	 * @return the OQL {@literal SELECT} projection of the given properties.
+	 */
+	static String asProjection(String alias, Collection<String> properties) {
+		return (CollectionUtils.isEmpty(properties) ? "*" : properties.stream()
+			.map(property -> String.format(PROJECTION_OQL_TEMPLATE, alias, property))
+			.collect(Collectors.joining(", ")));
+	}
+
 	/* (non-Javadoc) */
 	static <T> Class<T> validateDomainType(Class<T> domainType) {
 		Assert.notNull(domainType, "domainType must not be null");
@@ -122,13 +142,31 @@ public class QueryString {
 	 */
 	public QueryString bindIn(Collection<?> values) {
 		if (values != null) {
-			return new QueryString(this.query.replaceFirst(IN_PATTERN, String.format("(%s)",
+			return new QueryString(IN_PATTERN.matcher(this.query).replaceFirst(String.format("(%s)",
 				StringUtils.collectionToDelimitedString(values, ", ", "'", "'"))));
 		}
 
 		return this;
 	}
 
+	/**
+	 * Rewrites the {@literal IN SET $n} and {@literal IN LIST $n} parameters of the OQL Query as {@literal IN $n},
+	 * such that the {@link Collection} of values is bound to the query parameter natively, when the OQL Query
+	 * is executed, rather than expanded into the OQL Query string.
+	 *
+	 * Unlike {@link #bindIn(Collection)}, the resulting OQL Query string does not depend on the values
+	 * and can therefore be compiled once and reused.
+	 *
+	 * @return a new {@link QueryString} with native {@literal IN} parameters, or this {@link QueryString}
+	 * if the OQL Query does not declare any {@literal IN} parameters.
+	 * @see #bindIn(Collection)
+	 */
+	public QueryString withNativeInParameters() {
+		Matcher matcher = IN_COLLECTION_PATTERN.matcher(this.query);
+
+		return (matcher.find() ? new QueryString(matcher.replaceAll("IN $2")) : this);
+	}
+
 	/**
 	 * Replaces the domain classes referenced inside the current query with the given {@link Region}.
 	 *
@@ -140,7 +178,7 @@ public class QueryString {
 	 */
 	@SuppressWarnings("unused")
 	public QueryString forRegion(Class<?> domainClass, Region<?, ?> region) {
-		return new QueryString(this.query.replaceAll(REGION_PATTERN, region.getFullPath()));
+		return new QueryString(REGION_PATTERN.matcher(this.query).replaceAll(region.getFullPath()));
 	}
 
   /**
@@ -150,8 +188,7 @@ public class QueryString {
 	 * @see java.lang.Iterable
 	 */
 	public Iterable<Integer> getInParameterIndexes() {
-		Pattern pattern = Pattern.compile(IN_PARAMETER_PATTERN);
-		Matcher matcher = pattern.matcher(query);
+		Matcher matcher = IN_PARAMETER_PATTERN.matcher(query);
 		List<Integer> result = new ArrayList<>();
 
 		while (matcher.find()) {
@@ -186,6 +223,27 @@ public class QueryString {
 		return this;
 	}
 
+	/**
+	 * Appends a keyset predicate to this GemFire OQL Query string, seeking past the element whose {@link Sort}
+	 * property values are bound to the query parameters beginning at {@code firstIndex}.
+	 *
+	 * This OQL Query must not already declare a WHERE clause.
+	 *
+	 * @param sort {@link Sort} defining the keyset properties and their direction; must not be unsorted.
+	 * @param firstIndex index of the query parameter bound to the value of the first keyset property.
+	 * @return a new {@link QueryString} with a WHERE clause seeking past the last element of the previous page.
+	 * @throws IllegalArgumentException if {@link Sort} is {@literal null} or unsorted.
+	 * @throws IllegalStateException if this OQL Query already declares a WHERE clause.
+	 * @see org.springframework.data.domain.Sort
+	 */
+	public QueryString seekAfter(Sort sort, int firstIndex) {
+		Assert.state(!WHERE_PATTERN.matcher(this.query).find(),
+			String.format("OQL Query [%s] already declares a WHERE clause", this.query));
+
+		return new QueryString(String.format(WHERE_OQL_TEMPLATE, this.query,
+			new KeysetPredicate(sort, firstIndex).toString(null)));
+	}
+
 	/* (non-Javadoc) */
 	private boolean hasSort(Sort sort) {
 		return (sort != null && sort.iterator().hasNext());
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.gemfire.ReactiveGemfireTemplate;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.util.ReactiveWrappers;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RepositoryQuery} implementation adapting a blocking GemFire {@link RepositoryQuery} to the reactive
+ * return types, {@link reactor.core.publisher.Mono} and {@link reactor.core.publisher.Flux}, declared by
+ * query methods of a reactive Repository.
+ *
+ * The blocking {@link RepositoryQuery} is executed on the {@link reactor.core.scheduler.Scheduler}
+ * of the {@link ReactiveGemfireTemplate} when the returned publisher is subscribed.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.ReactiveGemfireTemplate
+ * @see org.springframework.data.repository.query.RepositoryQuery
+ * @since 2.0.0
+ */
+public class ReactiveGemfireRepositoryQuery implements RepositoryQuery {
+
+	private final boolean multiValueQuery;
+
+	private final ReactiveGemfireTemplate template;
+
+	private final RepositoryQuery query;
+
+	/**
+	 * Creates a new {@link ReactiveGemfireRepositoryQuery}.
+	 *
+	 * @param query blocking {@link RepositoryQuery} to adapt; must not be {@literal null}.
+	 * @param template {@link ReactiveGemfireTemplate} used to execute the query; must not be {@literal null}.
+	 * @param returnType reactive return type declared by the query method.
+	 */
+	public ReactiveGemfireRepositoryQuery(RepositoryQuery query, ReactiveGemfireTemplate template,
+			Class<?> returnType) {
+
+		Assert.notNull(query, "RepositoryQuery must not be null");
+		Assert.notNull(template, "ReactiveGemfireTemplate must not be null");
+
+		this.query = query;
+		this.template = template;
+		this.multiValueQuery = ReactiveWrappers.isMultiValueType(returnType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.RepositoryQuery#execute(java.lang.Object[])
+	 */
+	@Override
+	public Object execute(Object[] parameters) {
+		return (this.multiValueQuery ? this.template.deferMany(() -> toCollection(this.query.execute(parameters)))
+			: this.template.defer(() -> toSingleResult(this.query.execute(parameters))));
+	}
+
+	/* (non-Javadoc) */
+	Collection<?> toCollection(Object result) {
+		if (result instanceof Collection) {
+			return (Collection<?>) result;
+		}
+		else if (result instanceof Stream) {
+			return ((Stream<?>) result).collect(Collectors.toList());
+		}
+
+		return (result != null ? Collections.singletonList(result) : Collections.emptyList());
+	}
+
+	/* (non-Javadoc) */
+	Object toSingleResult(Object result) {
+		if (result instanceof Collection) {
+			Collection<?> collection = (Collection<?>) result;
+
+			if (collection.size() > 1) {
+				throw new IncorrectResultSizeDataAccessException(1, collection.size());
+			}
+
+			return (collection.isEmpty() ? null : collection.iterator().next());
+		}
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.RepositoryQuery#getQueryMethod()
+	 */
+	@Override
+	public QueryMethod getQueryMethod() {
+		return this.query.getQueryMethod();
+	}
+}
@@ -21,7 +21,6 @@ import java.util.Collections;
 import org.apache.geode.cache.query.SelectResults;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.gemfire.GemfireTemplate;
-import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -42,8 +41,12 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 	private final GemfireTemplate template;
 
+	private final Iterable<Integer> inParameterIndexes;
+
 	private final QueryString query;
 
+	private volatile QueryString resolvedQuery;
+
 	/*
 	 * (non-Javadoc)
 	 * Constructor used for testing purposes only!
@@ -51,6 +54,7 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	StringBasedGemfireRepositoryQuery() {
 		query = null;
 		template = null;
+		inParameterIndexes = null;
 	}
 
 	/**
@@ -79,6 +83,7 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 		this.userDefinedQuery |= !StringUtils.hasText(query);
 		this.query = new QueryString(StringUtils.hasText(query) ? query : queryMethod.getAnnotatedQuery());
+		this.inParameterIndexes = this.query.getInParameterIndexes();
 		this.template = template;
 
 		if (queryMethod.isModifyingQuery() || queryMethod.isPageQuery()) {
@@ -90,7 +95,13 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	 * (non-Javadoc)
 	 */
 	public StringBasedGemfireRepositoryQuery asUserDefinedQuery() {
+		if (getQueryMethod().isSliceQuery()) {
+			throw new IllegalStateException(INVALID_QUERY);
+		}
+
 		this.userDefinedQuery = true;
+		this.resolvedQuery = null;
+
 		return this;
 	}
 
@@ -109,29 +120,22 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	public Object execute(Object[] parameters) {
 		QueryMethod localQueryMethod = getQueryMethod();
 
-		QueryString query = (isUserDefinedQuery() ? this.query
-			: this.query.forRegion(localQueryMethod.getEntityInformation().getJavaType(), template.getRegion()));
-
-		ParametersParameterAccessor parameterAccessor =
-			new ParametersParameterAccessor(localQueryMethod.getParameters(), parameters);
-
-		for (Integer index : query.getInParameterIndexes()) {
-			query = query.bindIn(toCollection(parameterAccessor.getBindableValue(index - 1)));
-		}
+		QueryString query = resolveQuery();
 
-		query = applyQueryAnnotationExtensions(localQueryMethod, query);
-
-		Collection<?> result = toCollection(template.find(query.toString(), parameters));
+		Collection<?> result = toCollection(template.find(query.toString(), resolveParameters(parameters)));
 
 		if (localQueryMethod.isCollectionQuery()) {
-			return result;
+			return processResult(result);
+		}
+		else if (localQueryMethod.isStreamQuery()) {
+			return processResult(result.stream());
 		}
-		else if (localQueryMethod.isQueryForEntity()) {
+		else if (localQueryMethod.isQueryForEntity() || isProjectingQuery()) {
 			if (result.isEmpty()) {
 				return null;
 			}
 			else if (result.size() == 1) {
-				return result.iterator().next();
+				return processResult(result.iterator().next());
 			}
 			else {
 				throw new IncorrectResultSizeDataAccessException(1, result.size());
@@ -145,6 +149,56 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		}
 	}
 
+	/**
+	 * Resolves the query parameters to bind to the OQL query from the given query method arguments.
+	 *
+	 * The arguments bound to {@literal IN} parameters are converted into a {@link Collection}, which GemFire binds
+	 * natively, such that the OQL query string does not depend on the values of the {@literal IN} parameters.
+	 *
+	 * @param parameters arguments passed to the query method.
+	 * @return the query parameters to bind to the OQL query.
+	 * @see #toCollection(Object)
+	 */
+	Object[] resolveParameters(Object[] parameters) {
+		if (this.inParameterIndexes.iterator().hasNext()) {
+			Object[] resolvedParameters = parameters.clone();
+
+			for (Integer index : this.inParameterIndexes) {
+				if (index <= resolvedParameters.length) {
+					resolvedParameters[index - 1] = toCollection(resolvedParameters[index - 1]);
+				}
+			}
+
+			return resolvedParameters;
+		}
+
+		return parameters;
+	}
+
+	/**
+	 * Resolves the OQL query by qualifying the Region, rewriting {@literal IN} parameters to be bound natively
+	 * and applying the query annotation extensions.
+	 *
+	 * @return the resolved {@link QueryString}, which is cached for subsequent invocations of the query method.
+	 * @see #applyQueryAnnotationExtensions(QueryMethod, QueryString)
+	 */
+	QueryString resolveQuery() {
+		QueryString query = this.resolvedQuery;
+
+		if (query == null) {
+			QueryMethod localQueryMethod = getQueryMethod();
+
+			query = (isUserDefinedQuery() ? this.query
+				: this.query.forRegion(localQueryMethod.getEntityInformation().getJavaType(), template.getRegion()));
+
+			query = applyQueryAnnotationExtensions(localQueryMethod, query.withNativeInParameters());
+
+			this.resolvedQuery = query;
+		}
+
+		return query;
+	}
+
 	QueryString applyQueryAnnotationExtensions(QueryMethod queryMethod, QueryString queryString) {
 		QueryString resolvedQueryString = queryString;
 
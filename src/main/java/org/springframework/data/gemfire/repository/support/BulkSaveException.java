@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.support;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * The {@link BulkSaveException} class is a {@link DataAccessException} indicating that one or more chunks
+ * of entities could not be saved by a bulk {@link SimpleGemfireRepository#saveAll(Iterable)} operation.
+ *
+ * The entities in the chunks that were saved successfully are available from {@link #getSavedEntities()}
+ * and each chunk that failed to save is available, along with the cause, from {@link #getFailedChunks()},
+ * allowing the caller to retry only the entities that failed.
+ *
+ * @author John Blum
+ * @see org.springframework.dao.DataAccessException
+ * @see org.springframework.data.gemfire.repository.support.SimpleGemfireRepository#saveAll(Iterable)
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class BulkSaveException extends DataAccessException {
+
+	private final List<?> savedEntities;
+
+	private final List<FailedChunk> failedChunks;
+
+	/**
+	 * Constructs a new instance of {@link BulkSaveException} initialized with the entities that were saved
+	 * and the chunks of entities that failed to save.
+	 *
+	 * @param savedEntities {@link List} of entities that were saved successfully.
+	 * @param failedChunks {@link List} of {@link FailedChunk FailedChunks}; must not be {@literal null} or empty.
+	 */
+	public BulkSaveException(List<?> savedEntities, List<FailedChunk> failedChunks) {
+		super(String.format("Failed to save [%1$d] chunk(s) containing [%2$d] entities; [%3$d] entities were saved",
+			failedChunks.size(), failedChunks.stream().mapToInt(chunk -> chunk.getEntities().size()).sum(),
+				savedEntities.size()), failedChunks.get(0).getCause());
+
+		this.savedEntities = Collections.unmodifiableList(savedEntities);
+		this.failedChunks = Collections.unmodifiableList(failedChunks);
+
+		failedChunks.stream().skip(1).map(FailedChunk::getCause).forEach(this::addSuppressed);
+	}
+
+	/**
+	 * Returns the chunks of entities that failed to save.
+	 *
+	 * @return an unmodifiable {@link List} of {@link FailedChunk FailedChunks}.
+	 */
+	public List<FailedChunk> getFailedChunks() {
+		return this.failedChunks;
+	}
+
+	/**
+	 * Returns the entities that were saved successfully.
+	 *
+	 * @return an unmodifiable {@link List} of the saved entities.
+	 */
+	public List<?> getSavedEntities() {
+		return this.savedEntities;
+	}
+
+	/**
+	 * The {@link FailedChunk} class records a chunk of entities that failed to save along with the cause.
+	 */
+	public static class FailedChunk {
+
+		private final Collection<?> entities;
+
+		private final Throwable cause;
+
+		public FailedChunk(Collection<?> entities, Throwable cause) {
+			this.entities = Collections.unmodifiableCollection(entities);
+			this.cause = cause;
+		}
+
+		public Throwable getCause() {
+			return this.cause;
+		}
+
+		public Collection<?> getEntities() {
+			return this.entities;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$s{ entities = %2$d, cause = %3$s }", getClass().getSimpleName(),
+				getEntities().size(), getCause());
+		}
+	}
+}
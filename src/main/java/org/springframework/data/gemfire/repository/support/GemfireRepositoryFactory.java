@@ -25,6 +25,7 @@ import java.util.Optional;
 
 import org.apache.geode.cache.Region;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.ReactiveGemfireTemplate;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.gemfire.mapping.Regions;
@@ -32,6 +33,7 @@ import org.springframework.data.gemfire.repository.query.DefaultGemfireEntityInf
 import org.springframework.data.gemfire.repository.query.GemfireEntityInformation;
 import org.springframework.data.gemfire.repository.query.GemfireQueryMethod;
 import org.springframework.data.gemfire.repository.query.PartTreeGemfireRepositoryQuery;
+import org.springframework.data.gemfire.repository.query.ReactiveGemfireRepositoryQuery;
 import org.springframework.data.gemfire.repository.query.StringBasedGemfireRepositoryQuery;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
@@ -42,6 +44,7 @@ import org.springframework.data.repository.core.support.RepositoryFactorySupport
 import org.springframework.data.repository.query.EvaluationContextProvider;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -103,7 +106,23 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 
 		GemfireTemplate gemfireTemplate = getTemplate(repositoryInformation);
 
-		return getTargetRepositoryViaReflection(repositoryInformation, gemfireTemplate, entityInformation);
+		return (repositoryInformation.isReactiveRepository()
+			? getTargetRepositoryViaReflection(repositoryInformation, newReactiveTemplate(gemfireTemplate),
+				entityInformation)
+			: getTargetRepositoryViaReflection(repositoryInformation, gemfireTemplate, entityInformation));
+	}
+
+	/**
+	 * Constructs a new {@link ReactiveGemfireTemplate} used by reactive Repositories to perform the blocking
+	 * data access operations of the given {@link GemfireTemplate} on the
+	 * {@link ReactiveGemfireTemplate#getDefaultScheduler() shared, bounded Scheduler}.
+	 *
+	 * @param template {@link GemfireTemplate} used to perform the data access operations.
+	 * @return a new {@link ReactiveGemfireTemplate}.
+	 * @see org.springframework.data.gemfire.ReactiveGemfireTemplate
+	 */
+	protected ReactiveGemfireTemplate newReactiveTemplate(GemfireTemplate template) {
+		return new ReactiveGemfireTemplate(template, ReactiveGemfireTemplate.getDefaultScheduler());
 	}
 
 	GemfireTemplate getTemplate(RepositoryMetadata metadata) {
@@ -149,7 +168,8 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 	 */
 	@Override
 	protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
-		return SimpleGemfireRepository.class;
+		return (metadata.isReactiveRepository() ? SimpleReactiveGemfireRepository.class
+			: SimpleGemfireRepository.class);
 	}
 
 	/*
@@ -168,16 +188,26 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 				GemfireQueryMethod queryMethod = new GemfireQueryMethod(method, metadata, factory, mappingContext);
 				GemfireTemplate template = getTemplate(metadata);
 
-				if (queryMethod.hasAnnotatedQuery()) {
-					return new StringBasedGemfireRepositoryQuery(queryMethod, template).asUserDefinedQuery();
-				}
-
-				if (namedQueries.hasQuery(queryMethod.getNamedQueryName())) {
-					return new StringBasedGemfireRepositoryQuery(namedQueries.getQuery(queryMethod.getNamedQueryName()),
-						queryMethod, template).asUserDefinedQuery();
-				}
+				RepositoryQuery repositoryQuery = resolveQuery(queryMethod, template, namedQueries);
 
-				return new PartTreeGemfireRepositoryQuery(queryMethod, template);
+				return (metadata.isReactiveRepository() ? new ReactiveGemfireRepositoryQuery(repositoryQuery,
+					newReactiveTemplate(template), method.getReturnType()) : repositoryQuery);
 			});
 	}
+
+	/* (non-Javadoc) */
+	RepositoryQuery resolveQuery(GemfireQueryMethod queryMethod, GemfireTemplate template,
+			NamedQueries namedQueries) {
+
+		if (queryMethod.hasAnnotatedQuery()) {
+			return new StringBasedGemfireRepositoryQuery(queryMethod, template).asUserDefinedQuery();
+		}
+
+		if (namedQueries.hasQuery(queryMethod.getNamedQueryName())) {
+			return new StringBasedGemfireRepositoryQuery(namedQueries.getQuery(queryMethod.getNamedQueryName()),
+				queryMethod, template).asUserDefinedQuery();
+		}
+
+		return new PartTreeGemfireRepositoryQuery(queryMethod, template);
+	}
 }
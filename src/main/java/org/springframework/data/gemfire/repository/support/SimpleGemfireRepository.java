@@ -16,30 +16,49 @@
 
 package org.springframework.data.gemfire.repository.support;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.CacheTransactionManager;
 import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.internal.cache.LocalRegion;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireCallback;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.domain.KeysetPage;
+import org.springframework.data.gemfire.domain.KeysetPageRequest;
+import org.springframework.data.gemfire.domain.ListablePage;
+import org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory;
 import org.springframework.data.gemfire.repository.GemfireRepository;
 import org.springframework.data.gemfire.repository.Wrapper;
+import org.springframework.data.gemfire.repository.query.GemfireEntityInformation;
 import org.springframework.data.gemfire.repository.query.QueryString;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.data.util.StreamUtils;
 import org.springframework.data.util.Streamable;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * Basic Repository implementation for GemFire.
@@ -55,6 +74,19 @@ import org.springframework.util.Assert;
  */
 public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID> {
 
+	public static final int DEFAULT_DELETE_BATCH_SIZE = 1000;
+	public static final int DEFAULT_SAVE_BATCH_SIZE = 0;
+	public static final int DEFAULT_SAVE_PARALLELISM = 1;
+
+	protected static final String DEFAULT_ID_PROPERTY_NAME = "id";
+	protected static final String DEFAULT_SAVE_THREAD_NAME_PREFIX = "SimpleGemfireRepository-saveAll-";
+
+	private int deleteBatchSize = DEFAULT_DELETE_BATCH_SIZE;
+	private int saveBatchSize = DEFAULT_SAVE_BATCH_SIZE;
+	private int saveParallelism = DEFAULT_SAVE_PARALLELISM;
+
+	private Executor saveExecutor;
+
 	private final EntityInformation<T, ID> entityInformation;
 
 	private final GemfireTemplate template;
@@ -73,13 +105,137 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		this.entityInformation = entityInformation;
 	}
 
+	/**
+	 * Sets the maximum number of keys removed from the {@link Region} in a single {@link Region#removeAll(Collection)}
+	 * operation by {@link #deleteAll(Iterable)}.
+	 *
+	 * @param deleteBatchSize maximum number of keys per {@link Region#removeAll(Collection)} operation;
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the batch size is less than {@literal 1}.
+	 * @see #deleteAll(Iterable)
+	 */
+	public void setDeleteBatchSize(int deleteBatchSize) {
+		Assert.isTrue(deleteBatchSize > 0, String.format("Delete batch size [%d] must be greater than 0",
+			deleteBatchSize));
+
+		this.deleteBatchSize = deleteBatchSize;
+	}
+
+	/**
+	 * Returns the maximum number of keys removed from the {@link Region} in a single
+	 * {@link Region#removeAll(Collection)} operation by {@link #deleteAll(Iterable)}.
+	 *
+	 * @return the maximum number of keys per {@link Region#removeAll(Collection)} operation.
+	 * @see #DEFAULT_DELETE_BATCH_SIZE
+	 */
+	public int getDeleteBatchSize() {
+		return this.deleteBatchSize;
+	}
+
+	/**
+	 * Sets the maximum number of entities written to the {@link Region} in a single {@link Region#putAll(Map)}
+	 * operation by {@link #saveAll(Iterable)}.
+	 *
+	 * A batch size greater than {@literal 0} enables bulk-write mode, in which the entities are split into chunks
+	 * that are written independently, possibly in parallel, and failures are reported per chunk
+	 * with a {@link BulkSaveException}.  A batch size of {@literal 0} (the default) writes all entities
+	 * in a single {@link Region#putAll(Map)} operation.
+	 *
+	 * @param saveBatchSize maximum number of entities per {@link Region#putAll(Map)} operation;
+	 * must be greater than or equal to {@literal 0}.
+	 * @throws IllegalArgumentException if the batch size is less than {@literal 0}.
+	 * @see #saveAll(Iterable)
+	 */
+	public void setSaveBatchSize(int saveBatchSize) {
+		Assert.isTrue(saveBatchSize >= 0, String.format("Save batch size [%d] must be greater than or equal to 0",
+			saveBatchSize));
+
+		this.saveBatchSize = saveBatchSize;
+	}
+
+	/**
+	 * Returns the maximum number of entities written to the {@link Region} in a single {@link Region#putAll(Map)}
+	 * operation by {@link #saveAll(Iterable)}.
+	 *
+	 * @return the maximum number of entities per {@link Region#putAll(Map)} operation; {@literal 0} if bulk-write mode
+	 * is disabled.
+	 * @see #DEFAULT_SAVE_BATCH_SIZE
+	 */
+	public int getSaveBatchSize() {
+		return this.saveBatchSize;
+	}
+
+	/**
+	 * Sets the maximum number of chunks written to the {@link Region} concurrently in bulk-write mode.
+	 *
+	 * @param saveParallelism maximum number of concurrent {@link Region#putAll(Map)} operations;
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the parallelism is less than {@literal 1}.
+	 * @see #setSaveBatchSize(int)
+	 */
+	public void setSaveParallelism(int saveParallelism) {
+		Assert.isTrue(saveParallelism > 0, String.format("Save parallelism [%d] must be greater than 0",
+			saveParallelism));
+
+		this.saveParallelism = saveParallelism;
+	}
+
+	/**
+	 * Returns the maximum number of chunks written to the {@link Region} concurrently in bulk-write mode.
+	 *
+	 * @return the maximum number of concurrent {@link Region#putAll(Map)} operations.
+	 * @see #DEFAULT_SAVE_PARALLELISM
+	 */
+	public int getSaveParallelism() {
+		return this.saveParallelism;
+	}
+
+	/**
+	 * Sets the {@link Executor} used to write chunks concurrently in bulk-write mode.
+	 *
+	 * @param saveExecutor {@link Executor} used to write chunks concurrently.
+	 * @see java.util.concurrent.Executor
+	 */
+	public void setSaveExecutor(Executor saveExecutor) {
+		this.saveExecutor = saveExecutor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to write chunks concurrently in bulk-write mode.  If no {@link Executor}
+	 * was configured, then a {@link SimpleAsyncTaskExecutor} is used.
+	 *
+	 * @return the {@link Executor} used to write chunks concurrently.
+	 * @see java.util.concurrent.Executor
+	 */
+	public synchronized Executor getSaveExecutor() {
+		if (this.saveExecutor == null) {
+			this.saveExecutor = new SimpleAsyncTaskExecutor(DEFAULT_SAVE_THREAD_NAME_PREFIX);
+		}
+
+		return this.saveExecutor;
+	}
+
+	/**
+	 * Returns the identifier of the given entity, fully deserializing the entity first if the entity is
+	 * a lazy {@link org.apache.geode.pdx.PdxInstance} backed proxy, whose fields are not initialized.
+	 *
+	 * @param entity entity from which to get the identifier.
+	 * @return the identifier of the given entity.
+	 * @throws IllegalArgumentException if the entity has no identifier.
+	 * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory#unwrap(Object)
+	 */
+	@SuppressWarnings("unchecked")
+	private ID getRequiredId(T entity) {
+		return entityInformation.getRequiredId((T) PdxInstanceEntityProxyFactory.INSTANCE.unwrap(entity));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.CrudRepository#save(S)
 	 */
 	@Override
 	public <U extends T> U save(U entity) {
-		ID id = entityInformation.getRequiredId(entity);
+		ID id = getRequiredId(entity);
 
 		template.put(id, entity);
 
@@ -92,15 +248,108 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	 */
 	@Override
 	public <U extends T> Iterable<U> saveAll(Iterable<U> entities) {
+		if (getSaveBatchSize() > 0) {
+			return doBulkSaveAll(entities);
+		}
+
 		Map<ID, U> entitiesToSave = new HashMap<>();
 
-		entities.forEach(entity -> entitiesToSave.put(entityInformation.getRequiredId(entity), entity));
+		entities.forEach(entity -> entitiesToSave.put(getRequiredId(entity), entity));
 
 		template.putAll(entitiesToSave);
 
 		return entitiesToSave.values();
 	}
 
+	/**
+	 * Saves the given entities in chunks of at most {@link #getSaveBatchSize()} entities, writing at most
+	 * {@link #getSaveParallelism()} chunks concurrently.  Each chunk only contains entities whose keys are hosted
+	 * by the same primary member when the {@link Region} is a peer {@link DataPolicy#PARTITION} {@link Region}.
+	 *
+	 * When a transaction is present, the chunks are written sequentially by the calling {@link Thread}
+	 * since GemFire transactions are bound to the {@link Thread} that began the transaction.
+	 *
+	 * @throws BulkSaveException if one or more chunks failed to save.
+	 */
+	@SuppressWarnings("unchecked")
+	<U extends T> List<U> doBulkSaveAll(Iterable<U> entities) {
+		return template.execute(region -> {
+			Queue<Map<ID, U>> chunks = new ConcurrentLinkedQueue<>(
+				newSaveChunks((Region<ID, ?>) region, entities, getSaveBatchSize()));
+
+			List<U> savedEntities = Collections.synchronizedList(new ArrayList<>());
+			List<BulkSaveException.FailedChunk> failedChunks = Collections.synchronizedList(new ArrayList<>());
+
+			Runnable saveChunks = () -> {
+				for (Map<ID, U> chunk = chunks.poll(); chunk != null; chunk = chunks.poll()) {
+					try {
+						template.putAll(chunk);
+						savedEntities.addAll(chunk.values());
+					}
+					catch (RuntimeException cause) {
+						failedChunks.add(new BulkSaveException.FailedChunk(chunk.values(), cause));
+					}
+				}
+			};
+
+			int parallelism = (isTransactionPresent(region) ? 1 : Math.min(getSaveParallelism(), chunks.size()));
+
+			CompletableFuture<?>[] workers = IntStream.range(1, parallelism)
+				.mapToObj(worker -> CompletableFuture.runAsync(saveChunks, getSaveExecutor()))
+				.toArray(CompletableFuture[]::new);
+
+			saveChunks.run();
+			CompletableFuture.allOf(workers).join();
+
+			if (!failedChunks.isEmpty()) {
+				throw new BulkSaveException(new ArrayList<>(savedEntities), new ArrayList<>(failedChunks));
+			}
+
+			return new ArrayList<>(savedEntities);
+		});
+	}
+
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	<K, U extends T> List<Map<K, U>> newSaveChunks(Region<K, ?> region, Iterable<U> entities, int batchSize) {
+		Map<Object, Map<K, U>> currentChunks = new HashMap<>();
+		List<Map<K, U>> chunks = new ArrayList<>();
+
+		for (U entity : entities) {
+			K key = (K) getRequiredId(entity);
+			Object group = resolveSaveGroup(region, key);
+
+			Map<K, U> chunk = currentChunks.computeIfAbsent(group, newGroup -> {
+				Map<K, U> newChunk = new LinkedHashMap<>();
+				chunks.add(newChunk);
+				return newChunk;
+			});
+
+			chunk.put(key, entity);
+
+			if (chunk.size() >= batchSize) {
+				currentChunks.remove(group);
+			}
+		}
+
+		return chunks;
+	}
+
+	/**
+	 * Resolves the group of the given key, used to write keys hosted by the same member in the same chunk.
+	 *
+	 * For a peer partitioned {@link Region} the group is the primary member hosting the bucket of the key.
+	 * Client {@link Region Regions} already split a {@link Region#putAll(Map)} by server when single-hop
+	 * is enabled on the {@link org.apache.geode.cache.client.Pool}, so all keys belong to the same group.
+	 *
+	 * @see org.apache.geode.cache.partition.PartitionRegionHelper#getPrimaryMemberForKey(Region, Object)
+	 */
+	<K> Object resolveSaveGroup(Region<K, ?> region, K key) {
+		return (PartitionRegionHelper.isPartitionedRegion(region)
+			? Optional.ofNullable((Object) PartitionRegionHelper.getPrimaryMemberForKey(region, key)).orElse(region)
+			: region);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.gemfire.repository.GemfireRepository#save(org.springframework.data.gemfire.repository.Wrapper)
@@ -120,8 +369,19 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	 */
 	@Override
 	public long count() {
+		Region<?, ?> region = template.getRegion();
+
+		if (isClientRegion(region)) {
+			if (isServerProxyPresent(region)) {
+				return sizeOnServer(region);
+			}
+		}
+		else if (isDistributedDataRegion(region)) {
+			return region.size();
+		}
+
 		SelectResults<Integer> results =
-			template.find(String.format("SELECT count(*) FROM %s", template.getRegion().getFullPath()));
+			template.find(String.format("SELECT count(*) FROM %s", region.getFullPath()));
 
 		return Long.valueOf(results.iterator().next());
 	}
@@ -132,9 +392,57 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	 */
 	@Override
 	public boolean existsById(ID id) {
+		Region<?, ?> region = template.getRegion();
+
+		if (isClientRegion(region)) {
+			return template.containsKeyOnServer(id);
+		}
+		else if (isDistributedDataRegion(region)) {
+			return template.containsKey(id);
+		}
+
 		return findById(id).isPresent();
 	}
 
+	/**
+	 * Determines whether the given {@link Region} is a client {@link Region} backed by a server {@link Region},
+	 * in which case the server {@link Region} holds all the data and must be consulted.
+	 *
+	 * @see org.apache.geode.cache.RegionAttributes#getPoolName()
+	 */
+	boolean isClientRegion(Region<?, ?> region) {
+		return (region.getAttributes() != null && StringUtils.hasText(region.getAttributes().getPoolName()));
+	}
+
+	/* (non-Javadoc) */
+	boolean isServerProxyPresent(Region<?, ?> region) {
+		return (region instanceof LocalRegion && ((LocalRegion) region).hasServerProxy());
+	}
+
+	/**
+	 * Returns the number of entries in the server {@link Region} backing the given client {@link Region}
+	 * without transferring any keys or values to the client.
+	 *
+	 * @see org.apache.geode.cache.client.internal.ServerRegionProxy#size()
+	 */
+	int sizeOnServer(Region<?, ?> region) {
+		return ((LocalRegion) region).getServerProxy().size();
+	}
+
+	/**
+	 * Determines whether the given peer {@link Region} is a {@link DataPolicy#REPLICATE} {@link Region}
+	 * or a {@link DataPolicy#PARTITION} {@link Region}, in which case {@link Region#size()}
+	 * and {@link Region#containsKey(Object)} account for all the data in the cluster.
+	 *
+	 * @see org.apache.geode.cache.DataPolicy#withReplication()
+	 * @see org.apache.geode.cache.DataPolicy#withPartitioning()
+	 */
+	boolean isDistributedDataRegion(Region<?, ?> region) {
+		DataPolicy dataPolicy = (region.getAttributes() != null ? region.getAttributes().getDataPolicy() : null);
+
+		return (dataPolicy != null && (dataPolicy.withReplication() || dataPolicy.withPartitioning()));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.CrudRepository#findById(java.lang.Object)
@@ -171,6 +479,36 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		return selectResults.asList();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.PagingAndSortingRepository#findAll(org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public Page<T> findAll(Pageable pageable) {
+		if (pageable.isUnpaged()) {
+			return new ListablePage<>(Streamable.of(findAll(pageable.getSort())).stream().collect(Collectors.toList()));
+		}
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.from(pageable, resolveIdPropertyName());
+
+		QueryString query = new QueryString("SELECT * FROM /RegionPlaceholder")
+			.forRegion(entityInformation.getJavaType(), template.getRegion());
+
+		query = (pageRequest.hasKeyset() ? query.seekAfter(pageRequest.getSort(), 1) : query)
+			.orderBy(pageRequest.getSort())
+			.withLimit(pageRequest.getFetchLimit());
+
+		SelectResults<T> selectResults = template.find(query.toString(), pageRequest.getKeyset());
+
+		return KeysetPage.newKeysetPage(selectResults.asList(), pageRequest, this::count);
+	}
+
+	/* (non-Javadoc) */
+	String resolveIdPropertyName() {
+		return (entityInformation instanceof GemfireEntityInformation
+			? ((GemfireEntityInformation<?, ?>) entityInformation).getIdPropertyName() : DEFAULT_ID_PROPERTY_NAME);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.CrudRepository#findAllById(java.lang.Iterable)
@@ -198,7 +536,7 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	 */
 	@Override
 	public void delete(T entity) {
-		deleteById(entityInformation.getRequiredId(entity));
+		deleteById(getRequiredId(entity));
 	}
 
 	/*
@@ -206,8 +544,38 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	 * @see org.springframework.data.repository.CrudRepository#delete(java.lang.Iterable)
 	 */
 	@Override
+	@SuppressWarnings("unchecked")
 	public void deleteAll(Iterable<? extends T> entities) {
-		entities.forEach(this::delete);
+		List<ID> keys = Streamable.of(entities).stream().map(this::getRequiredId)
+			.collect(Collectors.toList());
+
+		if (!keys.isEmpty()) {
+			template.execute((GemfireCallback<Void>) region -> {
+				doRegionRemoveAll((Region<ID, ?>) region, keys);
+				return null;
+			});
+		}
+	}
+
+	/**
+	 * Removes the given keys from the {@link Region} in batches of {@link #getDeleteBatchSize()} keys,
+	 * such that each batch costs a single network round trip.
+	 *
+	 * When a transaction is present, all keys are removed in a single operation since the changes are not applied
+	 * to the {@link Region} until the transaction commits.  If the {@link Region} does not support
+	 * {@link Region#removeAll(Collection)}, then each key is removed individually.
+	 */
+	<K> void doRegionRemoveAll(Region<K, ?> region, List<K> keys) {
+		int batchSize = (isTransactionPresent(region) ? keys.size() : getDeleteBatchSize());
+
+		try {
+			for (int index = 0, size = keys.size(); index < size; index += batchSize) {
+				region.removeAll(new ArrayList<>(keys.subList(index, Math.min(index + batchSize, size))));
+			}
+		}
+		catch (UnsupportedOperationException ignore) {
+			keys.forEach(region::remove);
+		}
 	}
 
 	/*
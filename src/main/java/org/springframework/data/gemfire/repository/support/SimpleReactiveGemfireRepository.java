@@ -0,0 +1,291 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.support;
+
+import org.reactivestreams.Publisher;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.ReactiveGemfireTemplate;
+import org.springframework.data.gemfire.domain.KeysetPageRequest;
+import org.springframework.data.gemfire.repository.ReactiveGemfireRepository;
+import org.springframework.data.gemfire.repository.Wrapper;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.util.Assert;
+
+/**
+ * Basic reactive Repository implementation for GemFire.
+ *
+ * Each operation is performed by a {@link SimpleGemfireRepository} on the {@link reactor.core.scheduler.Scheduler}
+ * of the {@link ReactiveGemfireTemplate}, so the blocking GemFire calls never run on the subscriber's
+ * {@link Thread}.  Query results are fetched in pages of {@link #getFetchSize()} entities as the subscriber
+ * requests more entities.
+ *
+ * @author John Blum
+ * @see reactor.core.publisher.Flux
+ * @see reactor.core.publisher.Mono
+ * @see org.springframework.data.gemfire.ReactiveGemfireTemplate
+ * @see org.springframework.data.gemfire.repository.ReactiveGemfireRepository
+ * @see org.springframework.data.gemfire.repository.support.SimpleGemfireRepository
+ * @since 2.0.0
+ */
+public class SimpleReactiveGemfireRepository<T, ID> implements ReactiveGemfireRepository<T, ID> {
+
+	public static final int DEFAULT_FETCH_SIZE = 1000;
+
+	private int fetchSize = DEFAULT_FETCH_SIZE;
+
+	private final ReactiveGemfireTemplate template;
+
+	private final SimpleGemfireRepository<T, ID> repository;
+
+	/**
+	 * Creates a new {@link SimpleReactiveGemfireRepository}.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @param entityInformation must not be {@literal null}.
+	 */
+	public SimpleReactiveGemfireRepository(ReactiveGemfireTemplate template,
+			EntityInformation<T, ID> entityInformation) {
+
+		this(template, new SimpleGemfireRepository<>(validate(template).getGemfireTemplate(), entityInformation));
+	}
+
+	/* (non-Javadoc) */
+	SimpleReactiveGemfireRepository(ReactiveGemfireTemplate template, SimpleGemfireRepository<T, ID> repository) {
+		this.template = validate(template);
+		this.repository = repository;
+	}
+
+	/* (non-Javadoc) */
+	private static ReactiveGemfireTemplate validate(ReactiveGemfireTemplate template) {
+		Assert.notNull(template, "Template must not be null");
+		return template;
+	}
+
+	/**
+	 * Sets the number of entities fetched per query when streaming query results to the subscriber.
+	 *
+	 * @param fetchSize number of entities fetched per query; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the fetch size is less than {@literal 1}.
+	 */
+	public void setFetchSize(int fetchSize) {
+		Assert.isTrue(fetchSize > 0, String.format("Fetch size [%d] must be greater than 0", fetchSize));
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * Returns the number of entities fetched per query when streaming query results to the subscriber.
+	 *
+	 * @return the number of entities fetched per query.
+	 * @see #DEFAULT_FETCH_SIZE
+	 */
+	public int getFetchSize() {
+		return this.fetchSize;
+	}
+
+	/* (non-Javadoc) */
+	SimpleGemfireRepository<T, ID> getRepository() {
+		return this.repository;
+	}
+
+	/* (non-Javadoc) */
+	private Mono<Void> run(Runnable operation) {
+		return template.defer(() -> {
+			operation.run();
+			return null;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#save(S)
+	 */
+	@Override
+	public <S extends T> Mono<S> save(S entity) {
+		return template.defer(() -> repository.save(entity));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#saveAll(java.lang.Iterable)
+	 */
+	@Override
+	public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+		return template.deferMany(() -> repository.saveAll(entities));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#saveAll(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+		return Flux.from(entityStream).buffer(getFetchSize()).concatMap(this::saveAll);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.repository.ReactiveGemfireRepository#save(org.springframework.data.gemfire.repository.Wrapper)
+	 */
+	@Override
+	public Mono<T> save(Wrapper<T, ID> wrapper) {
+		return template.defer(() -> repository.save(wrapper));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#count()
+	 */
+	@Override
+	public Mono<Long> count() {
+		return template.defer(repository::count);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#existsById(java.lang.Object)
+	 */
+	@Override
+	public Mono<Boolean> existsById(ID id) {
+		return template.defer(() -> repository.existsById(id));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#existsById(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Mono<Boolean> existsById(Publisher<ID> id) {
+		return Mono.from(id).flatMap(this::existsById);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findById(java.lang.Object)
+	 */
+	@Override
+	public Mono<T> findById(ID id) {
+		return template.defer(() -> repository.findById(id).orElse(null));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findById(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Mono<T> findById(Publisher<ID> id) {
+		return Mono.from(id).flatMap(this::findById);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findAll()
+	 */
+	@Override
+	public Flux<T> findAll() {
+		return findAll(Sort.unsorted());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.repository.ReactiveGemfireRepository#findAll(org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public Flux<T> findAll(Sort sort) {
+		return template.defer(() -> repository.findAll(KeysetPageRequest.of(getFetchSize(), sort)))
+			// do not retain the chain of page requests for all pages fetched so far
+			.expand(page -> (page.hasNext() ? template.defer(() -> repository.findAll(
+				((KeysetPageRequest) page.nextPageable()).withoutPrevious())) : Mono.empty()))
+			.flatMapIterable(Page::getContent, 1);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findAllById(java.lang.Iterable)
+	 */
+	@Override
+	public Flux<T> findAllById(Iterable<ID> ids) {
+		return template.deferMany(() -> repository.findAllById(ids));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findAllById(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<T> findAllById(Publisher<ID> idStream) {
+		return Flux.from(idStream).buffer(getFetchSize()).concatMap(this::findAllById);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteById(java.lang.Object)
+	 */
+	@Override
+	public Mono<Void> deleteById(ID id) {
+		return run(() -> repository.deleteById(id));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteById(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Mono<Void> deleteById(Publisher<ID> id) {
+		return Mono.from(id).flatMap(this::deleteById);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#delete(java.lang.Object)
+	 */
+	@Override
+	public Mono<Void> delete(T entity) {
+		return run(() -> repository.delete(entity));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteAll(java.lang.Iterable)
+	 */
+	@Override
+	public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+		return run(() -> repository.deleteAll(entities));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteAll(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+		return Flux.from(entityStream).buffer(repository.getDeleteBatchSize()).concatMap(this::deleteAll).then();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteAll()
+	 */
+	@Override
+	public Mono<Void> deleteAll() {
+		return run(repository::deleteAll);
+	}
+}
@@ -67,6 +67,11 @@ public class AsmInstantiatorGenerator implements InstantiatorGenerator, Opcodes
 
 	private static final class BytecodeClassLoader extends ClassLoader {
 
+		static {
+			// Instantiator classes may be generated in parallel
+			registerAsParallelCapable();
+		}
+
 		public BytecodeClassLoader(ClassLoader loader) {
 			super(loader);
 		}
@@ -91,19 +96,21 @@ public class AsmInstantiatorGenerator implements InstantiatorGenerator, Opcodes
 		});
 	}
 
+	/**
+	 * Returns the cached {@link Instantiator} for the given class, generating the {@link Instantiator} on first use.
+	 *
+	 * Lookups of generated {@link Instantiator}s do not lock.  Generation only blocks concurrent lookups
+	 * of the same class, which wait for, rather than duplicate, the generated {@link Instantiator}.
+	 *
+	 * @param clazz class produced by the instantiator
+	 * @param classId instantiator class id
+	 * @return an instantiator optimized for the given type.
+	 */
 	public Instantiator getInstantiator(Class<? extends DataSerializable> clazz, int classId) {
 		Instantiator instantiator = cache.get(clazz);
-		if (instantiator == null) {
-			synchronized (cache) {
-				instantiator = cache.get(clazz);
-				if (instantiator == null) {
-					// create Instantiator
-					instantiator = createInstantiator(clazz, classId);
-					cache.putIfAbsent(clazz, instantiator);
-				}
-			}
-		}
-		return instantiator;
+
+		return (instantiator != null ? instantiator
+			: cache.computeIfAbsent(clazz, type -> createInstantiator(type, classId)));
 	}
 
 	/**
@@ -18,15 +18,30 @@ package org.springframework.data.gemfire.serialization;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import org.apache.geode.DataSerializable;
 import org.apache.geode.Instantiator;
 import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.gemfire.config.annotation.support.GemFireComponentClassTypeScanner;
+import org.springframework.data.gemfire.mapping.AsmDataSerializableCodecGenerator;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.MappedDataSerializable;
+import org.springframework.data.gemfire.mapping.annotation.DataSerializableEntity;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
 
 /**
  * {@link FactoryBean} that eases registration of custom {@link Instantiator} through
@@ -35,35 +50,56 @@ import org.springframework.util.Assert;
  * By default, the returns {@link Instantiator}s (created through  {@link AsmInstantiatorGenerator} if a custom
  * generator is not specified) are registered at startup with GemFire.
  *
+ * Entity types annotated with {@link DataSerializableEntity} may be registered with {@link #setEntityTypes(Collection)},
+ * or found by scanning the {@link #setBasePackages(String...) base packages}, using the class ID declared by
+ * the annotation.  All {@link Instantiator}s, along with the {@literal toData/fromData} implementations of
+ * {@link MappedDataSerializable} entity types, are generated in parallel at startup.  The latter use the metadata
+ * of the {@link #setMappingContext(GemfireMappingContext) configured} {@link GemfireMappingContext}.
+ *
  * @author Costin Leau
+ * @author John Blum
  */
-public class InstantiatorFactoryBean implements BeanClassLoaderAware, FactoryBean<Collection<Instantiator>>,
-		InitializingBean {
+public class InstantiatorFactoryBean implements BeanClassLoaderAware, BeanFactoryAware,
+		FactoryBean<Collection<Instantiator>>, InitializingBean {
 
 	private InstantiatorGenerator generator;
 	private Collection<Instantiator> list;
+	private BeanFactory beanFactory;
 	private ClassLoader classLoader;
 	private boolean autoRegister = true;
 	private boolean distribute = false;
 
+	private Collection<Class<? extends DataSerializable>> entityTypes;
+
+	private String[] basePackages;
+
+	private GemfireMappingContext mappingContext;
+
 	private Map<Class<? extends DataSerializable>, Integer> types;
 
 
 	public void afterPropertiesSet() throws Exception {
+		types = resolveTypes();
+
 		Assert.notEmpty(types, "no custom types for generating the Instantiators");
 
+		for (Entry<Class<? extends DataSerializable>, Integer> entry : types.entrySet()) {
+			Assert.notNull(entry.getKey(), "Invalid/Null class given as custom type");
+			Assert.notNull(entry.getValue(), "Invalid/Null int given as user id");
+		}
+
 		if (generator == null) {
 			generator = new AsmInstantiatorGenerator(classLoader);
 		}
 
-		list = new ArrayList<Instantiator>(types.size());
+		// generate all Instantiators, and the toData/fromData of MappedDataSerializable types, in parallel
+		list = new ArrayList<Instantiator>(generator.getInstantiators(types));
 
-		for (Entry<Class<? extends DataSerializable>, Integer> entry : types.entrySet()) {
-			Assert.notNull(entry.getKey(), "Invalid/Null class given as custom type");
-			Assert.notNull(entry.getValue(), "Invalid/Null int given as user id");
+		AsmDataSerializableCodecGenerator codecGenerator = resolveCodecGenerator();
 
-			list.add(generator.getInstantiator(entry.getKey(), entry.getValue()));
-		}
+		types.keySet().parallelStream()
+			.filter(MappedDataSerializable.class::isAssignableFrom)
+			.forEach(codecGenerator::getCodec);
 
 		if (autoRegister) {
 			for (Instantiator instantiator : list) {
@@ -72,6 +108,95 @@ public class InstantiatorFactoryBean implements BeanClassLoaderAware, FactoryBea
 		}
 	}
 
+	/**
+	 * Resolves the {@link AsmDataSerializableCodecGenerator} used by {@link MappedDataSerializable} entities from
+	 * the configured {@link GemfireMappingContext}, or the single {@link GemfireMappingContext} bean, and registers
+	 * it as the {@link AsmDataSerializableCodecGenerator#getDefault() default}.  Without a
+	 * {@link GemfireMappingContext}, the default generator is used as is.
+	 */
+	private AsmDataSerializableCodecGenerator resolveCodecGenerator() {
+		GemfireMappingContext resolvedMappingContext = resolveMappingContext();
+
+		AsmDataSerializableCodecGenerator codecGenerator = AsmDataSerializableCodecGenerator.getDefault();
+
+		if (resolvedMappingContext != null && codecGenerator.getMappingContext() != resolvedMappingContext) {
+			codecGenerator = new AsmDataSerializableCodecGenerator(resolvedMappingContext);
+			AsmDataSerializableCodecGenerator.setDefault(codecGenerator);
+		}
+
+		return codecGenerator;
+	}
+
+	/* (non-Javadoc) */
+	private GemfireMappingContext resolveMappingContext() {
+		if (mappingContext == null && beanFactory != null) {
+			try {
+				mappingContext = beanFactory.getBean(GemfireMappingContext.class);
+			}
+			catch (NoSuchBeanDefinitionException ignore) {
+				// no (unique) GemfireMappingContext bean; use the default generator
+			}
+		}
+
+		return mappingContext;
+	}
+
+	/* (non-Javadoc) */
+	private Map<Class<? extends DataSerializable>, Integer> resolveTypes() {
+		Map<Class<? extends DataSerializable>, Integer> resolvedTypes = new LinkedHashMap<>();
+
+		if (types != null) {
+			resolvedTypes.putAll(types);
+		}
+
+		for (Class<? extends DataSerializable> entityType : resolveEntityTypes()) {
+			Assert.notNull(entityType, "Invalid/Null class given as entity type");
+
+			// do not resolve the class ID declared by a superclass, which would be registered twice
+			DataSerializableEntity dataSerializableEntity =
+				AnnotatedElementUtils.getMergedAnnotation(entityType, DataSerializableEntity.class);
+
+			Assert.notNull(dataSerializableEntity, String.format("Entity type [%1$s] must be annotated with [%2$s]",
+				entityType.getName(), DataSerializableEntity.class.getName()));
+
+			resolvedTypes.put(entityType, dataSerializableEntity.classId());
+		}
+
+		Map<Integer, Class<? extends DataSerializable>> typesByClassId = new HashMap<>(resolvedTypes.size());
+
+		resolvedTypes.forEach((type, classId) -> {
+			Class<? extends DataSerializable> existingType = typesByClassId.putIfAbsent(classId, type);
+
+			Assert.isTrue(existingType == null, () -> String.format(
+				"Class ID [%1$d] of type [%2$s] is already used by type [%3$s]",
+					classId, type.getName(), existingType.getName()));
+		});
+
+		return resolvedTypes;
+	}
+
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	private Collection<Class<? extends DataSerializable>> resolveEntityTypes() {
+		Collection<Class<? extends DataSerializable>> resolvedEntityTypes = new ArrayList<>();
+
+		if (entityTypes != null) {
+			resolvedEntityTypes.addAll(entityTypes);
+		}
+
+		if (!ObjectUtils.isEmpty(basePackages)) {
+			GemFireComponentClassTypeScanner.from(basePackages)
+				.with(classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader())
+				.withIncludes(new AnnotationTypeFilter(DataSerializableEntity.class))
+				.scan().stream()
+				.filter(DataSerializable.class::isAssignableFrom)
+				.sorted(Comparator.comparing(Class::getName))
+				.forEach(entityType -> resolvedEntityTypes.add((Class<? extends DataSerializable>) entityType));
+		}
+
+		return resolvedEntityTypes;
+	}
+
 	public Collection<Instantiator> getObject() throws Exception {
 		return list;
 	}
@@ -88,6 +213,10 @@ public class InstantiatorFactoryBean implements BeanClassLoaderAware, FactoryBea
 		this.classLoader = classLoader;
 	}
 
+	public void setBeanFactory(BeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
+
 	/**
 	 * Sets the custom types and associated user ids for generating the {@link Instantiator}s.
 	 *
@@ -97,6 +226,44 @@ public class InstantiatorFactoryBean implements BeanClassLoaderAware, FactoryBea
 		this.types = types;
 	}
 
+	/**
+	 * Sets the base packages scanned at startup for {@link DataSerializable} entity types annotated with
+	 * {@link DataSerializableEntity}, for generating and registering the {@link Instantiator}s eagerly
+	 * rather than on first deserialization.
+	 *
+	 * @param basePackages base packages to scan for {@link DataSerializableEntity} types.
+	 * @see #setEntityTypes(Collection)
+	 */
+	public void setBasePackages(String... basePackages) {
+		this.basePackages = basePackages;
+	}
+
+	/**
+	 * Sets the entity types, annotated with {@link DataSerializableEntity}, for generating the {@link Instantiator}s
+	 * using the class IDs declared by the annotation.
+	 *
+	 * @param entityTypes {@link Collection} of entity types annotated with {@link DataSerializableEntity}.
+	 * @see org.springframework.data.gemfire.mapping.annotation.DataSerializableEntity
+	 */
+	public void setEntityTypes(Collection<Class<? extends DataSerializable>> entityTypes) {
+		this.entityTypes = entityTypes;
+	}
+
+	/**
+	 * Sets the {@link GemfireMappingContext} used to resolve the metadata of {@link MappedDataSerializable}
+	 * entity types when generating their {@literal toData/fromData} implementations.  The generator is
+	 * registered as the {@link AsmDataSerializableCodecGenerator#getDefault() default} used by
+	 * {@link MappedDataSerializable} entities.
+	 *
+	 * Defaults to the single {@link GemfireMappingContext} bean, if any.
+	 *
+	 * @param mappingContext {@link GemfireMappingContext} used to resolve entity metadata.
+	 * @see org.springframework.data.gemfire.mapping.AsmDataSerializableCodecGenerator#setDefault(AsmDataSerializableCodecGenerator)
+	 */
+	public void setMappingContext(GemfireMappingContext mappingContext) {
+		this.mappingContext = mappingContext;
+	}
+
 	/**
 	 * Sets the generator to use for creating {@link Instantiator}s.
 	 *
@@ -16,6 +16,10 @@
 
 package org.springframework.data.gemfire.serialization;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import org.apache.geode.DataSerializable;
 import org.apache.geode.Instantiator;
 
@@ -35,4 +39,17 @@ public interface InstantiatorGenerator {
 	 * @return an instantiator optimized for the given type.
 	 */
 	Instantiator getInstantiator(Class<? extends DataSerializable> clazz, int classId);
+
+	/**
+	 * Returns the Instantiators for all of the given types, generating the Instantiators in parallel.
+	 *
+	 * @param types map containing as keys the custom types and values the associated user ids.
+	 * @return a list of instantiators optimized for the given types, in the iteration order of the map.
+	 * @see #getInstantiator(Class, int)
+	 */
+	default List<Instantiator> getInstantiators(Map<Class<? extends DataSerializable>, Integer> types) {
+		return types.entrySet().parallelStream()
+			.map(entry -> getInstantiator(entry.getKey(), entry.getValue()))
+			.collect(Collectors.toList());
+	}
 }
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.serialization.json;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Array;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.pdx.JSONFormatter;
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.PdxInstanceFactory;
+import org.apache.geode.pdx.internal.PdxInstanceFactoryImpl;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link JSONPdxConverter} class converts JSON to and from {@link PdxInstance PdxInstances} by streaming
+ * Jackson tokens directly into a {@link PdxInstanceFactory} and {@link PdxInstance} fields directly into
+ * a {@link JsonGenerator}, without materializing an intermediate JSON {@link String} for object values.
+ *
+ * The {@link PdxInstance PdxInstances} created by this converter are structurally identical to those created by
+ * {@link JSONFormatter#fromJSON(String)}, i.e. JSON objects become {@link PdxInstance PdxInstances}, arrays become
+ * {@link List Lists} and integral numbers are narrowed to the smallest of {@literal byte}, {@literal short},
+ * {@literal int} or {@literal long} that holds the value, so both may be used interchangeably on the same Region.
+ *
+ * Instances of this class are thread-safe and intended to be shared.
+ *
+ * @author John Blum
+ * @see com.fasterxml.jackson.core.JsonGenerator
+ * @see com.fasterxml.jackson.core.JsonParser
+ * @see com.fasterxml.jackson.databind.ObjectMapper
+ * @see org.apache.geode.pdx.JSONFormatter
+ * @see org.apache.geode.pdx.PdxInstance
+ * @since 2.0.0
+ */
+public class JSONPdxConverter {
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Constructs a new instance of {@link JSONPdxConverter} using a default, shared {@link ObjectMapper}
+	 * configured to accept the same JSON dialect as {@link JSONFormatter}.
+	 */
+	public JSONPdxConverter() {
+		this(newObjectMapper());
+	}
+
+	/**
+	 * Constructs a new instance of {@link JSONPdxConverter} initialized with the given {@link ObjectMapper}
+	 * used to serialize objects and to create {@link JsonParser JsonParsers} and {@link JsonGenerator JsonGenerators}.
+	 *
+	 * @param objectMapper {@link ObjectMapper} used by this converter; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link ObjectMapper} is {@literal null}.
+	 */
+	public JSONPdxConverter(ObjectMapper objectMapper) {
+		Assert.notNull(objectMapper, "ObjectMapper must not be null");
+		this.objectMapper = objectMapper;
+	}
+
+	/* (non-Javadoc) */
+	private static ObjectMapper newObjectMapper() {
+		return new ObjectMapper()
+			.enable(JsonParser.Feature.ALLOW_BACKSLASH_ESCAPING_ANY_CHARACTER)
+			.enable(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES)
+			.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+	}
+
+	/**
+	 * Returns the {@link ObjectMapper} used by this converter.
+	 *
+	 * @return the {@link ObjectMapper} used by this converter.
+	 */
+	public ObjectMapper getObjectMapper() {
+		return this.objectMapper;
+	}
+
+	/**
+	 * Converts the given JSON document into a {@link PdxInstance}.
+	 *
+	 * @param json {@link String} containing the JSON object to convert.
+	 * @return a {@link PdxInstance} with the fields of the JSON object.
+	 * @throws IllegalArgumentException if the JSON is not a valid JSON object.
+	 */
+	public PdxInstance fromJSON(String json) {
+		if (isSortFieldNames()) {
+			return JSONFormatter.fromJSON(json);
+		}
+
+		try (JsonParser parser = getObjectMapper().getFactory().createParser(json)) {
+			return readPdxInstance(parser);
+		}
+		catch (IOException cause) {
+			throw newIllegalArgumentException(cause, "Failed to convert JSON [%s] into a PdxInstance", json);
+		}
+	}
+
+	/**
+	 * Converts the given object into a {@link PdxInstance} by replaying the tokens produced by the {@link ObjectMapper}
+	 * for the object into a {@link PdxInstanceFactory}.
+	 *
+	 * @param value object to convert; must serialize as a JSON object.
+	 * @return a {@link PdxInstance} with the fields of the JSON representation of the object.
+	 * @throws IllegalArgumentException if the object could not be converted.
+	 */
+	public PdxInstance fromObject(Object value) {
+		try {
+			if (isSortFieldNames()) {
+				return JSONFormatter.fromJSON(getObjectMapper().writeValueAsBytes(value));
+			}
+
+			TokenBuffer tokenBuffer = new TokenBuffer(getObjectMapper(), false);
+
+			getObjectMapper().writeValue(tokenBuffer, value);
+
+			try (JsonParser parser = tokenBuffer.asParser()) {
+				return readPdxInstance(parser);
+			}
+		}
+		catch (IOException cause) {
+			throw newIllegalArgumentException(cause, "Failed to convert object [%s] into a PdxInstance", value);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private boolean isSortFieldNames() {
+		return Boolean.getBoolean(JSONFormatter.SORT_JSON_FIELD_NAMES_PROPERTY);
+	}
+
+	/* (non-Javadoc) */
+	private PdxInstance readPdxInstance(JsonParser parser) throws IOException {
+		JsonToken token = parser.nextToken();
+
+		if (token != JsonToken.START_OBJECT) {
+			throw newIllegalArgumentException("Expected JSON object but was [%s]", token);
+		}
+
+		return readObject(parser);
+	}
+
+	/* (non-Javadoc) */
+	private PdxInstance readObject(JsonParser parser) throws IOException {
+		PdxInstanceFactory factory = PdxInstanceFactoryImpl.newCreator(JSONFormatter.JSON_CLASSNAME, false);
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String fieldName = parser.getCurrentName();
+			Object value = readValue(parser, parser.nextToken());
+
+			if (value instanceof Byte) {
+				factory.writeByte(fieldName, (Byte) value);
+			}
+			else if (value instanceof Short) {
+				factory.writeShort(fieldName, (Short) value);
+			}
+			else if (value instanceof Integer) {
+				factory.writeInt(fieldName, (Integer) value);
+			}
+			else if (value instanceof Long) {
+				factory.writeLong(fieldName, (Long) value);
+			}
+			else if (value instanceof Double) {
+				factory.writeDouble(fieldName, (Double) value);
+			}
+			else if (value instanceof Boolean) {
+				factory.writeBoolean(fieldName, (Boolean) value);
+			}
+			else if (value instanceof String) {
+				// JSONFormatter writes Strings as STRING fields; writeObject would register a different PdxType
+				factory.writeString(fieldName, (String) value);
+			}
+			else {
+				factory.writeObject(fieldName, value);
+			}
+		}
+
+		return factory.create();
+	}
+
+	/* (non-Javadoc) */
+	private List<Object> readArray(JsonParser parser) throws IOException {
+		List<Object> list = new ArrayList<>();
+
+		for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+			list.add(readValue(parser, token));
+		}
+
+		return list;
+	}
+
+	/* (non-Javadoc) */
+	private Object readValue(JsonParser parser, JsonToken token) throws IOException {
+		switch (token) {
+			case START_OBJECT:
+				return readObject(parser);
+			case START_ARRAY:
+				return readArray(parser);
+			case VALUE_STRING:
+				return parser.getText();
+			case VALUE_NUMBER_INT:
+				return readInteger(parser);
+			case VALUE_NUMBER_FLOAT:
+				// a JSON text parser reports all floating point numbers as double; a TokenBuffer preserves the
+				// Java type (e.g. Float or BigDecimal), which is re-read from text to yield the same double value
+				return (parser.getNumberType() == JsonParser.NumberType.DOUBLE ? parser.getDoubleValue()
+					: Double.valueOf(parser.getText()));
+			case VALUE_TRUE:
+			case VALUE_FALSE:
+				return parser.getBooleanValue();
+			case VALUE_NULL:
+				return null;
+			default:
+				throw newIllegalStateException("Unexpected JSON token [%s]", token);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Object readInteger(JsonParser parser) throws IOException {
+		if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+			BigInteger value = parser.getBigIntegerValue();
+
+			if (value.bitLength() >= Long.SIZE) {
+				return value;
+			}
+		}
+
+		long value = parser.getLongValue();
+
+		if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+			return (byte) value;
+		}
+		else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+			return (short) value;
+		}
+		else if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+			return (int) value;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Converts the given {@link PdxInstance} into JSON.
+	 *
+	 * @param pdxInstance {@link PdxInstance} to convert.
+	 * @param prettyPrint boolean indicating whether the JSON is indented.
+	 * @return a JSON {@link String} with the fields of the {@link PdxInstance}.
+	 * @throws IllegalStateException if the {@link PdxInstance} could not be converted.
+	 * @see #writeTo(PdxInstance, JsonGenerator)
+	 */
+	public String toJSON(PdxInstance pdxInstance, boolean prettyPrint) {
+		StringWriter writer = new StringWriter();
+
+		try (JsonGenerator generator = getObjectMapper().getFactory().createGenerator(writer)) {
+			if (prettyPrint) {
+				generator.useDefaultPrettyPrinter();
+			}
+
+			writeTo(pdxInstance, generator);
+		}
+		catch (IOException cause) {
+			throw newIllegalStateException(cause, "Failed to convert PdxInstance [%s] into JSON", pdxInstance);
+		}
+
+		return writer.toString();
+	}
+
+	/**
+	 * Writes the fields of the given {@link PdxInstance}, in {@link org.apache.geode.pdx.internal.PdxType} order,
+	 * as a JSON object to the given {@link JsonGenerator}.
+	 *
+	 * @param pdxInstance {@link PdxInstance} to write.
+	 * @param generator {@link JsonGenerator} to which the JSON object is written.
+	 * @throws IOException if the JSON could not be written.
+	 */
+	public void writeTo(PdxInstance pdxInstance, JsonGenerator generator) throws IOException {
+		generator.writeStartObject();
+
+		for (String fieldName : pdxInstance.getFieldNames()) {
+			generator.writeFieldName(fieldName);
+			writeValue(pdxInstance.getField(fieldName), generator);
+		}
+
+		generator.writeEndObject();
+	}
+
+	/**
+	 * Writes the given value as JSON to the given {@link JsonGenerator}.
+	 *
+	 * {@link PdxInstance PdxInstances} and OQL {@link Struct Structs} are written as JSON objects, {@link Collection
+	 * Collections} and arrays as JSON arrays and all other values using the {@link ObjectMapper}.
+	 *
+	 * @param value value to write; may be {@literal null}.
+	 * @param generator {@link JsonGenerator} to which the JSON value is written.
+	 * @throws IOException if the JSON could not be written.
+	 */
+	public void writeValue(Object value, JsonGenerator generator) throws IOException {
+		if (value == null) {
+			generator.writeNull();
+		}
+		else if (value instanceof String) {
+			generator.writeString((String) value);
+		}
+		else if (value instanceof Boolean) {
+			generator.writeBoolean((Boolean) value);
+		}
+		else if (value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long) {
+			generator.writeNumber(((Number) value).longValue());
+		}
+		else if (value instanceof Double) {
+			generator.writeNumber((Double) value);
+		}
+		else if (value instanceof PdxInstance) {
+			writeTo((PdxInstance) value, generator);
+		}
+		else if (value instanceof Struct) {
+			Struct struct = (Struct) value;
+			String[] fieldNames = struct.getStructType().getFieldNames();
+			Object[] fieldValues = struct.getFieldValues();
+
+			generator.writeStartObject();
+
+			for (int index = 0; index < fieldNames.length; index++) {
+				generator.writeFieldName(fieldNames[index]);
+				writeValue(fieldValues[index], generator);
+			}
+
+			generator.writeEndObject();
+		}
+		else if (value instanceof Collection) {
+			generator.writeStartArray();
+
+			for (Object element : (Collection<?>) value) {
+				writeValue(element, generator);
+			}
+
+			generator.writeEndArray();
+		}
+		else if (value instanceof Object[]) {
+			generator.writeStartArray();
+
+			for (Object element : (Object[]) value) {
+				writeValue(element, generator);
+			}
+
+			generator.writeEndArray();
+		}
+		else if (value.getClass().isArray() && !(value instanceof byte[])) {
+			generator.writeStartArray();
+
+			for (int index = 0, length = Array.getLength(value); index < length; index++) {
+				writeValue(Array.get(value, index), generator);
+			}
+
+			generator.writeEndArray();
+		}
+		else {
+			getObjectMapper().writeValue(generator, value);
+		}
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.serialization.json;
+
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeIterable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link JSONQueryResultsWriter} class streams query results, such as the
+ * {@link org.apache.geode.cache.query.SelectResults} of an OQL query on a JSON Region, as JSON to a caller-supplied
+ * {@link OutputStream} or {@link Writer}, converting one element at a time, either as a single JSON array
+ * or as newline-delimited JSON (NDJSON).
+ *
+ * Elements are expected to be in their stored form, e.g. {@link org.apache.geode.pdx.PdxInstance PdxInstances}
+ * or {@link org.apache.geode.cache.query.Struct Structs}, which are converted as they are written.
+ * {@link String Strings} are written as JSON string values, unless {@link #setStringsAsJSON(boolean)} is set,
+ * in which case each {@link String} is written as the JSON document it contains.  The latter is required for
+ * results of a {@link org.springframework.data.gemfire.GemfireTemplate} advised by {@link JSONRegionAdvice} with
+ * the default configuration, which converts query results to JSON {@link String Strings}.  Note that
+ * {@link JSONRegionAdvice} converts all results before returning them, so only results obtained with
+ * {@link JSONRegionAdvice#setConvertReturnedCollections(boolean)} set to {@literal false}, or directly from
+ * the {@link org.apache.geode.cache.query.QueryService}, are converted one element at a time.
+ *
+ * The target {@link OutputStream} or {@link Writer} is flushed, but not closed.
+ *
+ * @author John Blum
+ * @see java.io.OutputStream
+ * @see java.io.Writer
+ * @see org.springframework.data.gemfire.serialization.json.JSONPdxConverter
+ * @since 2.0.0
+ */
+public class JSONQueryResultsWriter {
+
+	private static final char LINE_SEPARATOR = '\n';
+
+	private boolean stringsAsJSON = false;
+
+	private final JSONPdxConverter converter;
+
+	/**
+	 * Constructs a new instance of {@link JSONQueryResultsWriter} using a default {@link JSONPdxConverter}.
+	 */
+	public JSONQueryResultsWriter() {
+		this(new JSONPdxConverter());
+	}
+
+	/**
+	 * Constructs a new instance of {@link JSONQueryResultsWriter} initialized with the given {@link JSONPdxConverter}
+	 * used to write each element.
+	 *
+	 * @param converter {@link JSONPdxConverter} used to write each element; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link JSONPdxConverter} is {@literal null}.
+	 */
+	public JSONQueryResultsWriter(JSONPdxConverter converter) {
+		Assert.notNull(converter, "JSONPdxConverter must not be null");
+		this.converter = converter;
+	}
+
+	/**
+	 * Returns the {@link JSONPdxConverter} used to write each element.
+	 *
+	 * @return the {@link JSONPdxConverter} used to write each element.
+	 */
+	public JSONPdxConverter getConverter() {
+		return this.converter;
+	}
+
+	/**
+	 * Configures whether {@link String} elements contain JSON documents, such as the results of a query
+	 * converted by {@link JSONRegionAdvice}, to be written as is rather than as JSON string values.
+	 * Defaults to {@literal false}.
+	 *
+	 * @param stringsAsJSON boolean value indicating whether {@link String} elements are written as JSON documents.
+	 */
+	public void setStringsAsJSON(boolean stringsAsJSON) {
+		this.stringsAsJSON = stringsAsJSON;
+	}
+
+	/**
+	 * Determines whether {@link String} elements are written as the JSON documents they contain.
+	 *
+	 * @return a boolean value indicating whether {@link String} elements are written as JSON documents.
+	 * @see #setStringsAsJSON(boolean)
+	 */
+	public boolean isStringsAsJSON() {
+		return this.stringsAsJSON;
+	}
+
+	/**
+	 * Writes the given results as a JSON array to the given {@link OutputStream} in UTF-8.
+	 *
+	 * @param results query results to write.
+	 * @param out {@link OutputStream} to which the JSON array is written.
+	 * @return the number of elements written.
+	 * @throws IOException if the JSON could not be written.
+	 */
+	public long writeJSONArray(Iterable<?> results, OutputStream out) throws IOException {
+		return writeJSONArray(results, newJsonGenerator(out));
+	}
+
+	/**
+	 * Writes the given results as a JSON array to the given {@link Writer}.
+	 *
+	 * @param results query results to write.
+	 * @param writer {@link Writer} to which the JSON array is written.
+	 * @return the number of elements written.
+	 * @throws IOException if the JSON could not be written.
+	 */
+	public long writeJSONArray(Iterable<?> results, Writer writer) throws IOException {
+		return writeJSONArray(results, newJsonGenerator(writer));
+	}
+
+	/* (non-Javadoc) */
+	private long writeJSONArray(Iterable<?> results, JsonGenerator generator) throws IOException {
+		long count = 0;
+
+		try (JsonGenerator jsonGenerator = generator) {
+			jsonGenerator.writeStartArray();
+
+			for (Object element : nullSafeIterable(results)) {
+				writeValue(element, jsonGenerator);
+				flushFirst(jsonGenerator, ++count);
+			}
+
+			jsonGenerator.writeEndArray();
+		}
+
+		return count;
+	}
+
+	/**
+	 * Writes the given results as newline-delimited JSON, one JSON value per line, to the given {@link OutputStream}
+	 * in UTF-8.
+	 *
+	 * @param results query results to write.
+	 * @param out {@link OutputStream} to which the JSON lines are written.
+	 * @return the number of elements written.
+	 * @throws IOException if the JSON could not be written.
+	 */
+	public long writeNDJSON(Iterable<?> results, OutputStream out) throws IOException {
+		return writeNDJSON(results, newJsonGenerator(out));
+	}
+
+	/**
+	 * Writes the given results as newline-delimited JSON, one JSON value per line, to the given {@link Writer}.
+	 *
+	 * @param results query results to write.
+	 * @param writer {@link Writer} to which the JSON lines are written.
+	 * @return the number of elements written.
+	 * @throws IOException if the JSON could not be written.
+	 */
+	public long writeNDJSON(Iterable<?> results, Writer writer) throws IOException {
+		return writeNDJSON(results, newJsonGenerator(writer));
+	}
+
+	/* (non-Javadoc) */
+	private long writeNDJSON(Iterable<?> results, JsonGenerator generator) throws IOException {
+		long count = 0;
+
+		try (JsonGenerator jsonGenerator = generator) {
+			jsonGenerator.setRootValueSeparator(null);
+
+			for (Object element : nullSafeIterable(results)) {
+				writeValue(element, jsonGenerator);
+				jsonGenerator.writeRaw(LINE_SEPARATOR);
+				flushFirst(jsonGenerator, ++count);
+			}
+		}
+
+		return count;
+	}
+
+	/* (non-Javadoc) */
+	private void writeValue(Object element, JsonGenerator generator) throws IOException {
+		if (isStringsAsJSON() && element instanceof String) {
+			// copy token by token, which also removes any pretty printing that would break NDJSON lines
+			JsonFactory factory = getConverter().getObjectMapper().getFactory();
+
+			try (JsonParser parser = factory.createParser((String) element)) {
+				parser.nextToken();
+				generator.copyCurrentStructure(parser);
+			}
+		}
+		else {
+			getConverter().writeValue(element, generator);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private JsonGenerator newJsonGenerator(OutputStream out) throws IOException {
+		Assert.notNull(out, "OutputStream must not be null");
+
+		return getConverter().getObjectMapper().getFactory().createGenerator(out, JsonEncoding.UTF8)
+			.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	}
+
+	/* (non-Javadoc) */
+	private JsonGenerator newJsonGenerator(Writer writer) throws IOException {
+		Assert.notNull(writer, "Writer must not be null");
+
+		return getConverter().getObjectMapper().getFactory().createGenerator(writer)
+			.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	}
+
+	/* (non-Javadoc) */
+	private void flushFirst(JsonGenerator generator, long count) throws IOException {
+		// flush the first element to the caller right away; the remaining elements are flushed as the
+		// generator's buffer fills up and when the generator is closed
+		if (count == 1) {
+			generator.flush();
+		}
+	}
+}
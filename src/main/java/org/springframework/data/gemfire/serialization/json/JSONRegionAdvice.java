@@ -25,14 +25,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.SelectResults;
 import org.apache.geode.cache.query.internal.ResultsBag;
-import org.apache.geode.pdx.JSONFormatter;
 import org.apache.geode.pdx.PdxInstance;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -47,6 +44,7 @@ import org.springframework.util.CollectionUtils;
  * @author John Blum
  * @see org.apache.geode.cache.Region
  * @see org.apache.geode.pdx.JSONFormatter
+ * @see org.springframework.data.gemfire.serialization.json.JSONPdxConverter
  * @see org.apache.geode.pdx.PdxInstance
  * @see org.aspectj.lang.annotation.Aspect
  * @see org.aspectj.lang.annotation.Around
@@ -60,6 +58,8 @@ public class JSONRegionAdvice {
 
 	private List<String> includedRegions;
 
+	private final JSONPdxConverter converter = new JSONPdxConverter();
+
 	protected final Log log = LogFactory.getLog(JSONRegionAdvice.class);
 
 	/**
@@ -271,17 +271,10 @@ public class JSONRegionAdvice {
 			pdx = (PdxInstance) value;
 		}
 		else if (value instanceof String) {
-			pdx = JSONFormatter.fromJSON((String) value);
+			pdx = converter.fromJSON((String) value);
 		}
 		else {
-			ObjectMapper mapper = new ObjectMapper();
-			try {
-				String json = mapper.writeValueAsString(value);
-				pdx = JSONFormatter.fromJSON(json);
-			}
-			catch (Throwable t) {
-				handleThrowable(t);
-			}
+			pdx = converter.fromObject(value);
 		}
 
 		return pdx;
@@ -305,19 +298,7 @@ public class JSONRegionAdvice {
 		Object result = returnValue;
 
 		if (returnValue != null && returnValue instanceof PdxInstance) {
-			result = JSONFormatter.toJSON((PdxInstance) returnValue);
-			if (!prettyPrint) {
-				result = flattenString(result);
-			}
-		}
-
-		return result;
-	}
-
-	private Object flattenString(Object result) {
-		if (result instanceof String) {
-			String json = (String) result;
-			return json.replaceAll("\\s*", "");
+			result = converter.toJSON((PdxInstance) returnValue, prettyPrint);
 		}
 
 		return result;
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.*;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import org.apache.geode.GemFireCheckedException;
 import org.apache.geode.GemFireException;
@@ -36,6 +37,8 @@ import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.query.Query;
 import org.apache.geode.cache.query.QueryService;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.types.CollectionType;
+import org.apache.geode.pdx.PdxInstance;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -44,6 +47,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.mapping.PdxInstanceEntityProxy;
 import org.springframework.data.gemfire.test.support.AbstractUnitAndIntegrationTestsWithMockSupport;
 
 /**
@@ -175,6 +179,48 @@ public class GemfireTemplateUnitTests extends AbstractUnitAndIntegrationTestsWit
 		verifyZeroInteractions(mockSelectResults);
 	}
 
+	@Test
+	public void findReusesCachedQuery() throws Exception {
+		String expectedQuery = "SELECT * FROM /Example WHERE id = $1";
+
+		SelectResults mockSelectResults = mock(SelectResults.class);
+
+		when(mockQuery.execute(any(Object[].class))).thenReturn(mockSelectResults);
+
+		assertThat(template.find(expectedQuery, 1)).isEqualTo(mockSelectResults);
+		assertThat(template.find(expectedQuery, 2)).isEqualTo(mockSelectResults);
+		assertThat(template.getQueryCache().getHitCount()).isEqualTo(1L);
+		assertThat(template.getQueryCache().getMissCount()).isEqualTo(1L);
+
+		verify(mockQueryService, times(1)).newQuery(eq(expectedQuery));
+		verify(mockQuery, times(1)).execute(eq(new Object[] { 1 }));
+		verify(mockQuery, times(1)).execute(eq(new Object[] { 2 }));
+	}
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void findReusesCachedQueryWhenRegionServiceReturnsNewQueryService() throws Exception {
+		String expectedQuery = "SELECT * FROM /Example WHERE id = $1";
+
+		SelectResults mockSelectResults = mock(SelectResults.class);
+
+		when(mockQuery.execute(any(Object[].class))).thenReturn(mockSelectResults);
+
+		when(mockRegionService.getQueryService()).thenAnswer(invocation -> {
+			QueryService queryService = mock(QueryService.class);
+			when(queryService.newQuery(anyString())).thenReturn(mockQuery);
+			return queryService;
+		});
+
+		assertThat(template.find(expectedQuery, 1)).isEqualTo(mockSelectResults);
+		assertThat(template.find(expectedQuery, 2)).isEqualTo(mockSelectResults);
+		assertThat(template.getQueryCache().size()).isEqualTo(1);
+		assertThat(template.getQueryCache().getHitCount()).isEqualTo(1L);
+		assertThat(template.getQueryCache().getMissCount()).isEqualTo(1L);
+
+		verify(mockRegionService, times(1)).getQueryService();
+	}
+
 	@Test(expected = InvalidDataAccessApiUsageException.class)
 	public void findWithSingleResultQueryThrowsInvalidDataAccessApiUsageException() throws Exception {
 		Object[] expectedParams = { "arg" };
@@ -344,4 +390,110 @@ public class GemfireTemplateUnitTests extends AbstractUnitAndIntegrationTestsWit
 		verify(mockRegion, never()).getAttributes();
 		verify(mockRegionService, times(1)).getQueryService();
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getReturnsPdxInstanceByDefault() {
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(((Region<Object, Object>) mockRegion).get(eq(1L))).thenReturn(mockPdxInstance);
+
+		assertThat(template.isProxyPdxInstances()).isFalse();
+		assertThat(template.<Object, Object>get(1L)).isSameAs(mockPdxInstance);
+
+		verifyZeroInteractions(mockPdxInstance);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithProxyPdxInstancesReturnsEntityProxy() {
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.getClassName()).thenReturn(Customer.class.getName());
+		when(mockPdxInstance.hasField(eq("name"))).thenReturn(true);
+		when(mockPdxInstance.getField(eq("name"))).thenReturn("Jon Doe");
+		when(((Region<Object, Object>) mockRegion).get(eq(1L))).thenReturn(mockPdxInstance);
+
+		template.setProxyPdxInstances(true);
+
+		Object value = template.get(1L);
+
+		assertThat(value).isInstanceOf(Customer.class);
+		assertThat(value).isInstanceOf(PdxInstanceEntityProxy.class);
+		assertThat(((Customer) value).getName()).isEqualTo("Jon Doe");
+
+		verify(mockPdxInstance, never()).getObject();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void putReplacesEntityProxyWithEntity() {
+		Customer customer = new Customer();
+
+		PdxInstanceEntityProxy mockProxy = mock(PdxInstanceEntityProxy.class);
+
+		when(mockProxy.materialize()).thenReturn(customer);
+
+		template.setProxyPdxInstances(true);
+		template.put(1L, mockProxy);
+
+		verify((Region<Object, Object>) mockRegion, times(1)).put(eq(1L), same(customer));
+		verify(mockProxy, times(1)).materialize();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void putDoesNotInspectValuesByDefault() {
+		PdxInstanceEntityProxy mockProxy = mock(PdxInstanceEntityProxy.class);
+
+		template.put(1L, mockProxy);
+		template.putAll(Collections.singletonMap(2L, mockProxy));
+
+		verify((Region<Object, Object>) mockRegion, times(1)).put(eq(1L), same(mockProxy));
+		verify((Region<Object, Object>) mockRegion, times(1)).putAll(eq(Collections.singletonMap(2L, mockProxy)));
+		verifyZeroInteractions(mockProxy);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void queryWithProxyPdxInstancesReturnsEntityProxies() throws Exception {
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.getClassName()).thenReturn(Customer.class.getName());
+
+		CollectionType mockCollectionType = mock(CollectionType.class);
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.stream()).thenAnswer(invocation -> Stream.of(mockPdxInstance));
+		when(mockSelectResults.iterator()).thenAnswer(invocation ->
+			Collections.singletonList(mockPdxInstance).iterator());
+		when(mockSelectResults.size()).thenReturn(1);
+		when(mockSelectResults.getCollectionType()).thenReturn(mockCollectionType);
+		doCallRealMethod().when(mockSelectResults).forEach(any());
+		when(((Region<Object, Object>) mockRegion).query(anyString())).thenReturn(mockSelectResults);
+
+		template.setProxyPdxInstances(true);
+
+		SelectResults<Object> results = template.query("name = 'Jon Doe'");
+
+		assertThat(results).hasSize(1);
+		assertThat(results.iterator().next()).isInstanceOf(Customer.class);
+		assertThat(results.iterator().next()).isInstanceOf(PdxInstanceEntityProxy.class);
+		assertThat(results.getCollectionType()).isSameAs(mockCollectionType);
+		assertThat(results.isModifiable()).isFalse();
+	}
+
+	public static class Customer {
+
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryService;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link QueryCache}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.QueryCache
+ * @since 2.0.0
+ */
+public class QueryCacheUnitTests {
+
+	private QueryService mockQueryService;
+
+	@Before
+	public void setup() {
+		mockQueryService = mock(QueryService.class);
+		when(mockQueryService.newQuery(anyString())).thenAnswer(invocation -> mock(Query.class));
+	}
+
+	@Test
+	public void getQueryCachesQuery() {
+		QueryCache queryCache = new QueryCache();
+
+		Query query = queryCache.getQuery(mockQueryService, "SELECT * FROM /Example");
+
+		assertThat(query).isNotNull();
+		assertThat(queryCache.getQuery(mockQueryService, "SELECT * FROM /Example")).isSameAs(query);
+		assertThat(queryCache.size()).isEqualTo(1);
+		assertThat(queryCache.getHitCount()).isEqualTo(1L);
+		assertThat(queryCache.getMissCount()).isEqualTo(1L);
+		assertThat(queryCache.getHitRatio()).isEqualTo(0.5d);
+
+		verify(mockQueryService, times(1)).newQuery(eq("SELECT * FROM /Example"));
+	}
+
+	@Test
+	public void getQueryKeysByQueryService() {
+		QueryService mockQueryServiceTwo = mock(QueryService.class);
+
+		when(mockQueryServiceTwo.newQuery(anyString())).thenAnswer(invocation -> mock(Query.class));
+
+		QueryCache queryCache = new QueryCache();
+
+		Query query = queryCache.getQuery(mockQueryService, "SELECT * FROM /Example");
+
+		assertThat(queryCache.getQuery(mockQueryServiceTwo, "SELECT * FROM /Example")).isNotSameAs(query);
+		assertThat(queryCache.size()).isEqualTo(2);
+		assertThat(queryCache.getMissCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void getQueryKeysByQueryServiceKeyWhenQueryServiceChanges() {
+		QueryCache queryCache = new QueryCache();
+
+		Query query = queryCache.getQuery("cache", () -> newMockQueryService(), "SELECT * FROM /Example");
+
+		assertThat(queryCache.getQuery("cache", () -> newMockQueryService(), "SELECT * FROM /Example"))
+			.isSameAs(query);
+		assertThat(queryCache.getQuery("pool", () -> newMockQueryService(), "SELECT * FROM /Example"))
+			.isNotSameAs(query);
+		assertThat(queryCache.size()).isEqualTo(2);
+		assertThat(queryCache.getHitCount()).isEqualTo(1L);
+		assertThat(queryCache.getMissCount()).isEqualTo(2L);
+	}
+
+	private QueryService newMockQueryService() {
+		QueryService queryService = mock(QueryService.class);
+		when(queryService.newQuery(anyString())).thenAnswer(invocation -> mock(Query.class));
+		return queryService;
+	}
+
+	@Test
+	public void getQueryEvictsWhenFull() {
+		QueryCache queryCache = new QueryCache(2);
+
+		queryCache.getQuery(mockQueryService, "SELECT * FROM /One");
+		queryCache.getQuery(mockQueryService, "SELECT * FROM /Two");
+		queryCache.getQuery(mockQueryService, "SELECT * FROM /Three");
+
+		assertThat(queryCache.size()).isEqualTo(2);
+		assertThat(queryCache.getEvictionCount()).isEqualTo(1L);
+		assertThat(queryCache.getMissCount()).isEqualTo(3L);
+	}
+
+	@Test
+	public void disabledQueryCacheAlwaysCreatesNewQuery() {
+		QueryCache queryCache = new QueryCache(0);
+
+		assertThat(queryCache.isEnabled()).isFalse();
+
+		Query query = queryCache.getQuery(mockQueryService, "SELECT * FROM /Example");
+
+		assertThat(queryCache.getQuery(mockQueryService, "SELECT * FROM /Example")).isNotSameAs(query);
+		assertThat(queryCache.size()).isEqualTo(0);
+		assertThat(queryCache.getMissCount()).isEqualTo(2L);
+
+		verify(mockQueryService, times(2)).newQuery(eq("SELECT * FROM /Example"));
+	}
+
+	@Test
+	public void clearRemovesAllQueries() {
+		QueryCache queryCache = new QueryCache();
+
+		queryCache.getQuery(mockQueryService, "SELECT * FROM /Example");
+		queryCache.clear();
+
+		assertThat(queryCache.size()).isEqualTo(0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNegativeMaximumSizeThrowsIllegalArgumentException() {
+		new QueryCache(-1);
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import reactor.core.scheduler.Scheduler;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.SelectResults;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ReactiveGemfireTemplate}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.ReactiveGemfireTemplate
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+public class ReactiveGemfireTemplateUnitTests {
+
+	private static final Scheduler scheduler = ReactiveGemfireTemplate.newScheduler(1);
+
+	private GemfireTemplate template;
+
+	private Region<Object, Object> mockRegion;
+
+	private ReactiveGemfireTemplate reactiveTemplate;
+
+	@AfterClass
+	public static void tearDown() {
+		scheduler.dispose();
+	}
+
+	@Before
+	public void setup() {
+		mockRegion = mock(Region.class, "MockRegion");
+		template = spy(new GemfireTemplate(mockRegion));
+		reactiveTemplate = new ReactiveGemfireTemplate(template, scheduler);
+	}
+
+	@Test
+	public void getRunsOnScheduler() {
+		AtomicReference<String> threadName = new AtomicReference<>();
+
+		when(mockRegion.get(eq("key"))).thenAnswer(invocation -> {
+			threadName.set(Thread.currentThread().getName());
+			return "value";
+		});
+
+		assertThat(reactiveTemplate.<String, String>get("key").block()).isEqualTo("value");
+		assertThat(threadName.get()).isEqualTo("gemfire-reactive-1");
+	}
+
+	@Test
+	public void getIsDeferredUntilSubscribed() {
+		reactiveTemplate.get("key");
+
+		verifyZeroInteractions(mockRegion);
+	}
+
+	@Test
+	public void getWithNoValueIsEmpty() {
+		assertThat(reactiveTemplate.get("key").hasElement().block()).isFalse();
+	}
+
+	@Test
+	public void putAllCompletes() {
+		reactiveTemplate.putAll(Collections.singletonMap("key", "value")).block();
+
+		verify(mockRegion, times(1)).putAll(eq(Collections.singletonMap("key", "value")));
+	}
+
+	@Test
+	public void findEmitsEachResult() {
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.asList()).thenReturn(Arrays.asList(1, 2, 3));
+		doReturn(mockSelectResults).when(template).find(eq("SELECT * FROM /Example WHERE id > $1"), eq(0));
+
+		assertThat(reactiveTemplate.find("SELECT * FROM /Example WHERE id > $1", 0).collectList().block())
+			.containsExactly(1, 2, 3);
+	}
+
+	@Test
+	public void getDefaultSchedulerIsShared() {
+		assertThat(ReactiveGemfireTemplate.getDefaultScheduler()).isSameAs(ReactiveGemfireTemplate.getDefaultScheduler());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullSchedulerThrowsIllegalArgumentException() {
+		new ReactiveGemfireTemplate(template, null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void newSchedulerWithZeroPoolSizeThrowsIllegalArgumentException() {
+		ReactiveGemfireTemplate.newScheduler(0);
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.support;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.pdx.PdxSerializer;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.gemfire.config.xml.GemfireConstants;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.MappingPdxSerializer;
+
+/**
+ * Unit tests for {@link PdxTypeDefinitionsInitializer}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.config.support.PdxTypeDefinitionsInitializer
+ * @since 2.0.0
+ */
+public class PdxTypeDefinitionsInitializerUnitTests {
+
+	private DefaultListableBeanFactory beanFactory;
+
+	private GemFireCache mockCache;
+
+	private MappingPdxSerializer mockMappingPdxSerializer;
+
+	private PdxTypeDefinitionsInitializer initializer;
+
+	@Before
+	public void setup() {
+		GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+		mappingContext.getPersistentEntity(Author.class);
+
+		mockCache = mock(GemFireCache.class);
+		mockMappingPdxSerializer = mock(MappingPdxSerializer.class);
+
+		when(mockCache.getPdxSerializer()).thenReturn(mockMappingPdxSerializer);
+		when(mockMappingPdxSerializer.getMappingContext()).thenReturn(mappingContext);
+		when(mockMappingPdxSerializer.definePdxType(any(Class.class), any(RegionService.class))).thenReturn(true);
+
+		beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton(GemfireConstants.DEFAULT_GEMFIRE_CACHE_NAME, mockCache);
+
+		initializer = new PdxTypeDefinitionsInitializer();
+		initializer.setBeanFactory(beanFactory);
+	}
+
+	private void registerRegionBeanDefinition(String beanName, Class<?> persistentEntityType) {
+		AbstractBeanDefinition beanDefinition =
+			BeanDefinitionBuilder.genericBeanDefinition(Object.class).getBeanDefinition();
+
+		beanDefinition.setAttribute(PdxTypeDefinitionsInitializer.PERSISTENT_ENTITY_TYPE_ATTRIBUTE,
+			persistentEntityType);
+
+		beanFactory.registerBeanDefinition(beanName, beanDefinition);
+	}
+
+	@Test
+	public void definesPdxTypesOfMappingContextAndRegionPersistentEntities() {
+		registerRegionBeanDefinition("Books", Book.class);
+		registerRegionBeanDefinition("Authors", Author.class);
+
+		initializer.afterSingletonsInstantiated();
+
+		verify(mockMappingPdxSerializer, times(1)).definePdxType(eq(Author.class), eq(mockCache));
+		verify(mockMappingPdxSerializer, times(1)).definePdxType(eq(Book.class), eq(mockCache));
+	}
+
+	@Test
+	public void failureToDefinePdxTypeDoesNotPreventDefiningOtherPdxTypes() {
+		registerRegionBeanDefinition("Books", Book.class);
+
+		when(mockMappingPdxSerializer.definePdxType(eq(Author.class), any(RegionService.class)))
+			.thenThrow(new IllegalStateException("test"));
+
+		initializer.afterSingletonsInstantiated();
+
+		verify(mockMappingPdxSerializer, times(1)).definePdxType(eq(Author.class), eq(mockCache));
+		verify(mockMappingPdxSerializer, times(1)).definePdxType(eq(Book.class), eq(mockCache));
+	}
+
+	@Test
+	public void doesNothingWhenCachePdxSerializerIsNotMappingPdxSerializer() {
+		when(mockCache.getPdxSerializer()).thenReturn(mock(PdxSerializer.class));
+
+		initializer.afterSingletonsInstantiated();
+
+		verify(mockMappingPdxSerializer, never()).definePdxType(any(Class.class), any(RegionService.class));
+	}
+
+	@Test
+	public void doesNothingWhenCacheBeanIsNotPresent() {
+		initializer.setBeanFactory(new DefaultListableBeanFactory());
+		initializer.afterSingletonsInstantiated();
+
+		verify(mockMappingPdxSerializer, never()).definePdxType(any(Class.class), any(RegionService.class));
+	}
+
+	public static class Author {
+
+		private String name;
+
+	}
+
+	public static class Book {
+
+		private String title;
+
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Unit tests for {@link KeysetPage} and {@link KeysetPageRequest}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.domain.KeysetPage
+ * @see org.springframework.data.gemfire.domain.KeysetPageRequest
+ * @since 2.0.0
+ */
+public class KeysetPageUnitTests {
+
+	@Test
+	public void fromPageableAppendsIdProperty() {
+		KeysetPageRequest pageRequest = KeysetPageRequest.from(PageRequest.of(2, 10, Sort.by("name")), "id");
+
+		assertThat(pageRequest.getPageNumber()).isEqualTo(2);
+		assertThat(pageRequest.getPageSize()).isEqualTo(10);
+		assertThat(pageRequest.getSort()).isEqualTo(Sort.by("name", "id"));
+		assertThat(pageRequest.hasKeyset()).isFalse();
+		assertThat(pageRequest.getFetchOffset()).isEqualTo(20L);
+		assertThat(pageRequest.getFetchLimit()).isEqualTo(31);
+	}
+
+	@Test
+	public void fromPageableWithIdPropertyRetainsSort() {
+		Sort sort = Sort.by(Sort.Direction.DESC, "id");
+
+		assertThat(KeysetPageRequest.from(PageRequest.of(0, 5, sort), "id").getSort()).isEqualTo(sort);
+	}
+
+	@Test
+	public void fromPageableOrdersByStaticSortFirst() {
+		KeysetPageRequest pageRequest =
+			KeysetPageRequest.from(PageRequest.of(0, 5, Sort.by("age", "name")), Sort.by("name"), "id");
+
+		assertThat(pageRequest.getSort()).isEqualTo(Sort.by("name", "age", "id"));
+	}
+
+	@Test
+	public void nextAfterCapturesKeysetOfLastElement() {
+		KeysetPageRequest pageRequest = KeysetPageRequest.from(KeysetPageRequest.of(10, Sort.by("name")), "id");
+
+		KeysetPageRequest nextPageRequest = pageRequest.nextAfter(new Element(42L, "jonDoe"));
+
+		assertThat(nextPageRequest.getPageNumber()).isEqualTo(1);
+		assertThat(nextPageRequest.getPageSize()).isEqualTo(10);
+		assertThat(nextPageRequest.getSort()).isEqualTo(pageRequest.getSort());
+		assertThat(nextPageRequest.hasKeyset()).isTrue();
+		assertThat(nextPageRequest.getKeyset()).containsExactly("jonDoe", 42L);
+		assertThat(nextPageRequest.getFetchOffset()).isEqualTo(0L);
+		assertThat(nextPageRequest.getFetchLimit()).isEqualTo(11);
+		assertThat(nextPageRequest.previous()).isSameAs(pageRequest);
+		assertThat(nextPageRequest.first()).isEqualTo(KeysetPageRequest.of(10, pageRequest.getSort()));
+	}
+
+	@Test
+	public void nextAfterCapturesKeysetOfLastMapElement() {
+		KeysetPageRequest pageRequest = KeysetPageRequest.from(KeysetPageRequest.of(10, Sort.by("name")), "id");
+
+		Map<String, Object> lastElement = new HashMap<>();
+
+		lastElement.put("id", 42L);
+		lastElement.put("name", "jonDoe");
+
+		KeysetPageRequest nextPageRequest = pageRequest.nextAfter(lastElement);
+
+		assertThat(nextPageRequest.hasKeyset()).isTrue();
+		assertThat(nextPageRequest.getKeyset()).containsExactly("jonDoe", 42L);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nextAfterElementWithNullKeysetValueThrowsIllegalArgumentException() {
+		KeysetPageRequest.from(KeysetPageRequest.of(10, Sort.by("name")), "id").nextAfter(new Element(42L, null));
+	}
+
+	@Test
+	public void withoutPreviousLocatesPreviousPageByOffset() {
+		KeysetPageRequest pageRequest = KeysetPageRequest.from(KeysetPageRequest.of(10), "id");
+
+		KeysetPageRequest nextPageRequest = pageRequest.nextAfter(new Element(42L, "jonDoe")).withoutPrevious();
+
+		assertThat(nextPageRequest.getKeyset()).containsExactly(42L);
+		assertThat(nextPageRequest.previous()).isNotSameAs(pageRequest);
+		assertThat(nextPageRequest.previous()).isEqualTo(pageRequest);
+		assertThat(pageRequest.withoutPrevious()).isSameAs(pageRequest);
+	}
+
+	@Test
+	public void newKeysetPageWithMoreResultsHasNext() {
+		KeysetPageRequest pageRequest = KeysetPageRequest.from(KeysetPageRequest.of(2), "id");
+
+		KeysetPage<Element> page = KeysetPage.newKeysetPage(Arrays.asList(new Element(1L, "a"),
+			new Element(2L, "b"), new Element(3L, "c")), pageRequest, () -> 3L);
+
+		assertThat(page.getContent()).extracting("id").containsExactly(1L, 2L);
+		assertThat(page.getNumber()).isEqualTo(0);
+		assertThat(page.getSize()).isEqualTo(2);
+		assertThat(page.getNumberOfElements()).isEqualTo(2);
+		assertThat(page.hasNext()).isTrue();
+		assertThat(page.hasPrevious()).isFalse();
+		assertThat(page.isFirst()).isTrue();
+		assertThat(page.previousPageable()).isNull();
+		assertThat(((KeysetPageRequest) page.nextPageable()).getKeyset()).containsExactly(2L);
+		assertThat(page.getTotalElements()).isEqualTo(3L);
+		assertThat(page.getTotalPages()).isEqualTo(2);
+	}
+
+	@Test
+	public void newKeysetPageWithoutMoreResultsIsLast() {
+		KeysetPageRequest pageRequest = KeysetPageRequest.from(KeysetPageRequest.of(2), "id")
+			.nextAfter(new Element(2L, "b"));
+
+		KeysetPage<Element> page = KeysetPage.newKeysetPage(Arrays.asList(new Element(3L, "c")), pageRequest, null);
+
+		assertThat(page.getContent()).extracting("id").containsExactly(3L);
+		assertThat(page.getNumber()).isEqualTo(1);
+		assertThat(page.hasNext()).isFalse();
+		assertThat(page.isLast()).isTrue();
+		assertThat(page.hasPrevious()).isTrue();
+		assertThat(page.nextPageable()).isNull();
+		assertThat(page.previousPageable()).isEqualTo(pageRequest.previous());
+	}
+
+	@Test
+	public void newKeysetPageSkipsResultsBeforeOffset() {
+		KeysetPageRequest pageRequest = KeysetPageRequest.from(PageRequest.of(1, 2), "id");
+
+		KeysetPage<Element> page = KeysetPage.newKeysetPage(Arrays.asList(new Element(1L, "a"),
+			new Element(2L, "b"), new Element(3L, "c")), pageRequest, null);
+
+		assertThat(page.getContent()).extracting("id").containsExactly(3L);
+		assertThat(page.hasNext()).isFalse();
+	}
+
+	@Test
+	public void totalElementsIsComputedOnce() {
+		AtomicInteger counter = new AtomicInteger(0);
+
+		KeysetPage<Element> page = KeysetPage.newKeysetPage(Arrays.asList(new Element(1L, "a")),
+			KeysetPageRequest.from(KeysetPageRequest.of(2), "id"), () -> counter.incrementAndGet());
+
+		assertThat(page.getTotalElements()).isEqualTo(1L);
+		assertThat(page.getTotalElements()).isEqualTo(1L);
+		assertThat(counter.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void mapRetainsNextPageable() {
+		KeysetPage<Element> page = KeysetPage.newKeysetPage(Arrays.asList(new Element(1L, "a"),
+			new Element(2L, "b")), KeysetPageRequest.from(KeysetPageRequest.of(1), "id"), null);
+
+		KeysetPage<String> names = page.map(Element::getName);
+
+		assertThat(names.getContent()).containsExactly("a");
+		assertThat(names.nextPageable()).isEqualTo(page.nextPageable());
+	}
+
+	@SuppressWarnings("unused")
+	static class Element {
+
+		private final Long id;
+		private final String name;
+
+		Element(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+	}
+}
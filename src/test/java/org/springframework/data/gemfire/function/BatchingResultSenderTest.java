@@ -13,19 +13,26 @@
 package org.springframework.data.gemfire.function;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.execute.ResultSender;
 import org.junit.Test;
 
 /**
  * @author David Turanski
- *
+ * @author John Blum
  */
 public class BatchingResultSenderTest {
 
@@ -71,6 +78,152 @@ public class BatchingResultSenderTest {
 
 	}
 
+	@Test
+	public void testArrayChunkingSendsLastResult() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+
+		new BatchingResultSender(3, resultSender).sendArrayResults(new Integer[] { 1, 2, 3, 4, 5, 6, 7 });
+
+		assertEquals(3, resultSender.getChunks().size());
+		assertEquals(3, resultSender.getLastChunkIndex());
+		assertEquals(Arrays.asList(7), Arrays.asList((Object[]) resultSender.getLastChunk()));
+	}
+
+	@Test
+	public void testPrimitiveArrayChunking() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+
+		new BatchingResultSender(2, resultSender).sendArrayResults(new long[] { 1L, 2L, 3L, 4L });
+
+		assertEquals(2, resultSender.getChunks().size());
+		assertEquals(2, resultSender.getLastChunkIndex());
+		assertEquals(long[].class, resultSender.getLastChunk().getClass());
+		assertEquals(4L, ((long[]) resultSender.getLastChunk())[1]);
+	}
+
+	@Test
+	public void testPrimitiveArrayChunkingBySize() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+
+		new BatchingResultSender(0, 16, resultSender).sendArrayResults(new int[] { 1, 2, 3, 4, 5, 6, 7, 8, 9 });
+
+		assertEquals(3, resultSender.getChunks().size());
+		assertEquals(4, ((int[]) resultSender.getChunks().get(0)).length);
+		assertEquals(1, ((int[]) resultSender.getLastChunk()).length);
+	}
+
+	@Test
+	public void testListChunkingBySize() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+
+		new BatchingResultSender(0, 25, value -> 10, resultSender).sendResults(Arrays.asList(1, 2, 3, 4, 5, 6, 7));
+
+		assertEquals(3, resultSender.getChunks().size());
+		assertEquals(Arrays.asList(1, 2, 3), resultSender.getChunks().get(0));
+		assertEquals(Arrays.asList(7), resultSender.getLastChunk());
+	}
+
+	@Test
+	public void testListChunkingByCountAndSize() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+
+		new BatchingResultSender(2, 25, value -> 10, resultSender).sendResults(Arrays.asList(1, 2, 3, 4, 5));
+
+		assertEquals(3, resultSender.getChunks().size());
+		assertEquals(Arrays.asList(1, 2), resultSender.getChunks().get(0));
+	}
+
+	@Test
+	public void testListChunksAreNotReused() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+
+		new BatchingResultSender(2, resultSender).sendResults(Arrays.asList(1, 2, 3, 4));
+
+		assertNotSame(resultSender.getChunks().get(0), resultSender.getLastChunk());
+		assertEquals(Arrays.asList(1, 2), resultSender.getChunks().get(0));
+		assertEquals(Arrays.asList(3, 4), resultSender.getLastChunk());
+	}
+
+	@Test
+	public void testStreamChunking() {
+		AtomicBoolean closed = new AtomicBoolean(false);
+		RecordingResultSender resultSender = new RecordingResultSender();
+
+		Stream<Integer> stream = IntStream.range(0, 10).boxed().onClose(() -> closed.set(true));
+
+		new BatchingResultSender(4, resultSender).sendResults(stream);
+
+		assertEquals(3, resultSender.getChunks().size());
+		assertEquals(Arrays.asList(8, 9), resultSender.getLastChunk());
+		assertTrue(closed.get());
+	}
+
+	@Test
+	public void testIteratorWithoutBatchingSendsSingleList() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+
+		new BatchingResultSender(0, resultSender).sendResults(Arrays.asList(1, 2, 3).iterator());
+
+		assertEquals(1, resultSender.getChunks().size());
+		assertEquals(Arrays.asList(1, 2, 3), resultSender.getLastChunk());
+	}
+
+	@Test
+	public void testIterableWithoutBatchingSendsIterable() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+		List<Integer> result = Arrays.asList(1, 2, 3);
+
+		new BatchingResultSender(0, resultSender).sendResults(result);
+
+		assertSame(result, resultSender.getLastChunk());
+	}
+
+	@Test
+	public void testEmptyResultsSendLastResult() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+
+		new BatchingResultSender(10, resultSender).sendResults(Collections.emptyList());
+		new BatchingResultSender(10, resultSender).sendArrayResults(new int[0]);
+
+		assertEquals(2, resultSender.getChunks().size());
+		assertEquals(2, resultSender.getLastChunkIndex());
+	}
+
+	public static class RecordingResultSender implements ResultSender<Object> {
+
+		private int lastChunkIndex;
+
+		private final List<Object> chunks = new ArrayList<Object>();
+
+		@Override
+		public void lastResult(Object chunk) {
+			chunks.add(chunk);
+			lastChunkIndex = chunks.size();
+		}
+
+		@Override
+		public void sendException(Throwable cause) {
+			fail();
+		}
+
+		@Override
+		public void sendResult(Object chunk) {
+			chunks.add(chunk);
+		}
+
+		public List<Object> getChunks() {
+			return chunks;
+		}
+
+		public Object getLastChunk() {
+			return chunks.get(chunks.size() - 1);
+		}
+
+		public int getLastChunkIndex() {
+			return lastChunkIndex;
+		}
+	}
+
 	public static abstract class AbstractTestResultSender implements ResultSender<Object> {
 		private List<Object> results = new ArrayList<Object>();
 
@@ -285,6 +285,41 @@ public class FunctionArgumentResolverTest {
         assertSame(resultSender, args[1]);
     }
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testMethodWithFunctionContextBeforeRegionData() throws NoSuchMethodException {
+		RegionFunctionContext functionContext = mock(RegionFunctionContext.class);
+		Region<Object, Object> region = mock(Region.class);
+
+		Method method = TestFunction.class.getDeclaredMethod("methodWithFunctionContextBeforeRegionData",
+			FunctionContext.class, String.class, Map.class);
+
+		FunctionArgumentResolver far = new FunctionContextInjectingArgumentResolver(method);
+
+		Object[] originalArgs = new Object[] { "hello" };
+		when(functionContext.getArguments()).thenReturn(originalArgs);
+		when(functionContext.getDataSet()).thenReturn(region);
+
+		Object[] args = far.resolveFunctionArguments(functionContext);
+
+		assertEquals(3, args.length);
+		assertSame(functionContext, args[0]);
+		assertSame(originalArgs[0], args[1]);
+		assertSame(region, args[2]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMethodWithWrongNumberOfArguments() throws NoSuchMethodException {
+		FunctionContext functionContext = mock(FunctionContext.class);
+
+		Method method = TestFunction.class.getDeclaredMethod("methodWithFunctionContextAndResultSender",
+			FunctionContext.class, ResultSender.class);
+
+		when(functionContext.getArguments()).thenReturn(new Object[] { "unexpected" });
+
+		new FunctionContextInjectingArgumentResolver(method).resolveFunctionArguments(functionContext);
+	}
+
 	@SuppressWarnings("unused")
     static class TestFunction {
 
@@ -309,6 +344,9 @@ public class FunctionArgumentResolverTest {
         public void methodWithFilterAndRegion(@RegionData Map<String, Object> region, @Filter Set<String> keys, Object arg) {
         }
 
+		public void methodWithFunctionContextBeforeRegionData(FunctionContext fc, String s1, @RegionData Map<?, ?> r) {
+		}
+
         //Invalid Method Signatures
         public void methodWithMultipleRegionData(@RegionData Map<?, ?> r1, @RegionData Map<?, ?> r2) {
         }
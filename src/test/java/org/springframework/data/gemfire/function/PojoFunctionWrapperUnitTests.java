@@ -0,0 +1,156 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.junit.Test;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Unit tests for {@link PojoFunctionWrapper}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.PojoFunctionWrapper
+ * @since 2.0.0
+ */
+public class PojoFunctionWrapperUnitTests {
+
+	private PojoFunctionWrapper newFunction(String methodName, Class<?>... parameterTypes) {
+		Method method = ReflectionUtils.findMethod(TestFunctions.class, methodName, parameterTypes);
+		return new PojoFunctionWrapper(new TestFunctions(), method, null);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeSendsReturnValueAsLastResult() {
+		FunctionContext mockFunctionContext = mock(FunctionContext.class);
+		ResultSender<Object> mockResultSender = mock(ResultSender.class);
+
+		when(mockFunctionContext.getArguments()).thenReturn(new Object[] { "Hello", 3 });
+		when(mockFunctionContext.getResultSender()).thenReturn(mockResultSender);
+
+		newFunction("repeat", String.class, int.class).execute(mockFunctionContext);
+
+		verify(mockResultSender).lastResult("HelloHelloHello");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeSendsCombinedResultAsLastResult() {
+		FunctionContext mockFunctionContext = mock(FunctionContext.class);
+		ResultSender<Object> mockResultSender = mock(ResultSender.class);
+
+		when(mockFunctionContext.getArguments()).thenReturn(new Object[0]);
+		when(mockFunctionContext.getResultSender()).thenReturn(mockResultSender);
+
+		PojoFunctionWrapper function = newFunction("numbers");
+
+		function.setBatchSize(1);
+		function.setResultCombiner(new SumCombiner());
+		function.execute(mockFunctionContext);
+
+		verify(mockResultSender).lastResult(6L);
+	}
+
+	@Test
+	public void toStreamStreamsElementsOfResult() {
+		assertThat(GemfireFunctionUtils.toStream(null)).isEmpty();
+		assertThat(GemfireFunctionUtils.toStream("test")).containsExactly("test");
+		assertThat(GemfireFunctionUtils.toStream(new int[] { 1, 2 })).containsExactly(1, 2);
+		assertThat(GemfireFunctionUtils.toStream(new String[] { "a", "b" })).containsExactly("a", "b");
+		assertThat(GemfireFunctionUtils.toStream(Arrays.asList(1, 2).iterator())).containsExactly(1, 2);
+		assertThat(GemfireFunctionUtils.toStream(Stream.of(1, 2))).containsExactly(1, 2);
+	}
+
+	@Test
+	public void invokesPrimitiveStaticAndVoidMethods() {
+		assertThat(newFunction("add", int.class, int.class).invokeTargetMethod(new Object[] { 1, 2 })).isEqualTo(3);
+		assertThat(newFunction("identity", Object.class).invokeTargetMethod(new Object[] { "test" }))
+			.isEqualTo("test");
+		assertThat(newFunction("noResult").invokeTargetMethod(new Object[0])).isNull();
+		assertThat(newFunction("noResult").hasResult()).isFalse();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void invokeRethrowsRuntimeException() {
+		newFunction("fail").invokeTargetMethod(new Object[0]);
+	}
+
+	@Test(expected = UndeclaredThrowableException.class)
+	public void invokeWrapsCheckedException() {
+		newFunction("failChecked").invokeTargetMethod(new Object[0]);
+	}
+
+	@SuppressWarnings("unused")
+	static class TestFunctions {
+
+		public String repeat(String value, int count) {
+			StringBuilder builder = new StringBuilder();
+
+			for (int index = 0; index < count; index++) {
+				builder.append(value);
+			}
+
+			return builder.toString();
+		}
+
+		public List<Integer> numbers() {
+			return Arrays.asList(1, 2, 3);
+		}
+
+		public int add(int one, int two) {
+			return one + two;
+		}
+
+		public static Object identity(Object value) {
+			return value;
+		}
+
+		public void noResult() {
+		}
+
+		public Object fail() {
+			throw new IllegalStateException("test");
+		}
+
+		public Object failChecked() throws IOException {
+			throw new IOException("test");
+		}
+	}
+
+	static class SumCombiner implements ResultCombiner<Number, Long> {
+
+		@Override
+		public Long combine(Stream<Number> results) {
+			return results.mapToLong(Number::longValue).sum();
+		}
+	}
+}
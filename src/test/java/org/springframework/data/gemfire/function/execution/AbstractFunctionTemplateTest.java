@@ -27,6 +27,9 @@ import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.ResultCollector;
@@ -60,6 +63,24 @@ public class AbstractFunctionTemplateTest {
 	@Mock
 	private ResultCollector mockResultCollector;
 
+	@Test
+	public void defaultExecutorUsesDedicatedDaemonThreads() throws Exception {
+		AbstractFunctionTemplate functionTemplate = new AbstractFunctionTemplate() {
+			@Override protected AbstractFunctionExecution getFunctionExecution() {
+				return mockFunctionExecution;
+			}
+		};
+
+		assertThat(functionTemplate.getExecutor(), is(equalTo(AbstractFunctionTemplate.getDefaultExecutor())));
+		assertThat(functionTemplate.getExecutor() == ForkJoinPool.commonPool(), is(false));
+
+		Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, functionTemplate.getExecutor())
+			.get(5, TimeUnit.SECONDS);
+
+		assertThat(thread.isDaemon(), is(true));
+		assertThat(thread.getName().startsWith(AbstractFunctionTemplate.DEFAULT_THREAD_NAME_PREFIX), is(true));
+	}
+
 	@Test
 	public void executeWithFunctionAndArgs() {
 		Object[] args = { "test", "testing", "tested" };
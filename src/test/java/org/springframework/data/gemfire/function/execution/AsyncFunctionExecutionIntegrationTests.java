@@ -0,0 +1,252 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.FunctionAdapter;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.data.gemfire.function.annotation.Filter;
+import org.springframework.data.gemfire.function.annotation.FunctionId;
+
+/**
+ * Integration tests for asynchronous Function executions returning {@link CompletableFuture CompletableFutures}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.execution.CompletableFutureResultCollector
+ * @see org.springframework.data.gemfire.function.execution.GemfireFunctionProxyFactoryBean
+ * @since 2.0.0
+ */
+public class AsyncFunctionExecutionIntegrationTests {
+
+	static Cache cache;
+
+	static Region<Object, Object> region;
+
+	@BeforeClass
+	public static void setUp() {
+		cache = new CacheFactory()
+			.set("name", AsyncFunctionExecutionIntegrationTests.class.getSimpleName())
+			.set("mcast-port", "0")
+			.set("log-level", "warning")
+			.create();
+
+		region = cache.createRegionFactory().setDataPolicy(DataPolicy.PARTITION).create("Numbers");
+		region.put(1, "one");
+		region.put(2, "two");
+
+		FunctionService.registerFunction(new EchoFunction());
+		FunctionService.registerFunction(new FailingFunction());
+		FunctionService.registerFunction(new RegionSizeFunction());
+		FunctionService.registerFunction(new NoResultFunction());
+	}
+
+	@AfterClass
+	public static void tearDown() {
+		FunctionService.unregisterFunction(EchoFunction.ID);
+		FunctionService.unregisterFunction(FailingFunction.ID);
+		FunctionService.unregisterFunction(RegionSizeFunction.ID);
+		FunctionService.unregisterFunction(NoResultFunction.ID);
+
+		try {
+			cache.close();
+		}
+		catch (Exception ignore) {
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T newProxy(Class<T> serviceInterface, GemfireFunctionProxyFactoryBean factoryBean) throws Exception {
+		return (T) factoryBean.getObject();
+	}
+
+	@Test
+	public void executeAsyncCompletesWithResults() throws Exception {
+		Iterable<Object> results = new GemfireOnMemberFunctionTemplate(cache.getDistributedSystem()
+			.getDistributedMember()).executeAsync(EchoFunction.ID, "hello").get(30, TimeUnit.SECONDS);
+
+		assertThat(results).containsExactly("hello");
+	}
+
+	@Test
+	public void executeAsyncCompletesWithoutResultsForNoResultFunction() throws Exception {
+		GemfireOnMemberFunctionTemplate functionTemplate =
+			new GemfireOnMemberFunctionTemplate(cache.getDistributedSystem().getDistributedMember());
+
+		assertThat(functionTemplate.executeAsync(NoResultFunction.ID).get(30, TimeUnit.SECONDS)).isNull();
+		assertThat(functionTemplate.executeAsync(new NoResultFunction()).get(30, TimeUnit.SECONDS)).isNull();
+	}
+
+	@Test
+	public void proxyReturnsCompletableFutureWithExtractedResult() throws Exception {
+		AsyncEcho echo = newProxy(AsyncEcho.class, new GemfireFunctionProxyFactoryBean(AsyncEcho.class,
+			new GemfireOnMemberFunctionTemplate(cache.getDistributedSystem().getDistributedMember())));
+
+		assertThat(echo.echo("test").get(30, TimeUnit.SECONDS)).isEqualTo("test");
+		assertThat(echo.echoStage("stage").toCompletableFuture().get(30, TimeUnit.SECONDS)).isEqualTo("stage");
+		assertThat(echo.echoSync("sync")).isEqualTo("sync");
+	}
+
+	@Test
+	public void proxyCompletesExceptionallyWhenFunctionFails() throws Exception {
+		AsyncEcho echo = newProxy(AsyncEcho.class, new GemfireFunctionProxyFactoryBean(AsyncEcho.class,
+			new GemfireOnMemberFunctionTemplate(cache.getDistributedSystem().getDistributedMember())));
+
+		try {
+			echo.fail().get(30, TimeUnit.SECONDS);
+			fail("Expected ExecutionException");
+		}
+		catch (ExecutionException expected) {
+			assertThat(expected).hasCauseInstanceOf(FunctionException.class);
+		}
+	}
+
+	@Test
+	public void onRegionProxyReturnsCompletableFutureWithAllResults() throws Exception {
+		AsyncRegionSize regionSize = newProxy(AsyncRegionSize.class, new OnRegionFunctionProxyFactoryBean(
+			AsyncRegionSize.class, new GemfireOnRegionFunctionTemplate(region)));
+
+		assertThat(regionSize.sizes().get(30, TimeUnit.SECONDS)).containsExactly(2);
+		assertThat(regionSize.sizes(Collections.singleton(1)).get(30, TimeUnit.SECONDS)).containsExactly(1);
+	}
+
+	public interface AsyncEcho {
+
+		@FunctionId(EchoFunction.ID)
+		CompletableFuture<String> echo(String value);
+
+		@FunctionId(EchoFunction.ID)
+		CompletionStage<String> echoStage(String value);
+
+		@FunctionId(EchoFunction.ID)
+		String echoSync(String value);
+
+		@FunctionId(FailingFunction.ID)
+		CompletableFuture<Object> fail();
+
+	}
+
+	public interface AsyncRegionSize {
+
+		@FunctionId(RegionSizeFunction.ID)
+		CompletableFuture<List<Integer>> sizes();
+
+		@FunctionId(RegionSizeFunction.ID)
+		CompletableFuture<List<Integer>> sizes(@Filter Set<Integer> keys);
+
+	}
+
+	static class EchoFunction extends FunctionAdapter {
+
+		static final String ID = "asyncEcho";
+
+		@Override
+		public void execute(FunctionContext context) {
+			Object[] args = (Object[]) context.getArguments();
+			context.getResultSender().lastResult(args[0]);
+		}
+
+		@Override
+		public String getId() {
+			return ID;
+		}
+	}
+
+	static class FailingFunction extends FunctionAdapter {
+
+		static final String ID = "asyncFail";
+
+		@Override
+		public void execute(FunctionContext context) {
+			throw new IllegalStateException("test");
+		}
+
+		@Override
+		public String getId() {
+			return ID;
+		}
+	}
+
+	static class NoResultFunction extends FunctionAdapter {
+
+		static final String ID = "asyncNoResult";
+
+		@Override
+		public void execute(FunctionContext context) {
+		}
+
+		@Override
+		public String getId() {
+			return ID;
+		}
+
+		@Override
+		public boolean hasResult() {
+			return false;
+		}
+
+		@Override
+		public boolean isHA() {
+			return false;
+		}
+	}
+
+	static class RegionSizeFunction extends FunctionAdapter {
+
+		static final String ID = "asyncRegionSize";
+
+		@Override
+		public void execute(FunctionContext context) {
+			RegionFunctionContext regionFunctionContext = (RegionFunctionContext) context;
+
+			int count = (regionFunctionContext.getFilter() == null ? regionFunctionContext.getDataSet().size()
+				: regionFunctionContext.getFilter().size());
+
+			context.getResultSender().lastResult(count);
+		}
+
+		@Override
+		public String getId() {
+			return ID;
+		}
+
+		@Override
+		public boolean optimizeForWrite() {
+			return true;
+		}
+	}
+}
@@ -21,6 +21,7 @@ package org.springframework.data.gemfire.function.execution;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,11 +30,18 @@ import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import reactor.core.publisher.Flux;
 
 import org.aopalliance.intercept.MethodInvocation;
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.data.gemfire.function.ResultCombiner;
 import org.springframework.data.gemfire.function.annotation.FunctionId;
+import org.springframework.data.gemfire.function.annotation.Reducer;
  
 /**
  * 
@@ -88,6 +96,82 @@ public class GemfireFunctionProxyFactoryBeanTests {
 	
 	
 	
+	@Test
+	public void testInvokeAsync() throws Throwable {
+		GemfireFunctionProxyFactoryBean proxy = new GemfireFunctionProxyFactoryBean(IFoo.class, functionOperations);
+
+		MethodInvocation invocation = new TestInvocation(IFoo.class).withMethodNameAndArgTypes("async", String.class)
+			.withArguments("key");
+
+		CompletableFuture<Object> future = CompletableFuture.completedFuture(1);
+
+		when(functionOperations.executeAndExtractAsync("async", invocation.getArguments())).thenReturn(future);
+
+		assertEquals(future, proxy.invoke(invocation));
+		verify(functionOperations).executeAndExtractAsync("async", invocation.getArguments());
+		verify(functionOperations, never()).executeAndExtract("async", invocation.getArguments());
+	}
+
+	@Test
+	public void testInvokeStream() throws Throwable {
+		GemfireFunctionProxyFactoryBean proxy = new GemfireFunctionProxyFactoryBean(IFoo.class, functionOperations);
+
+		MethodInvocation invocation = new TestInvocation(IFoo.class).withMethodNameAndArgTypes("stream").withArguments();
+
+		when(functionOperations.<Object>executeAndStream("stream", invocation.getArguments()))
+			.thenReturn(Stream.<Object>of(Arrays.asList(1, 2), Arrays.asList(3), new Integer[] { 4 }));
+
+		Object result = proxy.invoke(invocation);
+
+		assertTrue(result instanceof Stream);
+		assertEquals(Arrays.asList(1, 2, 3, 4), ((Stream<?>) result).collect(Collectors.toList()));
+		verify(functionOperations, never()).executeAndExtract("stream", invocation.getArguments());
+	}
+
+	@Test
+	public void testInvokeFlux() throws Throwable {
+		GemfireFunctionProxyFactoryBean proxy = new GemfireFunctionProxyFactoryBean(IFoo.class, functionOperations);
+
+		MethodInvocation invocation = new TestInvocation(IFoo.class).withMethodNameAndArgTypes("flux").withArguments();
+
+		when(functionOperations.<Object>executeAndStream("flux", invocation.getArguments()))
+			.thenReturn(Stream.<Object>of(Arrays.asList(1, 2), Arrays.asList(3)));
+
+		Object result = proxy.invoke(invocation);
+
+		assertTrue(result instanceof Flux);
+		verify(functionOperations, never()).executeAndStream("flux", invocation.getArguments());
+		assertEquals(Arrays.asList(1, 2, 3), ((Flux<?>) result).collectList().block());
+	}
+
+	@Test
+	public void testInvokeWithReducer() throws Throwable {
+		GemfireFunctionProxyFactoryBean proxy = new GemfireFunctionProxyFactoryBean(IFoo.class, functionOperations);
+
+		MethodInvocation invocation = new TestInvocation(IFoo.class).withMethodNameAndArgTypes("sum").withArguments();
+
+		when(functionOperations.<Object>executeAndStream("sum", invocation.getArguments()))
+			.thenReturn(Stream.<Object>of(Arrays.asList(1, 2), new Integer[] { 3 }, 4));
+
+		assertEquals(10L, proxy.invoke(invocation));
+		verify(functionOperations, never()).executeAndExtract("sum", invocation.getArguments());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testInvokeAsyncWithReducer() throws Throwable {
+		GemfireFunctionProxyFactoryBean proxy = new GemfireFunctionProxyFactoryBean(IFoo.class, functionOperations);
+
+		MethodInvocation invocation = new TestInvocation(IFoo.class).withMethodNameAndArgTypes("sumAsync")
+			.withArguments();
+
+		when(functionOperations.<Object>executeAsync("sumAsync", invocation.getArguments()))
+			.thenReturn(CompletableFuture.<Iterable<Object>>completedFuture(Arrays.<Object>asList(Arrays.asList(1, 2), 3)));
+
+		assertEquals(6L, ((CompletableFuture<Object>) proxy.invoke(invocation)).get());
+		verify(functionOperations, never()).executeAndExtractAsync("sumAsync", invocation.getArguments());
+	}
+
 	static class TestInvocation implements MethodInvocation {
 		
 		private Class<?>[] argTypes;
@@ -179,9 +263,25 @@ public class GemfireFunctionProxyFactoryBeanTests {
 
 		public abstract Map<String, Integer> getMapWithNoArgs();
 
+		public abstract CompletableFuture<Integer> async(String key);
+
+		public abstract Stream<Integer> stream();
+
+		public abstract Flux<Integer> flux();
+
+		@Reducer(SumCombiner.class)
+		public abstract Long sum();
+
+		@Reducer(SumCombiner.class)
+		public abstract CompletableFuture<Long> sumAsync();
+
 	}
-	
-	
-}
 
+	static class SumCombiner implements ResultCombiner<Number, Long> {
 
+		@Override
+		public Long combine(Stream<Number> results) {
+			return results.mapToLong(Number::longValue).sum();
+		}
+	}
+}
@@ -15,6 +15,8 @@ package org.springframework.data.gemfire.function.execution;
 
 import static org.assertj.core.api.Java6Assertions.assertThat;
 
+import java.util.concurrent.TimeUnit;
+
 import org.apache.geode.cache.CacheClosedException;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.client.ClientCache;
@@ -91,7 +93,7 @@ public class GemfireFunctionTemplateIntegrationTests extends ClientServerIntegra
 	}
 
 	@Test
-	public void testFunctionTemplates() {
+	public void testFunctionTemplates() throws Exception {
 		verifyFunctionTemplateExecution(new GemfireOnRegionFunctionTemplate(gemfireRegion));
 		verifyFunctionTemplateExecution(new GemfireOnServerFunctionTemplate(gemfireCache));
 		verifyFunctionTemplateExecution(new GemfireOnServerFunctionTemplate(gemfirePool));
@@ -99,12 +101,15 @@ public class GemfireFunctionTemplateIntegrationTests extends ClientServerIntegra
 		verifyFunctionTemplateExecution(new GemfireOnServersFunctionTemplate(gemfirePool));
 	}
 
-	private void verifyFunctionTemplateExecution(GemfireFunctionOperations functionTemplate) {
+	private void verifyFunctionTemplateExecution(GemfireFunctionOperations functionTemplate) throws Exception {
 		Iterable<String> results = functionTemplate.execute("echoFunction", "1", "2", "3");
 		int count = 1;
 
 		for (String result : results) {
 			assertThat(result).isEqualTo(String.valueOf(count++));
 		}
+
+		assertThat(functionTemplate.<String>executeAsync("echoFunction", "1", "2", "3").get(30, TimeUnit.SECONDS))
+			.isEqualTo(results);
 	}
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import reactor.core.publisher.Flux;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.execute.FunctionService;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.data.gemfire.function.GemfireFunctionUtils;
+import org.springframework.data.gemfire.function.annotation.FunctionId;
+import org.springframework.data.gemfire.function.annotation.GemfireFunction;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Integration tests for streaming Function executions of a batching {@link GemfireFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.execution.GemfireFunctionProxyFactoryBean
+ * @see org.springframework.data.gemfire.function.execution.StreamingResultCollector
+ * @since 2.0.0
+ */
+public class StreamingFunctionExecutionIntegrationTests {
+
+	static Cache cache;
+
+	@BeforeClass
+	public static void setUp() {
+		cache = new CacheFactory()
+			.set("name", StreamingFunctionExecutionIntegrationTests.class.getSimpleName())
+			.set("mcast-port", "0")
+			.set("log-level", "warning")
+			.create();
+
+		Map<String, Object> attributes = new HashMap<>();
+
+		attributes.put("id", "streamNumbers");
+		attributes.put("batchSize", 2);
+
+		GemfireFunctionUtils.registerFunctionForPojoMethod(new NumberFunctions(),
+			ReflectionUtils.findMethod(NumberFunctions.class, "numbers", int.class), attributes, true);
+	}
+
+	@AfterClass
+	public static void tearDown() {
+		FunctionService.unregisterFunction("streamNumbers");
+
+		try {
+			cache.close();
+		}
+		catch (Exception ignore) {
+		}
+	}
+
+	private GemfireOnMemberFunctionTemplate newFunctionTemplate() {
+		return new GemfireOnMemberFunctionTemplate(cache.getDistributedSystem().getDistributedMember());
+	}
+
+	private NumberStreams newProxy(GemfireFunctionOperations functionOperations) throws Exception {
+		return (NumberStreams) new GemfireFunctionProxyFactoryBean(NumberStreams.class, functionOperations)
+			.getObject();
+	}
+
+	@Test
+	public void proxyStreamsElementsOfBatchedResults() throws Exception {
+		NumberStreams numberStreams = newProxy(newFunctionTemplate());
+
+		try (Stream<Integer> numbers = numberStreams.stream(5)) {
+			assertThat(numbers.collect(Collectors.toList())).containsExactly(0, 1, 2, 3, 4);
+		}
+
+		assertThat(numberStreams.flux(5).collectList().block()).containsExactly(0, 1, 2, 3, 4);
+	}
+
+	@Test
+	public void consumersOnSmallPoolDoNotStarveProducers() throws Exception {
+		GemfireOnMemberFunctionTemplate functionTemplate = newFunctionTemplate();
+
+		functionTemplate.setStreamingBufferCapacity(1);
+
+		NumberStreams numberStreams = newProxy(functionTemplate);
+
+		ForkJoinPool consumerPool = new ForkJoinPool(2);
+
+		try {
+			List<CompletableFuture<Long>> counts = new ArrayList<>();
+
+			for (int index = 0; index < 4; index++) {
+				counts.add(CompletableFuture.supplyAsync(() -> {
+					try (Stream<Integer> numbers = numberStreams.stream(50)) {
+						return numbers.count();
+					}
+				}, consumerPool));
+			}
+
+			for (CompletableFuture<Long> count : counts) {
+				assertThat(count.get(30, TimeUnit.SECONDS)).isEqualTo(50L);
+			}
+		}
+		finally {
+			consumerPool.shutdownNow();
+		}
+	}
+
+	public interface NumberStreams {
+
+		@FunctionId("streamNumbers")
+		Stream<Integer> stream(int count);
+
+		@FunctionId("streamNumbers")
+		Flux<Integer> flux(int count);
+
+	}
+
+	public static class NumberFunctions {
+
+		@GemfireFunction(id = "streamNumbers", batchSize = 2)
+		public List<Integer> numbers(int count) {
+			return IntStream.range(0, count).boxed().collect(Collectors.toList());
+		}
+	}
+}
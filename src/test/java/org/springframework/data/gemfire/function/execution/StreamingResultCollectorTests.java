@@ -0,0 +1,188 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link StreamingResultCollector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.execution.StreamingResultCollector
+ * @since 2.0.0
+ */
+public class StreamingResultCollectorTests {
+
+	@Test
+	public void streamsResultsInOrderReceived() {
+		StreamingResultCollector resultCollector = new StreamingResultCollector();
+
+		resultCollector.addResult(null, Arrays.asList(1, 2));
+		resultCollector.addResult(null, null);
+		resultCollector.addResult(null, Arrays.asList(3));
+		resultCollector.endResults();
+
+		assertThat(resultCollector.stream().collect(Collectors.toList()))
+			.containsExactly(Arrays.asList(1, 2), null, Arrays.asList(3));
+	}
+
+	@Test
+	public void streamHandsOutResultsBeforeEndResults() {
+		StreamingResultCollector resultCollector = new StreamingResultCollector();
+
+		Iterator<Object> results = resultCollector.stream().iterator();
+
+		resultCollector.addResult(null, "first");
+
+		assertThat(results.next()).isEqualTo("first");
+
+		resultCollector.endResults();
+
+		assertThat(results.hasNext()).isFalse();
+	}
+
+	@Test
+	public void addResultBlocksWhenBufferIsFull() throws Exception {
+		StreamingResultCollector resultCollector = new StreamingResultCollector(1, 0L);
+
+		CountDownLatch added = new CountDownLatch(2);
+
+		Thread producer = new Thread(() -> {
+			resultCollector.addResult(null, 1);
+			added.countDown();
+			resultCollector.addResult(null, 2);
+			added.countDown();
+			resultCollector.endResults();
+		});
+
+		producer.start();
+
+		assertThat(added.await(500, TimeUnit.MILLISECONDS)).isFalse();
+		assertThat(added.getCount()).isEqualTo(1);
+
+		assertThat(resultCollector.stream().collect(Collectors.toList())).containsExactly(1, 2);
+
+		producer.join(5000);
+
+		assertThat(added.getCount()).isEqualTo(0);
+	}
+
+	@Test
+	public void closingStreamReleasesBlockedProducer() throws Exception {
+		StreamingResultCollector resultCollector = new StreamingResultCollector(1, 0L);
+
+		Thread producer = new Thread(() -> {
+			for (int count = 0; count < 10; count++) {
+				resultCollector.addResult(null, count);
+			}
+
+			resultCollector.endResults();
+		});
+
+		producer.start();
+
+		try (Stream<Object> results = resultCollector.stream()) {
+			assertThat(results.findFirst()).contains(0);
+		}
+
+		producer.join(5000);
+
+		assertThat(producer.isAlive()).isFalse();
+	}
+
+	@Test
+	public void failedExecutionThrowsFunctionException() {
+		StreamingResultCollector resultCollector = new StreamingResultCollector();
+
+		resultCollector.addResult(null, "result");
+		resultCollector.fail(new IllegalStateException("test"));
+
+		Iterator<Object> results = resultCollector.stream().iterator();
+
+		assertThat(results.next()).isEqualTo("result");
+
+		try {
+			results.hasNext();
+			fail("Expected FunctionException");
+		}
+		catch (FunctionException expected) {
+			assertThat(expected).hasCauseInstanceOf(IllegalStateException.class);
+		}
+	}
+
+	@Test
+	public void clearResultsBeforeDeliveryDiscardsBufferedResults() {
+		StreamingResultCollector resultCollector = new StreamingResultCollector();
+
+		resultCollector.addResult(null, "first attempt");
+		resultCollector.clearResults();
+		resultCollector.addResult(null, "second attempt");
+		resultCollector.endResults();
+
+		assertThat(resultCollector.stream().collect(Collectors.toList())).containsExactly("second attempt");
+	}
+
+	@Test
+	public void clearResultsAfterDeliveryFailsStream() {
+		StreamingResultCollector resultCollector = new StreamingResultCollector();
+
+		Iterator<Object> results = resultCollector.stream().iterator();
+
+		resultCollector.addResult(null, "first attempt");
+
+		assertThat(results.next()).isEqualTo("first attempt");
+
+		resultCollector.clearResults();
+		resultCollector.addResult(null, "first attempt");
+		resultCollector.endResults();
+
+		try {
+			results.hasNext();
+			fail("Expected FunctionException");
+		}
+		catch (FunctionException expected) {
+			assertThat(expected).hasMessageContaining("re-executed");
+		}
+	}
+
+	@Test(expected = FunctionException.class)
+	public void throwableResultThrowsFunctionException() {
+		StreamingResultCollector resultCollector = new StreamingResultCollector();
+
+		resultCollector.addResult(null, new IllegalArgumentException("test"));
+		resultCollector.endResults();
+
+		resultCollector.stream().count();
+	}
+
+	@Test(expected = FunctionException.class)
+	public void waitingForResultTimesOut() {
+		new StreamingResultCollector(1, 100L).stream().count();
+	}
+}
@@ -20,22 +20,28 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.query.CqEvent;
 import org.apache.geode.cache.query.CqQuery;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.data.gemfire.listener.ContinuousQueryListener;
+import org.springframework.data.gemfire.listener.GemfireListenerExecutionFailedException;
 
 /**
  * @author Costin Leau
  * @author Oliver Gierke
+ * @author John Blum
  */
 public class QueryListenerAdapterTest {
 
@@ -224,6 +230,27 @@ public class QueryListenerAdapterTest {
 		doThrow(new IllegalArgumentException()).when(mockDelegate);
 	}
 
+	@Test
+	public void testListenerMethodExceptionIsWrapped() throws Exception {
+		Delegate mockDelegate = mock(Delegate.class);
+		IllegalStateException expected = new IllegalStateException("test");
+		AtomicReference<Throwable> actual = new AtomicReference<Throwable>();
+
+		doThrow(expected).when(mockDelegate).handleKey(any());
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(mockDelegate) {
+			protected void handleListenerException(Throwable cause) {
+				actual.set(cause);
+			}
+		};
+
+		cqListenerAdapter.setDefaultListenerMethod("handleKey");
+		cqListenerAdapter.onEvent(event());
+
+		assertTrue(actual.get() instanceof GemfireListenerExecutionFailedException);
+		assertSame(expected, actual.get().getCause());
+	}
+
 	/**
 	 * @link https://jira.spring.io/browse/SGF-89
 	 */
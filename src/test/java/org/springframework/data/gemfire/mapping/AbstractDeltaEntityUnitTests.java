@@ -0,0 +1,206 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.geode.InvalidDeltaException;
+import org.apache.geode.pdx.PdxWriter;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.Id;
+
+/**
+ * Unit tests for {@link AbstractDeltaEntity}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.mapping.AbstractDeltaEntity
+ * @since 2.0.0
+ */
+public class AbstractDeltaEntityUnitTests {
+
+	private MappingPdxSerializer serializer;
+
+	@Before
+	public void setup() {
+		serializer = new MappingPdxSerializer(new GemfireMappingContext(), new DefaultConversionService());
+	}
+
+	private Position newPosition(Long id, String symbol, long quantity, long price) {
+		Position position = new Position();
+
+		position.setId(id);
+		position.setSymbol(symbol);
+		position.setQuantity(quantity);
+		position.setPrice(price);
+
+		return position;
+	}
+
+	private Position serialize(Position position) {
+		serializer.toData(position, mock(PdxWriter.class));
+		return position;
+	}
+
+	private byte[] toDelta(Position position) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		position.toDelta(new DataOutputStream(bytes));
+
+		return bytes.toByteArray();
+	}
+
+	private void fromDelta(Position position, byte[] delta) throws IOException {
+		position.fromDelta(new DataInputStream(new ByteArrayInputStream(delta)));
+	}
+
+	@Test
+	public void baselineIsNotPersistentProperty() {
+		assertThat(serializer.getSerializationPlan(Position.class).getProperties()).hasSize(5);
+	}
+
+	@Test
+	public void entityNotSerializedHasNoDelta() {
+		assertThat(newPosition(1L, "VMW", 100L, 5000L).hasDelta()).isFalse();
+	}
+
+	@Test
+	public void serializedEntityHasNoDeltaUntilChanged() {
+		Position position = serialize(newPosition(1L, "VMW", 100L, 5000L));
+
+		assertThat(position.hasDelta()).isFalse();
+
+		position.setQuantity(200L);
+
+		assertThat(position.hasDelta()).isTrue();
+	}
+
+	@Test
+	public void toDeltaWritesChangedPropertiesOnlyAndFromDeltaAppliesThem() throws IOException {
+		Position position = serialize(newPosition(1L, "VMW", 100L, 5000L));
+		Position copy = serialize(newPosition(1L, "VMW", 100L, 5000L));
+
+		position.setQuantity(200L);
+		position.setPrice(5100L);
+
+		byte[] delta = toDelta(position);
+
+		assertThat(new DataInputStream(new ByteArrayInputStream(delta)).readInt()).isEqualTo(2);
+		assertThat(position.hasDelta()).isFalse();
+
+		fromDelta(copy, delta);
+
+		assertThat(copy.getId()).isEqualTo(1L);
+		assertThat(copy.getSymbol()).isEqualTo("VMW");
+		assertThat(copy.getQuantity()).isEqualTo(200L);
+		assertThat(copy.getPrice()).isEqualTo(5100L);
+		assertThat(copy.hasDelta()).isFalse();
+	}
+
+	@Test
+	public void propertiesModifiableInPlaceAreAlwaysSent() throws IOException {
+		Position position = newPosition(1L, "VMW", 100L, 5000L);
+
+		position.setTags(new ArrayList<>());
+
+		serialize(position);
+
+		assertThat(position.hasDelta()).isTrue();
+
+		position.getTags().add("tech");
+
+		Position copy = serialize(newPosition(1L, "VMW", 100L, 5000L));
+
+		fromDelta(copy, toDelta(position));
+
+		assertThat(copy.getTags()).containsExactly("tech");
+		assertThat(copy.getQuantity()).isEqualTo(100L);
+	}
+
+	@Test(expected = InvalidDeltaException.class)
+	public void fromDeltaForEntityNotDeserializedThrowsInvalidDeltaException() throws IOException {
+		Position position = serialize(newPosition(1L, "VMW", 100L, 5000L));
+
+		position.setPrice(5100L);
+
+		fromDelta(newPosition(1L, "VMW", 100L, 5000L), toDelta(position));
+	}
+
+	public static class Position extends AbstractDeltaEntity {
+
+		@Id
+		private Long id;
+
+		private long price;
+		private long quantity;
+
+		private List<String> tags;
+
+		private String symbol;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public long getPrice() {
+			return price;
+		}
+
+		public void setPrice(long price) {
+			this.price = price;
+		}
+
+		public long getQuantity() {
+			return quantity;
+		}
+
+		public void setQuantity(long quantity) {
+			this.quantity = quantity;
+		}
+
+		public String getSymbol() {
+			return symbol;
+		}
+
+		public void setSymbol(String symbol) {
+			this.symbol = symbol;
+		}
+
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(List<String> tags) {
+			this.tags = tags;
+		}
+	}
+}
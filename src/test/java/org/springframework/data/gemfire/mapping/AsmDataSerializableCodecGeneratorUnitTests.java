@@ -0,0 +1,301 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Transient;
+
+/**
+ * Unit tests for {@link AsmDataSerializableCodecGenerator} and {@link MappedDataSerializable}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.mapping.AsmDataSerializableCodecGenerator
+ * @see org.springframework.data.gemfire.mapping.MappedDataSerializable
+ * @since 2.0.0
+ */
+public class AsmDataSerializableCodecGeneratorUnitTests {
+
+	private final AsmDataSerializableCodecGenerator generator =
+		new AsmDataSerializableCodecGenerator(new GemfireMappingContext());
+
+	private byte[] serialize(MappedDataSerializable entity) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		entity.toData(new DataOutputStream(bytes));
+
+		return bytes.toByteArray();
+	}
+
+	private <T extends MappedDataSerializable> T deserialize(T entity, byte[] bytes) throws Exception {
+		entity.fromData(new DataInputStream(new ByteArrayInputStream(bytes)));
+		return entity;
+	}
+
+	@Test
+	public void toDataAndFromDataRoundTripAllPropertyTypes() throws Exception {
+		Sample sample = new Sample();
+
+		sample.setActive(true);
+		sample.setCode((byte) 7);
+		sample.setInitial('J');
+		sample.setRank((short) 3);
+		sample.setCount(42);
+		sample.setId(1L);
+		sample.setRatio(0.5f);
+		sample.setAmount(2.25d);
+		sample.setName("Jon Doe");
+		sample.setTags(new ArrayList<>(Arrays.asList("a", "b")));
+		sample.setScores(new int[] { 1, 2, 3 });
+		sample.setVersion(2);
+		sample.nickname = "Jonny";
+		sample.setCache("ignored");
+
+		Sample result = deserialize(new Sample(), serialize(sample));
+
+		assertThat(result.isActive()).isTrue();
+		assertThat(result.getCode()).isEqualTo((byte) 7);
+		assertThat(result.getInitial()).isEqualTo('J');
+		assertThat(result.getRank()).isEqualTo((short) 3);
+		assertThat(result.getCount()).isEqualTo(42);
+		assertThat(result.getId()).isEqualTo(1L);
+		assertThat(result.getRatio()).isEqualTo(0.5f);
+		assertThat(result.getAmount()).isEqualTo(2.25d);
+		assertThat(result.getName()).isEqualTo("Jon Doe");
+		assertThat(result.getTags()).containsExactly("a", "b");
+		assertThat(result.getScores()).containsExactly(1, 2, 3);
+		assertThat(result.getVersion()).isEqualTo(2);
+		assertThat(result.nickname).isEqualTo("Jonny");
+		assertThat(result.getCache()).isNull();
+	}
+
+	@Test
+	public void nullPropertyValuesRoundTrip() throws Exception {
+		Sample result = deserialize(new Sample(), serialize(new Sample()));
+
+		assertThat(result.getName()).isNull();
+		assertThat(result.getTags()).isNull();
+		assertThat(result.getScores()).isNull();
+		assertThat(result.getVersion()).isNull();
+	}
+
+	@Test
+	public void serializedFormContainsNoPropertyNames() throws Exception {
+		Point point = new Point();
+
+		point.setX(1);
+		point.setY(2);
+
+		assertThat(serialize(point)).isEqualTo(new byte[] { 0, 0, 0, 1, 0, 0, 0, 2 });
+	}
+
+	@Test
+	public void getCodecReturnsCachedCodec() {
+		AbstractGeneratedDataSerializableCodec codec = generator.getCodec(Point.class);
+
+		assertThat(codec).isNotNull();
+		assertThat(codec.getEntity().getType()).isEqualTo(Point.class);
+		assertThat(generator.getCodec(Point.class)).isSameAs(codec);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getCodecForEntityWithoutSetterThrowsIllegalArgumentException() {
+		generator.getCodec(ReadOnly.class);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getCodecForNonPublicEntityThrowsIllegalArgumentException() {
+		generator.getCodec(NonPublic.class);
+	}
+
+	static class NonPublic implements MappedDataSerializable {
+
+		public int value;
+
+	}
+
+	public static class Point implements MappedDataSerializable {
+
+		private int x;
+		private int y;
+
+		public int getX() {
+			return x;
+		}
+
+		public void setX(int x) {
+			this.x = x;
+		}
+
+		public int getY() {
+			return y;
+		}
+
+		public void setY(int y) {
+			this.y = y;
+		}
+	}
+
+	public static class ReadOnly implements MappedDataSerializable {
+
+		private String value;
+
+		public String getValue() {
+			return value;
+		}
+	}
+
+	public static class Sample implements MappedDataSerializable {
+
+		private boolean active;
+		private byte code;
+		private char initial;
+		private short rank;
+		private int count;
+		private long id;
+		private float ratio;
+		private double amount;
+
+		private int[] scores;
+
+		private Integer version;
+
+		private List<String> tags;
+
+		private String name;
+
+		public String nickname;
+
+		@Transient
+		private String cache;
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+
+		public byte getCode() {
+			return code;
+		}
+
+		public void setCode(byte code) {
+			this.code = code;
+		}
+
+		public char getInitial() {
+			return initial;
+		}
+
+		public void setInitial(char initial) {
+			this.initial = initial;
+		}
+
+		public short getRank() {
+			return rank;
+		}
+
+		public void setRank(short rank) {
+			this.rank = rank;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public long getId() {
+			return id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public float getRatio() {
+			return ratio;
+		}
+
+		public void setRatio(float ratio) {
+			this.ratio = ratio;
+		}
+
+		public double getAmount() {
+			return amount;
+		}
+
+		public void setAmount(double amount) {
+			this.amount = amount;
+		}
+
+		public int[] getScores() {
+			return scores;
+		}
+
+		public void setScores(int[] scores) {
+			this.scores = scores;
+		}
+
+		public Integer getVersion() {
+			return version;
+		}
+
+		public void setVersion(Integer version) {
+			this.version = version;
+		}
+
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(List<String> tags) {
+			this.tags = tags;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getCache() {
+			return cache;
+		}
+
+		public void setCache(String cache) {
+			this.cache = cache;
+		}
+	}
+}
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxSerializer;
+import org.apache.geode.pdx.PdxWriter;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.PersistenceConstructor;
+import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.convert.EntityInstantiators;
+
+/**
+ * Unit tests for {@link AsmPdxSerializerGenerator}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.mapping.AsmPdxSerializerGenerator
+ * @since 2.0.0
+ */
+public class AsmPdxSerializerGeneratorUnitTests {
+
+	private ConversionService conversionService;
+
+	private GemfireMappingContext mappingContext;
+
+	private AsmPdxSerializerGenerator generator;
+
+	@Before
+	public void setup() {
+		conversionService = new DefaultConversionService();
+		mappingContext = new GemfireMappingContext();
+		generator = new AsmPdxSerializerGenerator();
+	}
+
+	private GemfirePersistentEntity<?> getPersistentEntity(Class<?> type) {
+		return mappingContext.getPersistentEntity(type).orElseThrow(() -> new IllegalStateException(
+			String.format("Unable to resolve PersistentEntity for type [%s]", type.getName())));
+	}
+
+	private PdxSerializer generate(Class<?> type) {
+		GemfirePersistentEntity<?> entity = getPersistentEntity(type);
+		EntityInstantiator instantiator = new EntityInstantiators().getInstantiatorFor(entity);
+
+		return generator.generate(entity, instantiator, conversionService);
+	}
+
+	@Test
+	public void canGenerateForPublicEntityWithPublicAccessors() {
+		assertThat(generator.canGenerate(getPersistentEntity(Account.class))).isTrue();
+		assertThat(generator.canGenerate(getPersistentEntity(Customer.class))).isTrue();
+	}
+
+	@Test
+	public void cannotGenerateForNonPublicEntity() {
+		assertThat(generator.canGenerate(getPersistentEntity(NonPublicEntity.class))).isFalse();
+	}
+
+	@Test
+	public void cannotGenerateForEntityWithNonPublicAccessors() {
+		assertThat(generator.canGenerate(getPersistentEntity(EntityWithPrivateProperty.class))).isFalse();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void generateForNonPublicEntityThrowsIllegalArgumentException() {
+		generate(NonPublicEntity.class);
+	}
+
+	@Test
+	public void propertyWithSetterOfPropertyTypeIsWritable() {
+		new AsmPdxSerializerGenerator.PropertyMetadata(EntityWithStringProperty.class, "value", String.class, false);
+		new AsmPdxSerializerGenerator.PropertyMetadata(EntityWithStringProperty.class, "value", String.class, true);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void propertyWithSetterOfNarrowerTypeIsNotWritable() {
+		// the generated fromData would pass an Object to setValue(:String) without a CHECKCAST and fail verification
+		new AsmPdxSerializerGenerator.PropertyMetadata(EntityWithStringProperty.class, "value", Object.class, false);
+	}
+
+	@Test
+	public void propertyWithGetterOfNarrowerTypeIsReadable() {
+		new AsmPdxSerializerGenerator.PropertyMetadata(EntityWithStringProperty.class, "value", Object.class, true);
+	}
+
+	@Test
+	public void toDataWritesPropertiesUsingTypedPdxWriterMethods() {
+		Date opened = new Date();
+
+		Account account = new Account();
+
+		account.setId(1L);
+		account.setActive(true);
+		account.setBalance(new BigDecimal("100.50"));
+		account.setNumber("ABC-123");
+		account.setOpened(opened);
+		account.setPin(1234);
+		account.setRate(0.25d);
+		account.setScores(new int[] { 1, 2, 3 });
+		account.setTags(new String[] { "checking" });
+		account.setVersion(2);
+
+		PdxWriter mockWriter = mock(PdxWriter.class);
+
+		assertThat(generate(Account.class).toData(account, mockWriter)).isTrue();
+
+		verify(mockWriter, times(1)).writeLong(eq("id"), eq(1L));
+		verify(mockWriter, times(1)).writeBoolean(eq("active"), eq(true));
+		verify(mockWriter, times(1)).writeObject(eq("balance"), eq(new BigDecimal("100.50")));
+		verify(mockWriter, times(1)).writeString(eq("number"), eq("ABC-123"));
+		verify(mockWriter, times(1)).writeDate(eq("opened"), eq(opened));
+		verify(mockWriter, times(1)).writeInt(eq("pin"), eq(1234));
+		verify(mockWriter, times(1)).writeDouble(eq("rate"), eq(0.25d));
+		verify(mockWriter, times(1)).writeIntArray(eq("scores"), eq(new int[] { 1, 2, 3 }));
+		verify(mockWriter, times(1)).writeStringArray(eq("tags"), eq(new String[] { "checking" }));
+		verify(mockWriter, times(1)).writeObject(eq("version"), eq(2));
+		verify(mockWriter, times(1)).markIdentityField(eq("id"));
+		verify(mockWriter, never()).writeField(anyString(), any(), any());
+	}
+
+	@Test
+	public void fromDataReadsPropertiesUsingTypedPdxReaderMethods() {
+		Date opened = new Date();
+
+		PdxReader mockReader = mock(PdxReader.class);
+
+		when(mockReader.readLong(eq("id"))).thenReturn(1L);
+		when(mockReader.readBoolean(eq("active"))).thenReturn(true);
+		when(mockReader.readObject(eq("balance"))).thenReturn("100.50");
+		when(mockReader.readString(eq("number"))).thenReturn("ABC-123");
+		when(mockReader.readDate(eq("opened"))).thenReturn(opened);
+		when(mockReader.readInt(eq("pin"))).thenReturn(1234);
+		when(mockReader.readDouble(eq("rate"))).thenReturn(0.25d);
+		when(mockReader.readIntArray(eq("scores"))).thenReturn(new int[] { 1, 2, 3 });
+		when(mockReader.readStringArray(eq("tags"))).thenReturn(new String[] { "checking" });
+		when(mockReader.readObject(eq("version"))).thenReturn(2);
+
+		Object result = generate(Account.class).fromData(Account.class, mockReader);
+
+		assertThat(result).isInstanceOf(Account.class);
+
+		Account account = (Account) result;
+
+		assertThat(account.getId()).isEqualTo(1L);
+		assertThat(account.isActive()).isTrue();
+		assertThat(account.getBalance()).isEqualTo(new BigDecimal("100.50"));
+		assertThat(account.getNumber()).isEqualTo("ABC-123");
+		assertThat(account.getOpened()).isEqualTo(opened);
+		assertThat(account.getPin()).isEqualTo(1234);
+		assertThat(account.getRate()).isEqualTo(0.25d);
+		assertThat(account.getScores()).containsExactly(1, 2, 3);
+		assertThat(account.getTags()).containsExactly("checking");
+		assertThat(account.getVersion()).isEqualTo(2);
+
+		verify(mockReader, never()).readField(anyString());
+	}
+
+	@Test
+	public void serializesPublicFieldsAndPassesConstructorArgumentsToInstantiator() {
+		PdxWriter mockWriter = mock(PdxWriter.class);
+
+		PdxSerializer serializer = generate(Customer.class);
+
+		Customer jonDoe = new Customer(1L, "Jon Doe");
+
+		jonDoe.points = 42;
+
+		assertThat(serializer.toData(jonDoe, mockWriter)).isTrue();
+
+		verify(mockWriter, times(1)).writeObject(eq("id"), eq(1L));
+		verify(mockWriter, times(1)).writeString(eq("name"), eq("Jon Doe"));
+		verify(mockWriter, times(1)).writeShort(eq("points"), eq((short) 42));
+		verify(mockWriter, times(1)).markIdentityField(eq("id"));
+
+		PdxReader mockReader = mock(PdxReader.class);
+
+		when(mockReader.readField(eq("id"))).thenReturn(2L);
+		when(mockReader.readField(eq("name"))).thenReturn("Jane Doe");
+		when(mockReader.readShort(eq("points"))).thenReturn((short) 21);
+
+		Customer janeDoe = (Customer) serializer.fromData(Customer.class, mockReader);
+
+		assertThat(janeDoe.getId()).isEqualTo(2L);
+		assertThat(janeDoe.getName()).isEqualTo("Jane Doe");
+		assertThat(janeDoe.points).isEqualTo((short) 21);
+
+		verify(mockReader, never()).readLong(anyString());
+		verify(mockReader, never()).readString(anyString());
+	}
+
+	public static class Account {
+
+		@Id
+		private long id;
+
+		private boolean active;
+
+		private BigDecimal balance;
+
+		private Date opened;
+
+		private double rate;
+
+		private int pin;
+
+		private int[] scores;
+
+		private Integer version;
+
+		private String number;
+
+		private String[] tags;
+
+		public long getId() {
+			return id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+
+		public BigDecimal getBalance() {
+			return balance;
+		}
+
+		public void setBalance(BigDecimal balance) {
+			this.balance = balance;
+		}
+
+		public String getNumber() {
+			return number;
+		}
+
+		public void setNumber(String number) {
+			this.number = number;
+		}
+
+		public Date getOpened() {
+			return opened;
+		}
+
+		public void setOpened(Date opened) {
+			this.opened = opened;
+		}
+
+		public int getPin() {
+			return pin;
+		}
+
+		public void setPin(int pin) {
+			this.pin = pin;
+		}
+
+		public double getRate() {
+			return rate;
+		}
+
+		public void setRate(double rate) {
+			this.rate = rate;
+		}
+
+		public int[] getScores() {
+			return scores;
+		}
+
+		public void setScores(int[] scores) {
+			this.scores = scores;
+		}
+
+		public String[] getTags() {
+			return tags;
+		}
+
+		public void setTags(String[] tags) {
+			this.tags = tags;
+		}
+
+		public Integer getVersion() {
+			return version;
+		}
+
+		public Account setVersion(Integer version) {
+			this.version = version;
+			return this;
+		}
+	}
+
+	public static class Customer {
+
+		@Id
+		private final Long id;
+
+		private final String name;
+
+		public short points;
+
+		@PersistenceConstructor
+		public Customer(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	public static class EntityWithPrivateProperty {
+
+		@Id
+		private Long id;
+
+		private String value;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+	}
+
+	public static class EntityWithStringProperty {
+
+		private String value;
+
+		public String getValue() {
+			return value;
+		}
+
+		public void setValue(String value) {
+			this.value = value;
+		}
+	}
+
+	static class NonPublicEntity {
+
+		@Id
+		public Long id;
+
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.apache.geode.DataSerializable;
+import org.apache.geode.DataSerializer;
+import org.apache.geode.Instantiator;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.internal.HeapDataOutputStream;
+import org.apache.geode.internal.Version;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.gemfire.mapping.annotation.DataSerializableEntity;
+import org.springframework.data.gemfire.serialization.InstantiatorFactoryBean;
+
+/**
+ * Integration tests for {@link MappedDataSerializable} entities registered with {@link InstantiatorFactoryBean}
+ * in a cache configured with {@link MappingPdxSerializer}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.mapping.MappedDataSerializable
+ * @see org.springframework.data.gemfire.serialization.InstantiatorFactoryBean
+ * @since 2.0.0
+ */
+public class MappedDataSerializableIntegrationTests {
+
+	static Cache cache;
+
+	static GemfireMappingContext mappingContext;
+
+	static InstantiatorFactoryBean instantiatorFactoryBean;
+
+	static Region<Object, Object> region;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		cache = new CacheFactory()
+			.set("name", MappedDataSerializableIntegrationTests.class.getSimpleName())
+			.set("mcast-port", "0")
+			.set("log-level", "warning")
+			.setPdxSerializer(new MappingPdxSerializer(new GemfireMappingContext(), new DefaultConversionService()))
+			.create();
+
+		mappingContext = new GemfireMappingContext();
+
+		instantiatorFactoryBean = new InstantiatorFactoryBean();
+
+		instantiatorFactoryBean.setBeanClassLoader(Thread.currentThread().getContextClassLoader());
+		instantiatorFactoryBean.setEntityTypes(
+			Collections.<Class<? extends DataSerializable>>singleton(Coordinate.class));
+		instantiatorFactoryBean.setMappingContext(mappingContext);
+		instantiatorFactoryBean.afterPropertiesSet();
+
+		region = cache.createRegionFactory().setDataPolicy(DataPolicy.PARTITION).create("Coordinates");
+	}
+
+	@AfterClass
+	public static void tearDown() {
+		AsmDataSerializableCodecGenerator.setDefault(null);
+
+		try {
+			cache.close();
+		}
+		catch (Exception ignore) {
+		}
+	}
+
+	@Test
+	public void instantiatorIsGeneratedWithAnnotatedClassId() throws Exception {
+		Instantiator instantiator = instantiatorFactoryBean.getObject().iterator().next();
+
+		assertThat(instantiator.getInstantiatedClass()).isEqualTo(Coordinate.class);
+		assertThat(instantiator.getId()).isEqualTo(4201);
+	}
+
+	@Test
+	public void codecIsGeneratedWithConfiguredMappingContext() {
+		assertThat(AsmDataSerializableCodecGenerator.getDefault().getMappingContext()).isSameAs(mappingContext);
+		assertThat(mappingContext.getPersistentEntity(Coordinate.class)).isPresent();
+	}
+
+	@Test
+	public void entityIsSerializedAsDataSerializableNotPdx() throws Exception {
+		Coordinate coordinate = new Coordinate(45.5, -122.6);
+
+		HeapDataOutputStream out = new HeapDataOutputStream(Version.CURRENT);
+
+		DataSerializer.writeObject(coordinate, out);
+
+		// header byte, Instantiator class ID and two doubles
+		assertThat(out.toByteArray().length).isLessThanOrEqualTo(1 + 4 + 16);
+
+		region.put(1L, coordinate);
+
+		Object result = region.get(1L);
+
+		assertThat(result).isInstanceOf(Coordinate.class);
+		assertThat(result).isNotSameAs(coordinate);
+		assertThat(((Coordinate) result).getLatitude()).isEqualTo(45.5);
+		assertThat(((Coordinate) result).getLongitude()).isEqualTo(-122.6);
+	}
+
+	@DataSerializableEntity(classId = 4201)
+	public static class Coordinate implements MappedDataSerializable {
+
+		private double latitude;
+		private double longitude;
+
+		public Coordinate() {
+		}
+
+		public Coordinate(double latitude, double longitude) {
+			this.latitude = latitude;
+			this.longitude = longitude;
+		}
+
+		public double getLatitude() {
+			return latitude;
+		}
+
+		public void setLatitude(double latitude) {
+			this.latitude = latitude;
+		}
+
+		public double getLongitude() {
+			return longitude;
+		}
+
+		public void setLongitude(double longitude) {
+			this.longitude = longitude;
+		}
+	}
+}
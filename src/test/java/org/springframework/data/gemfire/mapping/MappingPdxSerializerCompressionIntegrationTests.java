@@ -0,0 +1,180 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.pdx.PdxInstance;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.mapping.annotation.Compressed;
+import org.springframework.util.StringUtils;
+
+/**
+ * Integration tests for {@link MappingPdxSerializer} (de)serializing entities with {@link Compressed} properties.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @see org.springframework.data.gemfire.mapping.annotation.Compressed
+ * @since 2.0.0
+ */
+public class MappingPdxSerializerCompressionIntegrationTests {
+
+	private static final String TEXT = StringUtils.collectionToDelimitedString(
+		Collections.nCopies(2000, "All work and no play makes Jack a dull boy."), "\n");
+
+	static Cache cache;
+
+	static MappingPdxSerializer serializer;
+
+	static Region<Object, Object> region;
+
+	@BeforeClass
+	public static void setUp() {
+		serializer = new MappingPdxSerializer(new GemfireMappingContext(), new DefaultConversionService());
+		serializer.setUseGeneratedSerializers(true);
+
+		cache = new CacheFactory()
+			.set("name", MappingPdxSerializerCompressionIntegrationTests.class.getSimpleName())
+			.set("mcast-port", "0")
+			.set("log-level", "warning")
+			.setPdxReadSerialized(true)
+			.setPdxSerializer(serializer)
+			.create();
+
+		region = cache.createRegionFactory().setDataPolicy(DataPolicy.PARTITION).create("Documents");
+	}
+
+	@AfterClass
+	public static void tearDown() {
+		try {
+			cache.close();
+		}
+		catch (Exception ignore) {
+		}
+	}
+
+	@Test
+	public void compressedPropertiesAreStoredAsCompressedByteArrays() {
+		Document document = new Document(1L, TEXT);
+
+		document.setTitle("The Shining");
+		document.setAttachment(TEXT.getBytes());
+		document.setKeywords(new ArrayList<>(Arrays.asList("Overlook", "Hotel", "Colorado")));
+
+		region.put(1L, document);
+
+		PdxInstance pdxInstance = (PdxInstance) region.get(1L);
+
+		assertThat(pdxInstance.getField("title")).isEqualTo("The Shining");
+		assertThat(pdxInstance.getField("body")).isInstanceOf(byte[].class);
+		assertThat(((byte[]) pdxInstance.getField("body")).length).isLessThan(TEXT.length() / 10);
+		assertThat(((byte[]) pdxInstance.getField("body"))[0]).isEqualTo(PropertyCompression.COMPRESSED);
+		assertThat(((byte[]) pdxInstance.getField("attachment")).length).isLessThan(TEXT.length() / 10);
+		assertThat(((byte[]) pdxInstance.getField("keywords"))[0]).isEqualTo(PropertyCompression.UNCOMPRESSED);
+
+		Document result = (Document) pdxInstance.getObject();
+
+		assertThat(result).isNotSameAs(document);
+		assertThat(result.getId()).isEqualTo(1L);
+		assertThat(result.getTitle()).isEqualTo("The Shining");
+		assertThat(result.getBody()).isEqualTo(TEXT);
+		assertThat(result.getAttachment()).isEqualTo(TEXT.getBytes());
+		assertThat(result.getKeywords()).containsExactly("Overlook", "Hotel", "Colorado");
+		assertThat(serializer.getGeneratedSerializer(serializer.getPersistentEntity(Document.class)).isPresent())
+			.isFalse();
+	}
+
+	@Test
+	public void nullCompressedPropertiesRoundTrip() {
+		region.put(2L, new Document(2L, null));
+
+		Document result = (Document) ((PdxInstance) region.get(2L)).getObject();
+
+		assertThat(result.getId()).isEqualTo(2L);
+		assertThat(result.getBody()).isNull();
+		assertThat(result.getAttachment()).isNull();
+		assertThat(result.getKeywords()).isNull();
+	}
+
+	public static class Document {
+
+		@Id
+		private final Long id;
+
+		@Compressed(threshold = 0)
+		private byte[] attachment;
+
+		@Compressed
+		private List<String> keywords;
+
+		@Compressed
+		private final String body;
+
+		private String title;
+
+		public Document(Long id, String body) {
+			this.id = id;
+			this.body = body;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public byte[] getAttachment() {
+			return attachment;
+		}
+
+		public void setAttachment(byte[] attachment) {
+			this.attachment = attachment;
+		}
+
+		public String getBody() {
+			return body;
+		}
+
+		public List<String> getKeywords() {
+			return keywords;
+		}
+
+		public void setKeywords(List<String> keywords) {
+			this.keywords = keywords;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Collections;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.internal.cache.GemFireCacheImpl;
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.PdxSerializer;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.mapping.annotation.Compressed;
+
+/**
+ * Integration tests for {@link MappingPdxSerializer#definePdxType(Class, org.apache.geode.cache.RegionService)}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @since 2.0.0
+ */
+public class MappingPdxSerializerPdxTypeDefinitionIntegrationTests {
+
+	static Cache cache;
+
+	static MappingPdxSerializer serializer;
+
+	static Region<Object, Object> region;
+
+	@BeforeClass
+	public static void setUp() {
+		serializer = new MappingPdxSerializer(new GemfireMappingContext(), new DefaultConversionService());
+		serializer.setUseGeneratedSerializers(true);
+		serializer.setCustomSerializers(Collections.singletonMap(Address.class, mock(PdxSerializer.class)));
+
+		cache = new CacheFactory()
+			.set("name", MappingPdxSerializerPdxTypeDefinitionIntegrationTests.class.getSimpleName())
+			.set("mcast-port", "0")
+			.set("log-level", "warning")
+			.setPdxReadSerialized(true)
+			.setPdxSerializer(serializer)
+			.create();
+
+		region = cache.createRegionFactory().setDataPolicy(DataPolicy.PARTITION).create("Entities");
+	}
+
+	@AfterClass
+	public static void tearDown() {
+		try {
+			cache.close();
+		}
+		catch (Exception ignore) {
+		}
+	}
+
+	private int pdxTypeCount() {
+		return ((GemFireCacheImpl) cache).getPdxRegistry().typeMap().size();
+	}
+
+	private void assertPdxTypeDefinedBeforeSerialization(Object key, Object entity) {
+		int pdxTypeCount = pdxTypeCount();
+
+		assertThat(serializer.definePdxType(entity.getClass(), cache)).isTrue();
+		assertThat(pdxTypeCount()).isEqualTo(pdxTypeCount + 1);
+
+		region.put(key, entity);
+
+		assertThat(pdxTypeCount()).isEqualTo(pdxTypeCount + 1);
+	}
+
+	@Test
+	public void definedPdxTypeIsUsedByGeneratedSerializer() {
+		Person person = new Person(1L, "Jon Doe");
+
+		person.setAge(42);
+
+		assertPdxTypeDefinedBeforeSerialization(1L, person);
+
+		PdxInstance pdxInstance = (PdxInstance) region.get(1L);
+
+		assertThat(pdxInstance.isIdentityField("id")).isTrue();
+		assertThat(pdxInstance.getField("age")).isEqualTo(42);
+		assertThat(((Person) pdxInstance.getObject()).getName()).isEqualTo("Jon Doe");
+		assertThat(serializer.getGeneratedSerializer(serializer.getPersistentEntity(Person.class)).isPresent())
+			.isTrue();
+	}
+
+	@Test
+	public void definedPdxTypeIsUsedByReflectiveSerialization() {
+		Document document = new Document(2L);
+
+		document.setBody("All work and no play makes Jack a dull boy.");
+
+		assertPdxTypeDefinedBeforeSerialization(2L, document);
+
+		Document result = (Document) ((PdxInstance) region.get(2L)).getObject();
+
+		assertThat(result.getId()).isEqualTo(2L);
+		assertThat(result.getBody()).isEqualTo("All work and no play makes Jack a dull boy.");
+	}
+
+	@Test
+	public void pdxTypeIsNotDefinedForEntitiesWithCustomSerializedProperties() {
+		int pdxTypeCount = pdxTypeCount();
+
+		assertThat(serializer.definePdxType(Customer.class, cache)).isFalse();
+		assertThat(pdxTypeCount()).isEqualTo(pdxTypeCount);
+	}
+
+	@Test
+	public void pdxTypeIsNotDefinedForAbstractEntities() {
+		int pdxTypeCount = pdxTypeCount();
+
+		assertThat(serializer.definePdxType(AbstractEntity.class, cache)).isFalse();
+		assertThat(pdxTypeCount()).isEqualTo(pdxTypeCount);
+	}
+
+	public static abstract class AbstractEntity {
+
+		@Id
+		private Long id;
+
+	}
+
+	public static class Address {
+
+		private String city;
+
+	}
+
+	public static class Customer {
+
+		@Id
+		private Long id;
+
+		private Address address;
+
+	}
+
+	public static class Document {
+
+		@Id
+		private final Long id;
+
+		@Compressed
+		private String body;
+
+		public Document(Long id) {
+			this.id = id;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getBody() {
+			return body;
+		}
+
+		public void setBody(String body) {
+			this.body = body;
+		}
+	}
+
+	public static class Person {
+
+		@Id
+		private final Long id;
+
+		private int age;
+
+		private final String name;
+
+		public Person(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
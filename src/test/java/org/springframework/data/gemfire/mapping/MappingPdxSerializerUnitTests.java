@@ -40,6 +40,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.core.convert.ConversionService;
@@ -204,6 +205,27 @@ public class MappingPdxSerializerUnitTests {
 		verify(mockAddressSerializer, times(1)).fromData(eq(Address.class), eq(mockReader));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void fromDataSharesParameterValueProviderForEntityWithoutConstructorArguments() {
+		when(mockInstantiator.createInstance(any(GemfirePersistentEntity.class), any(ParameterValueProvider.class)))
+			.thenReturn(new Person(null, null, null), new Person(null, null, null));
+
+		serializer.setGemfireInstantiators(Collections.singletonMap(Person.class, mockInstantiator));
+		serializer.fromData(Person.class, mockReader);
+		serializer.fromData(Person.class, mockReader);
+
+		ArgumentCaptor<ParameterValueProvider> parameterValueProviders =
+			ArgumentCaptor.forClass(ParameterValueProvider.class);
+
+		verify(mockInstantiator, times(2)).createInstance(any(GemfirePersistentEntity.class),
+			parameterValueProviders.capture());
+
+		assertThat(serializer.getSerializationPlan(Person.class).hasConstructorArguments()).isFalse();
+		assertThat(parameterValueProviders.getAllValues().get(0))
+			.isSameAs(parameterValueProviders.getAllValues().get(1));
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void fromDataHandlesExceptionProperly() {
@@ -278,4 +300,124 @@ public class MappingPdxSerializerUnitTests {
 			verify(mockWriter, never()).markIdentityField(anyString());
 		}
 	}
+
+	@Test
+	public void doesNotUseGeneratedSerializersByDefault() {
+		assertThat(serializer.isUseGeneratedSerializers()).isFalse();
+		assertThat(serializer.getGeneratedSerializer(serializer.getPersistentEntity(Person.class)).isPresent())
+			.isFalse();
+	}
+
+	@Test
+	public void toDataUsesGeneratedSerializer() {
+		Address address = new Address();
+		address.city = "Portland";
+		address.zipCode = "12345";
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+		jonDoe.address = address;
+
+		serializer.setCustomSerializers(Collections.emptyMap());
+		serializer.setUseGeneratedSerializers(true);
+
+		assertThat(serializer.toData(jonDoe, mockWriter)).isTrue();
+
+		verify(mockWriter, times(1)).writeObject(eq("address"), eq(address));
+		verify(mockWriter, times(1)).writeObject(eq("id"), eq(1L));
+		verify(mockWriter, times(1)).writeString(eq("firstname"), eq("Jon"));
+		verify(mockWriter, times(1)).writeString(eq("lastname"), eq("Doe"));
+		verify(mockWriter, times(1)).markIdentityField(eq("id"));
+		verify(mockWriter, never()).writeField(anyString(), any(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void fromDataUsesGeneratedSerializer() {
+		when(mockInstantiator.createInstance(any(GemfirePersistentEntity.class), any(ParameterValueProvider.class)))
+			.thenReturn(new Person(null, null, null));
+		when(mockReader.readObject(eq("id"))).thenReturn(1L);
+		when(mockReader.readString(eq("firstname"))).thenReturn("Jon");
+		when(mockReader.readString(eq("lastname"))).thenReturn("Doe");
+
+		serializer.setCustomSerializers(Collections.emptyMap());
+		serializer.setGemfireInstantiators(Collections.singletonMap(Person.class, mockInstantiator));
+		serializer.setUseGeneratedSerializers(true);
+
+		Person jonDoe = (Person) serializer.fromData(Person.class, mockReader);
+
+		assertThat(jonDoe.getId()).isEqualTo(1L);
+		assertThat(jonDoe.getFirstname()).isEqualTo("Jon");
+		assertThat(jonDoe.getLastname()).isEqualTo("Doe");
+
+		verify(mockInstantiator, times(1)).createInstance(any(GemfirePersistentEntity.class),
+			any(ParameterValueProvider.class));
+		verify(mockReader, never()).readField(anyString());
+	}
+
+	@Test
+	public void toDataFallsBackToReflectionForPropertiesWithCustomSerializer() {
+		Address address = new Address();
+		address.city = "Portland";
+		address.zipCode = "12345";
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+		jonDoe.address = address;
+
+		serializer.setUseGeneratedSerializers(true);
+
+		assertThat(serializer.toData(jonDoe, mockWriter)).isTrue();
+
+		assertThat(serializer.getGeneratedSerializer(serializer.getPersistentEntity(Person.class)).isPresent())
+			.isFalse();
+
+		verify(mockAddressSerializer, times(1)).toData(eq(address), eq(mockWriter));
+		verify(mockWriter, times(1)).writeField(eq("id"), eq(1L), eq(Long.class));
+		verify(mockWriter, never()).writeString(anyString(), anyString());
+	}
+	@Test
+	public void cachesSerializationPlanPerType() {
+		PdxSerializationPlan plan = serializer.getSerializationPlan(Person.class);
+
+		assertThat(serializer.getSerializationPlan(Person.class)).isSameAs(plan);
+		assertThat(plan.getProperties()).hasSize(4);
+
+		serializer.setCustomSerializers(Collections.emptyMap());
+
+		assertThat(serializer.getSerializationPlan(Person.class)).isNotSameAs(plan);
+	}
+
+	@Test
+	public void toDataRecordsMetrics() {
+		serializer.setCustomSerializers(Collections.emptyMap());
+		serializer.setMetricsEnabled(true);
+
+		assertThat(serializer.getMetrics()).isEmpty();
+
+		serializer.toData(new Person(1L, "Jon", "Doe"), mockWriter);
+		serializer.toData(new Person(2L, "Jane", "Doe"), mockWriter);
+
+		PdxSerializationPlan.Metrics metrics = serializer.getMetrics().get(Person.class);
+
+		assertThat(metrics).isNotNull();
+		assertThat(metrics.getSerializedCount()).isEqualTo(2);
+		assertThat(metrics.getSerializedBytes()).isEqualTo(13);
+		assertThat(metrics.getSerializationTime()).isGreaterThan(0);
+		assertThat(metrics.getDeserializedCount()).isEqualTo(0);
+	}
+
+	@Test
+	public void toDataDoesNotRecordMetricsByDefault() {
+		serializer.setCustomSerializers(Collections.emptyMap());
+
+		assertThat(serializer.isMetricsEnabled()).isFalse();
+
+		serializer.toData(new Person(1L, "Jon", "Doe"), mockWriter);
+
+		PdxSerializationPlan.Metrics metrics = serializer.getMetrics().get(Person.class);
+
+		assertThat(metrics).isNotNull();
+		assertThat(metrics.getSerializedCount()).isEqualTo(0);
+		assertThat(metrics.getSerializedBytes()).isEqualTo(0);
+		assertThat(metrics.getSerializationTime()).isEqualTo(0);
+	}
 }
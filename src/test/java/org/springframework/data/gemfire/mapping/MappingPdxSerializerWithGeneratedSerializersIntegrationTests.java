@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.gemfire.repository.sample.Address;
+import org.springframework.data.gemfire.repository.sample.Person;
+
+/**
+ * Integration tests for {@link MappingPdxSerializer} configured to use
+ * {@link org.apache.geode.pdx.PdxSerializer PdxSerializers}
+ * generated by the {@link AsmPdxSerializerGenerator}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.mapping.AsmPdxSerializerGenerator
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @since 2.0.0
+ */
+public class MappingPdxSerializerWithGeneratedSerializersIntegrationTests {
+
+	static Cache cache;
+
+	static MappingPdxSerializer serializer;
+
+	static Region<Object, Object> region;
+
+	@BeforeClass
+	public static void setUp() {
+		serializer = new MappingPdxSerializer(new GemfireMappingContext(), new DefaultConversionService());
+		serializer.setUseGeneratedSerializers(true);
+
+		cache = new CacheFactory()
+			.set("name", MappingPdxSerializerWithGeneratedSerializersIntegrationTests.class.getSimpleName())
+			.set("mcast-port", "0")
+			.set("log-level", "warning")
+			.setPdxSerializer(serializer)
+			.create();
+
+		cache.setCopyOnRead(true);
+
+		region = cache.createRegionFactory().setDataPolicy(DataPolicy.REPLICATE)
+			.create("GeneratedSerializers");
+	}
+
+	@AfterClass
+	public static void tearDown() {
+		try {
+			cache.close();
+		}
+		catch (Exception ignore) {
+		}
+	}
+
+	@Test
+	public void serializeAndDeserializeEntityWithReferenceProperties() {
+		Address address = new Address();
+		address.zipCode = "01234";
+		address.city = "London";
+
+		Person person = new Person(1L, "Oliver", "Gierke");
+		person.address = address;
+
+		region.put(1L, person);
+
+		Object result = region.get(1L);
+
+		assertThat(result).isInstanceOf(Person.class);
+		assertThat(result).isNotSameAs(person);
+		assertThat(result).isEqualTo(person);
+		assertThat(((Person) result).getAddress().zipCode).isEqualTo("01234");
+		assertThat(((Person) result).getAddress().city).isEqualTo("London");
+		assertThat(serializer.getGeneratedSerializer(serializer.getPersistentEntity(Person.class)).isPresent())
+			.isTrue();
+	}
+
+	@Test
+	public void serializeAndDeserializeEntityWithPrimitiveProperties() {
+		Date opened = new Date();
+
+		AsmPdxSerializerGeneratorUnitTests.Account account = new AsmPdxSerializerGeneratorUnitTests.Account();
+
+		account.setId(2L);
+		account.setActive(true);
+		account.setBalance(new BigDecimal("100.50"));
+		account.setNumber("ABC-123");
+		account.setOpened(opened);
+		account.setPin(1234);
+		account.setRate(0.25d);
+		account.setScores(new int[] { 1, 2, 3 });
+		account.setTags(new String[] { "checking", "savings" });
+		account.setVersion(2);
+
+		region.put(2L, account);
+
+		Object result = region.get(2L);
+
+		assertThat(result).isInstanceOf(AsmPdxSerializerGeneratorUnitTests.Account.class);
+		assertThat(result).isNotSameAs(account);
+
+		AsmPdxSerializerGeneratorUnitTests.Account actual = (AsmPdxSerializerGeneratorUnitTests.Account) result;
+
+		assertThat(actual.getId()).isEqualTo(2L);
+		assertThat(actual.isActive()).isTrue();
+		assertThat(actual.getBalance()).isEqualTo(new BigDecimal("100.50"));
+		assertThat(actual.getNumber()).isEqualTo("ABC-123");
+		assertThat(actual.getOpened()).isEqualTo(opened);
+		assertThat(actual.getPin()).isEqualTo(1234);
+		assertThat(actual.getRate()).isEqualTo(0.25d);
+		assertThat(actual.getScores()).containsExactly(1, 2, 3);
+		assertThat(actual.getTags()).containsExactly("checking", "savings");
+		assertThat(actual.getVersion()).isEqualTo(2);
+	}
+}
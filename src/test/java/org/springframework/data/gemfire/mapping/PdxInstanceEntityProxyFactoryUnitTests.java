@@ -0,0 +1,248 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.geode.pdx.PdxInstance;
+import org.junit.Test;
+import org.springframework.data.gemfire.mapping.annotation.Compressed;
+
+/**
+ * Unit tests for {@link PdxInstanceEntityProxyFactory}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory
+ * @since 2.0.0
+ */
+public class PdxInstanceEntityProxyFactoryUnitTests {
+
+	private final PdxInstanceEntityProxyFactory proxyFactory = PdxInstanceEntityProxyFactory.INSTANCE;
+
+	private PdxInstance mockPdxInstance(Class<?> type, Object entity) {
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.getClassName()).thenReturn(type.getName());
+		when(mockPdxInstance.getObject()).thenReturn(entity);
+
+		return mockPdxInstance;
+	}
+
+	private PdxInstance mockBookPdxInstance(Book book) {
+		PdxInstance mockPdxInstance = mockPdxInstance(Book.class, book);
+
+		when(mockPdxInstance.hasField("isbn")).thenReturn(true);
+		when(mockPdxInstance.getField("isbn")).thenReturn(book.getIsbn());
+		when(mockPdxInstance.hasField("pages")).thenReturn(true);
+		when(mockPdxInstance.getField("pages")).thenReturn(book.getPages());
+		when(mockPdxInstance.hasField("title")).thenReturn(true);
+		when(mockPdxInstance.getField("title")).thenReturn(book.getTitle());
+		when(mockPdxInstance.hasField("authors")).thenReturn(true);
+		when(mockPdxInstance.getField("authors")).thenReturn(book.getAuthors());
+
+		return mockPdxInstance;
+	}
+
+	private Book newBook(Long isbn, String title, int pages, String... authors) {
+		Book book = new Book();
+
+		book.setIsbn(isbn);
+		book.setTitle(title);
+		book.setPages(pages);
+		book.setAuthors(Arrays.asList(authors));
+
+		return book;
+	}
+
+	@Test
+	public void proxyIfPossibleReturnsProxyOfEntityType() {
+		PdxInstance mockPdxInstance = mockBookPdxInstance(newBook(1L, "Spring in Action", 520));
+
+		Object proxy = proxyFactory.proxyIfPossible(mockPdxInstance);
+
+		assertThat(proxy).isInstanceOf(Book.class);
+		assertThat(proxy).isInstanceOf(PdxInstanceEntityProxy.class);
+		assertThat(((PdxInstanceEntityProxy) proxy).getSourcePdxInstance()).isSameAs(mockPdxInstance);
+		assertThat(((PdxInstanceEntityProxy) proxy).isMaterialized()).isFalse();
+	}
+
+	@Test
+	public void gettersReadFieldsWithoutDeserializingEntity() {
+		PdxInstance mockPdxInstance = mockBookPdxInstance(newBook(1L, "Spring in Action", 520));
+
+		Book proxy = (Book) proxyFactory.proxyIfPossible(mockPdxInstance);
+
+		assertThat(proxy.getIsbn()).isEqualTo(1L);
+		assertThat(proxy.getTitle()).isEqualTo("Spring in Action");
+		assertThat(proxy.getPages()).isEqualTo(520);
+		assertThat(((PdxInstanceEntityProxy) proxy).isMaterialized()).isFalse();
+
+		verify(mockPdxInstance, times(1)).getField("title");
+		verify(mockPdxInstance, never()).getObject();
+	}
+
+	@Test
+	public void collectionGetterDeserializesEntity() {
+		Book book = newBook(1L, "Spring in Action", 520, "Craig Walls");
+		PdxInstance mockPdxInstance = mockBookPdxInstance(book);
+
+		Book proxy = (Book) proxyFactory.proxyIfPossible(mockPdxInstance);
+
+		assertThat(proxy.getAuthors()).containsExactly("Craig Walls");
+		assertThat(((PdxInstanceEntityProxy) proxy).isMaterialized()).isTrue();
+
+		verify(mockPdxInstance, times(1)).getObject();
+	}
+
+	@Test
+	public void settersDeserializeEntityOnceAndDelegateToEntity() {
+		Book book = newBook(1L, "Spring in Action", 520);
+		PdxInstance mockPdxInstance = mockBookPdxInstance(book);
+
+		Book proxy = (Book) proxyFactory.proxyIfPossible(mockPdxInstance);
+
+		proxy.setTitle("Spring in Action, 4th Edition");
+		proxy.setPages(624);
+
+		assertThat(book.getTitle()).isEqualTo("Spring in Action, 4th Edition");
+		assertThat(proxy.getTitle()).isEqualTo("Spring in Action, 4th Edition");
+		assertThat(proxy.getPages()).isEqualTo(624);
+		assertThat(proxyFactory.unwrap(proxy)).isSameAs(book);
+
+		verify(mockPdxInstance, times(1)).getObject();
+		verify(mockPdxInstance, never()).getField("title");
+	}
+
+	@Test
+	public void compressedPropertyGetterDeserializesEntity() {
+		Note note = new Note();
+
+		note.setText("test");
+
+		PdxInstance mockPdxInstance = mockPdxInstance(Note.class, note);
+
+		Note proxy = (Note) proxyFactory.proxyIfPossible(mockPdxInstance);
+
+		assertThat(proxy.getText()).isEqualTo("test");
+		assertThat(((PdxInstanceEntityProxy) proxy).isMaterialized()).isTrue();
+
+		verify(mockPdxInstance, never()).getField("text");
+	}
+
+	@Test
+	public void unwrapReturnsNonProxyValuesAsIs() {
+		Book book = newBook(1L, "Spring in Action", 520);
+
+		assertThat(proxyFactory.unwrap(book)).isSameAs(book);
+		assertThat(proxyFactory.unwrap(null)).isNull();
+	}
+
+	@Test
+	public void proxyIfPossibleReturnsNonPdxInstanceValuesAsIs() {
+		Book book = newBook(1L, "Spring in Action", 520);
+
+		assertThat(proxyFactory.proxyIfPossible(book)).isSameAs(book);
+		assertThat(proxyFactory.proxyIfPossible("test")).isEqualTo("test");
+		assertThat(proxyFactory.proxyIfPossible(null)).isNull();
+	}
+
+	@Test
+	public void proxyIfPossibleReturnsPdxInstanceOfFinalEntityTypeAsIs() {
+		PdxInstance mockPdxInstance = mockPdxInstance(FinalEntity.class, new FinalEntity());
+
+		assertThat(proxyFactory.proxyIfPossible(mockPdxInstance)).isSameAs(mockPdxInstance);
+	}
+
+	@Test
+	public void proxyIfPossibleReturnsPdxInstanceOfUnresolvableTypeAsIs() {
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.getClassName()).thenReturn("example.app.model.NonExistingType");
+
+		assertThat(proxyFactory.proxyIfPossible(mockPdxInstance)).isSameAs(mockPdxInstance);
+	}
+
+	public static class Book {
+
+		private int pages;
+
+		private List<String> authors;
+
+		private Long isbn;
+
+		private String title;
+
+		public List<String> getAuthors() {
+			return authors;
+		}
+
+		public void setAuthors(List<String> authors) {
+			this.authors = authors;
+		}
+
+		public Long getIsbn() {
+			return isbn;
+		}
+
+		public void setIsbn(Long isbn) {
+			this.isbn = isbn;
+		}
+
+		public int getPages() {
+			return pages;
+		}
+
+		public void setPages(int pages) {
+			this.pages = pages;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+
+	public static final class FinalEntity {
+	}
+
+	public static class Note {
+
+		@Compressed
+		private String text;
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+}
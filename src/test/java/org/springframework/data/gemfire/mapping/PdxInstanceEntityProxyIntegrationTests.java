@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.pdx.PdxInstance;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.repository.sample.Address;
+import org.springframework.data.gemfire.repository.sample.Person;
+
+/**
+ * Integration tests for {@link PdxInstanceEntityProxy PdxInstanceEntityProxies} returned by
+ * a {@link GemfireTemplate} reading from a cache configured with PDX read-serialized.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory
+ * @since 2.0.0
+ */
+public class PdxInstanceEntityProxyIntegrationTests {
+
+	static Cache cache;
+
+	static GemfireTemplate template;
+
+	static Region<Object, Object> region;
+
+	@BeforeClass
+	public static void setUp() {
+		cache = new CacheFactory()
+			.set("name", PdxInstanceEntityProxyIntegrationTests.class.getSimpleName())
+			.set("mcast-port", "0")
+			.set("log-level", "warning")
+			.setPdxReadSerialized(true)
+			.setPdxSerializer(new MappingPdxSerializer(new GemfireMappingContext(), new DefaultConversionService()))
+			.create();
+
+		region = cache.createRegionFactory().setDataPolicy(DataPolicy.PARTITION).create("People");
+
+		template = new GemfireTemplate(region);
+		template.setProxyPdxInstances(true);
+	}
+
+	@AfterClass
+	public static void tearDown() {
+		try {
+			cache.close();
+		}
+		catch (Exception ignore) {
+		}
+	}
+
+	private static Person newPerson(Long id, String firstname, String lastname, String city) {
+		Address address = new Address();
+		address.city = city;
+		address.zipCode = "01234";
+
+		Person person = new Person(id, firstname, lastname);
+		person.address = address;
+
+		return person;
+	}
+
+	@Test
+	public void getReturnsLazyEntityProxy() {
+		template.put(1L, newPerson(1L, "Jon", "Doe", "Portland"));
+
+		assertThat(region.get(1L)).isInstanceOf(PdxInstance.class);
+
+		Person person = template.get(1L);
+
+		assertThat(person).isInstanceOf(PdxInstanceEntityProxy.class);
+		assertThat(person.getId()).isEqualTo(1L);
+		assertThat(person.getFirstname()).isEqualTo("Jon");
+		assertThat(person.getAddress()).isInstanceOf(PdxInstanceEntityProxy.class);
+		assertThat(person.getAddress().toString()).contains("Portland");
+		assertThat(((PdxInstanceEntityProxy) person).isMaterialized()).isFalse();
+		assertThat(person.getName()).isEqualTo("Jon Doe");
+		assertThat(((PdxInstanceEntityProxy) person).isMaterialized()).isTrue();
+	}
+
+	@Test
+	public void findReturnsLazyEntityProxies() {
+		template.put(2L, newPerson(2L, "Jane", "Doe", "Seattle"));
+		template.put(3L, newPerson(3L, "Pie", "Doe", "Seattle"));
+
+		List<Person> people = template.<Person>find(
+			"SELECT * FROM /People p WHERE p.address.city = $1 ORDER BY p.id", "Seattle").asList();
+
+		assertThat(people).hasSize(2);
+		assertThat(people.get(0)).isInstanceOf(PdxInstanceEntityProxy.class);
+		assertThat(people.get(0).getFirstname()).isEqualTo("Jane");
+		assertThat(people.get(1).getFirstname()).isEqualTo("Pie");
+	}
+
+	@Test
+	public void putOfEntityProxyStoresEntity() {
+		template.put(4L, newPerson(4L, "Cookie", "Doe", "Portland"));
+
+		Person person = template.get(4L);
+
+		template.put(5L, person);
+
+		PdxInstance pdxInstance = (PdxInstance) region.get(5L);
+
+		assertThat(pdxInstance.getClassName()).isEqualTo(Person.class.getName());
+		assertThat(pdxInstance.getField("firstname")).isEqualTo("Cookie");
+		assertThat(template.<Long, Person>get(5L).getLastname()).isEqualTo("Doe");
+	}
+}
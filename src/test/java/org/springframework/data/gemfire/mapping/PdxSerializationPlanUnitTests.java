@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+
+import org.apache.geode.pdx.FieldType;
+import org.apache.geode.pdx.PdxSerializer;
+import org.junit.Test;
+import org.springframework.data.gemfire.repository.sample.Address;
+import org.springframework.data.gemfire.repository.sample.Person;
+
+/**
+ * Unit tests for {@link PdxSerializationPlan}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.mapping.PdxSerializationPlan
+ * @since 2.0.0
+ */
+public class PdxSerializationPlanUnitTests {
+
+	private final GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+	private GemfirePersistentEntity<?> getPersistentEntity(Class<?> type) {
+		return mappingContext.getPersistentEntity(type).orElseThrow(() -> new IllegalStateException(
+			String.format("Unable to resolve PersistentEntity for type [%s]", type.getName())));
+	}
+
+	private PdxSerializationPlan.PropertyPlan getProperty(PdxSerializationPlan plan, String name) {
+		return Arrays.stream(plan.getProperties()).filter(property -> property.getName().equals(name))
+			.findFirst().orElseThrow(() -> new IllegalStateException(String.format("No property [%s]", name)));
+	}
+
+	@Test
+	public void resolvesPlanForEntity() {
+		PdxSerializer mockAddressSerializer = mock(PdxSerializer.class);
+
+		PdxSerializationPlan plan = PdxSerializationPlan.of(getPersistentEntity(Person.class),
+			type -> (Address.class.equals(type) ? mockAddressSerializer : null), null);
+
+		assertThat(plan.getEntity().getType()).isEqualTo(Person.class);
+		assertThat(plan.getIdPropertyName()).isEqualTo("id");
+		assertThat(plan.getGeneratedSerializer()).isNull();
+		assertThat(plan.getProperties()).hasSize(4);
+		assertThat(plan.getFixedWidth()).isEqualTo(0);
+
+		PdxSerializationPlan.PropertyPlan address = getProperty(plan, "address");
+
+		assertThat(address.isCustomSerialized()).isTrue();
+		assertThat(address.getCustomSerializer()).isSameAs(mockAddressSerializer);
+		assertThat(address.getType()).isEqualTo(Address.class);
+		assertThat(address.getFieldType()).isEqualTo(FieldType.OBJECT);
+
+		PdxSerializationPlan.PropertyPlan firstname = getProperty(plan, "firstname");
+
+		assertThat(firstname.isConstructorArgument()).isFalse();
+		assertThat(firstname.isCustomSerialized()).isFalse();
+		assertThat(firstname.getProperty().getName()).isEqualTo("firstname");
+		assertThat(firstname.getFieldType()).isEqualTo(FieldType.STRING);
+	}
+
+	@Test
+	public void resolvesConstructorArgumentsAndFixedWidth() {
+		PdxSerializationPlan plan = PdxSerializationPlan.of(
+			getPersistentEntity(AsmPdxSerializerGeneratorUnitTests.Customer.class), type -> null, null);
+
+		assertThat(getProperty(plan, "id").isConstructorArgument()).isTrue();
+		assertThat(getProperty(plan, "name").isConstructorArgument()).isTrue();
+		assertThat(getProperty(plan, "points").isConstructorArgument()).isFalse();
+		assertThat(getProperty(plan, "points").getFieldType()).isEqualTo(FieldType.SHORT);
+		assertThat(plan.getFixedWidth()).isEqualTo(FieldType.SHORT.getWidth());
+	}
+
+	@Test
+	public void estimateVariableWidth() {
+		assertThat(PdxSerializationPlan.estimateVariableWidth(FieldType.STRING, "test")).isEqualTo(4);
+		assertThat(PdxSerializationPlan.estimateVariableWidth(FieldType.STRING, null)).isEqualTo(0);
+		assertThat(PdxSerializationPlan.estimateVariableWidth(FieldType.INT_ARRAY, new int[] { 1, 2, 3 }))
+			.isEqualTo(12);
+		assertThat(PdxSerializationPlan.estimateVariableWidth(FieldType.LONG, 1L)).isEqualTo(0);
+		assertThat(PdxSerializationPlan.estimateVariableWidth(FieldType.OBJECT, new Object())).isEqualTo(0);
+	}
+
+	@Test
+	public void metricsAccumulate() {
+		PdxSerializationPlan.Metrics metrics = new PdxSerializationPlan.Metrics();
+
+		metrics.serialized(16, 100);
+		metrics.serialized(8, 50);
+		metrics.deserialized(16, 200);
+
+		assertThat(metrics.getSerializedCount()).isEqualTo(2);
+		assertThat(metrics.getSerializedBytes()).isEqualTo(24);
+		assertThat(metrics.getSerializationTime()).isEqualTo(150);
+		assertThat(metrics.getDeserializedCount()).isEqualTo(1);
+		assertThat(metrics.getDeserializedBytes()).isEqualTo(16);
+		assertThat(metrics.getDeserializationTime()).isEqualTo(200);
+	}
+}
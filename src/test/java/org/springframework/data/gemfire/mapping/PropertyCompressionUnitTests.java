@@ -0,0 +1,165 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import org.junit.Test;
+import org.springframework.data.gemfire.mapping.annotation.Compressed;
+import org.springframework.util.StringUtils;
+
+/**
+ * Unit tests for {@link PropertyCompression} and {@link DeflaterCompressor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.mapping.DeflaterCompressor
+ * @see org.springframework.data.gemfire.mapping.PropertyCompression
+ * @see org.springframework.data.gemfire.mapping.annotation.Compressed
+ * @since 2.0.0
+ */
+public class PropertyCompressionUnitTests {
+
+	private static final String TEXT = StringUtils.collectionToDelimitedString(
+		Collections.nCopies(500, "The quick brown fox jumps over the lazy dog."), " ");
+
+	private final GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+	private GemfirePersistentProperty getPersistentProperty(String name) {
+		return mappingContext.getPersistentEntity(Document.class)
+			.flatMap(entity -> entity.getPersistentProperty(name))
+			.orElseThrow(() -> newIllegalStateException("Unable to resolve PersistentProperty [%s]", name));
+	}
+
+	@Test
+	public void compressedAnnotationResolvesPropertyCompression() {
+		GemfirePersistentProperty body = getPersistentProperty("body");
+
+		assertThat(body.isCompressed()).isTrue();
+		assertThat(body.getCompression().getCompressor()).isInstanceOf(DeflaterCompressor.class);
+		assertThat(body.getCompression().getThreshold()).isEqualTo(1024);
+		assertThat(getPersistentProperty("summary").getCompression().getCompressor())
+			.isInstanceOf(BestSpeedCompressor.class);
+		assertThat(getPersistentProperty("summary").getCompression().getThreshold()).isEqualTo(16);
+		assertThat(getPersistentProperty("title").isCompressed()).isFalse();
+		assertThat(getPersistentProperty("title").getCompression()).isNull();
+	}
+
+	@Test
+	public void encodeCompressesValuesAtLeastThresholdInSize() {
+		PropertyCompression compression = getPersistentProperty("body").getCompression();
+
+		byte[] encoded = compression.encode(TEXT, String.class);
+
+		assertThat(encoded[0]).isEqualTo(PropertyCompression.COMPRESSED);
+		assertThat(encoded.length).isLessThan(TEXT.length() / 10);
+		assertThat(compression.decode(encoded, String.class)).isEqualTo(TEXT);
+	}
+
+	@Test
+	public void encodeStoresValuesBelowThresholdUncompressed() {
+		PropertyCompression compression = getPersistentProperty("body").getCompression();
+
+		byte[] encoded = compression.encode("small", String.class);
+
+		assertThat(encoded).isEqualTo(new byte[] { PropertyCompression.UNCOMPRESSED, 's', 'm', 'a', 'l', 'l' });
+		assertThat(compression.decode(encoded, String.class)).isEqualTo("small");
+	}
+
+	@Test
+	public void encodeStoresValuesUncompressedWhenCompressionDoesNotReduceSize() {
+		PropertyCompression compression = new PropertyCompression(new DeflaterCompressor(), 0);
+
+		byte[] random = new byte[2048];
+
+		new Random(42L).nextBytes(random);
+
+		byte[] encoded = compression.encode(random, byte[].class);
+
+		assertThat(encoded[0]).isEqualTo(PropertyCompression.UNCOMPRESSED);
+		assertThat(encoded.length).isEqualTo(random.length + 1);
+		assertThat((byte[]) compression.decode(encoded, byte[].class)).isEqualTo(random);
+	}
+
+	@Test
+	public void encodeAndDecodeByteArrayAndCollectionValues() {
+		PropertyCompression compression = new PropertyCompression(new DeflaterCompressor(), 0);
+
+		byte[] attachment = TEXT.getBytes();
+		List<String> tags = new ArrayList<>(Arrays.asList("a", "b", TEXT));
+
+		assertThat((byte[]) compression.decode(compression.encode(attachment, byte[].class), byte[].class))
+			.isEqualTo(attachment);
+		assertThat(compression.decode(compression.encode(tags, List.class), List.class)).isEqualTo(tags);
+	}
+
+	@Test
+	public void encodeAndDecodeNullValues() {
+		PropertyCompression compression = getPersistentProperty("body").getCompression();
+
+		assertThat(compression.encode(null, String.class)).isNull();
+		assertThat(compression.decode(null, String.class)).isNull();
+	}
+
+	@Test
+	public void customCompressorRoundTrip() {
+		PropertyCompression compression = getPersistentProperty("summary").getCompression();
+
+		byte[] encoded = compression.encode(TEXT, String.class);
+
+		assertThat(encoded[0]).isEqualTo(PropertyCompression.COMPRESSED);
+		assertThat(compression.decode(encoded, String.class)).isEqualTo(TEXT);
+	}
+
+	@Test
+	public void deflaterCompressorUsingBestSpeed() {
+		DeflaterCompressor compressor = new DeflaterCompressor(Deflater.BEST_SPEED);
+
+		byte[] compressed = compressor.compress(TEXT.getBytes());
+
+		assertThat(compressor.getLevel()).isEqualTo(Deflater.BEST_SPEED);
+		assertThat(compressed.length).isLessThan(TEXT.length());
+		assertThat(new String(compressor.decompress(compressed))).isEqualTo(TEXT);
+	}
+
+	public static class Document {
+
+		@Compressed
+		private String body;
+
+		@Compressed(compressor = BestSpeedCompressor.class, threshold = 16)
+		private String summary;
+
+		private String title;
+
+	}
+
+	public static class BestSpeedCompressor extends DeflaterCompressor {
+
+		public BestSpeedCompressor() {
+			super(Deflater.BEST_SPEED);
+		}
+	}
+}
@@ -45,6 +45,7 @@ import org.springframework.core.env.Environment;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.data.gemfire.mapping.annotation.Region;
 import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.repository.ReactiveGemfireRepository;
 import org.springframework.data.gemfire.repository.support.GemfireRepositoryFactoryBean;
 import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
 import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
@@ -125,6 +126,7 @@ public class GemfireRepositoryConfigurationExtensionTest {
 
 		assertThat(identifyingTypes, is(notNullValue(Collection.class)));
 		assertThat(identifyingTypes.contains(GemfireRepository.class), is(true));
+		assertThat(identifyingTypes.contains(ReactiveGemfireRepository.class), is(true));
 	}
 
 	@Test
@@ -20,8 +20,12 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.data.gemfire.domain.KeysetPageRequest;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.repository.sample.Person;
@@ -66,4 +70,58 @@ public class GemfireQueryCreatorUnitTests {
 
 		assertThat(query.toString(), is(equalTo("SELECT * FROM /simple x WHERE x.address.city = $1")));
 	}
+
+	@Test
+	public void createsQueryForFirstKeysetPageCorrectly() {
+		PartTree partTree = new PartTree("findByLastnameOrderByFirstnameAsc", Person.class);
+
+		GemfireQueryCreator queryCreator = new GemfireQueryCreator(partTree, entity);
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.from(KeysetPageRequest.of(10), partTree.getSort(), "id");
+
+		QueryString query = queryCreator.createQuery(pageRequest, 3);
+
+		assertThat(query.toString(), is(equalTo(
+			"SELECT DISTINCT * FROM /simple x WHERE x.lastname = $1 ORDER BY firstname ASC, id ASC")));
+	}
+
+	@Test
+	public void createsQueryForNextKeysetPageCorrectly() {
+		PartTree partTree = new PartTree("findByLastnameOrderByFirstnameAsc", Person.class);
+
+		GemfireQueryCreator queryCreator = new GemfireQueryCreator(partTree, entity);
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.from(KeysetPageRequest.of(10), partTree.getSort(), "id")
+			.nextAfter(new Person(1L, "Jon", "Doe"));
+
+		QueryString query = queryCreator.createQuery(pageRequest, 3);
+
+		assertThat(query.toString(), is(equalTo("SELECT DISTINCT * FROM /simple x WHERE (x.lastname = $1)"
+			+ " AND (x.firstname > $3 OR (x.firstname = $3 AND (x.id > $4))) ORDER BY firstname ASC, id ASC")));
+	}
+
+	@Test
+	public void createsQueryForProjectedPropertiesCorrectly() {
+		PartTree partTree = new PartTree("findByLastnameOrderByFirstnameAsc", Person.class);
+
+		GemfireQueryCreator queryCreator =
+			new GemfireQueryCreator(partTree, entity, Arrays.asList("firstname", "lastname", "id"));
+
+		QueryString query = queryCreator.createQuery();
+
+		assertThat(query.toString(), is(equalTo("SELECT DISTINCT x.firstname, x.lastname, x.id FROM /simple x"
+			+ " WHERE x.lastname = $1 ORDER BY firstname ASC")));
+	}
+
+	@Test
+	public void createsQueryForDistinctProjectedPropertiesCorrectly() {
+		PartTree partTree = new PartTree("findDistinctByLastname", Person.class);
+
+		GemfireQueryCreator queryCreator =
+			new GemfireQueryCreator(partTree, entity, Collections.singletonList("firstname"));
+
+		QueryString query = queryCreator.createQuery();
+
+		assertThat(query.toString(), is(equalTo("SELECT DISTINCT x.firstname FROM /simple x WHERE x.lastname = $1")));
+	}
 }
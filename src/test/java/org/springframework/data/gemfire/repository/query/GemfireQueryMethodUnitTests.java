@@ -36,6 +36,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.repository.Query;
 import org.springframework.data.gemfire.repository.query.annotation.Hint;
@@ -155,6 +156,15 @@ public class GemfireQueryMethodUnitTests {
 		new GemfireQueryMethod(Invalid.class.getMethod("someMethod", Pageable.class), metadata, factory, context);
 	}
 
+	@Test
+	public void acceptsSliceQueryMethodWithPageableParameter() throws Exception {
+		GemfireQueryMethod method = new GemfireQueryMethod(Sample.class.getMethod("sliceMethod", Pageable.class),
+			metadata, factory, context);
+
+		assertThat(method.isSliceQuery(), is(true));
+		assertThat(method.isPageQuery(), is(false));
+	}
+
 	@Test
 	public void detectsQueryHintsCorrectly() throws Exception {
 		assertThat(new GemfireQueryMethod(AnnotatedQueryMethods.class.getMethod("queryWithHint"),
@@ -256,6 +266,8 @@ public class GemfireQueryMethodUnitTests {
 
 		void notAnnotated();
 
+		Slice<Person> sliceMethod(Pageable pageable);
+
 	}
 
 	@SuppressWarnings("unused")
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.springframework.data.gemfire.domain.KeysetPage;
+import org.springframework.data.gemfire.domain.KeysetPageRequest;
+
+/**
+ * Unit tests for {@link KeysetPageIterator}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.query.KeysetPageIterator
+ * @since 2.0.0
+ */
+public class KeysetPageIteratorUnitTests {
+
+	private final List<KeysetPageRequest> pageRequests = new ArrayList<>();
+
+	private KeysetPage<Element> fetch(KeysetPageRequest pageRequest, int totalElements) {
+		pageRequests.add(pageRequest);
+
+		long lastId = (pageRequest.hasKeyset() ? (Long) pageRequest.getKeyset()[0] : 0L);
+
+		List<Element> results = new ArrayList<>();
+
+		for (long id = lastId + 1; id <= totalElements && results.size() < pageRequest.getFetchLimit(); id++) {
+			results.add(new Element(id));
+		}
+
+		return KeysetPage.newKeysetPage(results, pageRequest, null);
+	}
+
+	@Test
+	public void streamsElementsOfAllPages() {
+		KeysetPageRequest firstPageRequest = KeysetPageRequest.from(KeysetPageRequest.of(2), "id");
+
+		List<Long> ids = new KeysetPageIterator<>(firstPageRequest, pageRequest -> fetch(pageRequest, 5)).stream()
+			.map(Element::getId).collect(Collectors.toList());
+
+		assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 5L);
+		assertThat(pageRequests).hasSize(3);
+		assertThat(pageRequests.get(1).getKeyset()).containsExactly(2L);
+		assertThat(pageRequests.get(2).getKeyset()).containsExactly(4L);
+	}
+
+	@Test
+	public void pageRequestsDoNotLinkToPreviousPageRequests() {
+		KeysetPageRequest firstPageRequest = KeysetPageRequest.from(KeysetPageRequest.of(2), "id");
+
+		new KeysetPageIterator<>(firstPageRequest, pageRequest -> fetch(pageRequest, 5)).stream().count();
+
+		assertThat(pageRequests).hasSize(3);
+		assertThat(pageRequests.get(1).previous()).isNotSameAs(pageRequests.get(0));
+		assertThat(pageRequests.get(2).previous()).isNotSameAs(pageRequests.get(1));
+		assertThat(pageRequests.get(2).previous().hasKeyset()).isFalse();
+	}
+
+	@Test
+	public void fetchesPagesLazily() {
+		KeysetPageRequest firstPageRequest = KeysetPageRequest.from(KeysetPageRequest.of(2), "id");
+
+		List<Long> ids = new KeysetPageIterator<>(firstPageRequest, pageRequest -> fetch(pageRequest, 100)).stream()
+			.limit(3).map(Element::getId).collect(Collectors.toList());
+
+		assertThat(ids).containsExactly(1L, 2L, 3L);
+		assertThat(pageRequests).hasSize(2);
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void nextWithNoMoreElementsThrowsNoSuchElementException() {
+		KeysetPageIterator<Element> iterator = new KeysetPageIterator<>(
+			KeysetPageRequest.from(KeysetPageRequest.of(2), "id"),
+				pageRequest -> KeysetPage.newKeysetPage(Collections.emptyList(), pageRequest, null));
+
+		assertThat(iterator.hasNext()).isFalse();
+
+		iterator.next();
+	}
+
+	static class Element {
+
+		private final Long id;
+
+		Element(Long id) {
+			this.id = id;
+		}
+
+		public Long getId() {
+			return this.id;
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.cache.query.types.StructType;
+import org.junit.Test;
+import org.springframework.data.gemfire.repository.sample.Person;
+import org.springframework.data.gemfire.repository.sample.PersonRepository;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Unit tests for {@link ProjectionResultConverter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.repository.query.ProjectionResultConverter
+ * @since 2.0.0
+ */
+public class ProjectionResultConverterUnitTests {
+
+	private ReturnedType newReturnedType(Class<?> returnedType) {
+		Method of = ReflectionUtils.findMethod(ReturnedType.class, "of", Class.class, Class.class,
+			ProjectionFactory.class);
+
+		ReflectionUtils.makeAccessible(of);
+
+		return (ReturnedType) ReflectionUtils.invokeMethod(of, null, returnedType, Person.class,
+			new SpelAwareProxyProjectionFactory());
+	}
+
+	private Struct mockStruct(String[] fieldNames, Object[] fieldValues) {
+		Struct mockStruct = mock(Struct.class);
+		StructType mockStructType = mock(StructType.class);
+
+		when(mockStruct.getStructType()).thenReturn(mockStructType);
+		when(mockStruct.getFieldValues()).thenReturn(fieldValues);
+		when(mockStructType.getFieldNames()).thenReturn(fieldNames);
+
+		return mockStruct;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void convertsStructToMapForInterfaceProjection() {
+		ProjectionResultConverter converter = new ProjectionResultConverter(
+			newReturnedType(PersonRepository.PersonName.class));
+
+		Object result = converter.convert(mockStruct(new String[] { "firstname", "lastname", "id" },
+			new Object[] { "Jon", "Doe", 1L }));
+
+		assertThat(result).isInstanceOf(Map.class);
+		assertThat((Map<String, Object>) result).containsEntry("firstname", "Jon")
+			.containsEntry("lastname", "Doe").containsEntry("id", 1L);
+	}
+
+	@Test
+	public void convertsSingleValueToMapForInterfaceProjection() {
+		ProjectionResultConverter converter = new ProjectionResultConverter(newReturnedType(Firstname.class));
+
+		assertThat(converter.convert("Jon")).isEqualTo(Collections.singletonMap("firstname", "Jon"));
+	}
+
+	@Test
+	public void returnsEntityAsIsForInterfaceProjection() {
+		ProjectionResultConverter converter = new ProjectionResultConverter(newReturnedType(Firstname.class));
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+
+		assertThat(converter.convert(jonDoe)).isSameAs(jonDoe);
+	}
+
+	@Test
+	public void instantiatesDtoFromStruct() {
+		ProjectionResultConverter converter = new ProjectionResultConverter(
+			newReturnedType(PersonRepository.PersonNameValue.class));
+
+		Object result = converter.convert(mockStruct(new String[] { "id", "lastname", "firstname" },
+			new Object[] { 1L, "Doe", "Jon" }));
+
+		assertThat(result).isInstanceOf(PersonRepository.PersonNameValue.class);
+		assertThat(((PersonRepository.PersonNameValue) result).getFirstname()).isEqualTo("Jon");
+		assertThat(((PersonRepository.PersonNameValue) result).getLastname()).isEqualTo("Doe");
+	}
+
+	@Test
+	public void instantiatesDtoFromEntity() {
+		ProjectionResultConverter converter = new ProjectionResultConverter(
+			newReturnedType(PersonRepository.PersonNameValue.class));
+
+		Object result = converter.convert(new Person(1L, "Jon", "Doe"));
+
+		assertThat(result).isInstanceOf(PersonRepository.PersonNameValue.class);
+		assertThat(((PersonRepository.PersonNameValue) result).getFirstname()).isEqualTo("Jon");
+		assertThat(((PersonRepository.PersonNameValue) result).getLastname()).isEqualTo("Doe");
+	}
+
+	interface Firstname {
+
+		String getFirstname();
+
+	}
+}
@@ -29,6 +29,7 @@ import static org.springframework.data.gemfire.repository.query.QueryString.LIMI
 import static org.springframework.data.gemfire.repository.query.QueryString.TRACE_PATTERN;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.regex.Pattern;
 
 import org.apache.geode.cache.Region;
@@ -83,6 +84,18 @@ public class QueryStringUnitTests {
 		assertThat(new QueryString(Person.class, true).toString()).isEqualTo("SELECT count(*) FROM /Person");
 	}
 
+	@Test
+	public void asProjectionWithProperties() {
+		assertThat(QueryString.asProjection("x", Arrays.asList("firstname", "lastname")))
+			.isEqualTo("x.firstname, x.lastname");
+	}
+
+	@Test
+	public void asProjectionWithNoPropertiesSelectsAll() {
+		assertThat(QueryString.asProjection("x", Collections.emptyList())).isEqualTo("*");
+		assertThat(QueryString.asProjection("x", null)).isEqualTo("*");
+	}
+
 	@Test
 	public void createQueryStringWithNullDomainType() {
 		exception.expect(IllegalArgumentException.class);
@@ -114,6 +127,32 @@ public class QueryStringUnitTests {
 		new QueryString(query);
 	}
 
+	@Test
+	public void seekAfterWithSingleSortProperty() {
+		QueryString query = new QueryString("SELECT * FROM /Example")
+			.seekAfter(newSort(newSortOrder("id")), 1);
+
+		assertThat(query.toString()).isEqualTo("SELECT * FROM /Example WHERE (id > $1)");
+	}
+
+	@Test
+	public void seekAfterWithMultipleSortProperties() {
+		QueryString query = new QueryString("SELECT * FROM /Example")
+			.seekAfter(newSort(newSortOrder("lastName", Sort.Direction.DESC), newSortOrder("id")), 2);
+
+		assertThat(query.toString())
+			.isEqualTo("SELECT * FROM /Example WHERE (lastName < $2 OR (lastName = $2 AND (id > $3)))");
+	}
+
+	@Test
+	public void seekAfterWithExistingWhereClauseThrowsIllegalStateException() {
+		exception.expect(IllegalStateException.class);
+		exception.expectCause(is(nullValue(Throwable.class)));
+		exception.expectMessage("OQL Query [SELECT * FROM /Example WHERE id = $1] already declares a WHERE clause");
+
+		new QueryString("SELECT * FROM /Example WHERE id = $1").seekAfter(newSort(newSortOrder("id")), 2);
+	}
+
 	@Test
 	public void hintPatternMatches() {
 		assertThat(matches(HINT_PATTERN, "<HINT 'ExampleIndex'>")).isTrue();
@@ -235,11 +274,28 @@ public class QueryStringUnitTests {
 			.isEqualTo("SELECT * FROM /Collection WHERE elements IN SET ('1', '2', '3')");
 	}
 
+	@Test
+	public void rewritesInParametersAsNativeBindParameters() {
+		QueryString query = new QueryString(
+			"SELECT * FROM /Example WHERE x IN SET $1 AND y NOT IN LIST $2 AND z IN SET ('a', 'b')");
+
+		assertThat(query.withNativeInParameters().toString())
+			.isEqualTo("SELECT * FROM /Example WHERE x IN $1 AND y NOT IN $2 AND z IN SET ('a', 'b')");
+	}
+
+	@Test
+	public void withNativeInParametersWithoutInParametersReturnsThis() {
+		QueryString query = new QueryString("SELECT * FROM /Example WHERE x = $1");
+
+		assertThat(query.withNativeInParameters()).isSameAs(query);
+	}
+
 	@Test
 	public void detectsInParameterIndexesCorrectly() {
-		QueryString query = new QueryString("SELECT * FROM /Example WHERE values IN SET $1 OR IN SET $2");
+		QueryString query = new QueryString(
+			"SELECT * FROM /Example WHERE values IN SET $1 OR IN SET $2 OR IN LIST $12");
 
-		assertThat(query.getInParameterIndexes()).isEqualTo(Arrays.asList(1, 2));
+		assertThat(query.getInParameterIndexes()).isEqualTo(Arrays.asList(1, 2, 12));
 	}
 
 	@Test
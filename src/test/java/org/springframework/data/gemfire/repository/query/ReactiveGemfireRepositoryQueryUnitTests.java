@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import org.apache.geode.cache.Region;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.ReactiveGemfireTemplate;
+import org.springframework.data.repository.query.RepositoryQuery;
+
+/**
+ * Unit tests for {@link ReactiveGemfireRepositoryQuery}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.repository.query.ReactiveGemfireRepositoryQuery
+ * @since 2.0.0
+ */
+public class ReactiveGemfireRepositoryQueryUnitTests {
+
+	private static final Scheduler scheduler = ReactiveGemfireTemplate.newScheduler(1);
+
+	private RepositoryQuery mockQuery;
+
+	private ReactiveGemfireTemplate template;
+
+	@AfterClass
+	public static void tearDown() {
+		scheduler.dispose();
+	}
+
+	@Before
+	public void setup() {
+		mockQuery = mock(RepositoryQuery.class);
+		template = new ReactiveGemfireTemplate(new GemfireTemplate(mock(Region.class)), scheduler);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeFluxQueryEmitsEachResult() {
+		when(mockQuery.execute(any())).thenReturn(Arrays.asList(1, 2, 3));
+
+		Object result = new ReactiveGemfireRepositoryQuery(mockQuery, template, Flux.class).execute(new Object[0]);
+
+		assertThat(result).isInstanceOf(Flux.class);
+		assertThat(((Flux<Object>) result).collectList().block()).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeMonoQueryEmitsSingleResult() {
+		when(mockQuery.execute(any())).thenReturn(Collections.singletonList(1));
+
+		Object result = new ReactiveGemfireRepositoryQuery(mockQuery, template, Mono.class).execute(new Object[0]);
+
+		assertThat(result).isInstanceOf(Mono.class);
+		assertThat(((Mono<Object>) result).block()).isEqualTo(1);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeMonoQueryWithNoResultIsEmpty() {
+		when(mockQuery.execute(any())).thenReturn(Collections.emptyList());
+
+		Object result = new ReactiveGemfireRepositoryQuery(mockQuery, template, Mono.class).execute(new Object[0]);
+
+		assertThat(((Mono<Object>) result).hasElement().block()).isFalse();
+	}
+
+	@Test(expected = IncorrectResultSizeDataAccessException.class)
+	@SuppressWarnings("unchecked")
+	public void executeMonoQueryWithMultipleResultsThrowsIncorrectResultSizeDataAccessException() {
+		when(mockQuery.execute(any())).thenReturn(Arrays.asList(1, 2));
+
+		((Mono<Object>) new ReactiveGemfireRepositoryQuery(mockQuery, template, Mono.class)
+			.execute(new Object[0])).block();
+	}
+
+	@Test
+	public void executeIsDeferredUntilSubscribed() {
+		new ReactiveGemfireRepositoryQuery(mockQuery, template, Flux.class).execute(new Object[0]);
+
+		verifyZeroInteractions(mockQuery);
+	}
+}
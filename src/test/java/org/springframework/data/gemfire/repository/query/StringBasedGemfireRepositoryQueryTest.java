@@ -28,20 +28,30 @@ import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
+import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.SelectResults;
 import org.apache.geode.cache.query.internal.ResultsBag;
 import org.junit.Test;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.repository.Query;
+import org.springframework.data.gemfire.repository.query.annotation.Limit;
+import org.springframework.data.gemfire.repository.sample.Person;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.RepositoryMetadata;
 
 /**
  * The SpringBasedGemfireRepositoryQueryTest class is a test suite of test cases testing the contract and functionality
@@ -218,4 +228,45 @@ public class StringBasedGemfireRepositoryQueryTest {
 		verify(mockQueryMethod, times(1)).hasTrace();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void resolveQueryIsCachedAndBindsInParametersNatively() throws Exception {
+		RepositoryMetadata mockMetadata = mock(RepositoryMetadata.class);
+
+		when(mockMetadata.getDomainType()).thenReturn((Class) Person.class);
+		when(mockMetadata.getReturnedDomainClass(any(Method.class))).thenReturn((Class) Person.class);
+
+		GemfireQueryMethod queryMethod = new GemfireQueryMethod(
+			SampleQueries.class.getMethod("findByIdIn", Collection.class), mockMetadata,
+				new SpelAwareProxyProjectionFactory(), new GemfireMappingContext());
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+		Region mockRegion = mock(Region.class);
+
+		when(mockTemplate.getRegion()).thenReturn(mockRegion);
+		when(mockRegion.getFullPath()).thenReturn("/People");
+
+		StringBasedGemfireRepositoryQuery repositoryQuery =
+			new StringBasedGemfireRepositoryQuery(queryMethod, mockTemplate);
+
+		QueryString query = repositoryQuery.resolveQuery();
+
+		assertThat(query.toString(), is(equalTo("SELECT * FROM /People p WHERE p.id IN $1 LIMIT 10")));
+		assertThat(repositoryQuery.resolveQuery(), is(sameInstance(query)));
+
+		Object[] parameters = repositoryQuery.resolveParameters(new Object[] { new Long[] { 1L, 2L } });
+
+		assertThat(parameters.length, is(equalTo(1)));
+		assertThat(parameters[0], is(equalTo((Object) Arrays.asList(1L, 2L))));
+
+		verify(mockTemplate, times(1)).getRegion();
+	}
+
+	interface SampleQueries {
+
+		@Limit(10)
+		@Query("SELECT * FROM /Person p WHERE p.id IN SET $1")
+		List<Person> findByIdIn(Collection<Long> ids);
+
+	}
 }
@@ -17,7 +17,10 @@ package org.springframework.data.gemfire.repository.sample;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.repository.GemfireRepository;
 import org.springframework.data.gemfire.repository.Query;
@@ -67,4 +70,41 @@ public interface PersonRepository extends GemfireRepository<Person, Long> {
 
 	List<Person> findDistinctPeopleByOrderByLastnameDesc(Sort order);
 
+	@Query("SELECT p.firstname, p.lastname FROM /simple p WHERE p.lastname = $1")
+	Collection<PersonName> findNamesByLastnameAnnotated(String lastName);
+
+	List<PersonName> findNamesByLastname(String lastName, Sort order);
+
+	List<PersonNameValue> findNameValuesByLastnameOrderByFirstnameAsc(String lastName);
+
+	Slice<PersonName> findNamesByLastname(String lastName, Pageable pageable);
+
+	Stream<PersonName> findNameStreamByLastnameOrderByFirstnameDesc(String lastName);
+
+	interface PersonName {
+
+		String getFirstname();
+
+		String getLastname();
+
+	}
+
+	class PersonNameValue {
+
+		private final String firstname;
+		private final String lastname;
+
+		public PersonNameValue(String firstname, String lastname) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+
+		public String getFirstname() {
+			return this.firstname;
+		}
+
+		public String getLastname() {
+			return this.lastname;
+		}
+	}
 }
@@ -25,6 +25,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.RegionAttributes;
@@ -36,10 +38,12 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.CacheFactoryBean;
 import org.springframework.data.gemfire.LocalRegionFactoryBean;
 import org.springframework.data.gemfire.RegionAttributesFactoryBean;
+import org.springframework.data.gemfire.domain.KeysetPageRequest;
 import org.springframework.data.gemfire.repository.config.EnableGemfireRepositories;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
@@ -188,6 +192,63 @@ public class PersonRepositoryIntegrationTests {
 		assertThat(people.iterator().next()).isEqualTo(imaPigg);
 	}
 
+	@Test
+	public void findNamesByLastnameReturnsInterfaceProjections() {
+		List<PersonRepository.PersonName> names = personRepository.findNamesByLastname("Handy",
+			newSort(newSortOrder("firstname", Sort.Direction.DESC)));
+
+		assertThat(names.stream().map(PersonRepository.PersonName::getFirstname).collect(Collectors.toList()))
+			.containsExactly("Sandy", "Jack");
+		assertThat(names.stream().map(PersonRepository.PersonName::getLastname).collect(Collectors.toSet()))
+			.containsExactly("Handy");
+	}
+
+	@Test
+	public void findNamesByLastnameAnnotatedReturnsInterfaceProjections() {
+		Collection<PersonRepository.PersonName> names = personRepository.findNamesByLastnameAnnotated("Handy");
+
+		assertThat(names.stream().map(PersonRepository.PersonName::getFirstname).collect(Collectors.toList()))
+			.containsOnly("Jack", "Sandy");
+	}
+
+	@Test
+	public void findNameValuesByLastnameReturnsDtoProjections() {
+		List<PersonRepository.PersonNameValue> names =
+			personRepository.findNameValuesByLastnameOrderByFirstnameAsc("Doe");
+
+		assertThat(names.stream().map(PersonRepository.PersonNameValue::getFirstname).collect(Collectors.toList()))
+			.containsExactly("Cookie", "Jane", "Jon", "Pie", "Sour");
+		assertThat(names.stream().map(PersonRepository.PersonNameValue::getLastname).collect(Collectors.toSet()))
+			.containsExactly("Doe");
+	}
+
+	@Test
+	public void findNamesByLastnameReturnsSliceOfInterfaceProjections() {
+		Slice<PersonRepository.PersonName> firstSlice = personRepository.findNamesByLastname("Doe",
+			KeysetPageRequest.of(3, newSort(newSortOrder("firstname"))));
+
+		assertThat(firstSlice.getContent().stream().map(PersonRepository.PersonName::getFirstname)
+			.collect(Collectors.toList())).containsExactly("Cookie", "Jane", "Jon");
+		assertThat(firstSlice.hasNext()).isTrue();
+
+		Slice<PersonRepository.PersonName> secondSlice =
+			personRepository.findNamesByLastname("Doe", firstSlice.nextPageable());
+
+		assertThat(secondSlice.getContent().stream().map(PersonRepository.PersonName::getFirstname)
+			.collect(Collectors.toList())).containsExactly("Pie", "Sour");
+		assertThat(secondSlice.hasNext()).isFalse();
+	}
+
+	@Test
+	public void findNameStreamByLastnameReturnsStreamOfInterfaceProjections() {
+		try (Stream<PersonRepository.PersonName> names =
+				personRepository.findNameStreamByLastnameOrderByFirstnameDesc("Doe")) {
+
+			assertThat(names.map(PersonRepository.PersonName::getFirstname).collect(Collectors.toList()))
+				.containsExactly("Sour", "Pie", "Jon", "Jane", "Cookie");
+		}
+	}
+
 	@Configuration
 	@EnableGemfireRepositories(basePackages = "org.springframework.data.gemfire.repository.sample",
 		includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
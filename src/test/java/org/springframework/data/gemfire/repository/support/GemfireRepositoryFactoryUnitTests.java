@@ -48,6 +48,7 @@ import org.springframework.aop.framework.Advised;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.repository.ReactiveGemfireRepository;
 import org.springframework.data.gemfire.repository.sample.Person;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.core.EntityInformation;
@@ -290,9 +291,24 @@ public class GemfireRepositoryFactoryUnitTests {
 		assertThat(((Advised) gemfireRepository).getTargetClass(), is(equalTo((Class) CustomBaseRepository.class)));
 	}
 
+	@Test
+	public void usesSimpleReactiveGemfireRepositoryForReactiveRepository() {
+		GemfireRepositoryFactory repositoryFactory = new GemfireRepositoryFactory(
+			Collections.<Region<?, ?>>singletonList(mockRegion), new GemfireMappingContext());
+
+		ReactiveGemfireRepository<?, ?> reactiveGemfireRepository =
+			repositoryFactory.getRepository(SampleReactiveGemfireRepository.class);
+
+		assertThat(((Advised) reactiveGemfireRepository).getTargetClass(),
+			is(equalTo((Class) SimpleReactiveGemfireRepository.class)));
+	}
+
 	interface SamplePagingAndSortingRepository extends PagingAndSortingRepository<Person, Long> {
 	}
 
+	interface SampleReactiveGemfireRepository extends ReactiveGemfireRepository<Person, Long> {
+	}
+
 	static class CustomBaseRepository<T, ID extends Serializable> extends SimpleGemfireRepository<T, ID> {
 
 		public CustomBaseRepository(GemfireTemplate template, EntityInformation<T, ID> entityInformation) {
@@ -19,15 +19,18 @@ package org.springframework.data.gemfire.repository.support;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -39,9 +42,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import org.apache.geode.cache.Cache;
@@ -55,6 +61,9 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.repository.Wrapper;
 import org.springframework.data.gemfire.repository.sample.Animal;
@@ -219,6 +228,135 @@ public class SimpleGemfireRepositoryUnitTests {
 		verify(mockRegion, times(1)).putAll(eq(asMap(savedAnimals)));
 	}
 
+	@Test
+	public void saveEntitiesInChunks() {
+		List<Animal> animals = Arrays.asList(newAnimal(1L, "bird"), newAnimal(2L, "cat"), newAnimal(3L, "dog"),
+			newAnimal(4L, "elephant"), newAnimal(5L, "fox"));
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setSaveBatchSize(2);
+
+		Iterable<Animal> savedAnimals = repository.saveAll(animals);
+
+		assertThat(savedAnimals).containsExactlyElementsOf(animals);
+
+		verify(mockRegion, times(1)).putAll(eq(asMap(animals.subList(0, 2))));
+		verify(mockRegion, times(1)).putAll(eq(asMap(animals.subList(2, 4))));
+		verify(mockRegion, times(1)).putAll(eq(asMap(animals.subList(4, 5))));
+	}
+
+	@Test
+	public void saveEntitiesInChunksConcurrently() {
+		List<Animal> animals = LongStream.rangeClosed(1L, 10L).mapToObj(id -> newAnimal(id, "animal" + id))
+			.collect(Collectors.toList());
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		AtomicInteger workers = new AtomicInteger(0);
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setSaveBatchSize(1);
+		repository.setSaveParallelism(4);
+		repository.setSaveExecutor(runnable -> {
+			workers.incrementAndGet();
+			new Thread(runnable, "saveAllWorker").start();
+		});
+
+		Iterable<Animal> savedAnimals = repository.saveAll(animals);
+
+		assertThat(savedAnimals).hasSize(animals.size());
+		assertThat(savedAnimals).containsOnlyElementsOf(animals);
+		assertThat(workers.get()).isEqualTo(3);
+
+		verify(mockRegion, times(10)).putAll(any(Map.class));
+	}
+
+	@Test
+	public void saveEntitiesInChunksOnCallingThreadWhenTransactionPresent() {
+		Cache mockCache = mockCache("MockCache", true);
+
+		Region<Long, Animal> mockRegion = mockRegion("MockRegion", mockCache, DataPolicy.REPLICATE);
+
+		Executor mockExecutor = mock(Executor.class);
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setSaveBatchSize(1);
+		repository.setSaveParallelism(4);
+		repository.setSaveExecutor(mockExecutor);
+		repository.saveAll(Arrays.asList(newAnimal(1L, "bird"), newAnimal(2L, "cat")));
+
+		verify(mockRegion, times(2)).putAll(any(Map.class));
+		verifyZeroInteractions(mockExecutor);
+	}
+
+	@Test
+	public void saveEntitiesInChunksGroupedByMember() {
+		List<Animal> animals = Arrays.asList(newAnimal(1L, "bird"), newAnimal(2L, "cat"), newAnimal(3L, "dog"),
+			newAnimal(4L, "elephant"));
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			spy(new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation()));
+
+		doAnswer(invocation -> invocation.<Long>getArgument(1) % 2L).when(repository)
+			.resolveSaveGroup(any(Region.class), any(Long.class));
+
+		repository.setSaveBatchSize(10);
+		repository.saveAll(animals);
+
+		verify(mockRegion, times(1)).putAll(eq(asMap(Arrays.asList(animals.get(0), animals.get(2)))));
+		verify(mockRegion, times(1)).putAll(eq(asMap(Arrays.asList(animals.get(1), animals.get(3)))));
+	}
+
+	@Test
+	public void saveEntitiesInChunksReportsFailedChunks() {
+		List<Animal> animals = Arrays.asList(newAnimal(1L, "bird"), newAnimal(2L, "cat"), newAnimal(3L, "dog"));
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		IllegalStateException cause = new IllegalStateException("TEST");
+
+		doThrow(cause).when(mockRegion).putAll(eq(asMap(animals.subList(1, 2))));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setSaveBatchSize(1);
+
+		try {
+			repository.saveAll(animals);
+			fail("Expected BulkSaveException");
+		}
+		catch (BulkSaveException expected) {
+			assertThat(expected.getCause()).isSameAs(cause);
+			assertThat(expected.getFailedChunks()).hasSize(1);
+			assertThat(new ArrayList<>(expected.getFailedChunks().get(0).getEntities()))
+				.isEqualTo(Collections.singletonList(animals.get(1)));
+			assertThat(expected.getSavedEntities()).isEqualTo(Arrays.asList(animals.get(0), animals.get(2)));
+		}
+
+		verify(mockRegion, times(3)).putAll(any(Map.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setSaveBatchSizeToNegativeValueThrowsIllegalArgumentException() {
+		new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion()), mockEntityInformation()).setSaveBatchSize(-1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setSaveParallelismToZeroThrowsIllegalArgumentException() {
+		new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion()), mockEntityInformation()).setSaveParallelism(0);
+	}
+
 	@Test
 	public void saveWrapperIsCorrect() {
 		Animal dog = newAnimal(1L, "dog");
@@ -254,6 +392,73 @@ public class SimpleGemfireRepositoryUnitTests {
 		verify(mockSelectResults, times(1)).iterator();
 	}
 
+	@Test
+	public void countUsesSizeOnServerForClientRegion() {
+		Region<Long, Animal> mockRegion = mockRegion("Example", null, DataPolicy.EMPTY);
+
+		when(mockRegion.getAttributes().getPoolName()).thenReturn("DEFAULT");
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			spy(new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation()));
+
+		doReturn(true).when(repository).isServerProxyPresent(eq(mockRegion));
+		doReturn(42).when(repository).sizeOnServer(eq(mockRegion));
+
+		assertThat(repository.count()).isEqualTo(42L);
+
+		verify(repository, times(1)).sizeOnServer(eq(mockRegion));
+		verify(mockRegion, never()).size();
+		verify(mockRegion, never()).getRegionService();
+	}
+
+	@Test
+	public void countUsesSizeForPartitionRegion() {
+		Region<Long, Animal> mockRegion = mockRegion("Example", null, DataPolicy.PARTITION);
+
+		when(mockRegion.size()).thenReturn(21);
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		assertThat(repository.count()).isEqualTo(21L);
+
+		verify(mockRegion, times(1)).size();
+		verify(mockRegion, never()).getRegionService();
+	}
+
+	@Test
+	public void existsUsesContainsKeyOnServerForClientRegion() {
+		Region<Long, Animal> mockRegion = mockRegion("Example", null, DataPolicy.EMPTY);
+
+		when(mockRegion.getAttributes().getPoolName()).thenReturn("DEFAULT");
+		when(mockRegion.containsKeyOnServer(eq(1L))).thenReturn(true);
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		assertThat(repository.existsById(1L)).isTrue();
+		assertThat(repository.existsById(2L)).isFalse();
+
+		verify(mockRegion, never()).containsKey(any());
+		verify(mockRegion, never()).get(any());
+	}
+
+	@Test
+	public void existsUsesContainsKeyForReplicateRegion() {
+		Region<Long, Animal> mockRegion = mockRegion("Example", null, DataPolicy.PERSISTENT_REPLICATE);
+
+		when(mockRegion.containsKey(eq(1L))).thenReturn(true);
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		assertThat(repository.existsById(1L)).isTrue();
+		assertThat(repository.existsById(2L)).isFalse();
+
+		verify(mockRegion, never()).containsKeyOnServer(any());
+		verify(mockRegion, never()).get(any());
+	}
+
 	@Test
 	public void existsIsCorrect() {
 		Animal dog = newAnimal(1L, "dog");
@@ -370,6 +575,68 @@ public class SimpleGemfireRepositoryUnitTests {
 		verify(mockRegion, times(1)).getAll(eq(Arrays.asList(0L, 1L, 2L, 4L)));
 	}
 
+	@Test
+	public void findAllWithPageableSeeksToNextPageByKeyset() {
+		Region mockRegion = mockRegion("Example");
+		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
+		SelectResults mockFirstSelectResults = mock(SelectResults.class);
+		SelectResults mockNextSelectResults = mock(SelectResults.class);
+
+		Animal bird = newAnimal(1L, "bird");
+		Animal cat = newAnimal(2L, "cat");
+		Animal dog = newAnimal(3L, "dog");
+
+		doReturn(mockFirstSelectResults).when(template)
+			.find(eq("SELECT DISTINCT * FROM /Example ORDER BY id ASC LIMIT 3"));
+		doReturn(mockNextSelectResults).when(template)
+			.find(eq("SELECT DISTINCT * FROM /Example WHERE (id > $1) ORDER BY id ASC LIMIT 3"), eq(2L));
+		when(mockFirstSelectResults.asList()).thenReturn(Arrays.asList(bird, cat, dog));
+		when(mockNextSelectResults.asList()).thenReturn(Collections.singletonList(dog));
+
+		SimpleGemfireRepository<Animal, Long> repository = new SimpleGemfireRepository<>(
+			template, mockEntityInformation());
+
+		Page<Animal> firstPage = repository.findAll(PageRequest.of(0, 2));
+
+		assertThat(firstPage.getContent()).containsExactly(bird, cat);
+		assertThat(firstPage.hasNext()).isTrue();
+
+		Page<Animal> nextPage = repository.findAll(firstPage.nextPageable());
+
+		assertThat(nextPage.getContent()).containsExactly(dog);
+		assertThat(nextPage.getNumber()).isEqualTo(1);
+		assertThat(nextPage.hasNext()).isFalse();
+
+		verify(template, times(1)).find(eq("SELECT DISTINCT * FROM /Example ORDER BY id ASC LIMIT 3"));
+		verify(template, times(1))
+			.find(eq("SELECT DISTINCT * FROM /Example WHERE (id > $1) ORDER BY id ASC LIMIT 3"), eq(2L));
+	}
+
+	@Test
+	public void findAllWithPageableLocatesPageByOffset() {
+		Region mockRegion = mockRegion("Example");
+		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
+		SelectResults mockSelectResults = mock(SelectResults.class);
+
+		Animal bird = newAnimal(1L, "bird");
+		Animal cat = newAnimal(2L, "cat");
+		Animal dog = newAnimal(3L, "dog");
+
+		doReturn(mockSelectResults).when(template)
+			.find(eq("SELECT DISTINCT * FROM /Example ORDER BY name DESC, id ASC LIMIT 5"));
+		when(mockSelectResults.asList()).thenReturn(Arrays.asList(dog, cat, bird));
+
+		SimpleGemfireRepository<Animal, Long> repository = new SimpleGemfireRepository<>(
+			template, mockEntityInformation());
+
+		Page<Animal> page = repository.findAll(PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "name")));
+
+		assertThat(page.getContent()).containsExactly(bird);
+		assertThat(page.getNumber()).isEqualTo(1);
+		assertThat(page.hasNext()).isFalse();
+		assertThat(page.hasPrevious()).isTrue();
+	}
+
 	@Test
 	public void deleteByIdIsCorrect() {
 		Region<Long, Animal> mockRegion = mockRegion();
@@ -404,9 +671,77 @@ public class SimpleGemfireRepositoryUnitTests {
 		repository.deleteAll(Arrays.asList(newAnimal(1L, "bird"), newAnimal(2L, "cat"),
 			newAnimal(3L, "dog")));
 
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(1L, 2L, 3L)));
+		verify(mockRegion, never()).remove(any());
+	}
+
+	@Test
+	public void deleteEntitiesInBatches() {
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setDeleteBatchSize(2);
+
+		assertThat(repository.getDeleteBatchSize()).isEqualTo(2);
+
+		repository.deleteAll(Arrays.asList(newAnimal(1L, "bird"), newAnimal(2L, "cat"),
+			newAnimal(3L, "dog"), newAnimal(4L, "elephant"), newAnimal(5L, "fox")));
+
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(1L, 2L)));
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(3L, 4L)));
+		verify(mockRegion, times(1)).removeAll(eq(Collections.singletonList(5L)));
+	}
+
+	@Test
+	public void deleteEntitiesInSingleBatchWhenTransactionPresent() {
+		Cache mockCache = mockCache("MockCache", true);
+
+		Region<Long, Animal> mockRegion = mockRegion("MockRegion", mockCache, DataPolicy.REPLICATE);
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setDeleteBatchSize(2);
+		repository.deleteAll(Arrays.asList(newAnimal(1L, "bird"), newAnimal(2L, "cat"),
+			newAnimal(3L, "dog")));
+
+		verify(mockCache, times(1)).getCacheTransactionManager();
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(1L, 2L, 3L)));
+	}
+
+	@Test
+	public void deleteEntitiesIndividuallyWhenRemoveAllThrowsException() {
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		doThrow(new UnsupportedOperationException("Not Implemented!")).when(mockRegion).removeAll(any());
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.deleteAll(Arrays.asList(newAnimal(1L, "bird"), newAnimal(2L, "cat")));
+
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(1L, 2L)));
 		verify(mockRegion, times(1)).remove(eq(1L));
 		verify(mockRegion, times(1)).remove(eq(2L));
-		verify(mockRegion, times(1)).remove(eq(3L));
+	}
+
+	@Test
+	public void deleteNoEntitiesDoesNotRemoveAll() {
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.deleteAll(Collections.emptyList());
+
+		verify(mockRegion, never()).removeAll(any());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setDeleteBatchSizeToZeroThrowsIllegalArgumentException() {
+		new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion()), mockEntityInformation()).setDeleteBatchSize(0);
 	}
 
 	@Test
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+
+import org.apache.geode.cache.Region;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.ReactiveGemfireTemplate;
+import org.springframework.data.gemfire.domain.KeysetPage;
+import org.springframework.data.gemfire.domain.KeysetPageRequest;
+import org.springframework.data.gemfire.repository.sample.Animal;
+
+/**
+ * Unit tests for {@link SimpleReactiveGemfireRepository}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.ReactiveGemfireTemplate
+ * @see org.springframework.data.gemfire.repository.support.SimpleReactiveGemfireRepository
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+public class SimpleReactiveGemfireRepositoryUnitTests {
+
+	private static final Scheduler scheduler = ReactiveGemfireTemplate.newScheduler(2);
+
+	private List<Animal> animals;
+
+	private List<Pageable> pageRequests;
+
+	private SimpleGemfireRepository<Animal, Long> mockRepository;
+
+	private SimpleReactiveGemfireRepository<Animal, Long> reactiveRepository;
+
+	@AfterClass
+	public static void tearDown() {
+		scheduler.dispose();
+	}
+
+	@Before
+	public void setup() {
+		animals = LongStream.rangeClosed(1L, 10L).mapToObj(id -> newAnimal(id, "animal" + id))
+			.collect(Collectors.toList());
+
+		pageRequests = new ArrayList<>();
+
+		mockRepository = mock(SimpleGemfireRepository.class);
+
+		when(mockRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+			KeysetPageRequest pageRequest = KeysetPageRequest.from(invocation.getArgument(0), "id");
+
+			pageRequests.add(pageRequest);
+
+			long lastId = (pageRequest.hasKeyset() ? (Long) pageRequest.getKeyset()[0] : 0L);
+
+			List<Animal> results = animals.stream().filter(animal -> animal.getId() > lastId)
+				.limit(pageRequest.getFetchLimit()).collect(Collectors.toList());
+
+			return KeysetPage.newKeysetPage(results, pageRequest, null);
+		});
+
+		reactiveRepository = new SimpleReactiveGemfireRepository<>(
+			new ReactiveGemfireTemplate(new GemfireTemplate(mock(Region.class)), scheduler), mockRepository);
+	}
+
+	private Animal newAnimal(Long id, String name) {
+		Animal animal = new Animal();
+		animal.setId(id);
+		animal.setName(name);
+		return animal;
+	}
+
+	@Test
+	public void findAllStreamsAllPages() {
+		reactiveRepository.setFetchSize(3);
+
+		List<Animal> results = reactiveRepository.findAll().collectList().block();
+
+		assertThat(results).isEqualTo(animals);
+		assertThat(pageRequests).hasSize(4);
+	}
+
+	@Test
+	public void findAllPageRequestsDoNotLinkToPreviousPageRequests() {
+		reactiveRepository.setFetchSize(3);
+
+		reactiveRepository.findAll().collectList().block();
+
+		assertThat(pageRequests).hasSize(4);
+
+		for (int index = 1; index < pageRequests.size(); index++) {
+			KeysetPageRequest pageRequest = (KeysetPageRequest) pageRequests.get(index);
+
+			assertThat(pageRequest.hasKeyset()).isTrue();
+			assertThat(pageRequest.previous()).isNotSameAs(pageRequests.get(index - 1));
+			assertThat(pageRequest.previous().hasKeyset()).isFalse();
+		}
+	}
+
+	@Test
+	public void findAllFetchesPagesOnDemand() {
+		reactiveRepository.setFetchSize(3);
+
+		List<Animal> results = reactiveRepository.findAll().limitRate(1).take(4).collectList().block();
+
+		assertThat(results).isEqualTo(animals.subList(0, 4));
+		assertThat(pageRequests).hasSize(2);
+	}
+
+	@Test
+	public void findByIdRunsOnScheduler() {
+		AtomicReference<String> threadName = new AtomicReference<>();
+
+		when(mockRepository.findById(eq(1L))).thenAnswer(invocation -> {
+			threadName.set(Thread.currentThread().getName());
+			return Optional.of(animals.get(0));
+		});
+
+		assertThat(reactiveRepository.findById(1L).block()).isEqualTo(animals.get(0));
+		assertThat(threadName.get()).startsWith("gemfire-reactive-");
+	}
+
+	@Test
+	public void findByIdIsEmptyWhenEntityIsNotPresent() {
+		when(mockRepository.findById(any())).thenReturn(Optional.empty());
+
+		assertThat(reactiveRepository.findById(1L).hasElement().block()).isFalse();
+	}
+
+	@Test
+	public void operationsAreDeferredUntilSubscribed() {
+		reactiveRepository.save(animals.get(0));
+		reactiveRepository.deleteById(1L);
+
+		verifyZeroInteractions(mockRepository);
+	}
+
+	@Test
+	public void saveAllFromPublisherSavesInBatches() {
+		reactiveRepository.setFetchSize(4);
+
+		when(mockRepository.saveAll(any(Iterable.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		List<Animal> results = reactiveRepository.saveAll(Flux.fromIterable(animals)).collectList().block();
+
+		assertThat(results).isEqualTo(animals);
+
+		verify(mockRepository, times(1)).saveAll(eq(animals.subList(0, 4)));
+		verify(mockRepository, times(1)).saveAll(eq(animals.subList(4, 8)));
+		verify(mockRepository, times(1)).saveAll(eq(animals.subList(8, 10)));
+	}
+
+	@Test
+	public void deleteAllFromPublisherDeletesInBatches() {
+		when(mockRepository.getDeleteBatchSize()).thenReturn(5);
+
+		reactiveRepository.deleteAll(Flux.fromIterable(animals)).block();
+
+		verify(mockRepository, times(1)).deleteAll(eq(animals.subList(0, 5)));
+		verify(mockRepository, times(1)).deleteAll(eq(animals.subList(5, 10)));
+	}
+
+	@Test
+	public void countAndExistsById() {
+		when(mockRepository.count()).thenReturn(10L);
+		when(mockRepository.existsById(eq(1L))).thenReturn(true);
+
+		assertThat(reactiveRepository.count().block()).isEqualTo(10L);
+		assertThat(reactiveRepository.existsById(Flux.just(1L)).block()).isTrue();
+		assertThat(reactiveRepository.existsById(2L).block()).isFalse();
+	}
+
+	@Test
+	public void findAllByIdFromPublisher() {
+		when(mockRepository.findAllById(any(Iterable.class))).thenReturn(Arrays.asList(animals.get(0)));
+
+		assertThat(reactiveRepository.findAllById(Flux.just(1L, 20L)).collectList().block())
+			.containsExactly(animals.get(0));
+
+		verify(mockRepository, times(1)).findAllById(eq(Arrays.asList(1L, 20L)));
+	}
+}
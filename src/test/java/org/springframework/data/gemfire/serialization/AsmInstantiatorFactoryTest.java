@@ -24,6 +24,13 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.geode.DataSerializable;
 import org.apache.geode.Instantiator;
@@ -32,6 +39,7 @@ import org.junit.Test;
 
 /**
  * @author Costin Leau
+ * @author John Blum
  */
 public class AsmInstantiatorFactoryTest {
 
@@ -50,6 +58,16 @@ public class AsmInstantiatorFactoryTest {
 		}
 	}
 
+	@SuppressWarnings("serial")
+	public static class OtherClass implements DataSerializable {
+
+		public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+		}
+
+		public void toData(DataOutput out) throws IOException {
+		}
+	}
+
 	private AsmInstantiatorGenerator asmFactory = null;
 
 	@Before
@@ -86,4 +104,41 @@ public class AsmInstantiatorFactoryTest {
 		Instantiator instance2 = asmFactory.getInstantiator(SomeClass.class, 125);
 		assertSame(instance1, instance2);
 	}
+
+	@Test
+	public void testBulkGeneration() throws Exception {
+		Map<Class<? extends DataSerializable>, Integer> types = new LinkedHashMap<>();
+		types.put(SomeClass.class, 100);
+		types.put(OtherClass.class, 101);
+
+		List<Instantiator> instantiators = asmFactory.getInstantiators(types);
+
+		assertEquals(2, instantiators.size());
+		assertEquals(SomeClass.class, instantiators.get(0).getInstantiatedClass());
+		assertEquals(OtherClass.class, instantiators.get(1).getInstantiatedClass());
+		assertEquals(101, instantiators.get(1).getId());
+		assertSame(instantiators.get(0), asmFactory.getInstantiator(SomeClass.class, 100));
+	}
+
+	@Test
+	public void testConcurrentGenerationReturnsSameInstance() throws Exception {
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+		try {
+			List<Future<Instantiator>> futures = new ArrayList<>();
+
+			for (int count = 0; count < 32; count++) {
+				futures.add(executorService.submit(() -> asmFactory.getInstantiator(OtherClass.class, 101)));
+			}
+
+			Instantiator instantiator = futures.get(0).get();
+
+			for (Future<Instantiator> future : futures) {
+				assertSame(instantiator, future.get());
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.geode.DataSerializable;
+import org.apache.geode.Instantiator;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.gemfire.mapping.AsmDataSerializableCodecGenerator;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.annotation.DataSerializableEntity;
+
+/**
+ * Unit tests for {@link InstantiatorFactoryBean}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.serialization.InstantiatorFactoryBean
+ * @since 2.0.0
+ */
+public class InstantiatorFactoryBeanUnitTests {
+
+	@After
+	public void tearDown() {
+		AsmDataSerializableCodecGenerator.setDefault(null);
+	}
+
+	private Map<Class<?>, Integer> classIds(InstantiatorFactoryBean factoryBean) throws Exception {
+		return factoryBean.getObject().stream()
+			.collect(Collectors.toMap(Instantiator::getInstantiatedClass, Instantiator::getId));
+	}
+
+	private InstantiatorFactoryBean newInstantiatorFactoryBean() {
+		InstantiatorFactoryBean factoryBean = new InstantiatorFactoryBean();
+
+		factoryBean.setAutoRegister(false);
+		factoryBean.setBeanClassLoader(getClass().getClassLoader());
+
+		return factoryBean;
+	}
+
+	@Test
+	public void generatesInstantiatorsForAnnotatedTypesFoundInBasePackages() throws Exception {
+		InstantiatorFactoryBean factoryBean = newInstantiatorFactoryBean();
+
+		factoryBean.setBasePackages(getClass().getPackage().getName());
+		factoryBean.afterPropertiesSet();
+
+		assertThat(classIds(factoryBean)).containsEntry(AnnotatedType.class, 4301);
+		assertThat(classIds(factoryBean)).containsEntry(AnnotatedSubType.class, 4304);
+		assertThat(classIds(factoryBean)).doesNotContainKey(NonAnnotatedSubType.class);
+		assertThat(classIds(factoryBean)).doesNotContainKey(NonDataSerializableAnnotatedType.class);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void subTypeDoesNotInheritClassIdOfAnnotatedSuperType() throws Exception {
+		InstantiatorFactoryBean factoryBean = newInstantiatorFactoryBean();
+
+		factoryBean.setEntityTypes(Arrays.asList(AnnotatedType.class, NonAnnotatedSubType.class));
+		factoryBean.afterPropertiesSet();
+	}
+
+	@Test
+	public void duplicateClassIdThrowsIllegalArgumentException() throws Exception {
+		InstantiatorFactoryBean factoryBean = newInstantiatorFactoryBean();
+
+		factoryBean.setCustomTypes(Collections.singletonMap(AsmInstantiatorFactoryTest.SomeClass.class, 4301));
+		factoryBean.setEntityTypes(Collections.singleton(AnnotatedType.class));
+
+		try {
+			factoryBean.afterPropertiesSet();
+			fail("Expected IllegalArgumentException");
+		}
+		catch (IllegalArgumentException expected) {
+			assertThat(expected).hasMessageContaining("Class ID [4301]");
+			assertThat(expected).hasMessageContaining(AnnotatedType.class.getName());
+		}
+	}
+
+	@Test
+	public void combinesCustomTypesAndEntityTypes() throws Exception {
+		InstantiatorFactoryBean factoryBean = newInstantiatorFactoryBean();
+
+		factoryBean.setCustomTypes(Collections.singletonMap(AsmInstantiatorFactoryTest.SomeClass.class, 4302));
+		factoryBean.setEntityTypes(Collections.singleton(AnnotatedType.class));
+		factoryBean.afterPropertiesSet();
+
+		assertThat(classIds(factoryBean)).hasSize(2);
+		assertThat(classIds(factoryBean)).containsEntry(AsmInstantiatorFactoryTest.SomeClass.class, 4302);
+		assertThat(classIds(factoryBean)).containsEntry(AnnotatedType.class, 4301);
+	}
+
+	@Test
+	public void registersCodecGeneratorUsingMappingContextBean() throws Exception {
+		GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerSingleton("mappingContext", mappingContext);
+
+		InstantiatorFactoryBean factoryBean = newInstantiatorFactoryBean();
+
+		factoryBean.setBeanFactory(beanFactory);
+		factoryBean.setEntityTypes(Collections.singleton(AnnotatedType.class));
+		factoryBean.afterPropertiesSet();
+
+		assertThat(AsmDataSerializableCodecGenerator.getDefault().getMappingContext()).isSameAs(mappingContext);
+	}
+
+	@Test
+	public void usesDefaultCodecGeneratorWithoutMappingContext() throws Exception {
+		AsmDataSerializableCodecGenerator defaultCodecGenerator = AsmDataSerializableCodecGenerator.getDefault();
+
+		InstantiatorFactoryBean factoryBean = newInstantiatorFactoryBean();
+
+		factoryBean.setBeanFactory(new DefaultListableBeanFactory());
+		factoryBean.setEntityTypes(Collections.singleton(AnnotatedType.class));
+		factoryBean.afterPropertiesSet();
+
+		assertThat(AsmDataSerializableCodecGenerator.getDefault()).isSameAs(defaultCodecGenerator);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nonAnnotatedEntityTypeThrowsIllegalArgumentException() throws Exception {
+		InstantiatorFactoryBean factoryBean = newInstantiatorFactoryBean();
+
+		factoryBean.setEntityTypes(Collections.singleton(AsmInstantiatorFactoryTest.SomeClass.class));
+		factoryBean.afterPropertiesSet();
+	}
+
+	@DataSerializableEntity(classId = 4301)
+	@SuppressWarnings("serial")
+	public static class AnnotatedType implements DataSerializable {
+
+		public void fromData(DataInput in) {
+		}
+
+		public void toData(DataOutput out) {
+		}
+	}
+
+	@DataSerializableEntity(classId = 4304)
+	@SuppressWarnings("serial")
+	public static class AnnotatedSubType extends AnnotatedType {
+	}
+
+	@SuppressWarnings("serial")
+	public static class NonAnnotatedSubType extends AnnotatedType {
+	}
+
+	@DataSerializableEntity(classId = 4303)
+	public static class NonDataSerializableAnnotatedType {
+	}
+}
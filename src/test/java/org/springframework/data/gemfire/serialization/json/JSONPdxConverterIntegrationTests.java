@@ -0,0 +1,205 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.serialization.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.pdx.JSONFormatter;
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.internal.PdxInstanceImpl;
+import org.apache.geode.pdx.internal.PdxType;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Integration tests for {@link JSONPdxConverter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.pdx.JSONFormatter
+ * @see org.springframework.data.gemfire.serialization.json.JSONPdxConverter
+ * @since 2.0.0
+ */
+public class JSONPdxConverterIntegrationTests {
+
+	static Cache cache;
+
+	static Region<Object, Object> region;
+
+	private final JSONPdxConverter converter = new JSONPdxConverter();
+
+	@BeforeClass
+	public static void setUp() {
+		cache = new CacheFactory()
+			.set("name", JSONPdxConverterIntegrationTests.class.getSimpleName())
+			.set("mcast-port", "0")
+			.set("log-level", "warning")
+			.create();
+
+		region = cache.createRegionFactory().setDataPolicy(DataPolicy.PARTITION).create("Json");
+	}
+
+	@AfterClass
+	public static void tearDown() {
+		try {
+			cache.close();
+		}
+		catch (Exception ignore) {
+		}
+	}
+
+	@Test
+	public void fromJsonCreatesSamePdxInstanceAsJsonFormatter() {
+		String json = "{\"name\":\"Jon Doe\",\"age\":42,\"rank\":1024,\"score\":70000,\"id\":9876543210,"
+			+ "\"huge\":98765432109876543210,\"ratio\":0.5,\"active\":true,\"nickname\":null,"
+			+ "\"tags\":[\"a\",1,{\"x\":2}],\"address\":{street:\"100 Main St.\",\"zip\":97205}}";
+
+		PdxInstance pdxInstance = converter.fromJSON(json);
+
+		assertThat(pdxInstance).isEqualTo(JSONFormatter.fromJSON(json));
+		assertSamePdxType(pdxInstance, JSONFormatter.fromJSON(json));
+		assertThat(pdxInstance.getField("age")).isEqualTo((byte) 42);
+		assertThat(pdxInstance.getField("rank")).isEqualTo((short) 1024);
+		assertThat(pdxInstance.getField("score")).isEqualTo(70000);
+		assertThat(pdxInstance.getField("id")).isEqualTo(9876543210L);
+		assertThat(pdxInstance.getField("address")).isInstanceOf(PdxInstance.class);
+		assertThat(((PdxInstance) pdxInstance.getField("address")).getField("street")).isEqualTo("100 Main St.");
+		assertThat((List<?>) pdxInstance.getField("tags")).hasSize(3);
+	}
+
+	@Test
+	public void fromObjectCreatesSamePdxInstanceAsJsonFormatter() throws Exception {
+		Item item = new Item(1L, "Jon Doe", 0.1f, new BigDecimal("12.50"), Arrays.asList("a", "b"), new Item());
+
+		PdxInstance pdxInstance = converter.fromObject(item);
+
+		assertThat(pdxInstance).isEqualTo(JSONFormatter.fromJSON(new ObjectMapper().writeValueAsString(item)));
+		assertSamePdxType(pdxInstance, JSONFormatter.fromJSON(new ObjectMapper().writeValueAsString(item)));
+		assertThat(pdxInstance.getField("id")).isEqualTo((byte) 1);
+		assertThat(pdxInstance.getField("ratio")).isEqualTo(0.1d);
+		assertThat(pdxInstance.getField("price")).isEqualTo(12.5d);
+	}
+
+	/* (non-Javadoc) */
+	private void assertSamePdxType(PdxInstance actual, PdxInstance expected) {
+		PdxType actualType = ((PdxInstanceImpl) actual).getPdxType();
+		PdxType expectedType = ((PdxInstanceImpl) expected).getPdxType();
+
+		assertThat(actualType.getTypeId()).isEqualTo(expectedType.getTypeId());
+		assertThat(fieldTypesOf(actualType)).isEqualTo(fieldTypesOf(expectedType));
+
+		for (String fieldName : expected.getFieldNames()) {
+			if (expected.getField(fieldName) instanceof PdxInstance) {
+				assertSamePdxType((PdxInstance) actual.getField(fieldName), (PdxInstance) expected.getField(fieldName));
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private List<String> fieldTypesOf(PdxType pdxType) {
+		return pdxType.getFields().stream()
+			.map(field -> field.getFieldName() + ":" + field.getFieldType())
+			.collect(Collectors.toList());
+	}
+
+	@Test
+	public void toJsonWritesCompactJson() throws Exception {
+		Item item = new Item(1L, "Jon Doe", 0.5f, new BigDecimal("12.5"), Arrays.asList("a", "b"), null);
+
+		region.put(1, converter.fromObject(item));
+
+		assertThat(converter.toJSON((PdxInstance) region.get(1), false))
+			.isEqualTo(new ObjectMapper().writeValueAsString(item));
+	}
+
+	@Test
+	public void toJsonWritesPrettyPrintedJson() {
+		String compactJson = "{\"name\":\"Jon Doe\",\"tags\":[\"a\"]}";
+		String json = converter.toJSON(converter.fromJSON(compactJson), true);
+
+		assertThat(json).contains(System.lineSeparator());
+		assertThat(converter.toJSON(converter.fromJSON(json), false)).isEqualTo(compactJson);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void fromJsonWithNonObjectThrowsIllegalArgumentException() {
+		converter.fromJSON("[1,2,3]");
+	}
+
+	public static class Item {
+
+		private Long id;
+
+		private String name;
+
+		private float ratio;
+
+		private BigDecimal price;
+
+		private List<String> tags;
+
+		private Item child;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, float ratio, BigDecimal price, List<String> tags, Item child) {
+			this.id = id;
+			this.name = name;
+			this.ratio = ratio;
+			this.price = price;
+			this.tags = tags;
+			this.child = child;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public float getRatio() {
+			return ratio;
+		}
+
+		public BigDecimal getPrice() {
+			return price;
+		}
+
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public Item getChild() {
+			return child;
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.serialization.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.SelectResults;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.gemfire.GemfireOperations;
+import org.springframework.data.gemfire.GemfireTemplate;
+
+/**
+ * Integration tests for {@link JSONQueryResultsWriter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.serialization.json.JSONQueryResultsWriter
+ * @since 2.0.0
+ */
+public class JSONQueryResultsWriterIntegrationTests {
+
+	static Cache cache;
+
+	static Region<Object, Object> people;
+
+	private final JSONQueryResultsWriter writer = new JSONQueryResultsWriter();
+
+	@BeforeClass
+	public static void setUp() {
+		cache = new CacheFactory()
+			.set("name", JSONQueryResultsWriterIntegrationTests.class.getSimpleName())
+			.set("mcast-port", "0")
+			.set("log-level", "warning")
+			.create();
+
+		people = cache.createRegionFactory().setDataPolicy(DataPolicy.PARTITION).create("People");
+
+		JSONPdxConverter converter = new JSONPdxConverter();
+
+		people.put(1, converter.fromJSON("{\"id\":1,\"name\":\"Jon Doe\"}"));
+		people.put(2, converter.fromJSON("{\"id\":2,\"name\":\"Jane Doe\"}"));
+	}
+
+	@AfterClass
+	public static void tearDown() {
+		try {
+			cache.close();
+		}
+		catch (Exception ignore) {
+		}
+	}
+
+	private GemfireOperations newAdvisedTemplate(JSONRegionAdvice advice) {
+		AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new GemfireTemplate(people));
+
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAspect(advice);
+
+		return proxyFactory.getProxy();
+	}
+
+	@SuppressWarnings("unchecked")
+	private SelectResults<Object> query(String query) throws Exception {
+		return (SelectResults<Object>) cache.getQueryService().newQuery(query).execute();
+	}
+
+	@Test
+	public void writesJsonArrayToOutputStream() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		long count = writer.writeJSONArray(query("SELECT * FROM /People p ORDER BY p.id"), out);
+
+		assertThat(count).isEqualTo(2);
+		assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8))
+			.isEqualTo("[{\"id\":1,\"name\":\"Jon Doe\"},{\"id\":2,\"name\":\"Jane Doe\"}]");
+	}
+
+	@Test
+	public void writesNdJsonToWriter() throws Exception {
+		StringWriter out = new StringWriter();
+
+		long count = writer.writeNDJSON(query("SELECT * FROM /People p ORDER BY p.id"), out);
+
+		assertThat(count).isEqualTo(2);
+		assertThat(out.toString()).isEqualTo("{\"id\":1,\"name\":\"Jon Doe\"}\n{\"id\":2,\"name\":\"Jane Doe\"}\n");
+	}
+
+	@Test
+	public void writesStructsAsJsonObjects() throws Exception {
+		StringWriter out = new StringWriter();
+
+		writer.writeJSONArray(query("SELECT p.id, p.name FROM /People p WHERE p.id = 2"), out);
+
+		assertThat(out.toString()).isEqualTo("[{\"id\":2,\"name\":\"Jane Doe\"}]");
+	}
+
+	@Test
+	public void writesResultsConvertedByDefaultJSONRegionAdviceAsJsonStrings() throws Exception {
+		GemfireOperations template = newAdvisedTemplate(new JSONRegionAdvice());
+
+		StringWriter out = new StringWriter();
+
+		writer.writeJSONArray(template.find("SELECT * FROM /People p WHERE p.id = 1"), out);
+
+		// without stringsAsJSON, each JSON document converted by the advice is written as an escaped JSON string
+		assertThat(out.toString()).isEqualTo("[\"{\\\"id\\\":1,\\\"name\\\":\\\"Jon Doe\\\"}\"]");
+	}
+
+	@Test
+	public void writesResultsConvertedByDefaultJSONRegionAdviceAsJsonDocuments() throws Exception {
+		JSONRegionAdvice advice = new JSONRegionAdvice();
+
+		advice.setPrettyPrint(true);
+
+		GemfireOperations template = newAdvisedTemplate(advice);
+
+		JSONQueryResultsWriter writer = new JSONQueryResultsWriter();
+
+		writer.setStringsAsJSON(true);
+
+		StringWriter out = new StringWriter();
+
+		long count = writer.writeNDJSON(template.find("SELECT * FROM /People p ORDER BY p.id"), out);
+
+		assertThat(count).isEqualTo(2);
+		assertThat(out.toString()).isEqualTo("{\"id\":1,\"name\":\"Jon Doe\"}\n{\"id\":2,\"name\":\"Jane Doe\"}\n");
+	}
+
+	@Test
+	public void writesEmptyResults() throws Exception {
+		StringWriter out = new StringWriter();
+
+		assertThat(writer.writeJSONArray(Collections.emptyList(), out)).isEqualTo(0);
+		assertThat(writer.writeNDJSON(null, out)).isEqualTo(0);
+		assertThat(out.toString()).isEqualTo("[]");
+	}
+
+	@Test
+	public void doesNotCloseTarget() throws Exception {
+		StringWriter out = new StringWriter();
+
+		writer.writeNDJSON(query("SELECT p.name FROM /People p WHERE p.id = 1"), out);
+		writer.writeNDJSON(query("SELECT p.name FROM /People p WHERE p.id = 2"), out);
+
+		assertThat(out.toString()).isEqualTo("\"Jon Doe\"\n\"Jane Doe\"\n");
+	}
+}